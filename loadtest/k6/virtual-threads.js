@@ -0,0 +1,128 @@
+// 플랫폼 스레드 / 가상 스레드 실행 모드의 처리량과 메모리 비교 (k6)
+//
+// 1. 같은 환경에서 두 모드로 서버를 각각 띄운다.
+//    - 플랫폼 : ./gradlew bootJar                   && VIRTUAL_THREADS_ENABLED=false java -jar ...
+//    - 가상   : ./gradlew bootJar -PjavaVersion=21  && VIRTUAL_THREADS_ENABLED=true  java -jar ...
+// 2. 모드마다 실행한다. 결과는 loadtest/results/<MODE>.json 에 저장된다.
+//    k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<access token> -e COURSE_ID=<공개 코스 ID> \
+//           -e MODE=platform loadtest/k6/virtual-threads.js
+//
+// 처리량 / 지연은 k6 지표로, 메모리 / 스레드 수는 테스트 전후 /actuator/metrics 값으로 비교한다.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const COURSE_ID = __ENV.COURSE_ID;
+const MODE = __ENV.MODE || 'platform';
+const RATE = Number(__ENV.RATE || 200);
+const DURATION = __ENV.DURATION || '3m';
+
+const telemetry = open('../../src/test/resources/data7.jsonl');
+const authHeaders = { Authorization: `Bearer ${TOKEN}` };
+
+export const options = {
+    scenarios: {
+        course_map: {
+            executor: 'constant-arrival-rate',
+            exec: 'courseMap',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+        run_submission: {
+            executor: 'constant-arrival-rate',
+            exec: 'runSubmission',
+            rate: Math.max(1, Math.floor(RATE / 10)),
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: 50,
+            maxVUs: 500,
+        },
+    },
+    thresholds: {
+        'http_req_failed{scenario:course_map}': ['rate<0.01'],
+        'http_req_failed{scenario:run_submission}': ['rate<0.01'],
+        'http_req_duration{scenario:course_map}': ['p(95)<1000'],
+        'http_req_duration{scenario:run_submission}': ['p(95)<3000'],
+    },
+};
+
+const JVM_METRICS = [
+    'jvm.memory.used?tag=area:heap',
+    'jvm.memory.used?tag=area:nonheap',
+    'jvm.threads.live',
+    'jvm.threads.peak',
+    'process.cpu.usage',
+    'hikaricp.connections.pending',
+];
+
+function readJvmMetrics() {
+    const values = {};
+    for (const metric of JVM_METRICS) {
+        const res = http.get(`${BASE_URL}/actuator/metrics/${metric}`);
+        if (res.status === 200) {
+            values[metric] = res.json().measurements[0].value;
+        }
+    }
+    return values;
+}
+
+export function setup() {
+    return { before: readJvmMetrics() };
+}
+
+export function courseMap() {
+    // 서울 시내 임의 위치
+    const lat = 37.50 + Math.random() * 0.1;
+    const lng = 126.95 + Math.random() * 0.1;
+    const res = http.get(`${BASE_URL}/v1/courses?lat=${lat}&lng=${lng}&radiusM=3000`,
+        { headers: authHeaders, tags: { name: 'GET /v1/courses' } });
+    check(res, { 'course map 200': (r) => r.status === 200 });
+}
+
+export function runSubmission() {
+    const req = JSON.stringify({
+        runningName: `load-test-${MODE}`,
+        mode: 'SOLO',
+        startedAt: Date.now(),
+        record: {
+            distance: 5.2, elevationGain: 30.0, elevationLoss: -20.0, duration: 1800,
+            avgPace: 5.8, calories: 300, avgBpm: 150, avgCadence: 170,
+        },
+        hasPaused: false,
+        isPublic: false,
+    });
+    const body = {
+        req: http.file(req, 'req.json', 'application/json'),
+        rawTelemetry: http.file(telemetry, 'raw.jsonl', 'application/octet-stream'),
+        interpolatedTelemetry: http.file(telemetry, 'interpolated.jsonl', 'application/octet-stream'),
+        screenShotImage: http.file(telemetry, 'screenshot.png', 'image/png'),
+    };
+    const res = http.post(`${BASE_URL}/v1/runs/courses/${COURSE_ID}`, body,
+        { headers: authHeaders, tags: { name: 'POST /v1/runs/courses/{courseId}' } });
+    check(res, { 'run submission 200': (r) => r.status === 200 });
+}
+
+export function teardown(data) {
+    const after = readJvmMetrics();
+    console.log(`[${MODE}] jvm before: ${JSON.stringify(data.before)}`);
+    console.log(`[${MODE}] jvm after : ${JSON.stringify(after)}`);
+}
+
+export function handleSummary(data) {
+    return {
+        [`loadtest/results/${MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: `\n[${MODE}] course map p95=${metricValue(data, 'http_req_duration{scenario:course_map}', 'p(95)')}ms, `
+            + `run submission p95=${metricValue(data, 'http_req_duration{scenario:run_submission}', 'p(95)')}ms, `
+            + `requests/s=${metricValue(data, 'http_reqs', 'rate')}\n`,
+    };
+}
+
+function metricValue(data, name, stat) {
+    const metric = data.metrics[name];
+    return metric ? metric.values[stat].toFixed(1) : 'n/a';
+}
@@ -0,0 +1,78 @@
+package soma.ghostrunner.domain.course.dao;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import soma.ghostrunner.domain.course.dto.RunnerProfile;
+import soma.ghostrunner.domain.course.dto.query.CourseQueryModel;
+import soma.ghostrunner.global.common.redis.CompactRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코스 캐시 multiGet 한 번 분량(10 ~ 50개)의 CourseQueryModel 을 JSON(@class 포함)과 바이너리로 직렬화 / 역직렬화하는 시간 비교.
+ * Setup 에서 두 포맷의 값 크기 합을 출력한다. (Redis 메모리는 여기에 키당 고정 오버헤드가 더해진다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CourseQueryModelSerializerBenchmark {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final CompactRedisSerializer compact = new CompactRedisSerializer(json, true, List.of(new CourseQueryModelCodec()));
+
+    @Param({"10", "50"})
+    int courses;
+
+    private List<CourseQueryModel> models;
+    private List<byte[]> jsonValues;
+    private List<byte[]> compactValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        models = randomModels(courses);
+        jsonValues = serializeJson();
+        compactValues = serializeCompact();
+
+        long jsonBytes = jsonValues.stream().mapToLong(value -> value.length).sum();
+        long compactBytes = compactValues.stream().mapToLong(value -> value.length).sum();
+        System.out.printf("%n[courses=%d] JSON: %d bytes, compact: %d bytes (x%.1f)%n",
+                courses, jsonBytes, compactBytes, (double) jsonBytes / compactBytes);
+    }
+
+    @Benchmark
+    public List<byte[]> serializeJson() {
+        return models.stream().map(json::serialize).toList();
+    }
+
+    @Benchmark
+    public List<byte[]> serializeCompact() {
+        return models.stream().map(compact::serialize).toList();
+    }
+
+    @Benchmark
+    public List<Object> deserializeJson() {
+        return jsonValues.stream().map(json::deserialize).toList();
+    }
+
+    @Benchmark
+    public List<Object> deserializeCompact() {
+        return compactValues.stream().map(compact::deserialize).toList();
+    }
+
+    private static List<CourseQueryModel> randomModels(int count) {
+        List<CourseQueryModel> models = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<RunnerProfile> runners = new ArrayList<>();
+            for (int j = 0; j < 4; j++) {
+                String uuid = UUID.randomUUID().toString();
+                runners.add(new RunnerProfile(uuid, "https://cdn.ghostrunner.com/member/" + uuid + "/profile.png"));
+            }
+            models.add(new CourseQueryModel(100_000L + i, "한강 러닝 코스 " + i, runners, 4 + i));
+        }
+        return models;
+    }
+
+}
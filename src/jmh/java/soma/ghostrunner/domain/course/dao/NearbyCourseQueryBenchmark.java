@@ -0,0 +1,167 @@
+package soma.ghostrunner.domain.course.dao;
+
+import org.openjdk.jmh.annotations.*;
+import org.testcontainers.containers.MySQLContainer;
+import soma.ghostrunner.domain.course.domain.Geohash;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지도 화면 주변 코스 검색 쿼리 지연 비교 (MySQL 8 컨테이너)
+ *
+ * <ul>
+ *   <li>boundingBox : 기존과 같이 위경도 BETWEEN + Haversine 정렬 (인덱스 없음)</li>
+ *   <li>geohashPrefix : 범위를 덮는 geohash prefix 로 idx_course_start_geohash 범위 스캔 후 위경도로 거름</li>
+ * </ul>
+ * 러닝 테이블 조인 / GROUP BY 는 두 방식이 같으므로 제외하고 코스 테이블 조회만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NearbyCourseQueryBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final int QUERY_COUNT = 64;
+    private static final double RADIUS_KM = 3.0;
+
+    private static final String DISTANCE_ORDER =
+            " ORDER BY 6371 * acos(cos(RADIANS(start_latitude)) * cos(RADIANS(?)) * cos(RADIANS(start_longtitude) - RADIANS(?))"
+                    + " + sin(RADIANS(start_latitude)) * sin(RADIANS(?)))";
+
+    @Param({"10000", "100000", "1000000"})
+    int courses;
+
+    private MySQLContainer<?> mysql;
+    private Connection connection;
+    private List<double[]> queryCenters;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        mysql = new MySQLContainer<>("mysql:8.0")
+                .withDatabaseName("ghostrunner_bench")
+                .withUsername("bench")
+                .withPassword("bench");
+        mysql.start();
+        connection = DriverManager.getConnection(
+                mysql.getJdbcUrl() + "?rewriteBatchedStatements=true", mysql.getUsername(), mysql.getPassword());
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE course (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        start_latitude DOUBLE NOT NULL,
+                        start_longtitude DOUBLE NOT NULL,
+                        start_geohash VARCHAR(12),
+                        is_public BIT NOT NULL,
+                        deleted BIT NOT NULL
+                    )""");
+            statement.execute("CREATE INDEX idx_course_start_geohash ON course (start_geohash)");
+        }
+        seed(new Random(42));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE course");
+        }
+
+        // 검색은 코스가 몰려 있는 서울 안에서 일어난다고 가정
+        Random random = new Random(7);
+        queryCenters = new ArrayList<>(QUERY_COUNT);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryCenters.add(new double[]{37.45 + random.nextDouble() * 0.2, 126.85 + random.nextDouble() * 0.3});
+        }
+    }
+
+    // 절반은 서울, 나머지는 한반도 남쪽 전체에 흩뿌린다
+    private void seed(Random random) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO course (start_latitude, start_longtitude, start_geohash, is_public, deleted) VALUES (?, ?, ?, ?, 0)")) {
+            for (int i = 0; i < courses; i++) {
+                boolean inSeoul = random.nextBoolean();
+                double lat = inSeoul ? 37.45 + random.nextDouble() * 0.2 : 34.5 + random.nextDouble() * 3.5;
+                double lng = inSeoul ? 126.85 + random.nextDouble() * 0.3 : 126.5 + random.nextDouble() * 2.8;
+                insert.setDouble(1, lat);
+                insert.setDouble(2, lng);
+                insert.setString(3, Geohash.encode(lat, lng, Geohash.STORED_PRECISION));
+                insert.setBoolean(4, random.nextInt(10) < 7);
+                insert.addBatch();
+                if ((i + 1) % SEED_BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+        mysql.stop();
+    }
+
+    @Benchmark
+    public int boundingBox() throws SQLException {
+        double[] center = nextCenter();
+        double[] box = boundingBoxOf(center);
+        String sql = "SELECT id FROM course WHERE deleted = 0 AND is_public = 1"
+                + " AND start_latitude BETWEEN ? AND ? AND start_longtitude BETWEEN ? AND ?"
+                + DISTANCE_ORDER;
+        return query(sql, center, box, Collections.emptyList());
+    }
+
+    @Benchmark
+    public int geohashPrefix() throws SQLException {
+        double[] center = nextCenter();
+        double[] box = boundingBoxOf(center);
+        List<String> prefixes = Geohash.coveringPrefixes(box[0], box[1], box[2], box[3]);
+        String sql = "SELECT id FROM course WHERE deleted = 0 AND is_public = 1"
+                + " AND (" + String.join(" OR ", Collections.nCopies(prefixes.size(), "start_geohash LIKE ?")) + ")"
+                + " AND start_latitude BETWEEN ? AND ? AND start_longtitude BETWEEN ? AND ?"
+                + DISTANCE_ORDER;
+        return query(sql, center, box, prefixes);
+    }
+
+    private double[] nextCenter() {
+        double[] center = queryCenters.get(next);
+        next = (next + 1) % QUERY_COUNT;
+        return center;
+    }
+
+    // CourseService.getBoundingBoxLatLngs 와 같은 계산
+    private double[] boundingBoxOf(double[] center) {
+        double latDelta = RADIUS_KM / 111.0;
+        double lngDelta = RADIUS_KM / (111.0 * Math.cos(Math.toRadians(center[0])));
+        return new double[]{center[0] - latDelta, center[0] + latDelta, center[1] - lngDelta, center[1] + lngDelta};
+    }
+
+    private int query(String sql, double[] center, double[] box, List<String> prefixes) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (String prefix : prefixes) {
+                statement.setString(index++, prefix + "%");
+            }
+            for (double bound : box) {
+                statement.setDouble(index++, bound);
+            }
+            statement.setDouble(index++, center[0]);
+            statement.setDouble(index++, center[1]);
+            statement.setDouble(index, center[0]);
+
+            int rows = 0;
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows++;
+                }
+            }
+            return rows;
+        }
+    }
+
+}
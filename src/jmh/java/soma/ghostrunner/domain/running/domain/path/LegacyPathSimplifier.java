@@ -0,0 +1,217 @@
+package soma.ghostrunner.domain.running.domain.path;
+
+import org.locationtech.proj4j.*;
+
+import java.util.*;
+
+/**
+ * 비교용으로 남겨 둔 객체 / 재귀 기반 PathSimplifier 구현 (RDP, VW)
+ */
+final class LegacyPathSimplifier {
+
+    private static final CRSFactory crsFactory = new CRSFactory();
+    private static final CoordinateTransformFactory ctFactory = new CoordinateTransformFactory();
+    private static final CoordinateReferenceSystem WGS84 = crsFactory.createFromName("epsg:4326");
+
+    private static final double RDP_EPSILON_METER = 10.0;
+    private static final double VW_EPSILON_AREA = 4.0;
+
+    private LegacyPathSimplifier() {
+    }
+
+    static List<Coordinates> extractEdgePoints(List<CoordinatesWithTs> points) {
+        if (points.size() <= 2) {
+            return toCoordinates(points);
+        }
+
+        List<CoordinatesWithTs> utmPoints = toUtm(points);
+        List<RdpPoint> rdpUtmPoints = rdp(RdpPoint.toList(utmPoints));
+
+        List<CoordinatesWithTs> out = new ArrayList<>();
+        for (RdpPoint utmPoint : rdpUtmPoints) {
+            out.add(points.get(utmPoint.idx));
+        }
+
+        out.sort(Comparator.naturalOrder());
+        return toCoordinates(out);
+    }
+
+    static List<Coordinates> simplifyToRenderingTelemetries(List<CoordinatesWithTs> points) {
+        if (points.size() < 3) {
+            return toCoordinates(points);
+        }
+
+        List<CoordinatesWithTs> utmPoints = toUtm(points);
+        return toCoordinates(visValingamWhyatt(points, utmPoints));
+    }
+
+    private static List<Coordinates> toCoordinates(List<CoordinatesWithTs> points) {
+        return points.stream()
+                .map(CoordinatesWithTs::toCoordinates)
+                .toList();
+    }
+
+    private static List<CoordinatesWithTs> toUtm(List<CoordinatesWithTs> points) {
+        List<CoordinatesWithTs> out = new ArrayList<>();
+        int zone = (int) Math.floor(points.get(0).getX() / 6.0) + 31;
+
+        CoordinateReferenceSystem utmCrs = crsFactory.createFromParameters("UTM Zone " + zone,
+                String.format("+proj=utm +zone=%d +datum=WGS84 +units=m +no_defs", zone));
+        CoordinateTransform transform = ctFactory.createTransform(WGS84, utmCrs);
+
+        for (CoordinatesWithTs point : points) {
+            ProjCoordinate sourceCoordinates = new ProjCoordinate(point.getX(), point.getY());
+            ProjCoordinate targetCoordinates = new ProjCoordinate();
+            transform.transform(sourceCoordinates, targetCoordinates);
+            out.add(new CoordinatesWithTs(point.getT(), targetCoordinates.y, targetCoordinates.x));
+        }
+        return out;
+    }
+
+    private record RdpPoint(long t, double y, double x, int idx) {
+
+        static List<RdpPoint> toList(List<CoordinatesWithTs> points) {
+            List<RdpPoint> out = new ArrayList<>();
+            for (int i = 0; i < points.size(); i++) {
+                CoordinatesWithTs point = points.get(i);
+                out.add(new RdpPoint(point.getT(), point.getY(), point.getX(), i));
+            }
+            return out;
+        }
+
+    }
+
+    private static List<RdpPoint> rdp(List<RdpPoint> points) {
+        List<RdpPoint> out = new ArrayList<>();
+        if (points.size() < 3) {
+            return points;
+        }
+
+        RdpPoint start = points.get(0);
+        RdpPoint end = points.get(points.size() - 1);
+
+        double maxDistance = 0.0;
+        int index = 0;
+
+        for (int i = 1; i < points.size() - 1; i++) {
+            double dist = calculateVerticalDistance(points.get(i), start, end);
+            if (dist > maxDistance) {
+                maxDistance = dist;
+                index = i;
+            }
+        }
+
+        if (maxDistance > RDP_EPSILON_METER) {
+            List<RdpPoint> leftResults = rdp(points.subList(0, index + 1));
+            List<RdpPoint> rightResults = rdp(points.subList(index, points.size()));
+
+            out.addAll(leftResults.subList(0, leftResults.size() - 1));
+            out.addAll(rightResults);
+            return out;
+        } else {
+            return List.of(start, end);
+        }
+    }
+
+    private static double calculateVerticalDistance(RdpPoint target, RdpPoint start, RdpPoint end) {
+        double dx = end.x() - start.x();
+        double dy = end.y() - start.y();
+
+        double numerator = Math.abs(dy * target.x() - dx * target.y() + end.x() * start.y() - end.y() * start.x());
+        double denominator = Math.sqrt(dx * dx + dy * dy);
+
+        return numerator / denominator;
+    }
+
+    private static List<CoordinatesWithTs> visValingamWhyatt(List<CoordinatesWithTs> points, List<CoordinatesWithTs> utmPoints) {
+        PriorityQueue<VWHeapNode> heap = new PriorityQueue<>();
+        for (int i = 1; i < utmPoints.size() - 1; i++) {
+            double area = calculateTriangleArea(utmPoints.get(i - 1), utmPoints.get(i), utmPoints.get(i + 1));
+            heap.add(new VWHeapNode(area, i - 1, i, i + 1));
+        }
+
+        List<VWLNode> vwNodes = VWLNode.toList(points.size());
+
+        boolean[] isActive = new boolean[points.size()];
+        Arrays.fill(isActive, true);
+
+        while (!heap.isEmpty()) {
+            VWHeapNode point = heap.poll();
+            int start = point.start;
+            int mid = point.mid;
+            int end = point.end;
+
+            if (vwNodes.get(mid).prevIdx != start || vwNodes.get(mid).nextIdx != end) {
+                continue;
+            }
+
+            if (point.area < VW_EPSILON_AREA) {
+                isActive[mid] = false;
+                vwNodes.get(start).nextIdx = vwNodes.get(mid).nextIdx;
+                vwNodes.get(end).prevIdx = vwNodes.get(mid).prevIdx;
+
+                if (vwNodes.get(start).prevIdx != null) {
+                    double leftTriangleArea = calculateTriangleArea(
+                            utmPoints.get(vwNodes.get(start).prevIdx), utmPoints.get(start), utmPoints.get(end));
+                    heap.add(new VWHeapNode(leftTriangleArea, vwNodes.get(start).prevIdx, start, end));
+                }
+
+                if (vwNodes.get(end).nextIdx != null) {
+                    double rightTriangleArea = calculateTriangleArea(
+                            utmPoints.get(start), utmPoints.get(end), utmPoints.get(vwNodes.get(end).nextIdx));
+                    heap.add(new VWHeapNode(rightTriangleArea, start, end, vwNodes.get(end).nextIdx));
+                }
+            } else {
+                break;
+            }
+        }
+
+        List<CoordinatesWithTs> out = new ArrayList<>();
+        for (int i = 0; i < vwNodes.size(); i++) {
+            if (isActive[i]) {
+                out.add(points.get(i));
+            }
+        }
+        return out;
+    }
+
+    private static double calculateTriangleArea(CoordinatesWithTs p1, CoordinatesWithTs p2, CoordinatesWithTs p3) {
+        return 0.5 * Math.abs(
+                p1.getY() * (p2.getX() - p3.getX()) +
+                        p2.getY() * (p3.getX() - p1.getX()) +
+                        p3.getY() * (p1.getX() - p2.getX())
+        );
+    }
+
+    private record VWHeapNode(double area, int start, int mid, int end) implements Comparable<VWHeapNode> {
+
+        @Override
+        public int compareTo(VWHeapNode other) {
+            return Double.compare(this.area, other.area);
+        }
+
+    }
+
+    private static class VWLNode {
+
+        Integer prevIdx;
+        Integer nextIdx;
+
+        VWLNode(Integer prevIdx, Integer nextIdx) {
+            this.prevIdx = prevIdx;
+            this.nextIdx = nextIdx;
+        }
+
+        static List<VWLNode> toList(int size) {
+            List<VWLNode> result = new ArrayList<>();
+            result.add(new VWLNode(null, 1));
+            for (int i = 1; i < size - 1; i++) {
+                result.add(new VWLNode(i - 1, i + 1));
+            }
+            result.add(new VWLNode(size - 2, null));
+            return result;
+        }
+
+    }
+
+}
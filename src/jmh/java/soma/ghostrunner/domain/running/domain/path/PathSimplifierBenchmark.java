@@ -0,0 +1,84 @@
+package soma.ghostrunner.domain.running.domain.path;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 객체 / 재귀 기반 구현과 primitive 배열 기반 PathSimplifier 의 RDP / VW, UTM 투영 처리 시간 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathSimplifierBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int points;
+
+    private List<CoordinatesWithTs> track;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        track = randomTrack(points);
+        if (!LegacyPathSimplifier.extractEdgePoints(track).equals(PathSimplifier.extractEdgePoints(track))
+                || !LegacyPathSimplifier.simplifyToRenderingTelemetries(track).equals(PathSimplifier.simplifyToRenderingTelemetries(track))) {
+            throw new IllegalStateException("기존 구현과 결과가 다릅니다. points=" + points);
+        }
+    }
+
+    @Benchmark
+    public List<Coordinates> legacyRdp() {
+        return LegacyPathSimplifier.extractEdgePoints(track);
+    }
+
+    @Benchmark
+    public List<Coordinates> rdp() {
+        return PathSimplifier.extractEdgePoints(track);
+    }
+
+    @Benchmark
+    public List<Coordinates> legacyVw() {
+        return LegacyPathSimplifier.simplifyToRenderingTelemetries(track);
+    }
+
+    @Benchmark
+    public List<Coordinates> vw() {
+        return PathSimplifier.simplifyToRenderingTelemetries(track);
+    }
+
+    @Benchmark
+    public UtmTrack projectWithProj4j() {
+        return UtmProjector.project(track, UtmProjector.Method.PROJ4J);
+    }
+
+    @Benchmark
+    public UtmTrack projectAnalytically() {
+        return UtmProjector.project(track, UtmProjector.Method.ANALYTIC);
+    }
+
+    // PathSimplificationService 와 같이 한 번 투영한 결과를 VW / RDP 가 공유
+    @Benchmark
+    public int vwAndRdpWithSharedProjection() {
+        UtmTrack utmTrack = UtmProjector.project(track, UtmProjector.Method.ANALYTIC);
+        return PathSimplifier.simplifyToRenderingTelemetries(track, utmTrack).size()
+                + PathSimplifier.extractEdgePoints(track, utmTrack).size();
+    }
+
+    private static List<CoordinatesWithTs> randomTrack(int points) {
+        Random random = new Random(42);
+        List<CoordinatesWithTs> track = new ArrayList<>(points);
+
+        double y = 37.5575, x = 126.9564, heading = 0.0;
+        for (int i = 0; i < points; i++) {
+            heading += random.nextGaussian() * 0.15;
+            y += Math.cos(heading) * 0.00002;
+            x += Math.sin(heading) * 0.00002;
+            track.add(new CoordinatesWithTs(i * 1000L, y, x));
+        }
+        return track;
+    }
+
+}
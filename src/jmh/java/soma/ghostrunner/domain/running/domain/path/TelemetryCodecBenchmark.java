@@ -0,0 +1,112 @@
+package soma.ghostrunner.domain.running.domain.path;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import soma.ghostrunner.domain.running.domain.path.TelemetryBinaryCodec.Compression;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 JSONL 직렬화와 컬럼 바이너리 포맷의 크기 / 인코딩 / 디코딩 처리량 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TelemetryCodecBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Param({"3600", "14400", "43200"})      // 1시간 / 4시간 / 12시간 (1초 간격)
+    int points;
+
+    private List<Telemetry> telemetries;
+    private TelemetryColumns columns;
+    private byte[] jsonl;
+    private byte[] binary;
+    private byte[] gzipBinary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        telemetries = randomTrack(points);
+        columns = TelemetryColumns.from(telemetries);
+        jsonl = encodeJsonl();
+        binary = TelemetryBinaryCodec.encode(columns, Compression.NONE);
+        gzipBinary = TelemetryBinaryCodec.encode(columns, Compression.GZIP);
+
+        System.out.printf("%n[points=%d] JSONL: %d bytes, binary: %d bytes (x%.1f), binary+gzip: %d bytes (x%.1f)%n",
+                points, jsonl.length,
+                binary.length, (double) jsonl.length / binary.length,
+                gzipBinary.length, (double) jsonl.length / gzipBinary.length);
+    }
+
+    // 기존 GhostRunnerS3Client.uploadObjectList 방식 (객체마다 문자열로 만든 뒤 이어 붙임)
+    @Benchmark
+    public byte[] encodeJsonl() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < telemetries.size(); i++) {
+            if (i > 0) {
+                sb.append('\n');
+            }
+            sb.append(objectMapper.writeValueAsString(telemetries.get(i)));
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Telemetry> decodeJsonl() throws Exception {
+        List<Telemetry> decoded = new ArrayList<>(points);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new ByteArrayInputStream(jsonl), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                decoded.add(objectMapper.readValue(line, Telemetry.class));
+            }
+        }
+        return decoded;
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return TelemetryBinaryCodec.encode(columns, Compression.NONE);
+    }
+
+    @Benchmark
+    public byte[] encodeGzipBinary() {
+        return TelemetryBinaryCodec.encode(columns, Compression.GZIP);
+    }
+
+    @Benchmark
+    public TelemetryColumns decodeBinary() {
+        return TelemetryBinaryCodec.decode(binary);
+    }
+
+    @Benchmark
+    public TelemetryColumns decodeGzipBinary() {
+        return TelemetryBinaryCodec.decode(gzipBinary);
+    }
+
+    private static List<Telemetry> randomTrack(int points) {
+        Random random = new Random(42);
+        List<Telemetry> track = new ArrayList<>(points);
+
+        double y = 37.5575, x = 126.9564, d = 0.0, e = 40.0;
+        for (int i = 0; i < points; i++) {
+            y += (random.nextDouble() - 0.3) * 0.00003;
+            x += (random.nextDouble() - 0.3) * 0.00003;
+            d += 2.5 + random.nextDouble();
+            e += random.nextGaussian() * 0.3;
+            double p = 300 + random.nextGaussian() * 20;
+            track.add(new Telemetry(i * 1000L, y, x, d, p, e,
+                    160 + random.nextInt(20), 140 + random.nextInt(30), random.nextInt(100) > 2));
+        }
+        return track;
+    }
+
+}
@@ -4,7 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
-import soma.ghostrunner.domain.course.dao.CourseCacheRepository;
+import soma.ghostrunner.domain.course.domain.events.CourseChangedEvent;
 import soma.ghostrunner.domain.running.domain.events.RunFinishedEvent;
 import soma.ghostrunner.domain.running.domain.events.RunUpdatedEvent;
 
@@ -13,14 +13,15 @@ import soma.ghostrunner.domain.running.domain.events.RunUpdatedEvent;
 @RequiredArgsConstructor
 public class CourseCacheEventListener {
 
-    private final CourseCacheRepository courseCacheRepository;
+    private final CourseQueryModelCache courseQueryModelCache;
+    private final CourseTileIndex courseTileIndex;
 
     @TransactionalEventListener
     public void handleRunFinishedEvent(RunFinishedEvent event) {
         // 캐시 무효화
         log.info("RunFinishedEvent received; invalidating cache with courseId {}", event.courseId());
         Long courseId = event.courseId();
-        courseCacheRepository.deleteById(courseId);
+        courseQueryModelCache.evict(courseId);
     }
 
     @TransactionalEventListener
@@ -28,7 +29,15 @@ public class CourseCacheEventListener {
         // 캐시 무효화
         log.info("RunUpdatedEvent received; invalidating cache with courseId {}", event.courseId());
         Long courseId = event.courseId();
-        courseCacheRepository.deleteById(courseId);
+        courseQueryModelCache.evict(courseId);
+    }
+
+    @TransactionalEventListener
+    public void handleCourseChangedEvent(CourseChangedEvent event) {
+        // 캐시 및 타일 인덱스 무효화
+        log.info("CourseChangedEvent received; invalidating cache and tile with courseId {}", event.courseId());
+        courseQueryModelCache.evict(event.courseId());
+        courseTileIndex.evict(event.startLatitude(), event.startLongitude());
     }
 
 }
@@ -6,7 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import soma.ghostrunner.domain.course.dao.CourseCacheRepository;
 import soma.ghostrunner.domain.course.domain.Course;
 import soma.ghostrunner.domain.course.dto.*;
 import soma.ghostrunner.domain.course.dto.query.CourseQueryModel;
@@ -28,7 +27,7 @@ import java.util.*;
 public class CourseFacade {
     private final CourseService courseService;
     private final RunningQueryService runningQueryService;
-    private final CourseCacheRepository courseCacheRepository;
+    private final CourseQueryModelCache courseQueryModelCache;
 
     private final CourseMapper courseMapper;
     private final RunningApiMapper runningApiMapper;
@@ -40,87 +39,51 @@ public class CourseFacade {
                                                                CourseSearchFilterDto filters, String viewerUuid) {
         // 범위 내 코스 리스트 조회
         List<CoursePreviewDto> courses = courseService.findNearbyCourses(lat, lng, radiusM, sort, filters);
-        List<Long> courseIds = courses.stream().map(CoursePreviewDto::id).toList();
-
-        // 캐시에서 코스 정보 조회
-        Map<Long, CourseQueryModel> cachedCourseInfos = courseCacheRepository.findAllById(courseIds);
-
-        // 캐시 히트 여부에 따라 처리 분기
         List<CoursePreviewDto> filteredCourses = limitCoursesForViewer(courses, viewerUuid, 10);
-        List<CourseMapResponse> responses;
-        List<Long> cacheMissedIds = filterCacheMissedIds(cachedCourseInfos);
-        if(!cacheMissedIds.isEmpty()) {
-            log.info("CourseFacade::findCoursesByPositionCached() - found cache miss for {} courses", cacheMissedIds.size());
-            var cacheMissedCourses = filteredCourses.stream().filter(
-                    c -> cacheMissedIds.contains(c.id())).toList();
-            responses = handleCourseCacheMiss(viewerUuid, filteredCourses, cacheMissedCourses, cachedCourseInfos);
-        } else {
-            log.info("CourseFacade::findCoursesByPositionCached() - all {} courses cache hit. querying ghost", filteredCourses.size());
-            responses = handleCourseCacheHit(viewerUuid, filteredCourses, courseIds, cachedCourseInfos);
-        }
+        List<Long> courseIds = filteredCourses.stream().map(CoursePreviewDto::id).toList();
 
-        return responses;
-    }
+        // 캐시에서 코스 정보 조회 (캐시 미스는 DB 에서 조회 후 캐싱)
+        Map<Long, CourseQueryModel> courseModels = courseQueryModelCache.findAllById(courseIds,
+                cacheMissedIds -> loadCourseQueryModels(filteredCourses, cacheMissedIds));
+
+        // 본인 최고 기록은 캐싱되지 않으므로, 모든 코스에 대해 조회
+        Map<Long, Running> memberBestRuns = runningQueryService.findBestRunningRecordsForCourses(courseIds, viewerUuid);
 
-    private List<CourseMapResponse> handleCourseCacheMiss(String viewerUuid, List<CoursePreviewDto> totalCourses,
-                                                          List<CoursePreviewDto> cacheMissedCourses, Map<Long, CourseQueryModel> cachedCourses) {
-        var totalCourseIds = totalCourses.stream().map(CoursePreviewDto::id).toList();
-        var cacheMissedIds = cacheMissedCourses.stream().map(CoursePreviewDto::id).toList();
-        // 코스 별 Top 4 러너 프로필 & 러너 수 & 본인 최고 기록 조회
-        Map<Long, List<CourseRunDto>> topRunnersForCourse = runningQueryService.findTopRankingDistinctGhostsByCourseIds(cacheMissedIds, 4);
-        Map<Long, Long> runnerCountsForCourse = runningQueryService.findPublicRunnersCountByCourseIds(cacheMissedIds);
-        Map<Long, Running> memberBestRuns = runningQueryService.findBestRunningRecordsForCourses(totalCourseIds, viewerUuid); // 본인 최고 기록은 캐싱되지 않으므로, 모든 코스에 대해 조회
-        // 캐시 저장
-        Map<Long, CourseQueryModel> newlyCachedCourses = saveCoursesToCache(cacheMissedCourses, topRunnersForCourse, runnerCountsForCourse);
         // 기존 코스 순서에 맞춰 응답 반환
-        List<CourseMapResponse> ret = new ArrayList<>();
-        for (var course: totalCourses) {
-            CourseQueryModel courseModel;
-            if (newlyCachedCourses.containsKey(course.id())) {
-                courseModel = newlyCachedCourses.get(course.id());
-            } else if (cachedCourses.containsKey(course.id()) && cachedCourses.get(course.id()) != null) {
-                courseModel = cachedCourses.get(course.id());
-            } else {
-                log.warn("CourseFacade::handleCourseCacheMiss() - course id {} not found in both cache and newly queried", course.id());
+        List<CourseMapResponse> responses = new ArrayList<>();
+        for (var course : filteredCourses) {
+            CourseQueryModel courseModel = courseModels.get(course.id());
+            if (courseModel == null) {
+                log.warn("CourseFacade::findCoursesByPositionCached() - course id {} not found in both cache and newly queried", course.id());
                 continue;
             }
             // 코스 별 본인 고스트 매핑
             CourseGhostResponse ghostForUser = memberBestRuns.get(course.id()) != null
                     ? runningApiMapper.toGhostResponse(memberBestRuns.get(course.id()))
                     : null;
-            ret.add(courseMapper.toCourseMapResponse(course, courseModel.topRunners(), courseModel.runnerCount(), ghostForUser));
+            responses.add(courseMapper.toCourseMapResponse(course, courseModel.topRunners(), courseModel.runnerCount(), ghostForUser));
         }
-        return ret;
+        return responses;
     }
 
-    private Map<Long, CourseQueryModel> saveCoursesToCache(List<CoursePreviewDto> cacheMissedCourses,
-                                                               Map<Long, List<CourseRunDto>> topRunnersForCourse,
-                                                               Map<Long, Long> runnerCountsForCourse) {
-        Map<Long, CourseQueryModel> coursesToBeCached = new HashMap<>();
-        for (var course: cacheMissedCourses) {
+    private Map<Long, CourseQueryModel> loadCourseQueryModels(List<CoursePreviewDto> courses, List<Long> cacheMissedIds) {
+        log.info("CourseFacade::loadCourseQueryModels() - found cache miss for {} courses", cacheMissedIds.size());
+        // 코스 별 Top 4 러너 프로필 & 러너 수 조회
+        Map<Long, List<CourseRunDto>> topRunnersForCourse = runningQueryService.findTopRankingDistinctGhostsByCourseIds(
+                cacheMissedIds, MAX_RUNNER_PROFILES_PER_COURSE);
+        Map<Long, Long> runnerCountsForCourse = runningQueryService.findPublicRunnersCountByCourseIds(cacheMissedIds);
+
+        Map<Long, CourseQueryModel> models = new HashMap<>();
+        for (var course : courses) {
+            if (!cacheMissedIds.contains(course.id())) {
+                continue;
+            }
             List<CourseRunDto> runners = topRunnersForCourse.getOrDefault(course.id(), List.of());
             Long runnersCount = runnerCountsForCourse.getOrDefault(course.id(), 0L);
-            coursesToBeCached.put(course.id(), new CourseQueryModel(course.id(), course.name(),
+            models.put(course.id(), new CourseQueryModel(course.id(), course.name(),
                     runners.stream().map(RunnerProfile::from).toList(), Math.toIntExact(runnersCount)));
         }
-        log.info("CourseFacade::saveCoursesToCache() - saving {} courses to cache", coursesToBeCached.size());
-        courseCacheRepository.saveAll(coursesToBeCached.values().stream().toList());
-        return coursesToBeCached;
-    }
-
-    private List<CourseMapResponse> handleCourseCacheHit(String viewerUuid, List<CoursePreviewDto> courses,
-                                                         List<Long> courseIds, Map<Long, CourseQueryModel> cachedCourses) {
-        // 코스 별 본인 고스트 조회
-        Map<Long, Running> memberBestRuns = runningQueryService.findBestRunningRecordsForCourses(courseIds, viewerUuid);
-        return courses.stream().map(course -> {
-            CourseGhostResponse ghostForUser = null;
-            if (memberBestRuns.containsKey(course.id())) {
-                ghostForUser = runningApiMapper.toGhostResponse(memberBestRuns.get(course.id()));
-            }
-
-            CourseQueryModel cachedCourse = cachedCourses.get(course.id());
-            return courseMapper.toCourseMapResponse(course, cachedCourse.topRunners(), cachedCourse.runnerCount(), ghostForUser);
-        }).toList();
+        return models;
     }
 
     @Deprecated
@@ -258,13 +221,19 @@ public class CourseFacade {
     @Transactional(readOnly = true)
     public Page<CourseSummaryResponse> findCourseSummariesOfMember(String memberUuid, Pageable pageable) {
         Page<CourseWithMemberDetailsDto> courseDetails = courseService.findCoursesByMemberUuid(memberUuid, pageable);
-        List<CourseSummaryResponse> results = new ArrayList<>();
+        List<Long> courseIds = courseDetails.getContent().stream().map(CourseWithMemberDetailsDto::getCourseId).toList();
+
+        // 페이지 크기와 관계없이 통계 / 본인 최고 기록을 각각 한 번에 조회
+        Map<Long, CourseRunStatisticsDto> statisticsByCourseId = runningQueryService.findCourseRunStatisticsByCourseIds(courseIds);
+        Map<Long, Running> memberBestRuns = runningQueryService.findBestRunningRecordsForCourses(courseIds, memberUuid);
 
+        List<CourseSummaryResponse> results = new ArrayList<>();
         for(CourseWithMemberDetailsDto courseDto : courseDetails.getContent()) {
-            CourseRunStatisticsDto courseStatistics = runningQueryService.findCourseRunStatistics(courseDto.getCourseId())
-                    .orElse(new CourseRunStatisticsDto());
+            CourseRunStatisticsDto courseStatistics = statisticsByCourseId.getOrDefault(courseDto.getCourseId(),
+                    new CourseRunStatisticsDto(null, null, null, null, null, 0, 0));
             courseStatistics = switchTotalRunsCountToUniqueRunnersCount(courseStatistics);
-            CourseGhostResponse ghostForUser = getGhostResponse(courseDto.getCourseId(), memberUuid);
+            Running bestRun = memberBestRuns.get(courseDto.getCourseId());
+            CourseGhostResponse ghostForUser = bestRun != null ? runningApiMapper.toGhostResponse(bestRun) : null;
             results.add(courseMapper.toCourseSummaryResponse(courseDto, courseStatistics.getUniqueRunnersCount(),
                     courseStatistics.getTotalRunsCount(), courseStatistics.getAvgCompletionTime(),
                     courseStatistics.getAvgFinisherPace(), courseStatistics.getAvgFinisherCadence(), ghostForUser));
@@ -316,11 +285,4 @@ public class CourseFacade {
                 });
     }
 
-    private static List<Long> filterCacheMissedIds(Map<Long, CourseQueryModel> cachedCourses) {
-        return cachedCourses.entrySet().stream()
-                .filter(entry -> entry.getValue() == null)
-                .map(Map.Entry::getKey)
-                .toList();
-    }
-
 }
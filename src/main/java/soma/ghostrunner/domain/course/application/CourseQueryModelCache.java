@@ -0,0 +1,264 @@
+package soma.ghostrunner.domain.course.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import soma.ghostrunner.domain.course.dao.CourseCacheRepository;
+import soma.ghostrunner.domain.course.dto.query.CourseQueryModel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * 지도 화면의 코스 정보(CourseQueryModel) 2단계 캐시. 로컬(Caffeine) -> Redis -> DB 순으로 조회한다.
+ *
+ * <ul>
+ *   <li>로컬 캐시는 TTL 이 짧고, 무효화는 Redis pub/sub 으로 모든 인스턴스에 전파한다.</li>
+ *   <li>같은 코스에 대한 동시 캐시 미스는 하나의 DB 조회만 수행하고 나머지는 그 결과를 기다린다.</li>
+ *   <li>Redis 조회에 실패하면 캐시 미스로 처리한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CourseQueryModelCache {
+
+    static final String INVALIDATION_CHANNEL = "course-cache:invalidation";
+
+    private final CourseCacheRepository courseCacheRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, CourseQueryModel> localCache;
+
+    // 코스 ID 별 진행 중인 DB 조회
+    private final Map<Long, CompletableFuture<CourseQueryModel>> inFlightLoads = new ConcurrentHashMap<>();
+    // 코스 ID 별 무효화 횟수. 조회 도중 무효화된 코스의 조회 결과만 캐싱하지 않는다
+    private final Map<Long, Long> invalidationVersions = new ConcurrentHashMap<>();
+    private final long loadWaitMillis;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter coalescedLoads;
+    private final Timer loadTimer;
+
+    public CourseQueryModelCache(CourseCacheRepository courseCacheRepository,
+                                 RedisTemplate<String, String> redisTemplate,
+                                 RedisMessageListenerContainer listenerContainer,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${course.query-cache.local-ttl-seconds:10}") long localTtlSeconds,
+                                 @Value("${course.query-cache.local-max-size:10000}") long localMaxSize,
+                                 @Value("${course.query-cache.load-wait-millis:3000}") long loadWaitMillis) {
+        this.courseCacheRepository = courseCacheRepository;
+        this.redisTemplate = redisTemplate;
+        this.loadWaitMillis = loadWaitMillis;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+
+        this.localHits = Counter.builder("course.query_cache.lookups").tag("tier", "local").tag("result", "hit").register(meterRegistry);
+        this.localMisses = Counter.builder("course.query_cache.lookups").tag("tier", "local").tag("result", "miss").register(meterRegistry);
+        this.redisHits = Counter.builder("course.query_cache.lookups").tag("tier", "redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("course.query_cache.lookups").tag("tier", "redis").tag("result", "miss").register(meterRegistry);
+        this.coalescedLoads = Counter.builder("course.query_cache.coalesced_loads").register(meterRegistry);
+        this.loadTimer = Timer.builder("course.query_cache.load").register(meterRegistry);
+        Gauge.builder("course.query_cache.local_size", localCache, Cache::estimatedSize).register(meterRegistry);
+
+        listenerContainer.addMessageListener((message, pattern) -> onInvalidation(message.getBody()),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 코스 ID 순서대로 캐시된 코스 정보를 반환한다. 캐시에 없는 코스는 loader 로 한 번에 조회해 캐싱한다.
+     * loader 결과에 없는 코스는 반환 값에서 빠진다.
+     */
+    public Map<Long, CourseQueryModel> findAllById(List<Long> courseIds,
+                                                   Function<List<Long>, Map<Long, CourseQueryModel>> loader) {
+        Map<Long, CourseQueryModel> results = new LinkedHashMap<>();
+        List<Long> localMissedIds = new ArrayList<>();
+        for (Long courseId : courseIds) {
+            CourseQueryModel model = localCache.getIfPresent(courseId);
+            if (model != null) {
+                results.put(courseId, model);
+            } else {
+                localMissedIds.add(courseId);
+            }
+        }
+        localHits.increment(results.size());
+        localMisses.increment(localMissedIds.size());
+        if (localMissedIds.isEmpty()) {
+            return results;
+        }
+
+        List<Long> redisMissedIds = new ArrayList<>();
+        Map<Long, Long> versions = versionsOf(localMissedIds);
+        Map<Long, CourseQueryModel> redisModels = findAllFromRedis(localMissedIds);
+        for (Long courseId : localMissedIds) {
+            CourseQueryModel model = redisModels.get(courseId);
+            if (model != null) {
+                if (isUnchanged(courseId, versions)) {
+                    localCache.put(courseId, model);
+                }
+                results.put(courseId, model);
+            } else {
+                redisMissedIds.add(courseId);
+            }
+        }
+        redisHits.increment(localMissedIds.size() - redisMissedIds.size());
+        redisMisses.increment(redisMissedIds.size());
+        if (!redisMissedIds.isEmpty()) {
+            results.putAll(load(redisMissedIds, loader));
+        }
+
+        return orderByIds(courseIds, results);
+    }
+
+    /** Redis 와 모든 인스턴스의 로컬 캐시에서 코스 정보를 지운다. */
+    public void evict(Long courseId) {
+        courseCacheRepository.deleteById(courseId);
+        evictLocal(courseId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(courseId));
+        } catch (DataAccessException e) {
+            log.warn("CourseQueryModelCache::evict() - failed to publish invalidation for courseId {}", courseId, e);
+        }
+    }
+
+    void evictLocal(Long courseId) {
+        invalidationVersions.merge(courseId, 1L, Long::sum);
+        localCache.invalidate(courseId);
+    }
+
+    private Map<Long, Long> versionsOf(Collection<Long> courseIds) {
+        Map<Long, Long> versions = new HashMap<>();
+        for (Long courseId : courseIds) {
+            versions.put(courseId, invalidationVersions.getOrDefault(courseId, 0L));
+        }
+        return versions;
+    }
+
+    private boolean isUnchanged(Long courseId, Map<Long, Long> versions) {
+        return invalidationVersions.getOrDefault(courseId, 0L).equals(versions.get(courseId));
+    }
+
+    private void onInvalidation(byte[] body) {
+        // 메시지는 StringRedisSerializer 로 직렬화된 코스 ID
+        String courseId = new String(body, StandardCharsets.UTF_8);
+        try {
+            evictLocal(Long.valueOf(courseId));
+        } catch (NumberFormatException e) {
+            log.warn("CourseQueryModelCache::onInvalidation() - invalid message {}", courseId);
+        }
+    }
+
+    private Map<Long, CourseQueryModel> findAllFromRedis(List<Long> courseIds) {
+        try {
+            return courseCacheRepository.findAllById(courseIds);
+        } catch (DataAccessException e) {
+            log.warn("CourseQueryModelCache::findAllFromRedis() - redis lookup failed, treating {} courses as cache miss",
+                    courseIds.size(), e);
+            return Map.of();
+        }
+    }
+
+    /** 다른 요청이 이미 조회 중인 코스는 그 결과를 기다리고, 나머지는 직접 조회한다. */
+    private Map<Long, CourseQueryModel> load(List<Long> courseIds,
+                                             Function<List<Long>, Map<Long, CourseQueryModel>> loader) {
+        Map<Long, CompletableFuture<CourseQueryModel>> ownLoads = new LinkedHashMap<>();
+        Map<Long, CompletableFuture<CourseQueryModel>> otherLoads = new LinkedHashMap<>();
+        for (Long courseId : courseIds) {
+            CompletableFuture<CourseQueryModel> future = new CompletableFuture<>();
+            CompletableFuture<CourseQueryModel> inFlight = inFlightLoads.putIfAbsent(courseId, future);
+            if (inFlight == null) {
+                ownLoads.put(courseId, future);
+            } else {
+                otherLoads.put(courseId, inFlight);
+            }
+        }
+
+        // 직접 조회하는 코스를 먼저 끝내야 서로의 결과를 기다리는 요청끼리 막히지 않는다
+        Map<Long, CourseQueryModel> results = new HashMap<>();
+        if (!ownLoads.isEmpty()) {
+            results.putAll(loadAndCache(ownLoads, loader));
+        }
+
+        List<Long> failedIds = new ArrayList<>();
+        for (Map.Entry<Long, CompletableFuture<CourseQueryModel>> entry : otherLoads.entrySet()) {
+            coalescedLoads.increment();
+            try {
+                CourseQueryModel model = entry.getValue().get(loadWaitMillis, TimeUnit.MILLISECONDS);
+                if (model != null) {
+                    results.put(entry.getKey(), model);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failedIds.add(entry.getKey());
+            } catch (ExecutionException | TimeoutException e) {
+                failedIds.add(entry.getKey());
+            }
+        }
+        if (!failedIds.isEmpty()) {
+            log.info("CourseQueryModelCache::load() - waiting for in-flight load failed, loading {} courses directly", failedIds.size());
+            results.putAll(loadTimer.record(() -> loader.apply(failedIds)));
+        }
+        return results;
+    }
+
+    private Map<Long, CourseQueryModel> loadAndCache(Map<Long, CompletableFuture<CourseQueryModel>> ownLoads,
+                                                     Function<List<Long>, Map<Long, CourseQueryModel>> loader) {
+        try {
+            Map<Long, Long> versions = versionsOf(ownLoads.keySet());
+            Map<Long, CourseQueryModel> loaded = loadTimer.record(() -> loader.apply(List.copyOf(ownLoads.keySet())));
+            Map<Long, CourseQueryModel> cacheable = new HashMap<>();
+            loaded.forEach((courseId, model) -> {
+                if (isUnchanged(courseId, versions)) {
+                    cacheable.put(courseId, model);
+                }
+            });
+            if (!cacheable.isEmpty()) {
+                saveToRedis(cacheable);
+                localCache.putAll(cacheable);
+            }
+            ownLoads.forEach((courseId, future) -> future.complete(loaded.get(courseId)));
+            return loaded;
+        } catch (RuntimeException e) {
+            ownLoads.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        } finally {
+            ownLoads.forEach(inFlightLoads::remove);
+        }
+    }
+
+    private void saveToRedis(Map<Long, CourseQueryModel> models) {
+        try {
+            courseCacheRepository.saveAll(List.copyOf(models.values()));
+        } catch (DataAccessException e) {
+            log.warn("CourseQueryModelCache::saveToRedis() - failed to save {} courses", models.size(), e);
+        }
+    }
+
+    private Map<Long, CourseQueryModel> orderByIds(List<Long> courseIds, Map<Long, CourseQueryModel> models) {
+        Map<Long, CourseQueryModel> ordered = new LinkedHashMap<>();
+        for (Long courseId : courseIds) {
+            CourseQueryModel model = models.get(courseId);
+            if (model != null) {
+                ordered.put(courseId, model);
+            }
+        }
+        return ordered;
+    }
+
+}
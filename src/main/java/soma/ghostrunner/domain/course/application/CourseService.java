@@ -2,13 +2,16 @@ package soma.ghostrunner.domain.course.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 import soma.ghostrunner.domain.course.dao.CourseRepository;
 import soma.ghostrunner.domain.course.domain.Course;
+import soma.ghostrunner.domain.course.domain.events.CourseChangedEvent;
 import soma.ghostrunner.domain.course.dto.*;
 import soma.ghostrunner.domain.course.dto.request.CoursePatchRequest;
 import soma.ghostrunner.domain.course.enums.CourseSortType;
@@ -18,6 +21,7 @@ import soma.ghostrunner.domain.course.exception.CourseNotFoundException;
 import soma.ghostrunner.global.error.ErrorCode;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,9 +31,13 @@ public class CourseService {
 
     private final CourseMapper courseMapper;
     private final CourseRepository courseRepository;
+    private final CourseTileIndex courseTileIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Long save(Course course) {
-        return courseRepository.save(course).getId();
+        Course saved = courseRepository.save(course);
+        publishCourseChangedEvent(saved);
+        return saved.getId();
     }
 
     public Course findCourseById(Long id) {
@@ -46,9 +54,17 @@ public class CourseService {
                                                     CourseSearchFilterDto filters) {
         // 코스 검색할 직사각형 반경 계산
         // - 1도 위도 당 111km 가정 (지구 둘레 40,075km / 360도 = 약 111.3km)
-        // - 근사치이며, 적도에서 멀어질 수록 경도 거리 오차가 커짐 -> TODO: 추후 Haversine 공식이나 DB 공간 데이터 타입 활용하도록 변경
+        // - 근사치이며, 적도에서 멀어질 수록 경도 거리 오차가 커짐
+        // - 직사각형을 덮는 geohash prefix 로 인덱스 범위 스캔 후 위경도로 거른다 (CustomCourseRepositoryImpl)
         LatLngs result = getBoundingBoxLatLngs(lat, lng, radiusM);
 
+        // 인메모리 타일 인덱스로 처리할 수 있으면 DB 를 조회하지 않는다
+        Optional<List<CoursePreviewDto>> indexed = courseTileIndex.findCourses(lat, lng,
+                result.minLat(), result.maxLat(), result.minLng(), result.maxLng(), filters, sort);
+        if (indexed.isPresent()) {
+            return indexed.get();
+        }
+
         List<Course> courses = courseRepository.findCoursesWithFilters(lat, lng, result.minLat(), result.maxLat(), result.minLng(), result.maxLng(), filters, sort);
         log.info("CourseService::findNearbyCourses() - found {} courses", courses.size());
 
@@ -67,6 +83,28 @@ public class CourseService {
     public void deleteCourse(Long courseId) {
         Course course = findCourseById(courseId);
         courseRepository.delete(course); // 아마 select 두 번 하게 될 거임
+        publishCourseChangedEvent(course);
+    }
+
+    /**
+     * 이미 완료된 코스면 false 를 반환하며, 같은 메시지가 중복 처리되어도 먼저 완료된 결과를 유지한다.
+     * 조건부 UPDATE 로 상태를 바꾸므로 동시에 재전달된 메시지 중 하나만 true 를 받는다.
+     */
+    @Transactional
+    public boolean completeCourseGeometry(Long courseId, String routeUrl, String checkpointsUrl) {
+        if (courseRepository.completeGeometryIfNotReady(courseId, routeUrl, checkpointsUrl) == 0) {
+            return false;
+        }
+        publishCourseChangedEvent(findCourseById(courseId));
+        return true;
+    }
+
+    /** PENDING 인 코스만 FAILED 로 기록한다. 커밋 이후 이벤트 리스너에서도 호출되므로 새 트랜잭션에서 실행한다. */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void failCourseGeometry(Long courseId) {
+        if (courseRepository.failGeometryIfPending(courseId) == 0) {
+            log.info("PENDING 이 아니거나 삭제된 코스이므로 FAILED 로 기록하지 않음: {}", courseId);
+        }
     }
 
     @Transactional
@@ -80,6 +118,12 @@ public class CourseService {
             updateCoursePublicity(course, request.getIsPublic());
         }
         courseRepository.save(course);
+        publishCourseChangedEvent(course);
+    }
+
+    private void publishCourseChangedEvent(Course course) {
+        eventPublisher.publishEvent(new CourseChangedEvent(course.getId(),
+                course.getStartCoordinate().getLatitude(), course.getStartCoordinate().getLongitude()));
     }
 
     private void updateCourseName(
@@ -0,0 +1,45 @@
+package soma.ghostrunner.domain.course.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import soma.ghostrunner.domain.running.domain.events.RunFinishedEvent;
+import soma.ghostrunner.domain.running.domain.events.RunUpdatedEvent;
+import soma.ghostrunner.domain.running.domain.events.RunsDeletedEvent;
+
+import java.util.List;
+
+/**
+ * 러닝 기록 변경을 course_stats 에 반영한다.
+ * 통계가 러닝 기록과 함께 커밋 / 롤백되도록 이벤트를 발행한 트랜잭션 안에서 바로 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseStatsEventListener {
+
+    private final CourseStatsService courseStatsService;
+
+    @EventListener
+    public void handleRunFinishedEvent(RunFinishedEvent event) {
+        if (event.courseId() == null) {
+            return;
+        }
+        courseStatsService.applyFinishedRun(event.runId());
+    }
+
+    @EventListener
+    public void handleRunUpdatedEvent(RunUpdatedEvent event) {
+        if (event.courseId() == null) {
+            return;
+        }
+        courseStatsService.refresh(List.of(event.courseId()));
+    }
+
+    @EventListener
+    public void handleRunsDeletedEvent(RunsDeletedEvent event) {
+        courseStatsService.refresh(event.courseIds());
+    }
+
+}
@@ -0,0 +1,47 @@
+package soma.ghostrunner.domain.course.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import soma.ghostrunner.domain.course.dao.CourseStatsRepository;
+
+import java.util.List;
+
+/**
+ * 동시에 들어온 갱신이 서로의 값을 덮어쓰는 등으로 어긋난 course_stats 를 주기적으로 running_record 기준으로 다시 맞춘다.
+ * 코스 ID 순으로 나눠 배치마다 짧은 트랜잭션으로 재집계한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseStatsReconciler {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CourseStatsRepository courseStatsRepository;
+    private final CourseStatsService courseStatsService;
+
+    @Scheduled(cron = "${course.stats.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        long lastCourseId = 0L;
+        int reconciled = 0;
+        List<Long> courseIds;
+        do {
+            courseIds = courseStatsRepository.findCourseIdsAfter(lastCourseId, BATCH_SIZE);
+            if (courseIds.isEmpty()) {
+                break;
+            }
+            try {
+                courseStatsService.refresh(courseIds);
+                reconciled += courseIds.size();
+            } catch (Exception e) {
+                log.error("CourseStatsReconciler::reconcile() - failed to refresh courses {} ~ {}",
+                        courseIds.get(0), courseIds.get(courseIds.size() - 1), e);
+            }
+            lastCourseId = courseIds.get(courseIds.size() - 1);
+        } while (courseIds.size() == BATCH_SIZE);
+        log.info("CourseStatsReconciler::reconcile() - reconciled {} courses", reconciled);
+    }
+
+}
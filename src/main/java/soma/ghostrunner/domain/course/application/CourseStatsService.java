@@ -0,0 +1,57 @@
+package soma.ghostrunner.domain.course.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import soma.ghostrunner.domain.course.dao.CourseStatsRepository;
+import soma.ghostrunner.domain.course.dto.query.CourseRunAggregate;
+import soma.ghostrunner.domain.course.dto.query.FinishedRunSnapshot;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * course_stats 갱신.
+ * - 새 공개 기록은 통계 행에 값을 더한다 (코스 하나의 행만 잠근다)
+ * - 공개 여부 변경 / 삭제는 합계에서 뺄 수 없는 최솟값이 있으므로 해당 코스만 다시 집계한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseStatsService {
+
+    private final CourseStatsRepository courseStatsRepository;
+
+    @Transactional
+    public void applyFinishedRun(Long runningId) {
+        FinishedRunSnapshot run = courseStatsRepository.findFinishedRunSnapshot(runningId).orElse(null);
+        if (run == null || run.courseId() == null || !Boolean.TRUE.equals(run.isPublic())) {
+            return;
+        }
+        boolean newRunner = run.memberId() == null
+                || !courseStatsRepository.existsOtherPublicRun(run.courseId(), run.memberId(), runningId);
+        courseStatsRepository.incrementByPublicRun(run.courseId(), newRunner ? 1 : 0,
+                run.duration(), run.averagePace(), run.cadence(), run.burnedCalories());
+    }
+
+    @Transactional
+    public void refresh(List<Long> courseIds) {
+        if (courseIds.isEmpty()) {
+            return;
+        }
+        Map<Long, CourseRunAggregate> aggregates = courseStatsRepository.aggregatePublicRunsByCourseIds(courseIds)
+                .stream()
+                .collect(Collectors.toMap(CourseRunAggregate::courseId, Function.identity()));
+        for (Long courseId : courseIds) {
+            CourseRunAggregate aggregate = aggregates.getOrDefault(courseId, CourseRunAggregate.empty(courseId));
+            courseStatsRepository.overwrite(aggregate.courseId(), aggregate.publicRunCount(),
+                    aggregate.uniqueRunnerCount(), aggregate.bestDuration(), aggregate.lowestPace(),
+                    aggregate.totalDuration(), aggregate.totalPace(), aggregate.totalCadence(),
+                    aggregate.totalBurnedCalories(), aggregate.cadenceCount(), aggregate.burnedCaloriesCount());
+        }
+    }
+
+}
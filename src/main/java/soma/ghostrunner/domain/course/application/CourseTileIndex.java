@@ -0,0 +1,214 @@
+package soma.ghostrunner.domain.course.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import soma.ghostrunner.domain.course.dao.CourseRepository;
+import soma.ghostrunner.domain.course.domain.Course;
+import soma.ghostrunner.domain.course.domain.Geohash;
+import soma.ghostrunner.domain.course.dto.CourseMapper;
+import soma.ghostrunner.domain.course.dto.CoursePreviewDto;
+import soma.ghostrunner.domain.course.dto.CourseSearchFilterDto;
+import soma.ghostrunner.domain.course.enums.CourseSortType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지도 화면의 주변 코스 검색을 위한 인메모리 타일 인덱스.
+ * 시작점 geohash 5자리(약 4.9km x 3.9km, 서울 기준) 타일 단위로 공개 코스를 들고 있으며, 처음 조회되는 타일만 DB 에서 읽는다.
+ *
+ * <ul>
+ *   <li>코스 변경 이벤트(CourseChangedEvent)를 받으면 해당 타일을 비우고, Redis pub/sub 으로 다른 인스턴스에도 전파한다.</li>
+ *   <li>무효화 메시지가 유실되더라도 타일 TTL 이 지나 다시 읽을 때 반영된다.</li>
+ *   <li>인기순 정렬은 러닝 기록 수가 필요하므로 DB 로 조회한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CourseTileIndex {
+
+    static final String INVALIDATION_CHANNEL = "course-tile:invalidation";
+    static final int TILE_PRECISION = 5;
+    private static final int MAX_TILES_PER_QUERY = 36;
+
+    private final CourseRepository courseRepository;
+    private final CourseMapper courseMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Map<String, Tile> tiles = new ConcurrentHashMap<>();
+    // 타일을 읽는 도중에 무효화가 일어나면 읽은 결과를 캐싱하지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter tileHits;
+    private final Counter tileMisses;
+    private final Counter fallbacks;
+
+    @Value("${course.tile-index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${course.tile-index.ttl-seconds:60}")
+    private long ttlSeconds = 60;
+
+    @Value("${course.tile-index.max-tiles:20000}")
+    private int maxTiles = 20000;
+
+    public CourseTileIndex(CourseRepository courseRepository, CourseMapper courseMapper,
+                           RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           MeterRegistry meterRegistry) {
+        this.courseRepository = courseRepository;
+        this.courseMapper = courseMapper;
+        this.redisTemplate = redisTemplate;
+        this.tileHits = Counter.builder("course.tile_index.lookups").tag("result", "hit").register(meterRegistry);
+        this.tileMisses = Counter.builder("course.tile_index.lookups").tag("result", "miss").register(meterRegistry);
+        this.fallbacks = Counter.builder("course.tile_index.fallbacks").register(meterRegistry);
+        Gauge.builder("course.tile_index.tiles", tiles, Map::size).register(meterRegistry);
+
+        listenerContainer.addMessageListener((message, pattern) -> onInvalidation(message.getBody()),
+                new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /** 인덱스로 처리할 수 없는 검색(비활성화, 인기순 정렬, 너무 넓은 범위)이면 빈 값을 반환한다. */
+    public Optional<List<CoursePreviewDto>> findCourses(double lat, double lng,
+                                                        double minLat, double maxLat, double minLng, double maxLng,
+                                                        CourseSearchFilterDto filters, CourseSortType sort) {
+        if (!enabled || sort == CourseSortType.POPULARITY) {
+            return Optional.empty();
+        }
+        List<String> tileHashes = Geohash.cellsCovering(minLat, maxLat, minLng, maxLng, TILE_PRECISION, MAX_TILES_PER_QUERY);
+        if (tileHashes.isEmpty()) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+
+        List<TileEntry> matched = new ArrayList<>();
+        for (String tileHash : tileHashes) {
+            for (TileEntry entry : tileOf(tileHash).entries()) {
+                if (entry.isWithin(minLat, maxLat, minLng, maxLng) && entry.matches(filters)) {
+                    matched.add(entry);
+                }
+            }
+        }
+        if (sort == CourseSortType.DISTANCE) {
+            matched.sort(Comparator.comparingDouble(entry -> entry.distanceKmFrom(lat, lng)));
+        }
+        return Optional.of(matched.stream().map(TileEntry::preview).toList());
+    }
+
+    /** 이 인스턴스와 다른 모든 인스턴스에서 코스가 속한 타일을 비운다. */
+    public void evict(double lat, double lng) {
+        String tileHash = Geohash.encode(lat, lng, TILE_PRECISION);
+        evictLocal(tileHash);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, tileHash);
+        } catch (DataAccessException e) {
+            log.warn("CourseTileIndex::evict() - failed to publish invalidation for tile {}", tileHash, e);
+        }
+    }
+
+    void evictLocal(String tileHash) {
+        invalidations.incrementAndGet();
+        tiles.remove(tileHash);
+    }
+
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        tiles.clear();
+    }
+
+    private void onInvalidation(byte[] body) {
+        // 메시지는 StringRedisSerializer 로 직렬화된 타일 geohash
+        evictLocal(new String(body, StandardCharsets.UTF_8));
+    }
+
+    private Tile tileOf(String tileHash) {
+        long now = System.nanoTime();
+        Tile tile = tiles.get(tileHash);
+        if (tile != null && now < tile.expiresAt()) {
+            tileHits.increment();
+            return tile;
+        }
+
+        tileMisses.increment();
+        long version = invalidations.get();
+        Tile loaded = new Tile(load(tileHash), now + TimeUnit.SECONDS.toNanos(ttlSeconds));
+        if (invalidations.get() == version) {
+            if (tiles.size() >= maxTiles) {
+                log.info("CourseTileIndex::tileOf() - tile count reached {}, clearing index", maxTiles);
+                tiles.clear();
+            }
+            tiles.put(tileHash, loaded);
+        }
+        return loaded;
+    }
+
+    private List<TileEntry> load(String tileHash) {
+        return courseRepository.findPublicCoursesFetchJoinMemberByGeohashPattern(tileHash + "%").stream()
+                .map(course -> TileEntry.of(course, courseMapper.toCoursePreviewDto(course)))
+                .toList();
+    }
+
+    private record Tile(List<TileEntry> entries, long expiresAt) {
+    }
+
+    // 필터는 미리보기 DTO 의 정수 값이 아닌 엔티티 원본 값으로 비교한다 (DB 조회와 같은 결과)
+    private record TileEntry(CoursePreviewDto preview, double lat, double lng,
+                             Double distanceKm, Double elevationGain, String ownerUuid) {
+
+        static TileEntry of(Course course, CoursePreviewDto preview) {
+            return new TileEntry(preview,
+                    course.getStartCoordinate().getLatitude(), course.getStartCoordinate().getLongitude(),
+                    course.getCourseProfile() == null ? null : course.getCourseProfile().getDistance(),
+                    course.getCourseProfile() == null ? null : course.getCourseProfile().getElevationGain(),
+                    preview.ownerUuid());
+        }
+
+        boolean isWithin(double minLat, double maxLat, double minLng, double maxLng) {
+            return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+        }
+
+        boolean matches(CourseSearchFilterDto filters) {
+            if (filters == null) {
+                return true;
+            }
+            return isAtLeast(distanceKm, filters.getMinDistanceM() == null ? null : filters.getMinDistanceM() / 1000.0)
+                    && isAtMost(distanceKm, filters.getMaxDistanceM() == null ? null : filters.getMaxDistanceM() / 1000.0)
+                    && isAtLeast(elevationGain, filters.getMinElevationM() == null ? null : filters.getMinElevationM().doubleValue())
+                    && isAtMost(elevationGain, filters.getMaxElevationM() == null ? null : filters.getMaxElevationM().doubleValue())
+                    && (filters.getOwnerUuid() == null || filters.getOwnerUuid().equals(ownerUuid));
+        }
+
+        private static boolean isAtLeast(Double value, Double bound) {
+            return bound == null || (value != null && value >= bound);
+        }
+
+        private static boolean isAtMost(Double value, Double bound) {
+            return bound == null || (value != null && value <= bound);
+        }
+
+        // CustomCourseRepositoryImpl.calculateDistance 와 같은 식
+        double distanceKmFrom(double userLat, double userLng) {
+            double latRad = Math.toRadians(lat);
+            double userLatRad = Math.toRadians(userLat);
+            double cos = Math.cos(latRad) * Math.cos(userLatRad) * Math.cos(Math.toRadians(lng) - Math.toRadians(userLng))
+                    + Math.sin(latRad) * Math.sin(userLatRad);
+            return 6371 * Math.acos(Math.min(1.0, cos));
+        }
+    }
+
+}
@@ -1,42 +1,75 @@
 package soma.ghostrunner.domain.course.dao;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Repository;
 import soma.ghostrunner.domain.course.dto.query.CourseQueryModel;
 
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+/**
+ * 지도 화면 코스 정보(CourseQueryModel) Redis 캐시.
+ *
+ * <ul>
+ *   <li>키는 코스 ID 를 hash-tag-slots 로 나눈 나머지를 해시 태그로 써서 클러스터 슬롯에 나눠 담는다. (1 이면 모든 키가 한 슬롯)</li>
+ *   <li>여러 키 쓰기는 SET PX 를, 여러 키 읽기는 해시 태그별 MGET 을 한 번의 파이프라인으로 보낸다.</li>
+ *   <li>같은 시점에 채워진 키가 한꺼번에 만료되지 않도록 TTL 에 지터를 더한다.</li>
+ *   <li>슬롯 분산 전 배포 버전은 모든 키를 {0} 해시 태그로 읽으므로, 롤링 배포가 끝날 때까지 삭제 시 그 키도 함께 지운다.</li>
+ * </ul>
+ */
 @Repository
-@RequiredArgsConstructor
 public class CourseCacheRepository {
 
-    private final RedisTemplate<String, Object> redisTemplate;
     private static final String KEY_PREFIX = "course:";
+    private static final String LEGACY_HASH_TAG = "{0}";
     private static final long TTL_IN_MINUTES = 60;
 
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int hashTagSlots;
+    private final double ttlJitterRatio;
+
+    public CourseCacheRepository(RedisTemplate<String, Object> redisTemplate,
+                                 @Value("${course.cache.hash-tag-slots:16}") int hashTagSlots,
+                                 @Value("${course.cache.ttl-jitter-ratio:0.1}") double ttlJitterRatio) {
+        if (hashTagSlots < 1) {
+            throw new IllegalArgumentException("hash-tag-slots 는 1 이상이어야 합니다: " + hashTagSlots);
+        }
+        this.redisTemplate = redisTemplate;
+        this.hashTagSlots = hashTagSlots;
+        this.ttlJitterRatio = ttlJitterRatio;
+    }
+
     public void save(CourseQueryModel model) {
         String key = buildKey(model.id());
-        redisTemplate.opsForValue().set(key, model, TTL_IN_MINUTES, TimeUnit.MINUTES);
+        redisTemplate.opsForValue().set(key, model, ttlWithJitter());
     }
 
     public void saveAll(List<CourseQueryModel> models) {
-        // MSET으로 데이터 저장
-        Map<String, CourseQueryModel> courseMap = models.stream()
-                .collect(Collectors.toMap(
-                        model -> buildKey(model.id()),
-                        model -> model
-                ));
-        redisTemplate.opsForValue().multiSet(courseMap);
-
-        // 각 키에 TTL 설정 (MSET만으로는 TTL 설정 불가)
-        courseMap.keySet().forEach(key ->
-            redisTemplate.expire(key, TTL_IN_MINUTES, TimeUnit.MINUTES)
-        );
+        if (models.isEmpty()) {
+            return;
+        }
+        // 키마다 SET PX 를 파이프라인으로 한 번에 전송
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ValueOperations<String, Object> valueOps = ((RedisOperations<String, Object>) operations).opsForValue();
+                for (CourseQueryModel model : models) {
+                    valueOps.set(buildKey(model.id()), model, ttlWithJitter());
+                }
+                return null;
+            }
+        });
     }
 
     public CourseQueryModel findById(Long id) {
@@ -45,25 +78,68 @@ public class CourseCacheRepository {
     }
 
     public Map<Long, CourseQueryModel> findAllById(List<Long> ids) {
-        List<String> keys = ids.stream().map(this::buildKey).toList();
-        List<Object> values = redisTemplate.opsForValue().multiGet(keys);
-        validateLengthEquality(keys, values);
+        // 클러스터에서 MGET 은 한 슬롯의 키만 받으므로 해시 태그별로 나눠 조회
+        Map<String, List<Long>> idsByHashTag = ids.stream()
+                .collect(Collectors.groupingBy(this::buildHashTag, LinkedHashMap::new, Collectors.toList()));
 
         Map<Long, CourseQueryModel> results = new HashMap<>(ids.size());
-        for(int i = 0; i < ids.size(); i++) {
-            results.put(ids.get(i), (CourseQueryModel) values.get(i));
+        List<List<Long>> idGroups = List.copyOf(idsByHashTag.values());
+        List<List<Object>> valueGroups = multiGetByGroup(idGroups);
+        validateLengthEquality(idGroups, valueGroups);
+        for (int i = 0; i < idGroups.size(); i++) {
+            List<Long> groupIds = idGroups.get(i);
+            List<Object> values = valueGroups.get(i);
+            validateLengthEquality(groupIds, values);
+            for (int j = 0; j < groupIds.size(); j++) {
+                results.put(groupIds.get(j), (CourseQueryModel) values.get(j));
+            }
         }
         return results;
     }
 
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> multiGetByGroup(List<List<Long>> idGroups) {
+        if (idGroups.size() <= 1) {
+            return idGroups.stream()
+                    .map(groupIds -> redisTemplate.opsForValue().multiGet(groupIds.stream().map(this::buildKey).toList()))
+                    .toList();
+        }
+
+        List<Object> pipelined = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                ValueOperations<String, Object> valueOps = ((RedisOperations<String, Object>) operations).opsForValue();
+                for (List<Long> groupIds : idGroups) {
+                    valueOps.multiGet(groupIds.stream().map(CourseCacheRepository.this::buildKey).toList());
+                }
+                return null;
+            }
+        });
+        return pipelined.stream().map(values -> (List<Object>) values).toList();
+    }
+
     public void deleteById(Long id) {
         String key = buildKey(id);
         redisTemplate.delete(key);
+        // 두 키는 슬롯이 다를 수 있어 한 번의 DEL 로 묶지 않는다
+        String legacyKey = buildLegacyKey(id);
+        if (!legacyKey.equals(key)) {
+            redisTemplate.delete(legacyKey);
+        }
     }
 
     public void update(Long id, CourseQueryModel model) {
         String key = buildKey(id);
-        redisTemplate.opsForValue().set(key, model, TTL_IN_MINUTES, TimeUnit.MINUTES);
+        redisTemplate.opsForValue().set(key, model, ttlWithJitter());
+    }
+
+    private Duration ttlWithJitter() {
+        long ttlMillis = TimeUnit.MINUTES.toMillis(TTL_IN_MINUTES);
+        long maxJitterMillis = (long) (ttlMillis * ttlJitterRatio);
+        if (maxJitterMillis <= 0) {
+            return Duration.ofMillis(ttlMillis);
+        }
+        return Duration.ofMillis(ttlMillis + ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
     }
 
     private void validateLengthEquality(List<?> ids, List<?> values) {
@@ -79,9 +155,12 @@ public class CourseCacheRepository {
         return KEY_PREFIX + buildHashTag(id) + ":" + id;
     }
 
+    String buildLegacyKey(Long id) {
+        return KEY_PREFIX + LEGACY_HASH_TAG + ":" + id;
+    }
+
     private String buildHashTag(Long id) {
-//        return "{" + id % HASH_TAG_MOD + "}";
-        return "{0}";
+        return "{" + Math.floorMod(id, hashTagSlots) + "}";
     }
 
 }
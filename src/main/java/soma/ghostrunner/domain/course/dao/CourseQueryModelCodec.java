@@ -0,0 +1,78 @@
+package soma.ghostrunner.domain.course.dao;
+
+import soma.ghostrunner.domain.course.dto.RunnerProfile;
+import soma.ghostrunner.domain.course.dto.query.CourseQueryModel;
+import soma.ghostrunner.global.common.redis.RedisValueCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static soma.ghostrunner.global.common.redis.RedisValueCodec.readNullableString;
+import static soma.ghostrunner.global.common.redis.RedisValueCodec.writeNullableString;
+
+/**
+ * CourseCacheRepository 에 저장하는 CourseQueryModel 의 바이너리 포맷.
+ *
+ * <pre>
+ * v1 : id (8B) | name | runnerCount (4B) | topRunners size (1B) | (uuid | profileUrl) * size
+ * </pre>
+ * 문자열은 null 여부 (1B) + modified UTF-8 로 쓴다.
+ */
+public class CourseQueryModelCodec implements RedisValueCodec<CourseQueryModel> {
+
+    private static final byte TYPE_ID = 1;
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public byte version() {
+        return VERSION;
+    }
+
+    @Override
+    public Class<CourseQueryModel> type() {
+        return CourseQueryModel.class;
+    }
+
+    @Override
+    public void write(CourseQueryModel model, DataOutput out) throws IOException {
+        List<RunnerProfile> topRunners = model.topRunners() == null ? List.of() : model.topRunners();
+        if (topRunners.size() > 0xFF) {
+            throw new IOException("topRunners 는 255개를 넘을 수 없습니다: " + topRunners.size());
+        }
+
+        out.writeLong(model.id());
+        writeNullableString(model.name(), out);
+        out.writeInt(model.runnerCount());
+        out.writeByte(topRunners.size());
+        for (RunnerProfile runner : topRunners) {
+            writeNullableString(runner.uuid(), out);
+            writeNullableString(runner.profileUrl(), out);
+        }
+    }
+
+    @Override
+    public CourseQueryModel read(byte version, DataInput in) throws IOException {
+        if (version != VERSION) {
+            return null;
+        }
+
+        long id = in.readLong();
+        String name = readNullableString(in);
+        int runnerCount = in.readInt();
+        int size = in.readUnsignedByte();
+        List<RunnerProfile> topRunners = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            topRunners.add(new RunnerProfile(readNullableString(in), readNullableString(in)));
+        }
+        return new CourseQueryModel(id, name, topRunners, runnerCount);
+    }
+
+}
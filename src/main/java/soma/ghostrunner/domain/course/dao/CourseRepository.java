@@ -21,7 +21,8 @@ public interface CourseRepository extends CustomCourseRepository, JpaRepository<
     @Query("SELECT c FROM Course c WHERE " +
             "c.startCoordinate.latitude BETWEEN :minLat AND :maxLat AND " +
             "c.startCoordinate.longitude BETWEEN :minLng AND :maxLng AND " +
-            "c.isPublic = true")
+            "c.isPublic = true AND " +
+            "(c.geometryStatus IS NULL OR c.geometryStatus = soma.ghostrunner.domain.course.enums.CourseGeometryStatus.READY)")
     List<Course> findPublicCoursesByBoundingBox(
             @Param("minLat") Double minLat,
             @Param("maxLat") Double maxLat,
@@ -29,14 +30,37 @@ public interface CourseRepository extends CustomCourseRepository, JpaRepository<
             @Param("maxLng") Double maxLng
     );
 
+    /** 시작점 geohash 가 주어진 패턴(prefix%)과 일치하는 공개 코스 검색 (코스 타일 인덱스 적재용) */
+    @Query("SELECT c FROM Course c LEFT JOIN FETCH c.member " +
+            "WHERE c.startCoordinate.geohash LIKE :geohashPattern AND c.isPublic = true " +
+            "AND (c.geometryStatus IS NULL OR c.geometryStatus = soma.ghostrunner.domain.course.enums.CourseGeometryStatus.READY)")
+    List<Course> findPublicCoursesFetchJoinMemberByGeohashPattern(String geohashPattern);
+
     @Query("SELECT c FROM Course c LEFT JOIN FETCH c.member m " +
             "WHERE m.uuid = :memberUuid AND c.isPublic = true " +
+            "AND (c.geometryStatus IS NULL OR c.geometryStatus = soma.ghostrunner.domain.course.enums.CourseGeometryStatus.READY) " +
             "ORDER BY c.createdAt DESC")
     Page<Course> findPublicCoursesFetchJoinMembersByMemberUuidOrderByCreatedAtDesc(String memberUuid, Pageable pageable);
 
     @Query("SELECT c FROM Course c LEFT JOIN FETCH c.member m WHERE c.id = :courseId")
     Optional<Course> findByIdFetchJoinMember(Long courseId);
 
+    /** 아직 READY 가 아닌 코스만 경로를 채운다. 이미 다른 워커가 완료했으면 0 을 반환한다. */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Course c SET c.courseDataUrls.routeUrl = :routeUrl, c.courseDataUrls.checkpointsUrl = :checkpointsUrl, " +
+            "c.geometryStatus = soma.ghostrunner.domain.course.enums.CourseGeometryStatus.READY " +
+            "WHERE c.id = :courseId AND c.geometryStatus IN (" +
+            "soma.ghostrunner.domain.course.enums.CourseGeometryStatus.PENDING, " +
+            "soma.ghostrunner.domain.course.enums.CourseGeometryStatus.FAILED)")
+    int completeGeometryIfNotReady(Long courseId, String routeUrl, String checkpointsUrl);
+
+    /** PENDING 인 코스만 FAILED 로 바꾼다. 그 사이 완료된 코스는 그대로 둔다. */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Course c SET c.geometryStatus = soma.ghostrunner.domain.course.enums.CourseGeometryStatus.FAILED " +
+            "WHERE c.id = :courseId " +
+            "AND c.geometryStatus = soma.ghostrunner.domain.course.enums.CourseGeometryStatus.PENDING")
+    int failGeometryIfPending(Long courseId);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Course c SET c.member = NULL WHERE c.member.id = :memberId")
     void bulkSetOwnerToNullByMemberId(Long memberId);
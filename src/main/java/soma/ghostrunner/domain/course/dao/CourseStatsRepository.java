@@ -0,0 +1,110 @@
+package soma.ghostrunner.domain.course.dao;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import soma.ghostrunner.domain.course.domain.CourseStats;
+import soma.ghostrunner.domain.course.dto.query.CourseRunAggregate;
+import soma.ghostrunner.domain.course.dto.query.FinishedRunSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CourseStatsRepository extends JpaRepository<CourseStats, Long> {
+
+    @Query("""
+        SELECT new soma.ghostrunner.domain.course.dto.query.FinishedRunSnapshot(
+            r.course.id, r.member.id, r.isPublic, r.runningRecord.duration,
+            r.runningRecord.averagePace, r.runningRecord.cadence, r.runningRecord.burnedCalories)
+        FROM Running r
+        WHERE r.id = :runningId
+    """)
+    Optional<FinishedRunSnapshot> findFinishedRunSnapshot(Long runningId);
+
+    @Query("""
+        SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END
+        FROM Running r
+        WHERE r.course.id = :courseId AND r.member.id = :memberId
+          AND r.isPublic = true AND r.id <> :excludedRunningId
+    """)
+    boolean existsOtherPublicRun(Long courseId, Long memberId, Long excludedRunningId);
+
+    @Query("""
+        SELECT new soma.ghostrunner.domain.course.dto.query.CourseRunAggregate(
+            r.course.id, COUNT(r), COUNT(DISTINCT r.member.id),
+            MIN(r.runningRecord.duration), MIN(r.runningRecord.averagePace),
+            SUM(r.runningRecord.duration), SUM(r.runningRecord.averagePace),
+            SUM(r.runningRecord.cadence), SUM(r.runningRecord.burnedCalories),
+            COUNT(r.runningRecord.cadence), COUNT(r.runningRecord.burnedCalories))
+        FROM Running r
+        WHERE r.course.id IN :courseIds AND r.isPublic = true
+        GROUP BY r.course.id
+    """)
+    List<CourseRunAggregate> aggregatePublicRunsByCourseIds(List<Long> courseIds);
+
+    @Query("SELECT c.id FROM Course c WHERE c.id > :lastCourseId ORDER BY c.id ASC LIMIT :limit")
+    List<Long> findCourseIdsAfter(Long lastCourseId, int limit);
+
+    /** 공개 러닝 기록 하나를 통계에 더한다. 통계 행이 없으면 새로 만든다. 케이던스 / 칼로리가 없으면 그 합계와 개수는 그대로 둔다. */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO course_stats (course_id, public_run_count, unique_runner_count, best_duration_sec, lowest_pace,
+                                  total_duration_sec, total_pace, total_cadence, total_burned_calories,
+                                  cadence_count, burned_calories_count, updated_at)
+        VALUES (:courseId, 1, :newRunner, :duration, :pace,
+                COALESCE(:duration, 0), COALESCE(:pace, 0), COALESCE(:cadence, 0), COALESCE(:burnedCalories, 0),
+                CASE WHEN :cadence IS NULL THEN 0 ELSE 1 END, CASE WHEN :burnedCalories IS NULL THEN 0 ELSE 1 END,
+                NOW(6))
+        ON DUPLICATE KEY UPDATE
+            public_run_count = public_run_count + 1,
+            unique_runner_count = unique_runner_count + VALUES(unique_runner_count),
+            best_duration_sec = LEAST(COALESCE(best_duration_sec, VALUES(best_duration_sec)),
+                                      COALESCE(VALUES(best_duration_sec), best_duration_sec)),
+            lowest_pace = LEAST(COALESCE(lowest_pace, VALUES(lowest_pace)),
+                                COALESCE(VALUES(lowest_pace), lowest_pace)),
+            total_duration_sec = total_duration_sec + VALUES(total_duration_sec),
+            total_pace = total_pace + VALUES(total_pace),
+            total_cadence = total_cadence + VALUES(total_cadence),
+            total_burned_calories = total_burned_calories + VALUES(total_burned_calories),
+            cadence_count = cadence_count + VALUES(cadence_count),
+            burned_calories_count = burned_calories_count + VALUES(burned_calories_count),
+            updated_at = VALUES(updated_at)
+    """, nativeQuery = true)
+    void incrementByPublicRun(@Param("courseId") Long courseId, @Param("newRunner") int newRunner,
+                              @Param("duration") Long duration, @Param("pace") Double pace,
+                              @Param("cadence") Integer cadence, @Param("burnedCalories") Integer burnedCalories);
+
+    /** 집계 결과로 통계 행을 덮어쓴다. 통계 행이 없으면 새로 만든다. */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+        INSERT INTO course_stats (course_id, public_run_count, unique_runner_count, best_duration_sec, lowest_pace,
+                                  total_duration_sec, total_pace, total_cadence, total_burned_calories,
+                                  cadence_count, burned_calories_count, updated_at)
+        VALUES (:courseId, :publicRunCount, :uniqueRunnerCount, :bestDuration, :lowestPace,
+                COALESCE(:totalDuration, 0), COALESCE(:totalPace, 0), COALESCE(:totalCadence, 0),
+                COALESCE(:totalBurnedCalories, 0), :cadenceCount, :burnedCaloriesCount, NOW(6))
+        ON DUPLICATE KEY UPDATE
+            public_run_count = VALUES(public_run_count),
+            unique_runner_count = VALUES(unique_runner_count),
+            best_duration_sec = VALUES(best_duration_sec),
+            lowest_pace = VALUES(lowest_pace),
+            total_duration_sec = VALUES(total_duration_sec),
+            total_pace = VALUES(total_pace),
+            total_cadence = VALUES(total_cadence),
+            total_burned_calories = VALUES(total_burned_calories),
+            cadence_count = VALUES(cadence_count),
+            burned_calories_count = VALUES(burned_calories_count),
+            updated_at = VALUES(updated_at)
+    """, nativeQuery = true)
+    void overwrite(@Param("courseId") Long courseId, @Param("publicRunCount") Long publicRunCount,
+                   @Param("uniqueRunnerCount") Long uniqueRunnerCount, @Param("bestDuration") Long bestDuration,
+                   @Param("lowestPace") Double lowestPace, @Param("totalDuration") Long totalDuration,
+                   @Param("totalPace") Double totalPace, @Param("totalCadence") Long totalCadence,
+                   @Param("totalBurnedCalories") Long totalBurnedCalories,
+                   @Param("cadenceCount") Long cadenceCount,
+                   @Param("burnedCaloriesCount") Long burnedCaloriesCount);
+
+}
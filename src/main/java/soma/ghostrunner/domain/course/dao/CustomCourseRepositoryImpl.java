@@ -8,13 +8,15 @@ import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import soma.ghostrunner.domain.course.domain.Course;
+import soma.ghostrunner.domain.course.domain.Geohash;
 import soma.ghostrunner.domain.course.dto.CourseSearchFilterDto;
+import soma.ghostrunner.domain.course.enums.CourseGeometryStatus;
 import soma.ghostrunner.domain.course.enums.CourseSortType;
 
 import java.util.List;
 
 import static soma.ghostrunner.domain.course.domain.QCourse.course;
-import static soma.ghostrunner.domain.running.domain.QRunning.running;
+import static soma.ghostrunner.domain.course.domain.QCourseStats.courseStats;
 
 @Repository
 @RequiredArgsConstructor
@@ -25,23 +27,23 @@ public class CustomCourseRepositoryImpl implements CustomCourseRepository{
   @Override
   public List<Course> findCoursesWithFilters(Double curLat, Double curLng, Double minLat, Double maxLat,
                                                             Double minLng, Double maxLng, CourseSearchFilterDto filters, CourseSortType sort) {
-    // todo - 코스에 딸린 러닝기록 수 반정규화해서 따로 저장해두면 굳이 Running 테이블까지 조인할 필요 없음
+    // 인기순 정렬은 running_record 대신 반정규화된 course_stats 의 공개 기록 수를 사용
     JPAQuery<Course> query = queryFactory
             .selectFrom(course)
-            .leftJoin(running).on(running.course.id.eq(course.id).and(running.isPublic.isTrue()))
+            .leftJoin(courseStats).on(courseStats.courseId.eq(course.id))
             .leftJoin(course.member).fetchJoin() // 코스 소유자 정보도 함께 조회
             .where(
                     course.isPublic.isTrue(),
+                    geometryReady(),
                     startPointWithinBoundary(minLat, maxLat, minLng, maxLng),
                     withSearchFilters(filters)
-            )
-            .groupBy(course);
+            );
 
     // 정렬 조건 분기 처리
     if (sort == CourseSortType.DISTANCE) {
       query.orderBy(calculateDistance(curLat, curLng).asc());
     } else if (sort == CourseSortType.POPULARITY) {
-      query.orderBy(running.id.count().desc(), course.id.desc());
+      query.orderBy(courseStats.publicRunCount.coalesce(0L).desc(), course.id.desc());
     }
 
     return query.fetch();
@@ -53,25 +55,30 @@ public class CustomCourseRepositoryImpl implements CustomCourseRepository{
     JPAQuery<Long> query = queryFactory
             .select(course.id)
             .from(course)
-            .leftJoin(running).on(running.course.id.eq(course.id).and(running.isPublic.isTrue()))
+            .leftJoin(courseStats).on(courseStats.courseId.eq(course.id))
             .leftJoin(course.member)
             .where(
                     course.isPublic.isTrue(),
+                    geometryReady(),
                     startPointWithinBoundary(minLat, maxLat, minLng, maxLng),
                     withSearchFilters(filters)
-            )
-            .groupBy(course);
+            );
 
     // 정렬 조건 분기 처리
     if (sort == CourseSortType.DISTANCE) {
       query.orderBy(calculateDistance(curLat, curLng).asc());
     } else if (sort == CourseSortType.POPULARITY) {
-      query.orderBy(running.id.count().desc(), course.id.desc());
+      query.orderBy(courseStats.publicRunCount.coalesce(0L).desc(), course.id.desc());
     }
 
     return query.fetch();
   }
   
+  /** 경로 후처리가 끝난 코스만. null 은 비동기 처리 도입 이전의 코스로 이미 경로가 채워져 있다 */
+  private BooleanExpression geometryReady() {
+    return course.geometryStatus.isNull().or(course.geometryStatus.eq(CourseGeometryStatus.READY));
+  }
+
   /** Haversine 공식을 사용하여 (y, x)와 코스 사이 실제 거리를 계산하는 표현식 반환 */
   private NumberExpression<Double> calculateDistance(Double lat, Double lng) {
     NumberExpression<Double> latRad = Expressions.numberTemplate(Double.class, "RADIANS({0})", course.startCoordinate.latitude);
@@ -84,10 +91,22 @@ public class CustomCourseRepositoryImpl implements CustomCourseRepository{
             latRad, userLatRad, lngRad, userLngRad);
   }
 
-  /** 코스의 시작점이 주어진 위경도 범위 내에 존재하는지 판단하는 표현식 반환 */
+  /**
+   * 코스의 시작점이 주어진 위경도 범위 내에 존재하는지 판단하는 표현식 반환
+   * - geohash prefix 조건으로 인덱스 범위 스캔 후 위경도 BETWEEN 으로 정확히 거른다
+   */
   private BooleanExpression startPointWithinBoundary(Double minLat, Double maxLat, Double minLng, Double maxLng) {
-    return course.startCoordinate.latitude.between(minLat, maxLat)
+    BooleanExpression withinBoundary = course.startCoordinate.latitude.between(minLat, maxLat)
             .and(course.startCoordinate.longitude.between(minLng, maxLng));
+
+    List<String> prefixes = Geohash.coveringPrefixes(minLat, maxLat, minLng, maxLng);
+    if (prefixes.isEmpty()) {
+      return withinBoundary;
+    }
+    BooleanExpression withinGeohashCells = Expressions.anyOf(prefixes.stream()
+            .map(course.startCoordinate.geohash::startsWith)
+            .toArray(BooleanExpression[]::new));
+    return withinGeohashCells.and(withinBoundary);
   }
 
   /** 코스 검색 필터를 적용하는 반환식 반환 (최소 최대 거리, 고도, 소유자 id) */
@@ -95,7 +114,7 @@ public class CustomCourseRepositoryImpl implements CustomCourseRepository{
     if (filters == null) return null;
 
     return Expressions.allOf(
-            filters.getMinElevationM() != null ?
+            filters.getMinDistanceM() != null ?
                     course.courseProfile.distance.goe(filters.getMinDistanceM() / 1000.0) : null,
             filters.getMaxDistanceM() != null ?
                     course.courseProfile.distance.loe(filters.getMaxDistanceM() / 1000.0) : null,
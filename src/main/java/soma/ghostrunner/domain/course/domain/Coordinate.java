@@ -17,10 +17,16 @@ public class Coordinate {
     @Column(name = "start_longtitude", nullable = false)
     private Double longitude;
 
+    // 주변 코스 검색 시 prefix 범위 스캔에 사용 (idx_course_start_geohash)
+    @Column(name = "start_geohash", length = 12)
+    private String geohash;
+
     @Builder
     private Coordinate(Double latitude, Double longitude) {
         this.latitude = latitude;
         this.longitude = longitude;
+        this.geohash = (latitude == null || longitude == null)
+                ? null : Geohash.encode(latitude, longitude, Geohash.STORED_PRECISION);
     }
 
     public static Coordinate of(Double latitude, Double longitude) {
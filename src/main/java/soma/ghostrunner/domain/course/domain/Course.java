@@ -3,12 +3,13 @@ package soma.ghostrunner.domain.course.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.SoftDelete;
+import soma.ghostrunner.domain.course.enums.CourseGeometryStatus;
 import soma.ghostrunner.domain.course.enums.CourseSource;
 import soma.ghostrunner.domain.member.domain.Member;
 import soma.ghostrunner.global.common.BaseTimeEntity;
 
 @Entity
-@Table(name = "course")
+@Table(name = "course", indexes = @Index(name = "idx_course_start_geohash", columnList = "start_geohash"))
 @SoftDelete
 @Getter @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Course extends BaseTimeEntity {
@@ -41,6 +42,11 @@ public class Course extends BaseTimeEntity {
     @Embedded
     private CourseDataUrls courseDataUrls;
 
+    // null 은 비동기 처리 도입 이전에 생성되어 경로가 이미 채워진 코스
+    @Enumerated(EnumType.STRING)
+    @Column(name = "geometry_status")
+    private CourseGeometryStatus geometryStatus;
+
     @Builder(access = AccessLevel.PRIVATE)
     private Course(CourseProfile courseProfile, Member member, String name, Coordinate startCoordinate, CourseSource source, Boolean isPublic, CourseDataUrls courseDataUrls) {
         this.courseProfile = courseProfile;
@@ -98,4 +104,29 @@ public class Course extends BaseTimeEntity {
     public String getOfficialTelemetryUrl() {
         return courseDataUrls.getRouteUrl();
     }
+
+    public void markGeometryPending() {
+        this.geometryStatus = CourseGeometryStatus.PENDING;
+    }
+
+    public void completeGeometry(String routeUrl, String checkpointsUrl) {
+        String thumbnailUrl = courseDataUrls == null ? null : courseDataUrls.getThumbnailUrl();
+        this.courseDataUrls = CourseDataUrls.of(routeUrl, checkpointsUrl, thumbnailUrl);
+        this.geometryStatus = CourseGeometryStatus.READY;
+    }
+
+    public void failGeometry() {
+        if (!isGeometryReady()) {
+            this.geometryStatus = CourseGeometryStatus.FAILED;
+        }
+    }
+
+    public boolean isGeometryReady() {
+        return geometryStatus == null || geometryStatus == CourseGeometryStatus.READY;
+    }
+
+    public CourseGeometryStatus currentGeometryStatus() {
+        return isGeometryReady() ? CourseGeometryStatus.READY : geometryStatus;
+    }
+
 }
@@ -0,0 +1,58 @@
+package soma.ghostrunner.domain.course.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 코스별 공개 러닝 기록 통계 (course_stats).
+ * running_record 를 매번 집계하지 않도록 러닝 생성 / 수정 / 삭제 시점에 CourseStatsService 가 갱신한다.
+ * 평균 값은 조회 시 합계를 공개 기록 수로 나눠 계산한다. 케이던스 / 칼로리는 값이 없는 기록이 있으므로 값이 있는 기록 수로 나눈다.
+ */
+@Entity
+@Table(name = "course_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CourseStats {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "public_run_count", nullable = false)
+    private long publicRunCount;
+
+    @Column(name = "unique_runner_count", nullable = false)
+    private long uniqueRunnerCount;
+
+    @Column(name = "best_duration_sec")
+    private Long bestDuration;
+
+    @Column(name = "lowest_pace")
+    private Double lowestPace;
+
+    @Column(name = "total_duration_sec", nullable = false)
+    private long totalDuration;
+
+    @Column(name = "total_pace", nullable = false)
+    private double totalPace;
+
+    @Column(name = "total_cadence", nullable = false)
+    private long totalCadence;
+
+    @Column(name = "total_burned_calories", nullable = false)
+    private long totalBurnedCalories;
+
+    @Column(name = "cadence_count", nullable = false)
+    private long cadenceCount;
+
+    @Column(name = "burned_calories_count", nullable = false)
+    private long burnedCaloriesCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+}
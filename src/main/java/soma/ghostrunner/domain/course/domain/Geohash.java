@@ -0,0 +1,128 @@
+package soma.ghostrunner.domain.course.domain;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 표준 base32 geohash. MySQL 의 ST_GeoHash(lng, lat, precision) 와 같은 문자열을 만든다.
+ */
+@UtilityClass
+public class Geohash {
+
+    public final int STORED_PRECISION = 9;      // 약 4.8m x 4.8m
+    public final int MAX_PRECISION = 12;
+
+    private final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    public String encode(double latitude, double longitude, int precision) {
+        validate(latitude, longitude);
+        double minLat = -90.0, maxLat = 90.0;
+        double minLng = -180.0, maxLng = 180.0;
+
+        char[] hash = new char[precision];
+        boolean isLngBit = true;
+        for (int i = 0; i < precision; i++) {
+            int ch = 0;
+            for (int bit = 4; bit >= 0; bit--) {
+                if (isLngBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (longitude >= mid) {
+                        ch |= 1 << bit;
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (latitude >= mid) {
+                        ch |= 1 << bit;
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                isLngBit = !isLngBit;
+            }
+            hash[i] = BASE32[ch];
+        }
+        return new String(hash);
+    }
+
+    /** 정밀도 precision 인 셀의 위도 방향 크기 (도) */
+    public double cellHeight(int precision) {
+        return 180.0 / (1L << (5 * precision / 2));
+    }
+
+    /** 정밀도 precision 인 셀의 경도 방향 크기 (도) */
+    public double cellWidth(int precision) {
+        return 360.0 / (1L << ((5 * precision + 1) / 2));
+    }
+
+    /**
+     * 위경도 범위를 덮는 geohash prefix 목록을 반환한다.
+     * 셀 하나가 범위보다 크거나 같은 가장 높은 정밀도를 고르면 범위는 많아야 2 x 2 셀에 걸치므로, 네 꼭지점의 셀로 충분하다.
+     * 범위가 너무 넓거나 날짜 변경선 / 극을 넘으면 빈 목록을 반환하며, 이때는 prefix 로 거를 수 없다.
+     */
+    public List<String> coveringPrefixes(double minLat, double maxLat, double minLng, double maxLng) {
+        if (minLat < -90.0 || maxLat > 90.0 || minLng < -180.0 || maxLng >= 180.0 || minLat > maxLat || minLng > maxLng) {
+            return List.of();
+        }
+
+        int precision = 0;
+        while (precision < MAX_PRECISION
+                && cellHeight(precision + 1) >= maxLat - minLat
+                && cellWidth(precision + 1) >= maxLng - minLng) {
+            precision++;
+        }
+        if (precision == 0) {
+            return List.of();
+        }
+
+        List<String> prefixes = new ArrayList<>(4);
+        for (String corner : List.of(
+                encode(minLat, minLng, precision), encode(minLat, maxLng, precision),
+                encode(maxLat, minLng, precision), encode(maxLat, maxLng, precision))) {
+            if (!prefixes.contains(corner)) {
+                prefixes.add(corner);
+            }
+        }
+        return prefixes;
+    }
+
+    /**
+     * 위경도 범위에 걸친 정밀도 precision 의 셀을 모두 반환한다.
+     * 날짜 변경선 / 극을 넘거나 셀이 maxCells 개를 넘으면 빈 목록을 반환한다.
+     */
+    public List<String> cellsCovering(double minLat, double maxLat, double minLng, double maxLng, int precision, int maxCells) {
+        if (minLat < -90.0 || maxLat > 90.0 || minLng < -180.0 || maxLng >= 180.0 || minLat > maxLat || minLng > maxLng) {
+            return List.of();
+        }
+
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        long minRow = (long) Math.floor((minLat + 90.0) / height);
+        long maxRow = Math.min((long) Math.floor((maxLat + 90.0) / height), Math.round(180.0 / height) - 1);
+        long minCol = (long) Math.floor((minLng + 180.0) / width);
+        long maxCol = (long) Math.floor((maxLng + 180.0) / width);
+        if ((maxRow - minRow + 1) * (maxCol - minCol + 1) > maxCells) {
+            return List.of();
+        }
+
+        List<String> cells = new ArrayList<>();
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                cells.add(encode(-90.0 + (row + 0.5) * height, -180.0 + (col + 0.5) * width, precision));
+            }
+        }
+        return cells;
+    }
+
+    private void validate(double latitude, double longitude) {
+        if (latitude < -90.0 || latitude > 90.0 || longitude < -180.0 || longitude > 180.0) {
+            throw new IllegalArgumentException("위경도 범위를 벗어난 좌표입니다: " + latitude + ", " + longitude);
+        }
+    }
+
+}
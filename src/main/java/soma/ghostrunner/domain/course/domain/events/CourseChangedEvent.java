@@ -0,0 +1,7 @@
+package soma.ghostrunner.domain.course.domain.events;
+
+public record CourseChangedEvent(
+        Long courseId,
+        Double startLatitude,
+        Double startLongitude
+) {}
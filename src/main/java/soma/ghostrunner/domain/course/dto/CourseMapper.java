@@ -41,6 +41,7 @@ public interface CourseMapper {
                     "? (int) (course.getCourseProfile().getDistance() * 1000) " +
                     ": null)")
     @Mapping(source = "course.courseDataUrls.checkpointsUrl", target = "checkpointsUrl")
+    @Mapping(target = "geometryStatus", expression = "java(course.currentGeometryStatus())")
     @Mapping(source = "course.courseProfile.elevationAverage", target = "elevationAverage")
     @Mapping(source = "course.courseProfile.elevationGain", target = "elevationGain")
     @Mapping(source = "course.courseProfile.elevationLoss", target = "elevationLoss")
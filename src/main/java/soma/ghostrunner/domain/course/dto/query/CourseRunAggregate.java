@@ -0,0 +1,22 @@
+package soma.ghostrunner.domain.course.dto.query;
+
+/** running_record 에서 직접 집계한 코스별 공개 러닝 통계 (course_stats 재계산용) */
+public record CourseRunAggregate(
+        Long courseId,
+        Long publicRunCount,
+        Long uniqueRunnerCount,
+        Long bestDuration,
+        Double lowestPace,
+        Long totalDuration,
+        Double totalPace,
+        Long totalCadence,
+        Long totalBurnedCalories,
+        Long cadenceCount,
+        Long burnedCaloriesCount
+) {
+
+    public static CourseRunAggregate empty(Long courseId) {
+        return new CourseRunAggregate(courseId, 0L, 0L, null, null, 0L, 0.0, 0L, 0L, 0L, 0L);
+    }
+
+}
@@ -0,0 +1,12 @@
+package soma.ghostrunner.domain.course.dto.query;
+
+/** course_stats 증분 갱신에 필요한 러닝 기록 값 */
+public record FinishedRunSnapshot(
+        Long courseId,
+        Long memberId,
+        Boolean isPublic,
+        Long duration,
+        Double averagePace,
+        Integer cadence,
+        Integer burnedCalories
+) {}
@@ -1,5 +1,6 @@
 package soma.ghostrunner.domain.course.dto.response;
 
+import soma.ghostrunner.domain.course.enums.CourseGeometryStatus;
 import soma.ghostrunner.domain.course.enums.CourseSource;
 
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ public record CourseDetailedResponse (
         CourseSource source,
         String telemetryUrl, // 코스 시계열 데이터
         String checkpointsUrl,
+        CourseGeometryStatus geometryStatus, // READY 가 아니면 telemetryUrl / checkpointsUrl 이 비어 있다
         Integer distance,
         Integer elevationAverage,
         Integer elevationGain,
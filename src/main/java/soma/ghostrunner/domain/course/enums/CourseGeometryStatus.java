@@ -0,0 +1,7 @@
+package soma.ghostrunner.domain.course.enums;
+
+public enum CourseGeometryStatus {
+    PENDING,    // 경로 간소화 / 체크포인트 생성 대기 중
+    READY,
+    FAILED      // 재시도를 모두 소진함 (DLQ)
+}
@@ -7,6 +7,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import soma.ghostrunner.domain.device.dao.DeviceRepository;
 import soma.ghostrunner.domain.device.domain.Device;
+import soma.ghostrunner.domain.device.dto.DevicePushToken;
 import soma.ghostrunner.domain.member.domain.Member;
 import soma.ghostrunner.domain.member.exception.MemberNotFoundException;
 import soma.ghostrunner.domain.member.infra.dao.MemberRepository;
@@ -35,6 +36,10 @@ public class DeviceService {
         return deviceRepository.findAllByAppVersionRange(versionRange);
     }
 
+    public List<DevicePushToken> findPushTokensByAppVersions(VersionRange versionRange, Long lastDeviceId, int limit) {
+        return deviceRepository.findPushTokensByAppVersionRange(versionRange, lastDeviceId, limit);
+    }
+
     public List<Device> findDevicesByMemberIds(List<Long> memberIds) {
         return deviceRepository.findByMemberIdIn(memberIds);
     }
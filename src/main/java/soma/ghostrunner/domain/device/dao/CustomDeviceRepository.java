@@ -1,6 +1,7 @@
 package soma.ghostrunner.domain.device.dao;
 
 import soma.ghostrunner.domain.device.domain.Device;
+import soma.ghostrunner.domain.device.dto.DevicePushToken;
 import soma.ghostrunner.global.common.versioning.VersionRange;
 
 import java.util.List;
@@ -10,4 +11,7 @@ public interface CustomDeviceRepository {
 
     List<Device> findAllByAppVersionRange(VersionRange versionRange);
 
+    /** 기기 ID 키셋 페이징: lastDeviceId 보다 큰 ID 의 푸시 가능한 토큰을 ID 순으로 최대 limit 개 조회 */
+    List<DevicePushToken> findPushTokensByAppVersionRange(VersionRange versionRange, Long lastDeviceId, int limit);
+
 }
@@ -1,10 +1,12 @@
 package soma.ghostrunner.domain.device.dao;
 
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 import soma.ghostrunner.domain.device.domain.Device;
+import soma.ghostrunner.domain.device.dto.DevicePushToken;
 import soma.ghostrunner.global.common.versioning.VersionRange;
 
 import java.util.List;
@@ -32,6 +34,19 @@ public class CustomDeviceRepositoryImpl implements CustomDeviceRepository {
                 .fetch();
     }
 
+    @Override
+    public List<DevicePushToken> findPushTokensByAppVersionRange(VersionRange versionRange, Long lastDeviceId, int limit) {
+        return queryFactory.select(Projections.constructor(DevicePushToken.class, device.id, device.token))
+                .from(device)
+                .where(device.id.gt(lastDeviceId),
+                       device.token.isNotNull(),
+                       device.token.trim().isNotEmpty(),
+                       appVersionWithinRange(versionRange))
+                .orderBy(device.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     private Predicate appVersionWithinRange(VersionRange versionRange) {
         if (versionRange == null) return null;
         var version = versionRange.getVersion();
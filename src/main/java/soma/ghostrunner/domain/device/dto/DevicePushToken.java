@@ -0,0 +1,5 @@
+package soma.ghostrunner.domain.device.dto;
+
+/** 브로드캐스트 발행용 기기 ID / 푸시 토큰 projection (Device 엔티티를 통째로 불러오지 않는다) */
+public record DevicePushToken(Long id, String token) {
+}
@@ -47,6 +47,14 @@ public class NotificationApi {
         }
     }
 
+    @Operation(summary = "중단된 푸시알림 브로드캐스트 이어서 발행 (어드민 전용)")
+    @AdminOnly
+    @PostMapping("/v1/admin/push/broadcast/{messageUuid}/resume")
+    public String resumeBroadcastNotification(@PathVariable("messageUuid") String messageUuid) {
+        int count = pushService.resumeBroadcast(messageUuid);
+        return "Sent " + count + " push notifications.";
+    }
+
     private VersionRange determineVersionRange(PushBroadcastRequest request) {
         SemanticVersion.of(request.getVersion()); // version 포맷 검증
         if (request.getVersionRange() == PushBroadcastRequest.RangeType.ALL_VERSIONS) {
@@ -0,0 +1,149 @@
+package soma.ghostrunner.domain.notification.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Expo 동시 요청 수를 AIMD 로 조절하는 리미터. (모든 푸시 리스너 스레드가 공유)
+ *
+ * <ul>
+ *   <li>요청이 latency-threshold 안에 성공하면 limit 을 1/limit 만큼 늘린다. (limit 개 성공마다 +1)</li>
+ *   <li>요청 한도 초과(MessageRateExceeded 에러 티켓, HTTP 429)를 받거나 응답이 느리면 limit 에 backoff-ratio 를 곱해 줄인다.</li>
+ *   <li>그 밖의 실패(네트워크 오류 등)는 느릴 때만 줄이고, 늘리지는 않는다.</li>
+ *   <li>inflight 가 limit 에 도달하면 최대 acquire-timeout 동안 자리가 나기를 기다리고, 그래도 없으면 거절한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PushConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final long acquireTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private double limit;
+    private int inflight;
+
+    private final Counter rejections;
+
+    public PushConcurrencyLimiter(MeterRegistry meterRegistry,
+                                  @Value("${push.concurrency.initial-limit:4}") int initialLimit,
+                                  @Value("${push.concurrency.min-limit:1}") int minLimit,
+                                  @Value("${push.concurrency.max-limit:6}") int maxLimit,
+                                  @Value("${push.concurrency.backoff-ratio:0.5}") double backoffRatio,
+                                  @Value("${push.concurrency.latency-threshold-millis:3000}") long latencyThresholdMillis,
+                                  @Value("${push.concurrency.acquire-timeout-millis:5000}") long acquireTimeoutMillis) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("잘못된 push.concurrency 설정입니다: min=%d, max=%d, backoff-ratio=%s"
+                    .formatted(minLimit, maxLimit, backoffRatio));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = Duration.ofMillis(latencyThresholdMillis).toNanos();
+        this.acquireTimeoutNanos = Duration.ofMillis(acquireTimeoutMillis).toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+
+        Gauge.builder("push.concurrency.limit", this, PushConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("push.concurrency.inflight", this, PushConcurrencyLimiter::getInflight).register(meterRegistry);
+        this.rejections = Counter.builder("push.concurrency.rejections").register(meterRegistry);
+    }
+
+    /** 요청 자리를 얻으면 true. acquire-timeout 안에 자리가 나지 않으면 false (거절) */
+    public boolean tryAcquire() {
+        lock.lock();
+        try {
+            long remainingNanos = acquireTimeoutNanos;
+            while (inflight >= (int) limit) {
+                if (remainingNanos <= 0) {
+                    rejections.increment();
+                    return false;
+                }
+                remainingNanos = released.awaitNanos(remainingNanos);
+            }
+            inflight++;
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejections.increment();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 요청 성공. 느린 응답이면 혼잡 신호로 보고 limit 을 줄인다 */
+    public void onSuccess(long latencyNanos) {
+        release(isSlow(latencyNanos), true);
+    }
+
+    /** 요청 한도 초과 (MessageRateExceeded, HTTP 429). limit 을 줄인다 */
+    public void onDropped() {
+        release(true, false);
+    }
+
+    /** 혼잡과 무관한 실패 (네트워크 오류 등). 느렸을 때만 limit 을 줄인다 */
+    public void onFailure(long latencyNanos) {
+        release(isSlow(latencyNanos), false);
+    }
+
+    /** 자리를 얻었지만 요청을 보내지 않았다. limit 은 그대로 둔다 */
+    public void cancel() {
+        release(false, false);
+    }
+
+    private boolean isSlow(long latencyNanos) {
+        if (latencyNanos > latencyThresholdNanos) {
+            log.warn("Expo 응답 지연 감지 ({}ms) - 동시 요청 수 축소", TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+            return true;
+        }
+        return false;
+    }
+
+    private void release(boolean congested, boolean succeeded) {
+        lock.lock();
+        try {
+            inflight--;
+            if (congested) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (succeeded && limit < maxLimit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -1,85 +1,217 @@
 package soma.ghostrunner.domain.notification.application;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.*;
 
+/**
+ * (메시지 UUID, 푸시 토큰) 단위 멱등성 락.
+ * 확인과 획득, 완료, 해제를 각각 Lua 스크립트로 처리하며, 같은 메시지의 여러 토큰은 해시 태그 슬롯별로 묶어 호출하고
+ * 슬롯별 호출은 한 파이프라인으로 보낸다.
+ * 해시 태그는 {메시지 UUID:토큰 해시 % 슬롯 수} 로, 브로드캐스트처럼 토큰이 많은 메시지도 한 샤드에 몰리지 않는다.
+ * 값은 StringRedisSerializer 로 평문("PROCESSING" / "SENT") 저장한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PushIdempotencyService {
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    // 파이프라인 안에서는 NOSCRIPT 로 EVALSHA 를 다시 보낼 수 없으므로 스크립트 본문을 EVAL 로 보낸다
+    private final byte[] acquireScript;
+    private final byte[] completeScript;
+    private final byte[] releaseScript;
+
+    private final int hashTagSlots;
+    private final boolean legacyKeyCheckEnabled;
 
     private static final String KEY_PREFIX = "push:idempotency:";
-    private static final String STATUS_PROCESSING = "PROCESSING";
-    private static final String STATUS_SENT = "SENT";
     private static final Duration PROCESSING_TTL = Duration.ofSeconds(30);
-    private static final Duration SENT_TTL = Duration.ofHours(6);
+    static final Duration SENT_TTL = Duration.ofHours(6);
 
     public enum LockResult {
+        LOCK_ACQUIRED,          // 락 획득 성공
         ALREADY_COMPLETED,      // 이미 처리 완료됨
-        LOCKED_BY_OTHER,        // 다른 Worker가 락 보유 중
-        LOCK_ACQUIRED           // 락 획득 성공
+        LOCKED_BY_OTHER         // 다른 Worker가 락 보유 중
+    }
+
+    public PushIdempotencyService(RedisTemplate<String, String> redisTemplate,
+                                  @Value("${push.idempotency.hash-tag-slots:16}") int hashTagSlots,
+                                  @Value("${push.idempotency.legacy-key-check-enabled:true}") boolean legacyKeyCheckEnabled) {
+        if (hashTagSlots < 1) {
+            throw new IllegalArgumentException("push.idempotency.hash-tag-slots must be >= 1");
+        }
+        this.redisTemplate = redisTemplate;
+        this.hashTagSlots = hashTagSlots;
+        this.legacyKeyCheckEnabled = legacyKeyCheckEnabled;
+        this.acquireScript = script("lua/push-idempotency-acquire.lua");
+        this.completeScript = script("lua/push-idempotency-complete.lua");
+        this.releaseScript = script("lua/push-idempotency-release.lua");
+    }
+
+    private static byte[] script(String path) {
+        DefaultRedisScript<Object> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        return script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
     }
 
     /** 멱등성 락 획득 시도 */
     public LockResult tryAcquireLock(String messageUuid, String pushToken) {
+        return tryAcquireLocks(messageUuid, List.of(pushToken)).get(0);
+    }
+
+    /** 한 메시지의 여러 토큰에 대해 멱등성 락 획득 시도. 결과는 토큰 순서대로 반환한다. */
+    public List<LockResult> tryAcquireLocks(String messageUuid, List<String> pushTokens) {
         try {
-            // 전송 여부 확인
-            String key = buildKey(messageUuid, pushToken);
-            String status = (String) redisTemplate.opsForValue().get(key);
-            if (STATUS_SENT.equals(status)) {
-                return LockResult.ALREADY_COMPLETED;
-            }
+            List<List<Integer>> indexGroups = groupBySlot(pushTokens, allIndices(pushTokens));
+            List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                evalBySlot(connection, acquireScript, ReturnType.MULTI, messageUuid, pushTokens, indexGroups,
+                        String.valueOf(PROCESSING_TTL.toMillis()));
+                if (legacyKeyCheckEnabled) {
+                    for (byte[] legacyKey : toBytes(buildLegacyKeys(messageUuid, pushTokens))) {
+                        connection.stringCommands().get(legacyKey);
+                    }
+                }
+                return null;
+            });
 
-            // SETNX로 원자적 락 획득 시도
-            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, STATUS_PROCESSING, PROCESSING_TTL);
-            if (Boolean.TRUE.equals(acquired)) {
-                // 락 획득하면 성공 반환
-                return LockResult.LOCK_ACQUIRED;
-            } else {
-                // SETNX 실패 - SENT인지 PROCESSING인지 확인
-                String currentStatus = (String) redisTemplate.opsForValue().get(key);
-                if (STATUS_SENT.equals(currentStatus)) {
-                    return LockResult.ALREADY_COMPLETED;
-                } else {
-                    log.info("다른 Worker가 락 보유 중: messageUuid={}, token={}", messageUuid, pushToken);
-                    return LockResult.LOCKED_BY_OTHER;
+            LockResult[] results = new LockResult[pushTokens.size()];
+            for (int group = 0; group < indexGroups.size(); group++) {
+                List<Integer> indices = indexGroups.get(group);
+                List<?> codes = (List<?>) replies.get(group);
+                for (int i = 0; i < indices.size(); i++) {
+                    results[indices.get(i)] = LockResult.values()[((Number) codes.get(i)).intValue()];
                 }
             }
-
+            if (legacyKeyCheckEnabled) {
+                applyLegacyKeys(messageUuid, pushTokens, replies.subList(indexGroups.size(), replies.size()), results);
+            }
+            return Arrays.asList(results);
         } catch (Exception e) {
-            log.error("Redis에서 락 획득 실패하여 중복 체크 없이 진행: messageUuid={}, token={}", messageUuid, pushToken, e);
-            return LockResult.LOCK_ACQUIRED; // Redis 다운 시 중복 체크 없이 전송 진행
+            log.error("Redis에서 락 획득 실패하여 중복 체크 없이 진행: messageUuid={}, tokens={}", messageUuid, pushTokens.size(), e);
+            return Collections.nCopies(pushTokens.size(), LockResult.LOCK_ACQUIRED); // Redis 다운 시 중복 체크 없이 전송 진행
         }
     }
 
     /** 푸시 전송 성공: 락을 SENT 상태로 업그레이드 */
     public void markAsCompleted(String messageUuid, String pushToken) {
+        markAsCompleted(messageUuid, List.of(pushToken));
+    }
+
+    public void markAsCompleted(String messageUuid, List<String> pushTokens) {
+        if (pushTokens.isEmpty()) return;
         try {
-            String key = buildKey(messageUuid, pushToken);
-            redisTemplate.opsForValue().set(key, STATUS_SENT, SENT_TTL);
+            List<List<Integer>> indexGroups = groupBySlot(pushTokens, allIndices(pushTokens));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                evalBySlot(connection, completeScript, ReturnType.INTEGER, messageUuid, pushTokens, indexGroups,
+                        String.valueOf(SENT_TTL.toMillis()));
+                return null;
+            });
         } catch (Exception e) {
-            log.error("Redis SENT 상태 저장 실패: messageUuid={}, token={}", messageUuid, pushToken, e);
+            log.error("Redis SENT 상태 저장 실패: messageUuid={}, tokens={}", messageUuid, pushTokens.size(), e);
         }
     }
 
     /** 푸시 전송 실패: 재시도 가능하도록 락 해제 */
     public void releaseLock(String messageUuid, String pushToken) {
+        releaseLocks(messageUuid, List.of(pushToken));
+    }
+
+    public void releaseLocks(String messageUuid, List<String> pushTokens) {
+        if (pushTokens.isEmpty()) return;
         try {
-            String key = buildKey(messageUuid, pushToken);
-            redisTemplate.delete(key);
+            List<List<Integer>> indexGroups = groupBySlot(pushTokens, allIndices(pushTokens));
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                evalBySlot(connection, releaseScript, ReturnType.INTEGER, messageUuid, pushTokens, indexGroups);
+                return null;
+            });
         } catch (Exception e) {
-            log.error("Redis 락 해제 실패: messageUuid={}, token={}", messageUuid, pushToken, e);
+            log.error("Redis 락 해제 실패: messageUuid={}, tokens={}", messageUuid, pushTokens.size(), e);
         }
     }
 
-    private String buildKey(String messageUuid, String pushToken) {
-        return KEY_PREFIX + messageUuid + ":" + pushToken;
+    /*
+     * 해시 태그 도입 전 형식(push:idempotency:<메시지 UUID>:<토큰>, 값은 JSON 문자열 "\"SENT\"")으로 남은 키를 확인한다.
+     * 배포 직전에 보낸 메시지가 재전달되면 새 키만 봐서는 중복 전송되므로, 이전 키가 모두 만료될 때까지(SENT TTL 6시간) 함께 읽는다.
+     * 이전 키는 슬롯이 제각각이라 스크립트에 넣지 않고, 클러스터에서 MGET 이 파이프라인 밖으로 나가지 않도록 같은 파이프라인의 GET 으로 읽는다.
+     * 새 키의 락은 MGET 결과를 보기 전에 잡히므로, 이전 키가 있는 토큰에서 잡은 락은 다시 놓는다.
+     * 전환 기간이 지나면 설정으로 끄고 이 메서드를 지운다.
+     */
+    private void applyLegacyKeys(String messageUuid, List<String> pushTokens, List<?> values, LockResult[] results) {
+        List<String> acquiredByMistake = new ArrayList<>();
+        for (int i = 0; i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value == null || results[i] == LockResult.ALREADY_COMPLETED) continue;
+            if (results[i] == LockResult.LOCK_ACQUIRED) {
+                acquiredByMistake.add(pushTokens.get(i));
+            }
+            results[i] = value.toString().contains("SENT") ? LockResult.ALREADY_COMPLETED : LockResult.LOCKED_BY_OTHER;
+        }
+        releaseLocks(messageUuid, acquiredByMistake);
+    }
+
+    private List<String> buildLegacyKeys(String messageUuid, List<String> pushTokens) {
+        return pushTokens.stream()
+                .map(pushToken -> KEY_PREFIX + messageUuid + ":" + pushToken)
+                .toList();
+    }
+
+    // 슬롯별 스크립트 호출. 한 번의 스크립트 호출에는 같은 슬롯의 키만 넘길 수 있다
+    private void evalBySlot(RedisConnection connection, byte[] script, ReturnType returnType, String messageUuid,
+                            List<String> pushTokens, List<List<Integer>> indexGroups, String... args) {
+        for (List<Integer> indices : indexGroups) {
+            List<String> keysAndArgs = new ArrayList<>(buildKeys(messageUuid, pushTokens, indices));
+            keysAndArgs.addAll(Arrays.asList(args));
+            connection.scriptingCommands().eval(script, returnType, indices.size(), toBytes(keysAndArgs));
+        }
+    }
+
+    private static byte[][] toBytes(List<String> values) {
+        return values.stream()
+                .map(value -> value.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+    }
+
+    // 토큰 위치를 해시 태그 슬롯별로 묶는다
+    private List<List<Integer>> groupBySlot(List<String> pushTokens, List<Integer> indices) {
+        Map<Integer, List<Integer>> indicesBySlot = new HashMap<>();
+        for (int index : indices) {
+            indicesBySlot.computeIfAbsent(slotOf(pushTokens.get(index)), slot -> new ArrayList<>()).add(index);
+        }
+        return List.copyOf(indicesBySlot.values());
+    }
+
+    private static List<Integer> allIndices(List<String> pushTokens) {
+        List<Integer> indices = new ArrayList<>(pushTokens.size());
+        for (int i = 0; i < pushTokens.size(); i++) {
+            indices.add(i);
+        }
+        return indices;
+    }
+
+    private List<String> buildKeys(String messageUuid, List<String> pushTokens, List<Integer> indices) {
+        return indices.stream()
+                .map(index -> buildKey(messageUuid, pushTokens.get(index)))
+                .toList();
+    }
+
+    // 토큰의 슬롯은 String.hashCode 로 정해지므로 단건 / 여러 건 호출, 어느 인스턴스에서든 같은 키가 된다
+    String buildKey(String messageUuid, String pushToken) {
+        return KEY_PREFIX + "{" + messageUuid + ":" + slotOf(pushToken) + "}:" + pushToken;
+    }
+
+    private int slotOf(String pushToken) {
+        return Math.floorMod(pushToken.hashCode(), hashTagSlots);
     }
 
 }
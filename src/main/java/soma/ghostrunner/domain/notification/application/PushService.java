@@ -3,21 +3,32 @@ package soma.ghostrunner.domain.notification.application;
 import io.sentry.spring.jakarta.tracing.SentrySpan;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import soma.ghostrunner.domain.device.application.DeviceService;
 import soma.ghostrunner.domain.notification.application.dto.PushMessage;
 import soma.ghostrunner.domain.device.domain.Device;
+import soma.ghostrunner.domain.device.dto.DevicePushToken;
+import soma.ghostrunner.domain.notification.application.dto.PushBroadcastProgress;
 import soma.ghostrunner.domain.notification.application.dto.PushContent;
+import soma.ghostrunner.domain.notification.dao.PushBroadcastProgressRepository;
 import soma.ghostrunner.domain.notification.dao.PushHistoryRepository;
 import soma.ghostrunner.domain.notification.domain.PushHistory;
+import soma.ghostrunner.domain.notification.exception.PushBroadcastNotFound;
 import soma.ghostrunner.domain.notification.exception.PushHistoryNotFound;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static soma.ghostrunner.domain.notification.client.ExpoPushClient.MAX_NOTIFICATIONS_PER_REQUEST;
 
 @Slf4j
 @Service
@@ -27,6 +38,13 @@ public class PushService {
     private final PushSqsSender sqsSender;
     private final DeviceService deviceService;
     private final PushHistoryRepository pushHistoryRepository;
+    private final PushBroadcastProgressRepository broadcastProgressRepository;
+
+    @Value("${push.broadcast.page-size:1000}")
+    private int broadcastPageSize;
+
+    @Value("${push.broadcast.max-in-flight-pages:4}")
+    private int maxInFlightPages;
 
     @SentrySpan
     public int push(Long recipientId, PushContent content) {
@@ -44,16 +62,93 @@ public class PushService {
         return pushHistoryRepository.save(PushHistory.of(recipientId, content.title(), content.body(), content.data()));
     }
 
+    /**
+     * 버전 조건에 맞는 모든 기기에 푸시를 발행한다.
+     * 기기를 ID 키셋으로 페이징하며 토큰만 조회하고, 페이지마다 토큰 100개를 메시지 하나로 묶어 SQS 에 비동기 발행한다.
+     * 동시에 발행 중인 페이지는 max-in-flight-pages 개로 제한하고, 앞선 페이지가 모두 발행될 때마다 진행 상황을 기록한다.
+     * 발행이 중단되면 {@link #resumeBroadcast(String)} 로 마지막 기록 지점부터 이어서 발행할 수 있다.
+     */
     @SentrySpan
     public int broadcast(PushContent content) {
-        // todo 회원 2천명인데 Device 페이징 조회해서 push 여러 번 호출해야겠지?
-        List<Device> pushableDevices = deviceService.findDevicesByAppVersions(content.versionRange()).stream()
-                .filter(this::isPushAllowed)
-                .toList();
         var messageUuid = UUID.randomUUID().toString();
-        return publishPushMessage(content.title(), content.body(), content.data(), pushableDevices, messageUuid);
+        PushBroadcastProgress progress = PushBroadcastProgress.start(messageUuid, content);
+        // 이미 보낸 토큰은 SENT 키로 걸러지므로, SENT 키가 만료되기 전까지만 이어서 발행할 수 있게 한다
+        broadcastProgressRepository.save(progress, PushIdempotencyService.SENT_TTL);
+        return publishBroadcast(progress);
     }
 
+    /**
+     * 중단된 브로드캐스트를 마지막으로 기록된 기기 다음부터 이어서 발행한다. 이미 발행된 토큰은 워커의 멱등성 키로 걸러진다.
+     * 발행 시작 후 SENT 키 TTL 이 지나 진행 상황이 만료되었으면 중복 전송을 막을 수 없으므로 이어서 발행하지 않는다
+     */
+    @SentrySpan
+    public int resumeBroadcast(String messageUuid) {
+        PushBroadcastProgress progress = broadcastProgressRepository.findByMessageUuid(messageUuid)
+                .orElseThrow(() -> new PushBroadcastNotFound("진행 중이거나 이어서 발행할 수 있는 브로드캐스트가 없습니다: " + messageUuid));
+        log.info("브로드캐스트 이어서 발행 (messageUuid={}, lastDeviceId={}, publishedCount={})",
+                messageUuid, progress.lastDeviceId(), progress.publishedCount());
+        return publishBroadcast(progress);
+    }
+
+    private int publishBroadcast(PushBroadcastProgress progress) {
+        String messageUuid = progress.messageUuid();
+        PushContent content = progress.content();
+        long lastDeviceId = progress.lastDeviceId();
+        int publishedCount = progress.publishedCount();
+        Deque<PublishingPage> inFlightPages = new ArrayDeque<>();
+
+        try {
+            List<DevicePushToken> page;
+            do {
+                page = deviceService.findPushTokensByAppVersions(content.versionRange(), lastDeviceId, broadcastPageSize);
+                if (page.isEmpty()) break;
+                lastDeviceId = page.get(page.size() - 1).id();
+                List<PushMessage> pushMessages = toBroadcastMessages(content, page, messageUuid);
+                inFlightPages.add(new PublishingPage(sqsSender.sendManyAsync(pushMessages), lastDeviceId, page.size()));
+
+                // 역압: 발행 중인 페이지가 가득 차면 가장 오래된 페이지가 끝날 때까지 기다린다
+                while (!inFlightPages.isEmpty()
+                        && (inFlightPages.size() >= maxInFlightPages || inFlightPages.peek().future().isDone())) {
+                    publishedCount = completePage(messageUuid, inFlightPages.poll(), publishedCount);
+                }
+            } while (page.size() == broadcastPageSize);
+
+            while (!inFlightPages.isEmpty()) {
+                publishedCount = completePage(messageUuid, inFlightPages.poll(), publishedCount);
+            }
+        } catch (CompletionException ex) {
+            log.error("브로드캐스트 발행 중단 - {}개 발행 후 실패, resume 으로 이어서 발행 가능 (messageUuid={})",
+                    publishedCount, messageUuid, ex.getCause());
+            return publishedCount;
+        }
+
+        broadcastProgressRepository.delete(messageUuid);
+        log.info("{}개의 푸시 알림 대기열 등록 완료 (브로드캐스트: messageUuid={}, title={}, body={}, data={})",
+                publishedCount, messageUuid, content.title(), content.body(), content.data());
+        return publishedCount;
+    }
+
+    // 페이지는 발행 순서대로 완료 처리하므로, 기록된 lastDeviceId 이전의 기기는 모두 발행된 상태다
+    private int completePage(String messageUuid, PublishingPage page, int publishedCount) {
+        page.future().join();
+        int published = publishedCount + page.deviceCount();
+        broadcastProgressRepository.saveCheckpoint(messageUuid, page.lastDeviceId(), published);
+        return published;
+    }
+
+    private List<PushMessage> toBroadcastMessages(PushContent content, List<DevicePushToken> page, String messageUuid) {
+        List<PushMessage> pushMessages = new ArrayList<>();
+        for (int i = 0; i < page.size(); i += MAX_NOTIFICATIONS_PER_REQUEST) {
+            List<String> pushTokens = page.subList(i, Math.min(page.size(), i + MAX_NOTIFICATIONS_PER_REQUEST)).stream()
+                    .map(DevicePushToken::token)
+                    .toList();
+            pushMessages.add(new PushMessage(pushTokens, content.title(), content.body(), content.data(), messageUuid));
+        }
+        return pushMessages;
+    }
+
+    private record PublishingPage(CompletableFuture<Void> future, long lastDeviceId, int deviceCount) {}
+
     @Transactional
     public void markAsRead(String messageUuid) {
         PushHistory history = pushHistoryRepository.findByUuid(messageUuid).orElseThrow(PushHistoryNotFound::new);
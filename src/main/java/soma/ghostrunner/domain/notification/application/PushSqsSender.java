@@ -11,7 +11,9 @@ import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 import soma.ghostrunner.domain.notification.application.dto.PushMessage;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
@@ -51,4 +53,24 @@ public class PushSqsSender {
 
     }
 
+    /** SQS 배치 비동기 발행 (최대 10건씩 나누어 동시에 발행). 한 건이라도 실패하면 future 가 예외로 완료된다 */
+    public CompletableFuture<Void> sendManyAsync(final List<PushMessage> messages) {
+        List<Message<PushMessage>> sqsMessages = messages.stream()
+                .map(m -> MessageBuilder.withPayload(m).build())
+                .toList();
+
+        List<CompletableFuture<?>> batches = new ArrayList<>();
+        for (int i = 0; i < sqsMessages.size(); i += SQS_BATCH_MAX_SIZE) {
+            int end = Math.min(sqsMessages.size(), i + SQS_BATCH_MAX_SIZE);
+            batches.add(sqsTemplate.sendManyAsync(queueName, sqsMessages.subList(i, end))
+                    .thenAccept(results -> {
+                        if (!results.failed().isEmpty()) {
+                            throw new IllegalStateException("SQS 배치 발행 부분 실패 (메시지 %d건 중 %d건 실패)"
+                                    .formatted(results.successful().size() + results.failed().size(), results.failed().size()));
+                        }
+                    }));
+        }
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new));
+    }
+
 }
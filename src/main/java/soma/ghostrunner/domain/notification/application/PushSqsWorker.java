@@ -1,85 +1,378 @@
 package soma.ghostrunner.domain.notification.application;
 
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.Visibility;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import soma.ghostrunner.domain.notification.application.dto.PushSendResult;
 import soma.ghostrunner.domain.notification.application.dto.PushMessage;
 import soma.ghostrunner.domain.notification.client.ExpoPushClient;
 import soma.ghostrunner.domain.device.dao.DeviceRepository;
-import soma.ghostrunner.domain.notification.exception.ExpoDeviceNotRegisteredException;
 import soma.ghostrunner.global.clients.discord.DiscordWebhookClient;
 
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
 import static soma.ghostrunner.domain.notification.application.PushIdempotencyService.LockResult.ALREADY_COMPLETED;
-import static soma.ghostrunner.domain.notification.application.PushIdempotencyService.LockResult.LOCKED_BY_OTHER;
+import static soma.ghostrunner.domain.notification.client.ExpoPushClient.MAX_NOTIFICATIONS_PER_REQUEST;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PushSqsWorker {
 
     private final ExpoPushClient expoPushClient;
     private final DiscordWebhookClient discordWebhookClient;
     private final SqsWorkerInternalService internalService;
     private final PushIdempotencyService idempotencyService;
+    private final PushConcurrencyLimiter concurrencyLimiter;
+
+    private static final String INVALID_TOKEN_ERROR = "not a valid Expo push token";
+    private static final String RATE_EXCEEDED_ERROR = "MessageRateExceeded";
+    private static final String TOO_MANY_REQUESTS_STATUS = "429";
 
-    private static final int MIN_BACKOFF_MILLIS = 125;
-    private static final int MAX_BACKOFF_MILLIS = 1000;
-    private final AtomicInteger backoffMillis = new AtomicInteger(MIN_BACKOFF_MILLIS);
+    private final Counter sentNotifications;
+    private final Counter invalidTokenNotifications;
+    private final Counter failedNotifications;
+    private final Counter throttledNotifications;
+    private final Counter duplicateNotifications;
+    private final Counter acknowledgedMessages;
+    private final Counter retriedMessages;
+    private final Timer expoRequestTimer;
+    private final DistributionSummary expoRequestSize;
 
     @Value("${spring.profiles.active:default}")
     private String activeProfile;
 
-    @SqsListener(value = "${cloud.aws.sqs.push-queue-name}")
-    public void handlePushMessage(final PushMessage pushMessage) throws IOException {
+    @Value("${push.retry.base-delay-seconds:2}")
+    private int retryBaseDelaySeconds;
+
+    @Value("${push.retry.max-delay-seconds:60}")
+    private int retryMaxDelaySeconds;
+
+    public PushSqsWorker(ExpoPushClient expoPushClient,
+                         DiscordWebhookClient discordWebhookClient,
+                         SqsWorkerInternalService internalService,
+                         PushIdempotencyService idempotencyService,
+                         PushConcurrencyLimiter concurrencyLimiter,
+                         MeterRegistry meterRegistry) {
+        this.expoPushClient = expoPushClient;
+        this.discordWebhookClient = discordWebhookClient;
+        this.internalService = internalService;
+        this.idempotencyService = idempotencyService;
+        this.concurrencyLimiter = concurrencyLimiter;
+
+        this.sentNotifications = Counter.builder("push.notifications").tag("result", "sent").register(meterRegistry);
+        this.invalidTokenNotifications = Counter.builder("push.notifications").tag("result", "invalid_token").register(meterRegistry);
+        this.failedNotifications = Counter.builder("push.notifications").tag("result", "failed").register(meterRegistry);
+        this.throttledNotifications = Counter.builder("push.notifications").tag("result", "throttled").register(meterRegistry);
+        this.duplicateNotifications = Counter.builder("push.notifications").tag("result", "duplicate").register(meterRegistry);
+        this.acknowledgedMessages = Counter.builder("push.sqs.messages").tag("result", "acknowledged").register(meterRegistry);
+        this.retriedMessages = Counter.builder("push.sqs.messages").tag("result", "retried").register(meterRegistry);
+        this.expoRequestTimer = Timer.builder("push.expo.request").register(meterRegistry);
+        this.expoRequestSize = DistributionSummary.builder("push.expo.request.notifications").register(meterRegistry);
+    }
+
+    /**
+     * SQS 에서 받은 메시지 배치를 처리한다.
+     * 토큰을 Expo 요청 하나에 최대 100개씩 묶고, 묶음마다 동시 요청 자리를 얻은 뒤에 그 묶음의 멱등성 락을 잡아 pushTaskExecutor 에서 전송한다.
+     * 끝난 묶음은 바로 멱등성 키를 갱신하고, 모든 토큰이 처리된 메시지만 ACK 한다. Expo 동시 요청 수는 PushConcurrencyLimiter 가 조절한다.
+     * 전송에 실패한 토큰이 있는 메시지는 리스너 스레드에서 기다리지 않고, 메시지별 visibility timeout 을 늘려 재전달을 늦춘다.
+     */
+    @SqsListener(value = "${cloud.aws.sqs.push-queue-name}", factory = "pushSqsListenerContainerFactory")
+    public void handlePushMessages(final List<Message<PushMessage>> messages,
+                                   final BatchAcknowledgement<PushMessage> acknowledgement) {
+        List<PushDelivery> deliveries = messages.stream().map(this::toDelivery).toList();
+
+        List<PushChunk> chunks = packChunks(deliveries);
+        List<CompletableFuture<List<PushSendResult>>> sendFutures = new ArrayList<>();
+        for (PushChunk chunk : chunks) {
+            sendFutures.add(sendChunk(chunk));
+            completeFinishedChunks(chunks, sendFutures, false);
+        }
+        completeFinishedChunks(chunks, sendFutures, true);
+
+        deleteInvalidPushTokens(deliveries);
+        acknowledgeCompletedMessages(deliveries, acknowledgement);
+    }
+
+    private PushDelivery toDelivery(Message<PushMessage> message) {
+        PushMessage pushMessage = message.getPayload();
         if (pushMessage.pushTokens() == null || pushMessage.pushTokens().isEmpty()) {
             log.warn("푸쉬 토큰이 없으므로 건너뜀: {}", pushMessage);
-            return;
         }
+        return new PushDelivery(message);
+    }
 
-        String pushToken = pushMessage.pushTokens().get(0); // 토큰은 현재 1개만 온다고 가정
-        String messageUuid = pushMessage.messageUuid();
+    // 멱등성 락 획득 시도 - 중복 처리가 감지된 토큰은 전송 대상에서 뺀다
+    private void acquireLocks(PushChunk chunk) {
+        for (ChunkEntry entry : chunk.entries) {
+            String messageUuid = entry.delivery.pushMessage().messageUuid();
+            List<PushIdempotencyService.LockResult> lockResults = idempotencyService.tryAcquireLocks(messageUuid, entry.tokens);
+            List<String> completedTokens = new ArrayList<>();
+            for (int i = 0; i < lockResults.size(); i++) {
+                String pushToken = entry.tokens.get(i);
+                switch (lockResults.get(i)) {
+                    case LOCK_ACQUIRED -> entry.lockedTokens.add(pushToken);
+                    case ALREADY_COMPLETED -> completedTokens.add(pushToken);
+                    case LOCKED_BY_OTHER -> log.warn("다른 워커가 처리 중인 푸시 알림 감지됨. 처리 중단: messageUuid={}, token={}",
+                            messageUuid, pushToken);
+                }
+            }
+            duplicateNotifications.increment(entry.tokens.size() - entry.lockedTokens.size());
 
-        // 멱등성 락 획득 시도
-        PushIdempotencyService.LockResult lockResult = idempotencyService.tryAcquireLock(messageUuid, pushToken);
-        // 중복 처리 감지 시 바로 반환
-        if (Set.of(ALREADY_COMPLETED, LOCKED_BY_OTHER).contains(lockResult)) {
-            logDuplicatePushDetection(pushMessage, lockResult);
+            if (!completedTokens.isEmpty()) {
+                logDuplicatePushDetection(entry.delivery, completedTokens);
+            }
+        }
+    }
+
+    private void logDuplicatePushDetection(PushDelivery delivery, List<String> completedTokens) {
+        // 일부 토큰만 실패해 재전달된 메시지라면 나머지 토큰은 이미 전송된 것이 정상이다
+        if (isRedelivered(delivery.message)) {
+            log.info("재전달된 메시지의 전송 완료 토큰 건너뜀: messageUuid={}, tokens={}",
+                    delivery.pushMessage().messageUuid(), completedTokens.size());
             return;
         }
+        // 토큰이 많아 여러 묶음으로 나뉜 메시지도 알림은 한 번만 보낸다
+        if (delivery.duplicateReported) {
+            return;
+        }
+        delivery.duplicateReported = true;
+        log.warn("중복 푸시 알림 감지됨. 처리 중단: {}", delivery.pushMessage());
+        discordWebhookClient.sendMessage(generateDuplicatePushMessage(delivery.pushMessage(), ALREADY_COMPLETED));
+    }
+
+    private boolean isRedelivered(Message<PushMessage> message) {
+        return receiveCount(message) > 1;
+    }
+
+    private int receiveCount(Message<PushMessage> message) {
+        Object receiveCount = message.getHeaders().get(SqsHeaders.MessageSystemAttributes.SQS_APPROXIMATE_RECEIVE_COUNT);
+        return receiveCount == null ? 1 : Integer.parseInt(receiveCount.toString());
+    }
+
+    // 토큰을 메시지 순서대로 최대 100개씩 묶는다. 토큰이 많은 메시지는 여러 요청으로 나뉜다
+    private List<PushChunk> packChunks(List<PushDelivery> deliveries) {
+        List<PushChunk> chunks = new ArrayList<>();
+        PushChunk chunk = new PushChunk();
+        for (PushDelivery delivery : deliveries) {
+            List<String> tokens = delivery.pushMessage().pushTokens();
+            if (tokens == null) {
+                continue;
+            }
+            int from = 0;
+            while (from < tokens.size()) {
+                if (chunk.size == MAX_NOTIFICATIONS_PER_REQUEST) {
+                    chunks.add(chunk);
+                    chunk = new PushChunk();
+                }
+                int to = Math.min(tokens.size(), from + MAX_NOTIFICATIONS_PER_REQUEST - chunk.size);
+                chunk.add(delivery, List.copyOf(tokens.subList(from, to)));
+                from = to;
+            }
+        }
+        if (chunk.size > 0) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /*
+     * 동시 요청 자리를 얻은 뒤에 이 묶음의 락을 잡는다. 자리를 기다리는 동안(최대 acquire-timeout)에는 락을 쥐고 있지 않으므로,
+     * 앞 묶음들 때문에 배치가 길어져도 락(PROCESSING TTL)이 전송 도중 만료되어 다른 워커가 다시 보내는 일이 없다.
+     * 끝내 자리가 없으면 락 없이 이 묶음을 재전달로 넘긴다.
+     */
+    private CompletableFuture<List<PushSendResult>> sendChunk(PushChunk chunk) {
+        if (!concurrencyLimiter.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException());
+        }
 
+        long startNanos = System.nanoTime();
         try {
-            List<PushSendResult> sendResult = expoPushClient.push(pushMessage);
-            validateSendResult(sendResult);
-            idempotencyService.markAsCompleted(messageUuid, pushToken); // 푸시 성공 시 락을 완료 상태로 업그레이드
-            backoffMillis.set(MIN_BACKOFF_MILLIS);
-        } catch (ExpoDeviceNotRegisteredException ex) {
-            log.warn("유효하지 않은 푸쉬 토큰 삭제: {}", pushMessage.pushTokens());
-            idempotencyService.markAsCompleted(messageUuid, pushToken); // 굳이 재전송하지 않도록 완료 상태로 업그레이드
-            deletePushToken(pushMessage.pushTokens());
+            acquireLocks(chunk);
+            List<PushMessage> pushMessages = chunk.lockedPushMessages();
+            if (pushMessages.isEmpty()) {
+                concurrencyLimiter.cancel();
+                return CompletableFuture.completedFuture(List.of());
+            }
+
+            expoRequestSize.record(chunk.lockedSize());
+            long requestStartNanos = System.nanoTime();
+            return expoPushClient.pushAsync(pushMessages)
+                    .whenComplete((results, ex) -> {
+                        long latencyNanos = System.nanoTime() - requestStartNanos;
+                        expoRequestTimer.record(latencyNanos, TimeUnit.NANOSECONDS);
+                        if (ex != null ? isTooManyRequests(ex) : hasRateExceededFailure(results)) {
+                            concurrencyLimiter.onDropped();
+                        } else if (ex != null) {
+                            concurrencyLimiter.onFailure(latencyNanos);
+                        } else {
+                            concurrencyLimiter.onSuccess(latencyNanos);
+                        }
+                    });
         } catch (Exception ex) {
-            log.error("푸쉬 알림 전송 실패: {}", pushMessage, ex);
-            idempotencyService.releaseLock(messageUuid, pushToken); // 푸시 실패 시 락 해제
-            doExponentialBackoff();
-            throw ex;
+            // 전송 스레드 풀이 가득 차 거절된 경우(TaskRejectedException)도 여기로 오며, 이미 잡은 락은 실패로 처리해 해제한다
+            concurrencyLimiter.onFailure(System.nanoTime() - startNanos);
+            return CompletableFuture.failedFuture(ex);
         }
     }
 
-    private void logDuplicatePushDetection(PushMessage pushMessage, PushIdempotencyService.LockResult lockResult) {
-        if(lockResult == LOCKED_BY_OTHER) {
-            log.warn("다른 워커가 처리 중인 푸시 알림 감지됨. 처리 중단: {}", pushMessage);
+    // 요청 한도 초과(MessageRateExceeded 에러 티켓)만 혼잡 신호로 본다. 토큰 / 내용 문제로 인한 에러 티켓은 limit 을 바꾸지 않는다
+    private boolean hasRateExceededFailure(List<PushSendResult> results) {
+        return results.stream().anyMatch(result -> result.isFailure()
+                && result.errorMessage() != null && result.errorMessage().contains(RATE_EXCEEDED_ERROR));
+    }
+
+    // SDK 는 HTTP 상태를 예외 메시지로만 알려 주므로 원인 체인의 메시지에서 429 를 찾는다
+    private static boolean isTooManyRequests(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(TOO_MANY_REQUESTS_STATUS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isInvalidToken(PushSendResult result) {
+        return result.errorMessage() != null && result.errorMessage().contains(INVALID_TOKEN_ERROR);
+    }
+
+    // 끝난 묶음부터 결과를 반영하고 멱등성 키를 바로 갱신한다. waitAll 이면 남은 묶음이 모두 끝날 때까지 기다린다
+    private void completeFinishedChunks(List<PushChunk> chunks,
+                                        List<CompletableFuture<List<PushSendResult>>> sendFutures,
+                                        boolean waitAll) {
+        for (int i = 0; i < sendFutures.size(); i++) {
+            PushChunk chunk = chunks.get(i);
+            if (chunk.completed || !(waitAll || sendFutures.get(i).isDone())) {
+                continue;
+            }
+            handleChunkResult(chunk, sendFutures.get(i));
+            updateIdempotencyKeys(chunk);
+            chunk.completed = true;
+        }
+    }
+
+    private void handleChunkResult(PushChunk chunk, CompletableFuture<List<PushSendResult>> sendFuture) {
+        List<PushSendResult> results;
+        try {
+            results = sendFuture.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof ConcurrencyLimitExceededException) {
+                log.warn("Expo 동시 요청 한도 초과로 {}개 알림 재전달 예정", chunk.size);
+                chunk.forEachToken((delivery, pushToken) -> delivery.failedTokens.add(pushToken)); // 락을 잡지 않았으므로 해제할 것도 없다
+                throttledNotifications.increment(chunk.size);
+                return;
+            }
+            log.error("푸쉬 알림 전송 실패: {}개 알림", chunk.lockedSize(), ex.getCause());
+            chunk.forEachLockedToken(this::handleFailure);
             return;
         }
-        log.warn("중복 푸시 알림 감지됨. 처리 중단: {}", pushMessage);
-        discordWebhookClient.sendMessage(generateDuplicatePushMessage(pushMessage, lockResult));
+
+        if (results.size() != chunk.lockedSize()) {
+            log.error("푸쉬 알림 전송 결과 수 불일치 - results: {}, request: {}", results.size(), chunk.lockedSize());
+            chunk.forEachLockedToken(this::handleFailure);
+            return;
+        }
+
+        AtomicInteger index = new AtomicInteger();
+        chunk.forEachLockedToken((entry, pushToken) -> handleResult(entry, pushToken, results.get(index.getAndIncrement())));
+    }
+
+    private void handleResult(ChunkEntry entry, String pushToken, PushSendResult result) {
+        if (result.isSuccess()) {
+            entry.completedTokens.add(pushToken); // 푸시 성공 시 락을 완료 상태로 업그레이드
+            sentNotifications.increment();
+        } else if (isInvalidToken(result)) {
+            entry.completedTokens.add(pushToken); // 굳이 재전송하지 않도록 완료 상태로 업그레이드
+            entry.delivery.invalidTokens.add(pushToken);
+            invalidTokenNotifications.increment();
+        } else {
+            log.error("푸쉬 알림 전송 실패: messageUuid={}, token={}, error={}",
+                    entry.delivery.pushMessage().messageUuid(), pushToken, result.errorMessage());
+            handleFailure(entry, pushToken);
+        }
+    }
+
+    private void handleFailure(ChunkEntry entry, String pushToken) {
+        entry.failedTokens.add(pushToken); // 푸시 실패 시 락 해제
+        entry.delivery.failedTokens.add(pushToken);
+        failedNotifications.increment();
+    }
+
+    // 묶음 안의 메시지마다 완료 / 해제할 토큰을 한 번의 호출로 반영한다
+    private void updateIdempotencyKeys(PushChunk chunk) {
+        for (ChunkEntry entry : chunk.entries) {
+            String messageUuid = entry.delivery.pushMessage().messageUuid();
+            idempotencyService.markAsCompleted(messageUuid, entry.completedTokens);
+            idempotencyService.releaseLocks(messageUuid, entry.failedTokens);
+        }
+    }
+
+    private void deleteInvalidPushTokens(List<PushDelivery> deliveries) {
+        List<String> invalidTokens = deliveries.stream()
+                .flatMap(delivery -> delivery.invalidTokens.stream())
+                .distinct()
+                .toList();
+        if (!invalidTokens.isEmpty()) {
+            log.warn("유효하지 않은 푸쉬 토큰 삭제: {}", invalidTokens);
+            internalService.deletePushTokens(invalidTokens);
+        }
+    }
+
+    private void acknowledgeCompletedMessages(List<PushDelivery> deliveries,
+                                              BatchAcknowledgement<PushMessage> acknowledgement) {
+        List<Message<PushMessage>> completed = deliveries.stream()
+                .filter(delivery -> delivery.failedTokens.isEmpty())
+                .map(delivery -> delivery.message)
+                .toList();
+        if (!completed.isEmpty()) {
+            acknowledgement.acknowledge(completed);
+        }
+        acknowledgedMessages.increment(completed.size());
+
+        List<PushDelivery> failed = deliveries.stream()
+                .filter(delivery -> !delivery.failedTokens.isEmpty())
+                .toList();
+        if (failed.isEmpty()) {
+            return;
+        }
+        log.warn("전송에 실패한 푸쉬 알림 메시지 {}개는 재전달 후 재시도", failed.size());
+        retriedMessages.increment(failed.size());
+        failed.forEach(delivery -> delayRedelivery(delivery.message));
+    }
+
+    // 수신 횟수에 따라 지수적으로 늘어나는 지연(+지터)만큼 visibility timeout 을 바꿔 이 메시지의 재전달만 늦춘다
+    private void delayRedelivery(Message<PushMessage> message) {
+        if (!(message.getHeaders().get(SqsHeaders.SQS_VISIBILITY_TIMEOUT_HEADER) instanceof Visibility visibility)) {
+            return;
+        }
+        int delaySeconds = redeliveryDelaySeconds(receiveCount(message));
+        visibility.changeToAsync(delaySeconds).exceptionally(ex -> {
+            log.warn("푸쉬 알림 메시지 재전달 지연 설정 실패: messageUuid={}", message.getPayload().messageUuid(), ex);
+            return null;
+        });
+    }
+
+    private int redeliveryDelaySeconds(int receiveCount) {
+        int exponent = Math.min(Math.max(receiveCount - 1, 0), 16);
+        int delay = (int) Math.min(retryMaxDelaySeconds, (long) retryBaseDelaySeconds << exponent);
+        return delay / 2 + ThreadLocalRandom.current().nextInt(delay / 2 + 1);
     }
 
     @SqsListener(value = "${cloud.aws.sqs.push-dlq-name}")
@@ -88,34 +381,85 @@ public class PushSqsWorker {
         discordWebhookClient.sendMessage(generateFailedPushNotificationMessage(pushMessage));
     }
 
+    /** SQS 메시지 하나의 처리 결과. 여러 묶음에 나뉘어 담긴 토큰의 결과를 모은다 */
+    private static final class PushDelivery {
+
+        private final Message<PushMessage> message;
+        private final List<String> invalidTokens = new ArrayList<>();
+        private final List<String> failedTokens = new ArrayList<>();
+        private boolean duplicateReported;
+
+        private PushDelivery(Message<PushMessage> message) {
+            this.message = message;
+        }
+
+        private PushMessage pushMessage() {
+            return message.getPayload();
+        }
 
-    private void deletePushToken(List<String> pushTokens) {
-        internalService.deletePushTokens(pushTokens);
     }
 
-    private void validateSendResult(List<PushSendResult> results) {
-        for (PushSendResult result : results) {
-            if (result.isFailure()) {
-                String errorMessage = result.errorMessage();
-                if (errorMessage != null && errorMessage.contains("not a valid Expo push token")) {
-                    throw new ExpoDeviceNotRegisteredException();
-                } else {
-                    throw new RuntimeException("푸시 알림 전송 실패: " + errorMessage);
+    /** Expo 요청 하나에 담기는 알림 묶음. 메시지별로 묶인 토큰 중 락을 잡은 토큰만 전송한다 */
+    private static final class PushChunk {
+
+        private final List<ChunkEntry> entries = new ArrayList<>();
+        private int size;
+        private boolean completed;
+
+        private void add(PushDelivery delivery, List<String> pushTokens) {
+            entries.add(new ChunkEntry(delivery, pushTokens));
+            size += pushTokens.size();
+        }
+
+        private List<PushMessage> lockedPushMessages() {
+            return entries.stream()
+                    .filter(entry -> !entry.lockedTokens.isEmpty())
+                    .map(ChunkEntry::lockedPushMessage)
+                    .toList();
+        }
+
+        private int lockedSize() {
+            return entries.stream().mapToInt(entry -> entry.lockedTokens.size()).sum();
+        }
+
+        // Expo 응답의 티켓 순서(메시지 순서, 메시지 안의 토큰 순서)대로 락을 잡은 토큰을 순회한다
+        private void forEachLockedToken(BiConsumer<ChunkEntry, String> action) {
+            for (ChunkEntry entry : entries) {
+                for (String pushToken : entry.lockedTokens) {
+                    action.accept(entry, pushToken);
+                }
+            }
+        }
+
+        private void forEachToken(BiConsumer<PushDelivery, String> action) {
+            for (ChunkEntry entry : entries) {
+                for (String pushToken : entry.tokens) {
+                    action.accept(entry.delivery, pushToken);
                 }
             }
         }
+
     }
 
-    private void doExponentialBackoff() {
-        try {
-            int sleepMillis = backoffMillis.get();
-            log.info("푸쉬 알림 재시도 전 대기: {}ms", sleepMillis);
-            Thread.sleep(sleepMillis);
-            int nextBackoff = Math.min(sleepMillis * 2, MAX_BACKOFF_MILLIS);
-            backoffMillis.set(nextBackoff);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
+    /** 묶음에 담긴 메시지 하나의 토큰들과 락 / 전송 결과 */
+    private static final class ChunkEntry {
+
+        private final PushDelivery delivery;
+        private final List<String> tokens;
+        private final List<String> lockedTokens = new ArrayList<>();
+        private final List<String> completedTokens = new ArrayList<>();
+        private final List<String> failedTokens = new ArrayList<>();
+
+        private ChunkEntry(PushDelivery delivery, List<String> tokens) {
+            this.delivery = delivery;
+            this.tokens = tokens;
         }
+
+        private PushMessage lockedPushMessage() {
+            PushMessage source = delivery.pushMessage();
+            return PushMessage.of(List.copyOf(lockedTokens), source.title(), source.body(), source.data(), source.messageUuid());
+        }
+
     }
 
     private String generateFailedPushNotificationMessage(PushMessage pushMessage) {
@@ -138,6 +482,14 @@ public class PushSqsWorker {
             """.formatted(activeProfile, pushMessage);
     }
 
+    // 동시 요청 자리를 얻지 못해 락을 잡지 않은 묶음. 락을 잡은 뒤의 거절(전송 스레드 풀 포화 등)과 구분한다
+    private static class ConcurrencyLimitExceededException extends RuntimeException {
+
+        ConcurrencyLimitExceededException() {
+            super("Expo 동시 요청 한도 초과", null, false, false);
+        }
+    }
+
 }
 
 @Service
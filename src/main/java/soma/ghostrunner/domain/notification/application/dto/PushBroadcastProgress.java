@@ -0,0 +1,17 @@
+package soma.ghostrunner.domain.notification.application.dto;
+
+/**
+ * 브로드캐스트 발행 진행 상황.
+ * lastDeviceId 까지의 기기는 모두 SQS 에 발행되었으므로, 중단되면 그 다음 기기부터 이어서 발행한다.
+ */
+public record PushBroadcastProgress(
+        String messageUuid,
+        PushContent content,
+        long lastDeviceId,
+        int publishedCount) {
+
+    public static PushBroadcastProgress start(String messageUuid, PushContent content) {
+        return new PushBroadcastProgress(messageUuid, content, 0L, 0);
+    }
+
+}
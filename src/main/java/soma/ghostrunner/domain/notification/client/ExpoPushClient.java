@@ -24,36 +24,53 @@ public class ExpoPushClient {
     private final ExpoPushNotificationClient pushClient;
     private final Executor pushTaskExecutor;
 
+    /** Expo 푸시 API 가 한 요청에 받는 최대 알림(수신 토큰) 수 */
+    public static final int MAX_NOTIFICATIONS_PER_REQUEST = 100;
+
     public List<PushSendResult> push(PushMessage request) throws IOException {
-        PushNotification notification = createPushNotification(request);
-        List<TicketResponse.Ticket> tickets = pushClient.sendPushNotifications(List.of(notification));
-        return mapToNotificationSendResults(request, tickets);
+        return push(List.of(request));
+    }
+
+    /** 여러 메시지를 한 번의 요청으로 전송한다. 결과는 메시지 순서, 메시지 안의 토큰 순서대로 반환한다. */
+    public List<PushSendResult> push(List<PushMessage> requests) throws IOException {
+        List<String> pushTokens = requests.stream().flatMap(request -> request.pushTokens().stream()).toList();
+        if (pushTokens.size() > MAX_NOTIFICATIONS_PER_REQUEST) {
+            throw new IllegalArgumentException("한 번에 전송할 수 있는 알림 수를 초과했습니다: " + pushTokens.size());
+        }
+
+        List<PushNotification> notifications = requests.stream().map(this::createPushNotification).toList();
+        List<TicketResponse.Ticket> tickets = pushClient.sendPushNotifications(notifications);
+        return mapToNotificationSendResults(pushTokens, tickets);
     }
 
     public CompletableFuture<List<PushSendResult>> pushAsync(PushMessage request) {
+        return pushAsync(List.of(request));
+    }
+
+    public CompletableFuture<List<PushSendResult>> pushAsync(List<PushMessage> requests) {
             return CompletableFuture.supplyAsync(() -> {
                 try {
-                    return push(request);
+                    return push(requests);
                 } catch (Exception e) {
                     throw new CompletionException(e);
                 }
             }, pushTaskExecutor);
     }
 
-    private static List<PushSendResult> mapToNotificationSendResults(PushMessage request,
+    private static List<PushSendResult> mapToNotificationSendResults(List<String> pushTokens,
                                                                      List<TicketResponse.Ticket> tickets) {
         List<PushSendResult> results = new ArrayList<>();
-        if(tickets.size() != request.pushTokens().size()) {
-            throw new RuntimeException("Ticket size and request size do not match - tickets: " + tickets.size() + ", request: " + request.pushTokens().size());
+        if(tickets.size() != pushTokens.size()) {
+            throw new RuntimeException("Ticket size and request size do not match - tickets: " + tickets.size() + ", request: " + pushTokens.size());
         }
 
         int i = 0;
         for(var ticket : tickets) {
             switch (ticket.getStatus()) {
                 case OK -> results.add(PushSendResult
-                            .ofSuccess(request.pushTokens().get(i), ticket.getId()));
+                            .ofSuccess(pushTokens.get(i), ticket.getId()));
                 case ERROR -> results.add(PushSendResult
-                            .ofFailure(request.pushTokens().get(i), ticket.getMessage()));
+                            .ofFailure(pushTokens.get(i), ticket.getMessage()));
             }
             i++;
         }
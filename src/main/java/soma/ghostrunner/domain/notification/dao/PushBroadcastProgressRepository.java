@@ -0,0 +1,87 @@
+package soma.ghostrunner.domain.notification.dao;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import soma.ghostrunner.domain.notification.application.dto.PushBroadcastProgress;
+import soma.ghostrunner.domain.notification.application.dto.PushContent;
+import soma.ghostrunner.global.common.converter.JsonToMapConverter;
+import soma.ghostrunner.global.common.versioning.SemanticVersion;
+import soma.ghostrunner.global.common.versioning.VersionRange;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/** 브로드캐스트 발행 진행 상황을 Redis 해시(push:broadcast:{messageUuid})로 저장한다. 발행이 끝나거나 ttl 이 지나면 삭제된다. */
+@Repository
+@RequiredArgsConstructor
+public class PushBroadcastProgressRepository {
+
+    private static final String KEY_PREFIX = "push:broadcast:";
+
+    private static final String TITLE = "title";
+    private static final String BODY = "body";
+    private static final String DATA = "data";
+    private static final String VERSION = "version";
+    private static final String VERSION_OPERATOR = "versionOperator";
+    private static final String LAST_DEVICE_ID = "lastDeviceId";
+    private static final String PUBLISHED_COUNT = "publishedCount";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JsonToMapConverter jsonToMapConverter = new JsonToMapConverter();
+
+    /** 진행 상황을 저장한다. ttl 은 발행 시작 시점부터 세며, 체크포인트 기록으로 늘어나지 않는다 */
+    public void save(PushBroadcastProgress progress, Duration ttl) {
+        PushContent content = progress.content();
+        Map<String, String> fields = new HashMap<>();
+        fields.put(TITLE, content.title());
+        fields.put(BODY, content.body());
+        fields.put(DATA, jsonToMapConverter.convertToDatabaseColumn(content.data()));
+        fields.put(VERSION, content.versionRange().getVersion().toString());
+        fields.put(VERSION_OPERATOR, content.versionRange().getOperator().name());
+        fields.put(LAST_DEVICE_ID, String.valueOf(progress.lastDeviceId()));
+        fields.put(PUBLISHED_COUNT, String.valueOf(progress.publishedCount()));
+
+        String key = buildKey(progress.messageUuid());
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, ttl);
+    }
+
+    /** lastDeviceId 까지 발행 완료를 기록한다. 진행 상황이 이미 만료되었으면 TTL 없는 불완전한 해시를 만들지 않도록 건너뛴다 */
+    public void saveCheckpoint(String messageUuid, long lastDeviceId, int publishedCount) {
+        String key = buildKey(messageUuid);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            return;
+        }
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                LAST_DEVICE_ID, String.valueOf(lastDeviceId),
+                PUBLISHED_COUNT, String.valueOf(publishedCount)));
+    }
+
+    public Optional<PushBroadcastProgress> findByMessageUuid(String messageUuid) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(buildKey(messageUuid));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        VersionRange versionRange = VersionRange.of(
+                SemanticVersion.of((String) fields.get(VERSION)),
+                VersionRange.Operator.valueOf((String) fields.get(VERSION_OPERATOR)));
+        PushContent content = PushContent.of((String) fields.get(TITLE), (String) fields.get(BODY),
+                jsonToMapConverter.convertToEntityAttribute((String) fields.get(DATA)), versionRange);
+        return Optional.of(new PushBroadcastProgress(messageUuid, content,
+                Long.parseLong((String) fields.get(LAST_DEVICE_ID)),
+                Integer.parseInt((String) fields.get(PUBLISHED_COUNT))));
+    }
+
+    public void delete(String messageUuid) {
+        redisTemplate.delete(buildKey(messageUuid));
+    }
+
+    private String buildKey(String messageUuid) {
+        return KEY_PREFIX + messageUuid;
+    }
+
+}
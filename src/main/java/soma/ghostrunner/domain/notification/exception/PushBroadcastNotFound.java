@@ -0,0 +1,15 @@
+package soma.ghostrunner.domain.notification.exception;
+
+import soma.ghostrunner.global.error.ErrorCode;
+import soma.ghostrunner.global.error.exception.BusinessException;
+
+public class PushBroadcastNotFound extends BusinessException {
+
+    public PushBroadcastNotFound(String message) {
+        super(ErrorCode.ENTITY_NOT_FOUND, message);
+    }
+
+    public PushBroadcastNotFound() {
+        super(ErrorCode.ENTITY_NOT_FOUND);
+    }
+}
@@ -5,11 +5,13 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 import soma.ghostrunner.domain.running.api.dto.request.CreatePacemakerRequest;
 import soma.ghostrunner.domain.running.api.dto.request.PacemakerPatchAfterRunningRequest;
 import soma.ghostrunner.domain.running.api.dto.response.PacemakerInCourseViewPollingResponse;
 import soma.ghostrunner.domain.running.api.dto.response.PacemakerPollingResponse;
 import soma.ghostrunner.domain.running.api.support.RunningApiMapper;
+import soma.ghostrunner.domain.running.application.PacemakerCompletionNotifier;
 import soma.ghostrunner.domain.running.application.PacemakerService;
 import soma.ghostrunner.global.security.jwt.JwtUserDetails;
 
@@ -21,6 +23,7 @@ public class PacemakerApi {
 
     private final PacemakerService paceMakerService;
     private final PacemakerService pacemakerService;
+    private final PacemakerCompletionNotifier pacemakerCompletionNotifier;
 
     @PostMapping("/v1/pacemaker")
     public Long createPacemaker(
@@ -37,6 +40,15 @@ public class PacemakerApi {
         return paceMakerService.getPacemaker(pacemakerId, memberUuid);
     }
 
+    // 생성이 끝나거나 timeoutSeconds 가 지나면 응답하는 long-poll. 응답 형식은 getPacemaker 와 같다
+    @GetMapping("/v1/pacemaker/{pacemakerId}/completion")
+    public DeferredResult<PacemakerPollingResponse> awaitPacemakerCompletion(
+            @AuthenticationPrincipal JwtUserDetails userDetails, @PathVariable Long pacemakerId,
+            @RequestParam(defaultValue = "30") long timeoutSeconds) {
+        String memberUuid = userDetails.getUserId();
+        return pacemakerCompletionNotifier.awaitCompletion(pacemakerId, memberUuid, timeoutSeconds * 1000);
+    }
+
     @DeleteMapping("/v1/pacemaker/{pacemakerId}")
     public void deletePacemaker(@AuthenticationPrincipal JwtUserDetails userDetails, @PathVariable Long pacemakerId) {
         String memberUuid = userDetails.getUserId();
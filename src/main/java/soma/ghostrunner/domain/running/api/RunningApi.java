@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Positive;
 import lombok.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -20,6 +21,7 @@ import soma.ghostrunner.domain.running.application.dto.response.SoloRunDetailInf
 import soma.ghostrunner.domain.running.application.RunningCommandService;
 import soma.ghostrunner.domain.running.application.RunningQueryService;
 import soma.ghostrunner.domain.running.application.support.RunningInfoFilter;
+import soma.ghostrunner.domain.running.domain.path.TelemetryBinaryCodec;
 import soma.ghostrunner.domain.running.exception.InvalidRunningException;
 import soma.ghostrunner.global.common.validator.enums.EnumValid;
 import soma.ghostrunner.global.error.ErrorCode;
@@ -98,9 +100,11 @@ public class RunningApi {
 
     @GetMapping("/v1/runs/{runningId}/telemetries")
     public String getRunningTelemetries(
-            @AuthenticationPrincipal JwtUserDetails userDetails, @PathVariable Long runningId) {
+            @AuthenticationPrincipal JwtUserDetails userDetails, @PathVariable Long runningId,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         String memberUuid = userDetails.getUserId();
-        return runningQueryService.findRunningTelemetries(runningId, memberUuid);
+        boolean preferBinary = accept != null && accept.contains(TelemetryBinaryCodec.MEDIA_TYPE);
+        return runningQueryService.findRunningTelemetries(runningId, memberUuid, preferBinary);
     }
 
     @GetMapping("/v1/runs/{runningId}")
@@ -0,0 +1,52 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import soma.ghostrunner.domain.course.application.CourseService;
+import soma.ghostrunner.domain.running.application.dto.CourseGeometryMessage;
+import soma.ghostrunner.domain.running.domain.events.CourseGeometryRequestedEvent;
+
+/**
+ * 코스 저장이 커밋된 뒤에 경로 후처리 메시지를 발행한다.
+ * 커밋 전에 발행하면 워커가 아직 보이지 않는 코스를 조회할 수 있다.
+ * 발행에 실패하면 코스를 FAILED 로 기록해 검색 / 상세 조회에서 처리 대기 상태로 남지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseGeometrySqsSender {
+
+    @Value("${cloud.aws.sqs.course-geometry-queue-name}")
+    private String queueName;
+
+    private final SqsTemplate sqsTemplate;
+    private final CourseService courseService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCourseGeometryRequestedEvent(CourseGeometryRequestedEvent event) {
+        CourseGeometryMessage message = CourseGeometryMessage.from(event);
+        try {
+            sqsTemplate.send(to -> to
+                    .queue(queueName)
+                    .payload(message));
+        } catch (Exception ex) {
+            // PENDING 으로 남으면 처리될 일이 없으므로 FAILED 로 기록한다. 같은 메시지를 다시 발행하면 그대로 처리된다
+            log.error("코스 경로 후처리 메시지 발행 실패: {}", message, ex);
+            failQuietly(message);
+        }
+    }
+
+    private void failQuietly(CourseGeometryMessage message) {
+        try {
+            courseService.failCourseGeometry(message.courseId());
+        } catch (Exception ex) {
+            log.error("코스 경로 후처리 실패 상태 기록 실패: {}", message, ex);
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import soma.ghostrunner.domain.course.application.CourseService;
+import soma.ghostrunner.domain.course.domain.Course;
+import soma.ghostrunner.domain.course.exception.CourseNotFoundException;
+import soma.ghostrunner.domain.running.application.dto.CourseGeometryMessage;
+import soma.ghostrunner.domain.running.domain.path.RunningFileUploader;
+import soma.ghostrunner.domain.running.domain.path.SimplifiedPaths;
+import soma.ghostrunner.domain.running.domain.path.TelemetryColumns;
+import soma.ghostrunner.global.clients.discord.DiscordWebhookClient;
+
+/**
+ * 코스 생성 후 경로 간소화 / 체크포인트 생성을 처리한다.
+ * 실패하면 예외를 그대로 던져 SQS 가 재전달하도록 하고, 재시도를 모두 소진하면 DLQ 에서 FAILED 로 기록한다.
+ * 이미 READY 인 코스는 건너뛰므로 같은 메시지가 여러 번 전달되어도 안전하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseGeometryWorker {
+
+    private final RunningFileUploader runningFileUploader;
+    private final PathSimplificationService pathSimplificationService;
+    private final CourseService courseService;
+    private final DiscordWebhookClient discordWebhookClient;
+
+    @Value("${spring.profiles.active:default}")
+    private String activeProfile;
+
+    @SqsListener(value = "${cloud.aws.sqs.course-geometry-queue-name}")
+    public void handleCourseGeometryMessage(final CourseGeometryMessage message) {
+        Course course = findCourse(message.courseId());
+        if (course == null || course.isGeometryReady()) {
+            log.info("이미 처리되었거나 삭제된 코스이므로 건너뜀: {}", message);
+            return;
+        }
+
+        TelemetryColumns telemetries = runningFileUploader.loadInterpolatedTelemetry(
+                message.interpolatedTelemetryUrl(), message.binaryTelemetryUrl());
+        SimplifiedPaths simplifiedPaths = pathSimplificationService.simplify(telemetries);
+
+        String routeUrl = runningFileUploader.uploadSimplifiedCoordinates(
+                simplifiedPaths.simplifiedCoordinates(), message.memberUuid());
+        String checkpointsUrl = null;
+        try {
+            checkpointsUrl = runningFileUploader.uploadCheckpoints(simplifiedPaths.checkpoints(), message.memberUuid());
+            if (!courseService.completeCourseGeometry(message.courseId(), routeUrl, checkpointsUrl)) {
+                // 다른 워커가 먼저 완료한 경우 이번에 올린 파일은 쓰이지 않는다
+                log.warn("다른 워커가 먼저 처리한 코스 감지됨: {}", message);
+                deleteQuietly(routeUrl);
+                deleteQuietly(checkpointsUrl);
+            }
+        } catch (RuntimeException ex) {
+            log.error("코스 경로 후처리 실패: {}", message, ex);
+            deleteQuietly(routeUrl);
+            deleteQuietly(checkpointsUrl);
+            throw ex;
+        }
+    }
+
+    @SqsListener(value = "${cloud.aws.sqs.course-geometry-dlq-name}")
+    public void handleFailedCourseGeometryMessage(final CourseGeometryMessage message) {
+        log.error("경로 후처리에 실패한 코스 메시지: {}", message);
+        courseService.failCourseGeometry(message.courseId());
+        discordWebhookClient.sendMessage(generateFailedCourseGeometryMessage(message));
+    }
+
+    private Course findCourse(Long courseId) {
+        try {
+            return courseService.findCourseById(courseId);
+        } catch (CourseNotFoundException ex) {
+            return null;
+        }
+    }
+
+    private void deleteQuietly(String fileUrl) {
+        if (fileUrl == null) {
+            return;
+        }
+        try {
+            runningFileUploader.deleteFile(fileUrl);
+        } catch (RuntimeException e) {
+            log.warn("사용하지 않는 코스 파일 삭제 실패. 파일: {}", fileUrl, e);
+        }
+    }
+
+    private String generateFailedCourseGeometryMessage(CourseGeometryMessage message) {
+        return """
+                # 코스 경로 후처리 실패! (환경: %s)
+                여러 차례 재시도했음에도 실패한 코스 메시지에요. DLQ 를 원본 큐로 재전달하면 다시 처리돼요.
+                ```
+                %s
+                ```
+                """.formatted(activeProfile, message);
+    }
+
+}
@@ -0,0 +1,57 @@
+package soma.ghostrunner.domain.running.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import soma.ghostrunner.domain.running.domain.events.RunFinishedEvent;
+import soma.ghostrunner.domain.running.domain.events.RunUpdatedEvent;
+import soma.ghostrunner.domain.running.domain.events.RunsDeletedEvent;
+
+/**
+ * 커밋된 러닝 기록 변경을 코스 리더보드에 반영한다.
+ * 반영에 실패해도 요청은 성공시키고, 어긋난 리더보드는 TTL 이 지나 다시 적재될 때 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CourseLeaderboardEventListener {
+
+    private final CourseLeaderboardService courseLeaderboardService;
+
+    @TransactionalEventListener
+    public void handleRunFinishedEvent(RunFinishedEvent event) {
+        if (event.courseId() == null || event.memberUuid() == null) {
+            return;
+        }
+        try {
+            courseLeaderboardService.applyFinishedRun(event.courseId(), event.memberUuid());
+        } catch (Exception e) {
+            log.warn("Failed to apply RunFinishedEvent to leaderboard. courseId={}", event.courseId(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void handleRunUpdatedEvent(RunUpdatedEvent event) {
+        if (event.courseId() == null || event.memberUuid() == null) {
+            return;
+        }
+        try {
+            courseLeaderboardService.refreshMember(event.courseId(), event.memberUuid());
+        } catch (Exception e) {
+            log.warn("Failed to apply RunUpdatedEvent to leaderboard. courseId={}", event.courseId(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void handleRunsDeletedEvent(RunsDeletedEvent event) {
+        for (Long courseId : event.courseIds()) {
+            try {
+                courseLeaderboardService.refreshMember(courseId, event.memberUuid());
+            } catch (Exception e) {
+                log.warn("Failed to apply RunsDeletedEvent to leaderboard. courseId={}", courseId, e);
+            }
+        }
+    }
+
+}
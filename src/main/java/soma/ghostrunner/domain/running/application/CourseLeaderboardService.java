@@ -0,0 +1,166 @@
+package soma.ghostrunner.domain.running.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import soma.ghostrunner.domain.running.application.dto.LeaderboardEntry;
+import soma.ghostrunner.domain.running.infra.persistence.RunningRepository;
+import soma.ghostrunner.domain.running.infra.redis.RedisCourseLeaderboardRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * 코스별 고스트 랭킹을 Redis 리더보드로 제공한다.
+ * - 조회 시 리더보드가 없으면 DB 에서 회원별 최고 공개 기록을 읽어 다시 채운다. 같은 코스의 동시 적재는 하나만 DB 를 읽는다
+ * - 러닝 생성 / 수정 / 삭제는 이미 적재된 리더보드에만 반영하고, 적재 중에 들어온 변경은 다음 조회 때 다시 적재해 반영한다
+ * - Redis 를 쓸 수 없으면 빈 값을 반환하고 호출 측이 같은 규칙(회원별 최고 기록, 기록 순)의 DB 조회로 대신한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CourseLeaderboardService {
+
+    private static final long LEADERBOARD_TTL_SECONDS = 60 * 60 * 24;
+    private static final long LOAD_WAIT_MILLIS = 3000;
+
+    private final RedisCourseLeaderboardRepository leaderboardRepository;
+    private final RunningRepository runningRepository;
+
+    // 코스 ID 별 진행 중인 적재
+    private final Map<Long, CompletableFuture<Void>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /** 상위 count 명의 최고 기록 러닝 ID (빠른 순) */
+    public Optional<List<Long>> findTopRunningIds(Long courseId, int count) {
+        if (count <= 0) {
+            return Optional.of(List.of());
+        }
+        try {
+            ensureLoaded(courseId);
+            return Optional.of(leaderboardRepository.findRunningIdsInRange(courseId, 0, count - 1));
+        } catch (DataAccessException e) {
+            log.warn("CourseLeaderboardService::findTopRunningIds() - leaderboard unavailable. courseId={}", courseId, e);
+            return Optional.empty();
+        }
+    }
+
+    /** 상위 percentage 비율에 드는 러너의 최고 기록 러닝 ID (빠른 순)와 전체 러너 수 */
+    public Optional<TopPercentage> findTopPercentageRunningIds(Long courseId, double percentage) {
+        try {
+            ensureLoaded(courseId);
+            long runnersCount = leaderboardRepository.count(courseId);
+            int sliceSize = TopPercentage.sliceSizeOf(runnersCount, percentage);
+            List<Long> runningIds = leaderboardRepository.findRunningIdsInRange(courseId, 0, sliceSize - 1);
+            return Optional.of(new TopPercentage(runningIds, sliceSize, runnersCount));
+        } catch (DataAccessException e) {
+            log.warn("CourseLeaderboardService::findTopPercentageRunningIds() - leaderboard unavailable. courseId={}", courseId, e);
+            return Optional.empty();
+        }
+    }
+
+    /** findTopPercentageRunningIds 와 같은 결과를 DB 에서 계산한다. */
+    public TopPercentage findTopPercentageRunningIdsFromDatabase(Long courseId, double percentage) {
+        List<LeaderboardEntry> entries = runningRepository.findLeaderboardEntriesByCourseId(courseId);
+        int sliceSize = TopPercentage.sliceSizeOf(entries.size(), percentage);
+        List<Long> runningIds = entries.stream()
+                .sorted(LeaderboardEntry.RANKING_ORDER)
+                .limit(sliceSize)
+                .map(LeaderboardEntry::runningId)
+                .toList();
+        return new TopPercentage(runningIds, sliceSize, entries.size());
+    }
+
+    /**
+     * duration(초) 기록의 순위 (1 부터). 기록이 같은 회원은 같은 순위로 보며, findRankFromDatabase 와 같은 규칙이다.
+     * 리더보드를 쓸 수 없을 때만 빈 값
+     */
+    public Optional<Long> findRank(Long courseId, long duration) {
+        try {
+            ensureLoaded(courseId);
+            return Optional.of(leaderboardRepository.countFasterThan(courseId, duration) + 1);
+        } catch (DataAccessException e) {
+            log.warn("CourseLeaderboardService::findRank() - leaderboard unavailable. courseId={}", courseId, e);
+            return Optional.empty();
+        }
+    }
+
+    /** duration(초) 기록으로 들어갈 순위를 DB 에서 계산한다. 기록이 같은 회원은 같은 순위로 본다. */
+    public long findRankFromDatabase(Long courseId, long duration) {
+        return runningRepository.countPublicRunnersFasterThan(courseId, duration) + 1;
+    }
+
+    /** 새 기록이 회원의 최고 기록을 앞지르면 반영한다. */
+    public void applyFinishedRun(Long courseId, String memberUuid) {
+        if (!leaderboardRepository.isLoadedOrMarkChanged(courseId)) {
+            return;
+        }
+        runningRepository.findLeaderboardEntryByCourseIdAndMemberUuid(courseId, memberUuid)
+                .ifPresent(entry -> leaderboardRepository.offer(courseId, entry));
+    }
+
+    /** 공개 여부 변경 / 삭제로 회원의 최고 기록이 바뀌었을 수 있으므로 DB 에서 다시 구해 바꾼다. */
+    public void refreshMember(Long courseId, String memberUuid) {
+        if (!leaderboardRepository.isLoadedOrMarkChanged(courseId)) {
+            return;
+        }
+        LeaderboardEntry best = runningRepository.findLeaderboardEntryByCourseIdAndMemberUuid(courseId, memberUuid)
+                .orElse(null);
+        leaderboardRepository.replace(courseId, memberUuid, best);
+    }
+
+    private void ensureLoaded(Long courseId) {
+        if (leaderboardRepository.isLoaded(courseId)) {
+            return;
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture<Void> inFlight = inFlightLoads.putIfAbsent(courseId, future);
+        if (inFlight != null) {
+            awaitLoad(courseId, inFlight);
+            return;
+        }
+        try {
+            load(courseId);
+            future.complete(null);
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(courseId, future);
+        }
+    }
+
+    /** 다른 요청의 적재를 기다리고, 실패하거나 너무 오래 걸리면 직접 적재한다. */
+    private void awaitLoad(Long courseId, CompletableFuture<Void> inFlight) {
+        try {
+            inFlight.get(LOAD_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.info("CourseLeaderboardService::awaitLoad() - waiting for in-flight load failed, loading directly. courseId={}", courseId);
+        }
+        load(courseId);
+    }
+
+    // 변경 버전은 DB 를 읽기 전에 구해야 그 사이 커밋된 기록을 놓치지 않는다
+    private void load(Long courseId) {
+        long version = leaderboardRepository.findVersion(courseId);
+        List<LeaderboardEntry> entries = runningRepository.findLeaderboardEntriesByCourseId(courseId);
+        if (!leaderboardRepository.rebuild(courseId, entries, version, LEADERBOARD_TTL_SECONDS)) {
+            log.info("CourseLeaderboardService::load() - changed while loading, reloading on next read. courseId={}", courseId);
+        }
+    }
+
+    public record TopPercentage(List<Long> runningIds, int sliceSize, long runnersCount) {
+
+        // 상위 percentage 비율의 러너 수 + 1
+        static int sliceSizeOf(long runnersCount, double percentage) {
+            return (int) Math.ceil(runnersCount * percentage) + 1;
+        }
+    }
+
+}
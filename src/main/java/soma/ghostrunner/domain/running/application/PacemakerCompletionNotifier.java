@@ -0,0 +1,205 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+import soma.ghostrunner.domain.running.api.dto.response.PacemakerPollingResponse;
+import soma.ghostrunner.domain.running.application.dto.CachedPacemakerStatus;
+import soma.ghostrunner.domain.running.domain.Pacemaker.Status;
+import soma.ghostrunner.domain.running.domain.events.PacemakerCreatedEvent;
+import soma.ghostrunner.domain.running.domain.events.PacemakerFailedEvent;
+import soma.ghostrunner.domain.running.infra.redis.RedisPacemakerStatusRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 페이스메이커 생성 완료(또는 실패)를 기다리는 long-poll 요청을 깨운다.
+ *
+ * <ul>
+ *   <li>생성 결과가 커밋되면 상태 캐시를 갱신하고 Redis pub/sub 으로 모든 인스턴스에 알린다.</li>
+ *   <li>각 인스턴스는 자기에게 걸려 있는 대기 요청만 응답한다. 대기는 요청 스레드를 잡지 않는다. (DeferredResult)</li>
+ *   <li>응답을 만드는 조회는 pacemakerCompletionExecutor 에서 한다. 리스너 스레드는 모든 pub/sub 채널이 함께 쓴다.</li>
+ *   <li>알림을 놓치거나 시간이 지나면 현재 상태(PROCEEDING)로 응답하고, 앱은 다시 요청한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PacemakerCompletionNotifier {
+
+    static final String COMPLETION_CHANNEL = "pacemaker:completion";
+
+    private final PacemakerService pacemakerService;
+    private final RedisPacemakerStatusRepository pacemakerStatusRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Executor pacemakerCompletionExecutor;
+    private final long maxTimeoutMillis;
+    private final int maxWaiters;
+
+    // 페이스메이커 ID 별 대기 중인 요청
+    private final Map<Long, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    private final Counter immediateResults;
+    private final Counter notifiedResults;
+    private final Counter timedOutResults;
+    private final Counter rejectedWaits;
+
+    private record Waiter(String memberUuid, DeferredResult<PacemakerPollingResponse> result) {}
+
+    public PacemakerCompletionNotifier(PacemakerService pacemakerService,
+                                       RedisPacemakerStatusRepository pacemakerStatusRepository,
+                                       RedisTemplate<String, String> redisTemplate,
+                                       RedisMessageListenerContainer listenerContainer,
+                                       Executor pacemakerCompletionExecutor,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${pacemaker.completion.max-timeout-seconds:60}") long maxTimeoutSeconds,
+                                       @Value("${pacemaker.completion.max-waiters:10000}") int maxWaiters) {
+        this.pacemakerService = pacemakerService;
+        this.pacemakerStatusRepository = pacemakerStatusRepository;
+        this.redisTemplate = redisTemplate;
+        this.pacemakerCompletionExecutor = pacemakerCompletionExecutor;
+        this.maxTimeoutMillis = maxTimeoutSeconds * 1000;
+        this.maxWaiters = maxWaiters;
+
+        this.immediateResults = Counter.builder("pacemaker.completion.results").tag("result", "immediate").register(meterRegistry);
+        this.notifiedResults = Counter.builder("pacemaker.completion.results").tag("result", "notified").register(meterRegistry);
+        this.timedOutResults = Counter.builder("pacemaker.completion.results").tag("result", "timeout").register(meterRegistry);
+        this.rejectedWaits = Counter.builder("pacemaker.completion.results").tag("result", "rejected").register(meterRegistry);
+        Gauge.builder("pacemaker.completion.waiters", waiterCount, AtomicInteger::get).register(meterRegistry);
+
+        listenerContainer.addMessageListener((message, pattern) -> onCompletion(message.getBody()),
+                new ChannelTopic(COMPLETION_CHANNEL));
+    }
+
+    /**
+     * 생성이 끝났으면 바로, 아니면 완료 알림이나 timeout 중 먼저 오는 시점에 응답한다.
+     * 접근 권한이 없거나 없는 페이스메이커면 바로 예외를 던진다.
+     */
+    public DeferredResult<PacemakerPollingResponse> awaitCompletion(Long pacemakerId, String memberUuid, long timeoutMillis) {
+        long timeout = Math.max(1, Math.min(timeoutMillis, maxTimeoutMillis)); // 0 은 서블릿 컨테이너에서 무제한이다
+        DeferredResult<PacemakerPollingResponse> result = new DeferredResult<>(timeout);
+
+        if (waiterCount.get() >= maxWaiters) {
+            rejectedWaits.increment();
+            result.setResult(pacemakerService.getPacemaker(pacemakerId, memberUuid));
+            return result;
+        }
+
+        // 대기 등록 후에 상태를 읽어야 그 사이에 온 완료 알림을 놓치지 않는다
+        Waiter waiter = new Waiter(memberUuid, result);
+        register(pacemakerId, waiter);
+        result.onCompletion(() -> unregister(pacemakerId, waiter));
+
+        PacemakerPollingResponse current;
+        try {
+            current = pacemakerService.getPacemaker(pacemakerId, memberUuid);
+        } catch (RuntimeException e) {
+            unregister(pacemakerId, waiter);
+            throw e;
+        }
+        if (!Status.PROCEEDING.name().equals(current.getProcessingStatus())) {
+            unregister(pacemakerId, waiter);
+            if (result.setResult(current)) {
+                immediateResults.increment();
+            }
+            return result;
+        }
+
+        result.onTimeout(() -> {
+            if (result.setResult(current)) {
+                timedOutResults.increment();
+            }
+        });
+        return result;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePacemakerCreatedEvent(PacemakerCreatedEvent event) {
+        publish(event.pacemakerId(), new CachedPacemakerStatus(Status.COMPLETED, event.memberUuid()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePacemakerFailedEvent(PacemakerFailedEvent event) {
+        publish(event.pacemakerId(), new CachedPacemakerStatus(Status.FAILED, event.memberUuid()));
+    }
+
+    private void publish(Long pacemakerId, CachedPacemakerStatus status) {
+        pacemakerStatusRepository.save(pacemakerId, status);
+        try {
+            redisTemplate.convertAndSend(COMPLETION_CHANNEL, String.valueOf(pacemakerId));
+        } catch (DataAccessException e) {
+            // 대기 중인 요청은 timeout 으로 응답되고, 앱의 다음 요청에서 갱신된 상태를 받는다
+            log.warn("페이스메이커 완료 알림 발행 실패: pacemakerId={}", pacemakerId, e);
+        }
+    }
+
+    private void onCompletion(byte[] body) {
+        // 메시지는 StringRedisSerializer 로 직렬화된 페이스메이커 ID
+        String pacemakerId = new String(body, StandardCharsets.UTF_8);
+        try {
+            Long id = Long.valueOf(pacemakerId);
+            if (waiters.containsKey(id)) {
+                pacemakerCompletionExecutor.execute(() -> wake(id));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("PacemakerCompletionNotifier::onCompletion() - invalid message {}", pacemakerId);
+        } catch (RejectedExecutionException e) {
+            // 대기 중인 요청은 timeout 으로 응답되고, 앱의 다음 요청에서 갱신된 상태를 받는다
+            log.warn("PacemakerCompletionNotifier::onCompletion() - wake rejected. pacemakerId={}", pacemakerId);
+        }
+    }
+
+    void wake(Long pacemakerId) {
+        Set<Waiter> pacemakerWaiters = waiters.get(pacemakerId);
+        if (pacemakerWaiters == null) {
+            return;
+        }
+        for (Waiter waiter : pacemakerWaiters) {
+            if (waiter.result().isSetOrExpired()) {
+                continue;
+            }
+            try {
+                if (waiter.result().setResult(pacemakerService.getPacemaker(pacemakerId, waiter.memberUuid()))) {
+                    notifiedResults.increment();
+                }
+            } catch (RuntimeException e) {
+                waiter.result().setErrorResult(e);
+            }
+        }
+    }
+
+    private void register(Long pacemakerId, Waiter waiter) {
+        waiters.computeIfAbsent(pacemakerId, id -> ConcurrentHashMap.newKeySet()).add(waiter);
+        waiterCount.incrementAndGet();
+    }
+
+    private void unregister(Long pacemakerId, Waiter waiter) {
+        waiters.computeIfPresent(pacemakerId, (id, pacemakerWaiters) -> {
+            if (pacemakerWaiters.remove(waiter)) {
+                waiterCount.decrementAndGet();
+            }
+            return pacemakerWaiters.isEmpty() ? null : pacemakerWaiters;
+        });
+    }
+
+    int getWaiterCount() {
+        return waiterCount.get();
+    }
+
+}
@@ -1,8 +1,10 @@
 package soma.ghostrunner.domain.running.application;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import soma.ghostrunner.domain.member.domain.Member;
 import soma.ghostrunner.domain.running.application.dto.WorkoutDto;
@@ -21,6 +23,7 @@ import java.util.concurrent.TimeUnit;
 
 import static soma.ghostrunner.domain.running.domain.Pacemaker.Status.*;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PacemakerLlmCallbackService {
@@ -36,9 +39,12 @@ public class PacemakerLlmCallbackService {
     public void handleSuccess(Long pacemakerId, String workoutDtoStr) {
         WorkoutDto workoutDto = WorkoutDto.fromVoiceGuidanceGeneratedWorkoutDto(workoutDtoStr);
 
+        // 상태 확인과 완료 처리를 한 번의 조건부 UPDATE 로 해서, 재전달된 콜백이 세트를 중복 저장하지 않게 한다
+        if (!completePacemaker(pacemakerId, workoutDto)) {
+            log.info("이미 처리되었거나 삭제된 페이스메이커 콜백 무시: pacemakerId={}", pacemakerId);
+            return;
+        }
         Pacemaker pacemaker = findPacemaker(pacemakerId);
-        updatePacemaker(pacemaker, workoutDto);
-        pacemakerRepository.save(pacemaker);
 
         List<PacemakerSet> sets = PacemakerSet.createPacemakerSets(workoutDto.getSets(), pacemaker);
         pacemakerSetRepository.saveAll(sets);
@@ -50,24 +56,35 @@ public class PacemakerLlmCallbackService {
                 .orElseThrow(() -> new RunningNotFoundException(ErrorCode.ENTITY_NOT_FOUND, pacemakerId));
     }
 
-    private void updatePacemaker(Pacemaker pacemaker, WorkoutDto workoutDto) {
-        pacemaker.updateSucceedPacemaker(workoutDto.getSummary(), workoutDto.getGoalKm(),
-                workoutDto.getExpectedMinutes(), workoutDto.getInitialMessage());
+    private boolean completePacemaker(Long pacemakerId, WorkoutDto workoutDto) {
+        return pacemakerRepository.completeIfProceeding(pacemakerId, workoutDto.getSummary(), workoutDto.getGoalKm(),
+                workoutDto.getExpectedMinutes(), workoutDto.getInitialMessage()) == 1;
     }
 
-    @Transactional
+    /** 아직 생성 중인 페이스메이커인지. 삭제되었거나 이미 완료 / 실패 처리되었으면 false */
+    @Transactional(readOnly = true)
+    public boolean isProceeding(Long pacemakerId) {
+        return pacemakerRepository.findById(pacemakerId)
+                .map(pacemaker -> pacemaker.getStatus() == PROCEEDING)
+                .orElse(false);
+    }
+
+    // 커밋 이후(AFTER_COMMIT) 리스너에서도 호출되므로 항상 새 트랜잭션에서 반영한다
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void handleError(String rateLimitKey, Long pacemakerId) {
         compensateRateLimitCount(rateLimitKey);
-        updatePacemakerStatus(pacemakerId, FAILED);
+        Pacemaker pacemaker = updatePacemakerStatus(pacemakerId, FAILED);
+        eventPublisher.publishEvent(mapper.toPacemakerFailedEvent(pacemaker));
     }
 
     private void compensateRateLimitCount(String rateLimitKey) {
         redisRunningRepository.decrementRateLimitCounter(rateLimitKey);
     }
 
-    private void updatePacemakerStatus(Long pacemakerId, Status status) {
+    private Pacemaker updatePacemakerStatus(Long pacemakerId, Status status) {
         Pacemaker pacemaker = findPacemaker(pacemakerId);
         pacemaker.updateStatus(status);
+        return pacemaker;
     }
 
 }
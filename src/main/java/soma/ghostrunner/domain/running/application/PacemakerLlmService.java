@@ -1,51 +1,115 @@
 package soma.ghostrunner.domain.running.application;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.Mono;
 import soma.ghostrunner.domain.member.domain.Member;
+import soma.ghostrunner.domain.running.application.dto.PacemakerLlmMessage;
 import soma.ghostrunner.domain.running.application.dto.WorkoutDto;
+import soma.ghostrunner.domain.running.domain.events.PacemakerLlmRequestedEvent;
 import soma.ghostrunner.domain.running.domain.llm.PacemakerLlmClient;
 import soma.ghostrunner.domain.running.domain.llm.PacemakerPromptGenerator;
 
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 페이스메이커 LLM 생성 요청을 (캐시에 없으면) 큐에 넣고, 워커가 꺼낸 작업의 2단계 프롬프트 체인을 실행한다.
+ * 동시 실행 수와 재시작 시 보존은 SQS 큐와 리스너 설정(PacemakerLlmWorker)이 맡는다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PacemakerLlmService {
 
-    private final PacemakerLlmClient llmClient;
+    private static final String IMPROVE_STAGE = "improve";
+    private static final String VOICE_STAGE = "voice";
 
+    private final PacemakerLlmClient llmClient;
+    private final PacemakerWorkoutCache workoutCache;
     private final PacemakerLlmCallbackService callbackService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Duration improveTimeout;
+    private final Duration voiceTimeout;
 
+    public PacemakerLlmService(PacemakerLlmClient llmClient,
+                               PacemakerWorkoutCache workoutCache,
+                               PacemakerLlmCallbackService callbackService,
+                               ApplicationEventPublisher eventPublisher,
+                               MeterRegistry meterRegistry,
+                               @Value("${pacemaker.llm.improve-timeout-seconds:120}") long improveTimeoutSeconds,
+                               @Value("${pacemaker.llm.voice-timeout-seconds:90}") long voiceTimeoutSeconds) {
+        this.llmClient = llmClient;
+        this.workoutCache = workoutCache;
+        this.callbackService = callbackService;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.improveTimeout = Duration.ofSeconds(improveTimeoutSeconds);
+        this.voiceTimeout = Duration.ofSeconds(voiceTimeoutSeconds);
+    }
+
+    /**
+     * 같은 입력 버킷의 생성 결과가 캐시에 있으면 LLM 없이 바로 완료 처리하고,
+     * 없으면 생성 작업을 요청한다. 작업은 트랜잭션이 커밋된 뒤 큐에 들어간다. (PacemakerLlmSqsSender)
+     */
     public void requestLlmToCreatePacemaker(Member member, WorkoutDto workoutDto,
                                             int vdot, int condition, int temperature, Long pacemakerId,
                                             String rateLimitKey) {
 
+        String cacheKey = workoutCache.keyOf(member, vdot, condition, temperature, workoutDto);
+        Optional<String> cachedWorkout = workoutCache.find(cacheKey);
+        if (cachedWorkout.isPresent()) {
+            log.info("⚡ [{}]에 대한 LLM 생성 결과 캐시 적중", pacemakerId);
+            callbackService.handleSuccess(pacemakerId, cachedWorkout.get());
+            return;
+        }
+
+        String userInfo = member.toStringForPacemakerPrompt(vdot, condition);
         String workoutImprovementPrompt = PacemakerPromptGenerator.generateWorkoutImprovementPrompt(
-                member, vdot, condition, temperature, workoutDto
+                userInfo, temperature, workoutDto
         );
 
-        llmClient.improveWorkout(workoutImprovementPrompt)
-                .doOnSubscribe(s -> log.info("🔄 [{}]에 대한 LLM API 호출 시작", pacemakerId))          // 이벤트루프 스레드
+        eventPublisher.publishEvent(new PacemakerLlmRequestedEvent(
+                pacemakerId, rateLimitKey, userInfo, temperature, workoutImprovementPrompt, cacheKey));
+    }
+
+    /**
+     * 훈련표 개선 -> 음성 안내 생성 순으로 호출하고 최종 응답(JSON)을 반환한다.
+     * 작업마다 1단계가 끝나는 즉시 2단계를 호출하므로, 여러 작업의 1단계와 2단계가 겹쳐서 진행된다.
+     */
+    public Mono<String> generate(PacemakerLlmMessage message) {
+        return call(IMPROVE_STAGE, () -> llmClient.improveWorkout(message.workoutImprovementPrompt()), improveTimeout)
+                .doOnSubscribe(s -> log.info("🔄 [{}]에 대한 LLM API 호출 시작", message.pacemakerId()))
                 .map(WorkoutDto::fromProcessedWorkoutDto)
-                .flatMap(
-                        dto -> {
-                            String voicePrompt = PacemakerPromptGenerator.generateVoiceGuidancePrompt(
-                                    member, vdot, condition, temperature, dto);
-                            return llmClient.fillVoiceGuidance(voicePrompt);
-                        })
-                .publishOn(Schedulers.boundedElastic())         // elastic 스레드
-                .subscribe(
-                        result -> {
-                            log.info("✅ [{}]에 대한 LLM API 요청을 성공했습니다.", pacemakerId);
-                            callbackService.handleSuccess(pacemakerId, result);
-                        },
-                        error -> {
-                            log.error("🚫 [{}]에 대한 LLM API 요청을 실패했습니다. : {}", pacemakerId, error.getMessage());
-                            callbackService.handleError(rateLimitKey, pacemakerId);
-                        }
-                );
+                .flatMap(dto -> {
+                    String voicePrompt = PacemakerPromptGenerator.generateVoiceGuidancePrompt(
+                            message.userInfo(), message.temperature(), dto);
+                    return call(VOICE_STAGE, () -> llmClient.fillVoiceGuidance(voicePrompt), voiceTimeout);
+                });
+    }
+
+    private Mono<String> call(String stage, Supplier<Mono<String>> request, Duration timeout) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return request.get()
+                    .timeout(timeout)
+                    .switchIfEmpty(Mono.error(() -> new IllegalStateException(stage + " 단계 LLM 응답이 비어 있습니다.")))
+                    .doOnSuccess(result -> sample.stop(callTimer(stage, "success")))
+                    .doOnError(error -> sample.stop(callTimer(stage, error instanceof TimeoutException ? "timeout" : "error")));
+        });
+    }
+
+    private Timer callTimer(String stage, String result) {
+        return Timer.builder("pacemaker.llm.call")
+                .tag("stage", stage)
+                .tag("result", result)
+                .register(meterRegistry);
     }
 
 }
@@ -0,0 +1,42 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.awspring.cloud.sqs.operations.SqsTemplate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import soma.ghostrunner.domain.running.application.dto.PacemakerLlmMessage;
+import soma.ghostrunner.domain.running.domain.events.PacemakerLlmRequestedEvent;
+
+/**
+ * 페이스메이커 저장이 커밋된 뒤에 LLM 생성 작업을 큐에 넣는다.
+ * 커밋 전에 넣으면 워커가 아직 보이지 않는 페이스메이커를 조회할 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PacemakerLlmSqsSender {
+
+    @Value("${cloud.aws.sqs.pacemaker-llm-queue-name}")
+    private String queueName;
+
+    private final SqsTemplate sqsTemplate;
+    private final PacemakerLlmCallbackService callbackService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePacemakerLlmRequestedEvent(PacemakerLlmRequestedEvent event) {
+        PacemakerLlmMessage message = PacemakerLlmMessage.from(event);
+        try {
+            sqsTemplate.send(to -> to
+                    .queue(queueName)
+                    .payload(message));
+        } catch (Exception ex) {
+            // 큐에 넣지 못하면 생성 중으로 남지 않도록 바로 실패 처리하고 사용 횟수를 돌려준다
+            log.error("페이스메이커 LLM 작업 발행 실패: {}", message, ex);
+            callbackService.handleError(event.rateLimitKey(), event.pacemakerId());
+        }
+    }
+
+}
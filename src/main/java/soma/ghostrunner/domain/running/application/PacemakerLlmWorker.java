@@ -0,0 +1,145 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import soma.ghostrunner.domain.running.application.dto.PacemakerLlmMessage;
+import soma.ghostrunner.global.clients.discord.DiscordWebhookClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 큐에 쌓인 페이스메이커 LLM 생성 작업을 처리한다.
+ *
+ * <ul>
+ *   <li>리스너는 LLM 응답을 기다리지 않고 CompletableFuture 를 반환한다. 동시에 처리 중인 작업 수는
+ *       pacemakerLlmSqsListenerContainerFactory 의 maxConcurrentMessages(pacemaker.llm.max-inflight)로 제한된다.</li>
+ *   <li>LLM 호출이 실패하면 바로 실패 처리하고 메시지를 삭제한다. (클라이언트가 일시 오류를 한 번 재시도한다)</li>
+ *   <li>인스턴스가 처리 도중 내려가면 visibility timeout 이후 다른 인스턴스가 다시 처리한다.
+ *       이미 완료 / 실패 처리된 페이스메이커는 건너뛰므로 같은 메시지가 여러 번 전달되어도 안전하다.</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PacemakerLlmWorker {
+
+    private final PacemakerLlmService llmService;
+    private final PacemakerLlmCallbackService callbackService;
+    private final PacemakerWorkoutCache workoutCache;
+    private final DiscordWebhookClient discordWebhookClient;
+    private final SqsAsyncClient sqsAsyncClient;
+
+    @Value("${cloud.aws.sqs.pacemaker-llm-queue-name}")
+    private String queueName;
+
+    @Value("${spring.profiles.active:default}")
+    private String activeProfile;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final AtomicLong queueDepth = new AtomicLong();
+
+    private final Timer waitTimer;
+    private final Counter succeededJobs;
+    private final Counter failedJobs;
+    private final Counter skippedJobs;
+
+    public PacemakerLlmWorker(PacemakerLlmService llmService,
+                              PacemakerLlmCallbackService callbackService,
+                              PacemakerWorkoutCache workoutCache,
+                              DiscordWebhookClient discordWebhookClient,
+                              SqsAsyncClient sqsAsyncClient,
+                              MeterRegistry meterRegistry) {
+        this.llmService = llmService;
+        this.callbackService = callbackService;
+        this.workoutCache = workoutCache;
+        this.discordWebhookClient = discordWebhookClient;
+        this.sqsAsyncClient = sqsAsyncClient;
+
+        this.waitTimer = Timer.builder("pacemaker.llm.jobs.wait").register(meterRegistry);
+        this.succeededJobs = Counter.builder("pacemaker.llm.jobs").tag("result", "succeeded").register(meterRegistry);
+        this.failedJobs = Counter.builder("pacemaker.llm.jobs").tag("result", "failed").register(meterRegistry);
+        this.skippedJobs = Counter.builder("pacemaker.llm.jobs").tag("result", "skipped").register(meterRegistry);
+        Gauge.builder("pacemaker.llm.jobs.inflight", inflight, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("pacemaker.llm.queue.depth", queueDepth, AtomicLong::get).register(meterRegistry);
+    }
+
+    @SqsListener(value = "${cloud.aws.sqs.pacemaker-llm-queue-name}", factory = "pacemakerLlmSqsListenerContainerFactory")
+    public CompletableFuture<Void> handlePacemakerLlmMessage(final PacemakerLlmMessage message) {
+        waitTimer.record(Math.max(0, System.currentTimeMillis() - message.requestedAt()), TimeUnit.MILLISECONDS);
+        if (!callbackService.isProceeding(message.pacemakerId())) {
+            log.info("이미 처리되었거나 삭제된 페이스메이커이므로 건너뜀: {}", message);
+            skippedJobs.increment();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        inflight.incrementAndGet();
+        return llmService.generate(message)
+                .publishOn(Schedulers.boundedElastic())         // DB 반영은 이벤트 루프 밖에서
+                .doOnNext(result -> {
+                    callbackService.handleSuccess(message.pacemakerId(), result);
+                    workoutCache.put(message.cacheKey(), result);     // 반영에 성공한 결과만 재사용한다
+                    log.info("✅ [{}]에 대한 LLM API 요청을 성공했습니다.", message.pacemakerId());
+                    succeededJobs.increment();
+                })
+                .then()
+                .onErrorResume(error -> Mono.fromRunnable(() -> fail(message, error)))
+                .doFinally(signal -> inflight.decrementAndGet())
+                .toFuture();
+    }
+
+    private void fail(PacemakerLlmMessage message, Throwable error) {
+        log.error("🚫 [{}]에 대한 LLM API 요청을 실패했습니다. : {}", message.pacemakerId(), error.getMessage());
+        failedJobs.increment();
+        // 여기서 실패하면 메시지가 삭제되지 않아 다시 처리되고, 재시도를 모두 소진하면 DLQ 로 간다
+        callbackService.handleError(message.rateLimitKey(), message.pacemakerId());
+    }
+
+    @SqsListener(value = "${cloud.aws.sqs.pacemaker-llm-dlq-name}")
+    public void handleFailedPacemakerLlmMessage(final PacemakerLlmMessage message) {
+        log.error("LLM 생성에 실패한 페이스메이커 메시지: {}", message);
+        if (callbackService.isProceeding(message.pacemakerId())) {
+            callbackService.handleError(message.rateLimitKey(), message.pacemakerId());
+        }
+        discordWebhookClient.sendMessage(generateFailedPacemakerLlmMessage(message));
+    }
+
+    /** 대기 중인 작업 수 지표 갱신. 모든 인스턴스가 같은 큐의 값을 보고한다 */
+    @Scheduled(fixedDelayString = "${pacemaker.llm.queue-depth-refresh-millis:30000}")
+    public void refreshQueueDepth() {
+        sqsAsyncClient.getQueueUrl(request -> request.queueName(queueName))
+                .thenCompose(response -> sqsAsyncClient.getQueueAttributes(request -> request
+                        .queueUrl(response.queueUrl())
+                        .attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        log.warn("페이스메이커 LLM 큐 길이 조회 실패", error);
+                        return;
+                    }
+                    queueDepth.set(Long.parseLong(response.attributes().get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES)));
+                });
+    }
+
+    private String generateFailedPacemakerLlmMessage(PacemakerLlmMessage message) {
+        return """
+                # 페이스메이커 LLM 생성 실패! (환경: %s)
+                여러 차례 재시도했음에도 실패 처리하지 못한 페이스메이커 메시지에요. 페이스메이커는 FAILED 로 기록했어요.
+                ```
+                %s
+                ```
+                """.formatted(activeProfile, message);
+    }
+
+}
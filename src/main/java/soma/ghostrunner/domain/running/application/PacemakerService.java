@@ -11,6 +11,7 @@ import soma.ghostrunner.domain.member.domain.Member;
 import soma.ghostrunner.domain.member.exception.MemberNotFoundException;
 import soma.ghostrunner.domain.running.api.dto.response.PacemakerInCourseViewPollingResponse;
 import soma.ghostrunner.domain.running.api.dto.response.PacemakerPollingResponse;
+import soma.ghostrunner.domain.running.application.dto.CachedPacemakerStatus;
 import soma.ghostrunner.domain.running.application.dto.WorkoutDto;
 import soma.ghostrunner.domain.running.application.dto.request.CreatePacemakerCommand;
 import soma.ghostrunner.domain.running.application.support.RunningApplicationMapper;
@@ -23,6 +24,7 @@ import soma.ghostrunner.domain.running.exception.InvalidRunningException;
 import soma.ghostrunner.domain.running.exception.RunningNotFoundException;
 import soma.ghostrunner.domain.running.infra.persistence.PacemakerRepository;
 import soma.ghostrunner.domain.running.infra.persistence.PacemakerSetRepository;
+import soma.ghostrunner.domain.running.infra.redis.RedisPacemakerStatusRepository;
 import soma.ghostrunner.domain.running.infra.redis.RedisRunningRepository;
 import soma.ghostrunner.global.error.ErrorCode;
 
@@ -30,7 +32,7 @@ import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import static soma.ghostrunner.global.error.ErrorCode.*;
@@ -45,11 +47,11 @@ public class PacemakerService {
     private final PacemakerRepository pacemakerRepository;
     private final PacemakerSetRepository pacemakerSetRepository;
     private final RedisRunningRepository redisRunningRepository;
+    private final RedisPacemakerStatusRepository pacemakerStatusRepository;
 
     private final RunningQueryService runningQueryService;
     private final CourseService courseService;
     private final MemberService memberService;
-    private final RunningVdotService runningVdotService;
     private final WorkoutService workoutService;
     private final PacemakerLlmService llmService;
 
@@ -66,10 +68,9 @@ public class PacemakerService {
         courseService.findCourseById(command.getCourseId());
 
         int vdot = determineVdot(member);
-        Map<RunningType, Double> expectedPaces = runningVdotService.getExpectedPacesByVdot(vdot);
 
         RunningType runningType = RunningType.toRunningType(command.getType());
-        WorkoutDto workoutDto = workoutService.generateWorkouts(command.getTargetDistance(), runningType, expectedPaces);
+        WorkoutDto workoutDto = workoutService.generateWorkouts(command.getTargetDistance(), runningType, vdot);
 
         String rateLimitKey = handleApiRateLimit(memberUuid, command.getLocalDate());
 
@@ -127,12 +128,19 @@ public class PacemakerService {
         );
     }
 
-    @Transactional(readOnly = true)
+    // 폴링은 생성 완료 전까지 Redis 캐시로 응답한다. 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회한다.
     public PacemakerPollingResponse getPacemaker(Long pacemakerId, String memberUuid) {
+        Optional<CachedPacemakerStatus> cached = pacemakerStatusRepository.findById(pacemakerId);
+        if (cached.isPresent() && !cached.get().isCompleted()) {
+            cached.get().verifyMember(memberUuid);
+            return mapper.toPacemakerPollingResponse(cached.get().status());
+        }
+
         Pacemaker pacemaker = findPacemaker(pacemakerId);
         pacemaker.verifyMember(memberUuid);
 
         if (pacemaker.isNotCompleted()) {
+            cacheStatus(pacemaker);
             return mapper.toPacemakerPollingResponse(pacemaker);
         }
 
@@ -140,15 +148,27 @@ public class PacemakerService {
         return mapper.toPacemakerPollingResponse(pacemaker, pacemakerSets, runningTipsProvider.getRandomTip());
     }
 
+    private void cacheStatus(Pacemaker pacemaker) {
+        pacemakerStatusRepository.saveIfAbsent(pacemaker.getId(),
+                new CachedPacemakerStatus(pacemaker.getStatus(), pacemaker.getMemberUuid()));
+    }
+
     private Pacemaker findPacemaker(Long pacemakerId) {
         return pacemakerRepository.findById(pacemakerId)
                 .orElseThrow(() -> new RunningNotFoundException(ErrorCode.ENTITY_NOT_FOUND, pacemakerId));
     }
 
-    @Transactional(readOnly = true)
     public PacemakerInCourseViewPollingResponse getPacemakerInCourse(String memberUuid, Long courseId) {
+        Optional<CachedPacemakerStatus> cached = pacemakerStatusRepository.findIdInCourse(courseId, memberUuid)
+                .flatMap(pacemakerStatusRepository::findById);
+        if (cached.isPresent() && cached.get().isProceeding()) {
+            return mapper.toPacemakerInCourseViewPollingResponse(cached.get().status());
+        }
+
         Pacemaker pacemaker = findPacemakerInCourse(memberUuid, courseId);
+        pacemakerStatusRepository.saveIdInCourse(courseId, memberUuid, pacemaker.getId());
         if (pacemaker.isNotCompleted()) {
+            cacheStatus(pacemaker);
             return mapper.toPacemakerInCourseViewPollingResponse(pacemaker);
         }
 
@@ -190,6 +210,7 @@ public class PacemakerService {
         Pacemaker pacemaker = findPacemaker(pacemakerId);
         pacemaker.verifyMember(memberUuid);
         deletePacemakers(pacemakerId);
+        pacemakerStatusRepository.delete(pacemakerId);
     }
 
     private void deletePacemakers(Long pacemakerId) {
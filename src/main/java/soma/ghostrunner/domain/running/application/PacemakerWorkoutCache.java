@@ -0,0 +1,134 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import soma.ghostrunner.domain.member.domain.Member;
+import soma.ghostrunner.domain.member.domain.MemberBioInfo;
+import soma.ghostrunner.domain.running.application.dto.WorkoutDto;
+import soma.ghostrunner.domain.running.infra.redis.RedisPacemakerWorkoutCacheRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 페이스메이커 LLM 생성 결과 캐시.
+ * 프롬프트 입력을 버킷으로 정규화해 키를 만들고, 같은 버킷의 요청은 LLM 을 호출하지 않고 저장된 결과를 재사용한다.
+ *
+ * <ul>
+ *   <li>키: 러닝 유형, VDOT, 목표 거리(distance-bucket-km 단위 반올림), 기온 구간, 컨디션, 성별, 나이 구간</li>
+ *   <li>키와 무관한 입력(체중, 키)은 결과에 미치는 영향이 작다고 보고 무시한다.</li>
+ *   <li>값은 handleSuccess 로 반영에 성공한 LLM 응답만 저장한다. 읽을 때 파싱에 실패하면 지우고 미스로 처리한다.</li>
+ *   <li>Redis 오류는 미스로 처리한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PacemakerWorkoutCache {
+
+    // 프롬프트나 응답 형식이 바뀌면 버전을 올려 이전 결과를 버린다
+    private static final String KEY_PREFIX = "pacemaker:workout-cache:v1:";
+
+    private final RedisPacemakerWorkoutCacheRepository repository;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final double distanceBucketKm;
+    private final int temperatureBand;
+    private final int ageBand;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalid;
+    private final Counter stores;
+
+    public PacemakerWorkoutCache(RedisPacemakerWorkoutCacheRepository repository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${pacemaker.workout-cache.enabled:true}") boolean enabled,
+                                 @Value("${pacemaker.workout-cache.ttl-hours:168}") long ttlHours,
+                                 @Value("${pacemaker.workout-cache.distance-bucket-km:0.1}") double distanceBucketKm,
+                                 @Value("${pacemaker.workout-cache.temperature-band:5}") int temperatureBand,
+                                 @Value("${pacemaker.workout-cache.age-band:10}") int ageBand) {
+        if (distanceBucketKm <= 0 || temperatureBand <= 0 || ageBand <= 0) {
+            throw new IllegalArgumentException("잘못된 pacemaker.workout-cache 설정입니다: distance=%s, temperature=%d, age=%d"
+                    .formatted(distanceBucketKm, temperatureBand, ageBand));
+        }
+        this.repository = repository;
+        this.enabled = enabled;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.distanceBucketKm = distanceBucketKm;
+        this.temperatureBand = temperatureBand;
+        this.ageBand = ageBand;
+
+        this.hits = Counter.builder("pacemaker.workout_cache.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("pacemaker.workout_cache.lookups").tag("result", "miss").register(meterRegistry);
+        this.invalid = Counter.builder("pacemaker.workout_cache.lookups").tag("result", "invalid").register(meterRegistry);
+        this.stores = Counter.builder("pacemaker.workout_cache.stores").register(meterRegistry);
+    }
+
+    public String keyOf(Member member, int vdot, int condition, int temperature, WorkoutDto workoutDto) {
+        MemberBioInfo bioInfo = member.getBioInfo();
+        long distanceBucket = Math.round(workoutDto.getGoalKm() / distanceBucketKm);
+        return KEY_PREFIX + workoutDto.getType()
+                + ":" + vdot
+                + ":" + distanceBucket
+                + ":" + Math.floorDiv(temperature, temperatureBand)
+                + ":" + condition
+                + ":" + bioInfo.getGender()
+                + ":" + (bioInfo.getAge() == null ? "null" : String.valueOf(bioInfo.getAge() / ageBand));
+    }
+
+    /** 반영 가능한(파싱되는) 결과만 반환한다 */
+    public Optional<String> find(String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String workoutJson;
+        try {
+            workoutJson = repository.find(key);
+        } catch (DataAccessException e) {
+            log.warn("페이스메이커 결과 캐시 조회 실패: key={}", key, e);
+            misses.increment();
+            return Optional.empty();
+        }
+        if (workoutJson == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        try {
+            WorkoutDto.fromVoiceGuidanceGeneratedWorkoutDto(workoutJson);
+        } catch (RuntimeException e) {
+            log.warn("파싱할 수 없는 페이스메이커 결과 캐시를 삭제: key={}", key, e);
+            invalid.increment();
+            deleteQuietly(key);
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(workoutJson);
+    }
+
+    public void put(String key, String workoutJson) {
+        if (!enabled || key == null) {
+            return;
+        }
+        try {
+            repository.save(key, workoutJson, ttl);
+            stores.increment();
+        } catch (DataAccessException e) {
+            log.warn("페이스메이커 결과 캐시 저장 실패: key={}", key, e);
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            repository.delete(key);
+        } catch (DataAccessException e) {
+            log.warn("페이스메이커 결과 캐시 삭제 실패: key={}", key, e);
+        }
+    }
+
+}
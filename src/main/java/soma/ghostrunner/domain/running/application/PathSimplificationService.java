@@ -1,5 +1,6 @@
 package soma.ghostrunner.domain.running.application;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import soma.ghostrunner.domain.running.domain.path.*;
 
@@ -8,12 +9,20 @@ import java.util.List;
 @Service
 public class PathSimplificationService {
 
+    @Value("${running.utm-projection:PROJ4J}")
+    private UtmProjector.Method utmProjectionMethod = UtmProjector.Method.PROJ4J;
+
     public SimplifiedPaths simplify(TelemetryStatistics processedTelemetries) {
+        return simplify(processedTelemetries.columns());
+    }
+
+    public SimplifiedPaths simplify(TelemetryColumns telemetries) {
 
-        List<CoordinatesWithTs> telemetryCoordinates = CoordinatesWithTs.toCoordinatesWithTsList(processedTelemetries.relativeTelemetries());
+        // VW / RDP 가 같은 투영 결과를 공유하도록 한 번만 투영. 점 객체로 박싱하지 않고 컬럼 배열을 그대로 쓴다
+        UtmTrack utmTrack = UtmProjector.project(telemetries, utmProjectionMethod);
 
-        List<Coordinates> simplifiedCoordinates = PathSimplifier.simplifyToRenderingTelemetries(telemetryCoordinates);
-        List<Coordinates> edgePoints = PathSimplifier.extractEdgePoints(telemetryCoordinates);
+        List<Coordinates> simplifiedCoordinates = PathSimplifier.simplifyToRenderingTelemetries(telemetries, utmTrack);
+        List<Coordinates> edgePoints = PathSimplifier.extractEdgePoints(telemetries, utmTrack);
         List<Checkpoint> checkpoints = PathSimplifier.calculateAngles(edgePoints);
 
         return new SimplifiedPaths(simplifiedCoordinates, checkpoints);
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import soma.ghostrunner.domain.course.application.CourseService;
 import soma.ghostrunner.domain.course.domain.Course;
@@ -14,13 +15,16 @@ import soma.ghostrunner.domain.member.application.MemberService;
 import soma.ghostrunner.domain.running.api.dto.response.CreateCourseAndRunResponse;
 import soma.ghostrunner.domain.running.application.support.RunningApplicationMapper;
 import soma.ghostrunner.domain.running.domain.path.TelemetryProcessor;
-import soma.ghostrunner.domain.running.domain.path.RunningFileUploader;
-import soma.ghostrunner.domain.running.domain.path.SimplifiedPaths;
 import soma.ghostrunner.domain.running.domain.path.TelemetryStatistics;
 import soma.ghostrunner.domain.running.infra.persistence.RunningRepository;
 import soma.ghostrunner.domain.running.domain.Running;
+import soma.ghostrunner.domain.running.domain.events.CourseGeometryRequestedEvent;
+import soma.ghostrunner.domain.running.domain.events.RunUpdatedEvent;
+import soma.ghostrunner.domain.running.domain.events.RunsDeletedEvent;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -31,15 +35,17 @@ public class RunningCommandService {
     private final RunningRepository runningRepository;
 
     private final TelemetryProcessor telemetryProcessor;
-    private final RunningFileUploader runningFileUploader;
+    private final RunningFileUploadOrchestrator runningFileUploadOrchestrator;
     private final ApplicationEventPublisher eventPublisher;
 
-    private final PathSimplificationService pathSimplificationService;
     private final RunningQueryService runningQueryService;
     private final CourseService courseService;
     private final MemberService memberService;
 
-    @Transactional
+    private final TransactionTemplate transactionTemplate;
+
+    // S3 업로드는 트랜잭션 밖에서 병렬로 수행하고, 저장만 짧은 트랜잭션으로 묶는다
+    // 경로 간소화 / 체크포인트 생성은 커밋 이후 CourseGeometryWorker 가 비동기로 처리한다
     public CreateCourseAndRunResponse createRunAndCourse(
             CreateRunCommand command, String memberUuid,
             MultipartFile rawTelemetry, MultipartFile interpolatedTelemetry, MultipartFile screenShotImage) {
@@ -47,35 +53,38 @@ public class RunningCommandService {
         Member member = findMember(memberUuid);
 
         TelemetryStatistics telemetryStatistics = telemetryProcessor.process(interpolatedTelemetry, command.getStartedAt());
-        SimplifiedPaths simplifiedPaths = pathSimplificationService.simplify(telemetryStatistics);
 
-        RunningDataUrlsDto dataUrlsDto = upload(rawTelemetry, telemetryStatistics, simplifiedPaths, screenShotImage, member);
-
-        Course course = createAndSaveCourse(member, command, telemetryStatistics, dataUrlsDto);
-        Running running = createAndSaveRunning(command, telemetryStatistics, dataUrlsDto, member, course);
-        return mapper.toResponse(running, course);
+        RunningDataUrlsDto dataUrlsDto = runningFileUploadOrchestrator.uploadRunFiles(
+                rawTelemetry, telemetryStatistics.columns(), screenShotImage, member.getUuid());
+
+        return executeOrDeleteUploadedFiles(dataUrlsDto, () -> {
+            Course course = createAndSaveCourse(member, command, telemetryStatistics, dataUrlsDto);
+            Running running = createAndSaveRunning(command, telemetryStatistics, dataUrlsDto, member, course);
+            eventPublisher.publishEvent(new CourseGeometryRequestedEvent(
+                    course.getId(), member.getUuid(),
+                    dataUrlsDto.getInterpolatedTelemetryUrl(), dataUrlsDto.getBinaryTelemetryUrl()));
+            return mapper.toResponse(running, course);
+        });
     }
 
     private Member findMember(String memberUuid) {
         return memberService.findMemberByUuid(memberUuid);
     }
 
-    private RunningDataUrlsDto upload(MultipartFile rawTelemetry, TelemetryStatistics telemetryStatistics,
-                                      SimplifiedPaths simplifiedPaths, MultipartFile screenShotImage, Member member) {
-
-        String rawUrl = runningFileUploader.uploadRawTelemetry(rawTelemetry, member.getUuid());
-        String interpolatedUrl = runningFileUploader.uploadInterpolatedTelemetry(telemetryStatistics.relativeTelemetries(), member.getUuid());
-        String simplifiedUrl = runningFileUploader.uploadSimplifiedCoordinates(simplifiedPaths.simplifiedCoordinates(), member.getUuid());
-        String checkpointUrl = runningFileUploader.uploadCheckpoints(simplifiedPaths.checkpoints(), member.getUuid());
-        String screenShotUrl = runningFileUploader.uploadRunningCaptureImage(screenShotImage, member.getUuid());
-
-        return new RunningDataUrlsDto(rawUrl, interpolatedUrl, simplifiedUrl, checkpointUrl, screenShotUrl);
+    private <T> T executeOrDeleteUploadedFiles(RunningDataUrlsDto dataUrlsDto, Supplier<T> persist) {
+        try {
+            return transactionTemplate.execute(status -> persist.get());
+        } catch (RuntimeException e) {
+            runningFileUploadOrchestrator.deleteUploadedFiles(dataUrlsDto);
+            throw e;
+        }
     }
 
     private Course createAndSaveCourse(Member member, CreateRunCommand command,
                                        TelemetryStatistics telemetryStatistics,
                                        RunningDataUrlsDto runningDataUrlsDto) {
         Course course = mapper.toCourse(member, command, telemetryStatistics, runningDataUrlsDto);
+        course.markGeometryPending();
         courseService.save(course);
         return course;
     }
@@ -85,7 +94,6 @@ public class RunningCommandService {
         return runningRepository.save(mapper.toRunning(command, telemetryStatistics, runningDataUrlsDto, member, course));
     }
 
-    @Transactional
     public Long createRun(CreateRunCommand command, String memberUuid, Long courseId,
                           MultipartFile rawTelemetry, MultipartFile interpolatedTelemetry, MultipartFile screenShotImage) {
 
@@ -95,21 +103,14 @@ public class RunningCommandService {
         validateBelongsToCourseIfGhostMode(command, courseId);
         TelemetryStatistics processedTelemetries = telemetryProcessor.process(interpolatedTelemetry, command.getStartedAt());
 
-        RunningDataUrlsDto runningDataUrlsDto = upload(rawTelemetry, processedTelemetries, screenShotImage, member);
-        Running running = createAndSaveRunning(command, processedTelemetries, runningDataUrlsDto, member, course);
+        RunningDataUrlsDto runningDataUrlsDto = runningFileUploadOrchestrator.uploadRunFiles(
+                rawTelemetry, processedTelemetries.columns(), screenShotImage, member.getUuid());
 
-        eventPublisher.publishEvent(mapper.toCourseRunEvent(running, course, member));
-        return running.getId();
-    }
-
-    private RunningDataUrlsDto upload(MultipartFile rawTelemetry, TelemetryStatistics telemetryStatistics,
-                                      MultipartFile screenShotImage, Member member) {
-
-        String rawUrl = runningFileUploader.uploadRawTelemetry(rawTelemetry, member.getUuid());
-        String interpolatedUrl = runningFileUploader.uploadInterpolatedTelemetry(telemetryStatistics.relativeTelemetries(), member.getUuid());
-        String screenShotUrl = runningFileUploader.uploadRunningCaptureImage(screenShotImage, member.getUuid());
-
-        return new RunningDataUrlsDto(rawUrl, interpolatedUrl, screenShotUrl);
+        return executeOrDeleteUploadedFiles(runningDataUrlsDto, () -> {
+            Running running = createAndSaveRunning(command, processedTelemetries, runningDataUrlsDto, member, course);
+            eventPublisher.publishEvent(mapper.toCourseRunEvent(running, course, member));
+            return running.getId();
+        });
     }
 
     private Course findCourse(Long courseId) {
@@ -135,6 +136,9 @@ public class RunningCommandService {
         Running running = findRunning(runningId);
         running.verifyMember(memberUuid);
         running.updatePublicStatus();
+        // 변경 감지로 저장되므로 Running 의 @PostUpdate 이벤트는 발행되지 않는다
+        eventPublisher.publishEvent(new RunUpdatedEvent(running.getId(), courseIdOf(running), memberUuid,
+                running.getRunningName(), running.isPublic()));
     }
 
     private Running findRunning(Long runningId) {
@@ -146,6 +150,15 @@ public class RunningCommandService {
         List<Running> runnings = runningRepository.findByIds(runningIds);
         runnings.forEach(running -> running.verifyMember(memberUuid));
         runningRepository.deleteInRunningIds(runningIds);
+        eventPublisher.publishEvent(new RunsDeletedEvent(memberUuid, runnings.stream()
+                .map(this::courseIdOf)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList()));
+    }
+
+    private Long courseIdOf(Running running) {
+        return running.getCourse() != null ? running.getCourse().getId() : null;
     }
 
 }
@@ -0,0 +1,108 @@
+package soma.ghostrunner.domain.running.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import soma.ghostrunner.domain.running.application.dto.RunningDataUrlsDto;
+import soma.ghostrunner.domain.running.domain.path.InterpolatedTelemetryUrls;
+import soma.ghostrunner.domain.running.domain.path.RunningFileUploader;
+import soma.ghostrunner.domain.running.domain.path.TelemetryColumns;
+import soma.ghostrunner.global.error.ErrorCode;
+import soma.ghostrunner.global.error.exception.BusinessException;
+import soma.ghostrunner.global.error.exception.ExternalIOException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 러닝 생성에 필요한 S3 업로드를 병렬로 수행하고, 하나라도 실패하면 이미 올라간 파일을 지운다.
+ * DB 트랜잭션 밖에서 호출되어 업로드하는 동안 커넥션을 점유하지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class RunningFileUploadOrchestrator {
+
+    private final RunningFileUploader runningFileUploader;
+    private final Executor s3UploadTaskExecutor;
+
+    public RunningFileUploadOrchestrator(RunningFileUploader runningFileUploader,
+                                         @Qualifier("s3UploadTaskExecutor") Executor s3UploadTaskExecutor) {
+        this.runningFileUploader = runningFileUploader;
+        this.s3UploadTaskExecutor = s3UploadTaskExecutor;
+    }
+
+    public RunningDataUrlsDto uploadRunFiles(MultipartFile rawTelemetry, TelemetryColumns telemetries,
+                                             MultipartFile screenShotImage, String memberUuid) {
+        CompletableFuture<InterpolatedTelemetryUrls> interpolated = CompletableFuture.supplyAsync(
+                () -> runningFileUploader.uploadInterpolatedTelemetry(telemetries, memberUuid), s3UploadTaskExecutor);
+        // 바이너리 파일은 JSONL 을 지울 때 함께 지워지므로 보상 대상에는 JSONL URL 만 넘긴다
+        List<String> urls = awaitAll(List.of(
+                submit(() -> runningFileUploader.uploadRawTelemetry(rawTelemetry, memberUuid)),
+                interpolated.thenApply(InterpolatedTelemetryUrls::jsonlUrl),
+                submitScreenShot(screenShotImage, memberUuid)
+        ));
+        RunningDataUrlsDto dataUrls = new RunningDataUrlsDto(urls.get(0), urls.get(1), urls.get(2));
+        dataUrls.setBinaryTelemetryUrl(interpolated.join().binaryUrl());
+        return dataUrls;
+    }
+
+    /** 업로드 이후 DB 저장이 실패했을 때 보상 처리로 호출한다. */
+    public void deleteUploadedFiles(RunningDataUrlsDto dataUrls) {
+        deleteAll(Stream.of(
+                dataUrls.getRawTelemetryUrl(),
+                dataUrls.getInterpolatedTelemetryUrl(),
+                dataUrls.getScreenShotUrl()
+        ));
+    }
+
+    private CompletableFuture<String> submit(Supplier<String> upload) {
+        return CompletableFuture.supplyAsync(upload, s3UploadTaskExecutor);
+    }
+
+    private CompletableFuture<String> submitScreenShot(MultipartFile screenShotImage, String memberUuid) {
+        if (screenShotImage == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return submit(() -> runningFileUploader.uploadRunningCaptureImage(screenShotImage, memberUuid));
+    }
+
+    private List<String> awaitAll(List<CompletableFuture<String>> uploads) {
+        try {
+            // allOf 는 모든 업로드가 끝난 뒤에 완료되므로, 실패 시점에는 성공한 업로드의 URL 을 모두 알 수 있다
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            deleteAll(uploads.stream()
+                    .filter(upload -> !upload.isCompletedExceptionally())
+                    .map(CompletableFuture::join));
+            throw toBusinessException(e.getCause());
+        }
+        return uploads.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private void deleteAll(Stream<String> urls) {
+        urls.filter(Objects::nonNull).forEach(url -> {
+            try {
+                runningFileUploader.deleteFile(url);
+            } catch (RuntimeException e) {
+                log.warn("업로드 보상 삭제 실패. 파일: {}", url, e);
+            }
+        });
+    }
+
+    private BusinessException toBusinessException(Throwable cause) {
+        if (cause instanceof BusinessException businessException) {
+            return businessException;
+        }
+        log.error("러닝 파일 업로드 중 예외 발생", cause);
+        return new ExternalIOException(ErrorCode.SERVICE_UNAVAILABLE, "러닝 파일을 업로드하는데 실패했습니다.");
+    }
+
+}
@@ -3,9 +3,9 @@ package soma.ghostrunner.domain.running.application;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.util.Pair;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -23,6 +23,7 @@ import soma.ghostrunner.domain.running.application.support.RunningApplicationMap
 import soma.ghostrunner.domain.running.application.support.RunningInfoFilter;
 import soma.ghostrunner.domain.running.infra.persistence.RunningRepository;
 import soma.ghostrunner.domain.running.domain.Running;
+import soma.ghostrunner.domain.running.domain.RunningDataUrls;
 import soma.ghostrunner.domain.running.exception.InvalidRunningException;
 import soma.ghostrunner.domain.running.exception.RunningNotFoundException;
 import soma.ghostrunner.global.error.ErrorCode;
@@ -43,6 +44,8 @@ public class RunningQueryService {
 
     private final MemberService memberService;
 
+    private final CourseLeaderboardService courseLeaderboardService;
+
     public SoloRunDetailInfo findSoloRunInfo(Long runningId, String memberUuid) {
         return findSoloRunInfoByRunningId(runningId, memberUuid);
     }
@@ -81,13 +84,40 @@ public class RunningQueryService {
                 .orElseThrow(() -> new AccessDeniedException("접근할 수 없는 러닝 데이터입니다."));
     }
 
+    public String findRunningTelemetries(Long runningId, String memberUuid, boolean preferBinary) {
+        if (!preferBinary) {
+            return findRunningTelemetries(runningId, memberUuid);
+        }
+        RunningDataUrls dataUrls = runningRepository.findRunningDataUrlsByIdAndMemberUuid(runningId, memberUuid)
+                .orElseThrow(() -> new AccessDeniedException("접근할 수 없는 러닝 데이터입니다."));
+        // 바이너리 업로드에 실패했거나 바이너리 포맷 도입 전의 러닝은 JSONL 로 대체한다
+        if (dataUrls.getBinaryTelemetryUrl() == null) {
+            return dataUrls.getInterpolatedTelemetryUrl();
+        }
+        return dataUrls.getBinaryTelemetryUrl();
+    }
+
     public List<CourseGhostResponse> findTopRankingDistinctGhostsByCourseId(Long courseId, Integer count) {
-        return runningRepository.findTopRankingRunsByCourseIdWithDistinctMember(courseId, count)
-                .stream()
+        List<CourseRunDto> rankers = courseLeaderboardService.findTopRunningIds(courseId, count)
+                .map(runningIds -> orderByIds(runningIds, runningRepository.findCourseRunsByIds(runningIds), CourseRunDto::runningId))
+                .orElseGet(() -> runningRepository.findTopRankingRunsByCourseIdWithDistinctMember(courseId, count));
+        return rankers.stream()
                 .map(mapper::toGhostResponse)
                 .toList();
     }
 
+    // IN 조회 결과를 리더보드 순서대로 맞춘다
+    private <T> List<T> orderByIds(List<Long> runningIds, List<T> runs, Function<T, Long> idExtractor) {
+        if (runningIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, T> runsById = runs.stream().collect(Collectors.toMap(idExtractor, Function.identity()));
+        return runningIds.stream()
+                .map(runsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     public List<Running> findLatestRunningsByMember(Long courseId, String memberUuid, int limit) {
         return runningRepository.findLatestRunsByCourseIdAndMemberId(courseId, memberUuid, limit)
                 .stream()
@@ -113,28 +143,35 @@ public class RunningQueryService {
 
     public Page<CourseGhostResponse> findTopPercentageGhostsByCourseId(
             Long courseId, Double percentage) {
-        int percentageToCount = (int) Math.ceil(findRunningsCountInCourse(courseId) * percentage) + 1;
-        Sort defaultSort = Sort.by(Sort.Direction.ASC, "runningRecord.averagePace");
-        Pageable topNPageable = PageRequest.of(0, percentageToCount, defaultSort);
-        return findPublicGhostRunsByCourseId(courseId, topNPageable);
+        CourseLeaderboardService.TopPercentage topPercentage =
+                courseLeaderboardService.findTopPercentageRunningIds(courseId, percentage)
+                        .orElseGet(() -> courseLeaderboardService.findTopPercentageRunningIdsFromDatabase(courseId, percentage));
+        List<Long> runningIds = topPercentage.runningIds();
+        List<Running> rankers = runningIds.isEmpty() ? List.of()
+                : orderByIds(runningIds, runningRepository.findByIdsFetchJoinMember(runningIds), Running::getId);
+        return new PageImpl<>(rankers.stream().map(mapper::toGhostResponse).toList(),
+                PageRequest.of(0, topPercentage.sliceSize()), topPercentage.runnersCount());
     }
 
-    private long findRunningsCountInCourse(Long courseId) {
-        return runningRepository.countTotalRunningsCount(courseId);
+    public Optional<CourseRunStatisticsDto> findCourseRunStatistics(Long courseId) {
+        return Optional.ofNullable(findCourseRunStatisticsByCourseIds(List.of(courseId)).get(courseId));
     }
 
-    public Optional<CourseRunStatisticsDto> findCourseRunStatistics(Long courseId) {
-        return runningRepository.findPublicRunStatisticsByCourseId(courseId);
+    /** 코스 ID 별 공개 기록 통계를 한 번에 조회한다. 공개 기록이 없는 코스는 빈 통계로 매핑된다. */
+    public Map<Long, CourseRunStatisticsDto> findCourseRunStatisticsByCourseIds(List<Long> courseIds) {
+        return runningRepository.findPublicRunStatisticsByCourseIds(courseIds);
     }
 
     public Optional<UserPaceStatsDto> findUserPaceStatistics(Long courseId, String memberUuid) {
         return runningRepository.findUserRunStatisticsByCourseId(courseId, memberUuid);
     }
 
+    // 보여주는 러닝의 기록만으로 순위를 구해야 화면의 기록과 순위가 어긋나지 않는다
     public Integer findPublicRankForCourse(Long courseId, Running running) {
-        return 1 + runningRepository.countByCourseIdAndIsPublicTrueAndAveragePaceLessThan(
-                        courseId, running.getRunningRecord().getAveragePace())
-                .orElseThrow(() -> new RunningNotFoundException(ErrorCode.ENTITY_NOT_FOUND, courseId));
+        long duration = running.getRunningRecord().getDuration();
+        long rank = courseLeaderboardService.findRank(courseId, duration)
+                .orElseGet(() -> courseLeaderboardService.findRankFromDatabase(courseId, duration));
+        return (int) rank;
     }
 
     public Optional<Running> findBestPublicRunForCourse(Long courseId, String memberUuid) {
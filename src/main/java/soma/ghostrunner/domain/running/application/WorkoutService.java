@@ -2,16 +2,15 @@ package soma.ghostrunner.domain.running.application;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import soma.ghostrunner.domain.running.application.WorkoutTemplateIndex.WorkoutTemplate;
 import soma.ghostrunner.domain.running.application.dto.WorkoutDto;
 import soma.ghostrunner.domain.running.application.dto.WorkoutSetDto;
 import soma.ghostrunner.domain.running.domain.RunningType;
 import soma.ghostrunner.domain.running.domain.formula.WorkoutSet;
 import soma.ghostrunner.domain.running.domain.formula.Workout;
-import soma.ghostrunner.domain.running.domain.formula.WorkoutProvider;
 import soma.ghostrunner.domain.running.domain.formula.WorkoutType;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 
@@ -19,18 +18,19 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class WorkoutService {
 
-    private final WorkoutProvider workoutProvider;
+    private final WorkoutTemplateIndex workoutTemplateIndex;
 
-    public WorkoutDto generateWorkouts(double targetDistance, RunningType type, Map<RunningType, Double> paces) {
-        List<Workout> workouts = workoutProvider.findWorkoutTemplates(WorkoutType.valueOf(type.name()));
+    public WorkoutDto generateWorkouts(double targetDistance, RunningType type, int vdot) {
+        Map<RunningType, Double> paces = workoutTemplateIndex.pacesOf(vdot);
 
-        Workout bestWorkout = workouts.stream()
-                .min(Comparator.comparingDouble(t -> Math.abs(t.calculateTotalDistance(paces) - targetDistance)))
-                .orElseThrow(() -> new RuntimeException("최적 템플릿을 찾지 못했습니다."));
+        WorkoutTemplate bestTemplate = workoutTemplateIndex.findClosestTemplate(
+                vdot, WorkoutType.valueOf(type.name()), targetDistance);
+        if (bestTemplate == null) {
+            throw new RuntimeException("최적 템플릿을 찾지 못했습니다.");
+        }
 
-        double totalDistanceOfWorkout = bestWorkout.calculateTotalDistance(paces);
-        double scaleFactor = targetDistance / totalDistanceOfWorkout;
-        List<WorkoutSetDto> workoutSetDtos = scaleAndProcessWorkout(bestWorkout, scaleFactor, paces);
+        double scaleFactor = targetDistance / bestTemplate.totalDistance();
+        List<WorkoutSetDto> workoutSetDtos = scaleAndProcessWorkout(bestTemplate.workout(), scaleFactor, paces);
         return WorkoutDto.of(type, targetDistance, workoutSetDtos);
     }
 
@@ -0,0 +1,136 @@
+package soma.ghostrunner.domain.running.application;
+
+import org.springframework.stereotype.Component;
+import soma.ghostrunner.domain.running.domain.RunningType;
+import soma.ghostrunner.domain.running.domain.formula.VdotPace;
+import soma.ghostrunner.domain.running.domain.formula.VdotPaceProvider;
+import soma.ghostrunner.domain.running.domain.formula.Workout;
+import soma.ghostrunner.domain.running.domain.formula.WorkoutProvider;
+import soma.ghostrunner.domain.running.domain.formula.WorkoutType;
+
+import java.util.*;
+
+/**
+ * VDOT 별 페이스와 (VDOT, 훈련 유형) 별 훈련표 템플릿을 시작 시점에 미리 계산해 둔 인덱스.
+ *
+ * <ul>
+ *   <li>페이스는 VDOT 마다 EnumMap 으로 한 번만 만든다.</li>
+ *   <li>템플릿은 해당 VDOT 페이스로 계산한 총 거리 순으로 정렬해 두고, 목표 거리와 가장 가까운 템플릿을 이분 탐색으로 찾는다.</li>
+ *   <li>거리 차이가 같으면 기존 선형 탐색과 같게 provider 순서가 앞선 템플릿을 고른다.</li>
+ * </ul>
+ */
+@Component
+public class WorkoutTemplateIndex {
+
+    private final int minVdot;
+    private final VdotEntry[] entries;     // VDOT - minVdot 위치. 페이스 정보가 없는 VDOT 는 null
+
+    public WorkoutTemplateIndex(WorkoutProvider workoutProvider, VdotPaceProvider vdotPaceProvider) {
+        Set<Integer> vdots = vdotPaceProvider.getVdots();
+        if (vdots.isEmpty()) {
+            throw new IllegalStateException("VDOT 페이스 테이블이 비어 있습니다.");
+        }
+        this.minVdot = Collections.min(vdots);
+        this.entries = new VdotEntry[Collections.max(vdots) - minVdot + 1];
+
+        Map<WorkoutType, List<Workout>> templates = new EnumMap<>(WorkoutType.class);
+        for (WorkoutType type : WorkoutType.values()) {
+            templates.put(type, workoutProvider.findWorkoutTemplates(type));
+        }
+        for (int vdot : vdots) {
+            entries[vdot - minVdot] = buildEntry(vdotPaceProvider.getVdotPaceByVdot(vdot), templates);
+        }
+    }
+
+    /** 러닝 유형별 기대 페이스 (분.초/km) */
+    public Map<RunningType, Double> pacesOf(int vdot) {
+        return entryOf(vdot).paces;
+    }
+
+    /** 해당 VDOT 페이스 기준 총 거리가 목표 거리와 가장 가까운 템플릿. 템플릿이 없으면 null */
+    public WorkoutTemplate findClosestTemplate(int vdot, WorkoutType type, double targetDistance) {
+        TemplateBucket bucket = entryOf(vdot).buckets.get(type);
+        double[] distances = bucket.distances();
+        WorkoutTemplate[] templates = bucket.templates();
+        if (distances.length == 0) {
+            return null;
+        }
+
+        // 목표 이상인 첫 템플릿과, 목표보다 짧은 템플릿 중 가장 긴 것(같은 거리면 가장 앞선 것)을 비교한다
+        int upper = lowerBound(distances, targetDistance);
+        if (upper == 0) {
+            return templates[0];
+        }
+        int lower = lowerBound(distances, distances[upper - 1]);
+        if (upper == distances.length) {
+            return templates[lower];
+        }
+
+        double lowerGap = Math.abs(distances[lower] - targetDistance);
+        double upperGap = Math.abs(distances[upper] - targetDistance);
+        if (lowerGap < upperGap || (lowerGap == upperGap && templates[lower].order() < templates[upper].order())) {
+            return templates[lower];
+        }
+        return templates[upper];
+    }
+
+    private VdotEntry entryOf(int vdot) {
+        int position = vdot - minVdot;
+        if (position < 0 || position >= entries.length || entries[position] == null) {
+            throw new IllegalArgumentException("VDOT " + vdot + "에 대한 페이스 정보를 찾을 수 없습니다.");
+        }
+        return entries[position];
+    }
+
+    private static VdotEntry buildEntry(List<VdotPace> vdotPaces, Map<WorkoutType, List<Workout>> templates) {
+        // 중복 유형은 마지막 값을 쓴다 (RunningVdotService.getExpectedPacesByVdot 와 동일)
+        Map<RunningType, Double> paces = new EnumMap<>(RunningType.class);
+        for (VdotPace vdotPace : vdotPaces) {
+            paces.put(vdotPace.type(), vdotPace.pacePerKm());
+        }
+
+        Map<WorkoutType, TemplateBucket> buckets = new EnumMap<>(WorkoutType.class);
+        templates.forEach((type, workouts) -> buckets.put(type, buildBucket(workouts, paces)));
+        return new VdotEntry(Collections.unmodifiableMap(paces), buckets);
+    }
+
+    private static TemplateBucket buildBucket(List<Workout> workouts, Map<RunningType, Double> paces) {
+        List<WorkoutTemplate> sorted = new ArrayList<>(workouts.size());
+        for (int order = 0; order < workouts.size(); order++) {
+            Workout workout = workouts.get(order);
+            sorted.add(new WorkoutTemplate(workout, workout.calculateTotalDistance(paces), order));
+        }
+        sorted.sort(Comparator.comparingDouble(WorkoutTemplate::totalDistance)
+                .thenComparingInt(WorkoutTemplate::order));
+
+        WorkoutTemplate[] templates = sorted.toArray(new WorkoutTemplate[0]);
+        double[] distances = new double[templates.length];
+        for (int i = 0; i < templates.length; i++) {
+            distances[i] = templates[i].totalDistance();
+        }
+        return new TemplateBucket(templates, distances);
+    }
+
+    // distance 이상인 첫 위치. 모두 작으면 length
+    private static int lowerBound(double[] distances, double distance) {
+        int low = 0;
+        int high = distances.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (distances[mid] < distance) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** 템플릿과 해당 VDOT 페이스로 계산한 총 거리. order 는 provider 가 반환한 순서 */
+    public record WorkoutTemplate(Workout workout, double totalDistance, int order) {}
+
+    private record TemplateBucket(WorkoutTemplate[] templates, double[] distances) {}
+
+    private record VdotEntry(Map<RunningType, Double> paces, Map<WorkoutType, TemplateBucket> buckets) {}
+
+}
@@ -0,0 +1,23 @@
+package soma.ghostrunner.domain.running.application.dto;
+
+import org.springframework.security.access.AccessDeniedException;
+import soma.ghostrunner.domain.running.domain.Pacemaker.Status;
+
+/** 폴링 응답을 DB 없이 만들기 위해 Redis 에 캐싱하는 페이스메이커 상태 */
+public record CachedPacemakerStatus(Status status, String memberUuid) {
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+    public boolean isProceeding() {
+        return status == Status.PROCEEDING;
+    }
+
+    public void verifyMember(String memberUuid) {
+        if (!this.memberUuid.equals(memberUuid)) {
+            throw new AccessDeniedException("접근할 수 없는 러닝 데이터입니다.");
+        }
+    }
+
+}
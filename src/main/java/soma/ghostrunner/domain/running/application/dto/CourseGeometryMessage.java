@@ -0,0 +1,16 @@
+package soma.ghostrunner.domain.running.application.dto;
+
+import soma.ghostrunner.domain.running.domain.events.CourseGeometryRequestedEvent;
+
+public record CourseGeometryMessage(
+        Long courseId,
+        String memberUuid,
+        String interpolatedTelemetryUrl,
+        String binaryTelemetryUrl) {
+
+    public static CourseGeometryMessage from(CourseGeometryRequestedEvent event) {
+        return new CourseGeometryMessage(event.courseId(), event.memberUuid(),
+                event.interpolatedTelemetryUrl(), event.binaryTelemetryUrl());
+    }
+
+}
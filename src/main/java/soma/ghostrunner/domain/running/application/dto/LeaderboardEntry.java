@@ -0,0 +1,16 @@
+package soma.ghostrunner.domain.running.application.dto;
+
+import java.util.Comparator;
+
+/** 코스 리더보드에 올라가는 회원별 최고 공개 기록 */
+public record LeaderboardEntry(
+        String memberUuid,
+        Long runningId,
+        Long duration
+) {
+
+    /** Redis ZSET 과 같은 순서. 기록이 같으면 회원 UUID 사전순 */
+    public static final Comparator<LeaderboardEntry> RANKING_ORDER =
+            Comparator.comparing(LeaderboardEntry::duration).thenComparing(LeaderboardEntry::memberUuid);
+
+}
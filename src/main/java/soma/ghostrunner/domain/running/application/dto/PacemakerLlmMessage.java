@@ -0,0 +1,26 @@
+package soma.ghostrunner.domain.running.application.dto;
+
+import soma.ghostrunner.domain.running.domain.events.PacemakerLlmRequestedEvent;
+
+/** 페이스메이커 LLM 생성 작업. 2단계 프롬프트에 필요한 값을 모두 담아 워커가 DB 를 다시 읽지 않도록 한다 */
+public record PacemakerLlmMessage(
+        Long pacemakerId,
+        String rateLimitKey,
+        String userInfo,
+        int temperature,
+        String workoutImprovementPrompt,
+        String cacheKey,
+        long requestedAt) {
+
+    public static PacemakerLlmMessage from(PacemakerLlmRequestedEvent event) {
+        return new PacemakerLlmMessage(event.pacemakerId(), event.rateLimitKey(), event.userInfo(),
+                event.temperature(), event.workoutImprovementPrompt(), event.cacheKey(), System.currentTimeMillis());
+    }
+
+    @Override
+    public String toString() {
+        // 프롬프트 원문은 로그에 남기지 않는다
+        return "PacemakerLlmMessage[pacemakerId=%d, requestedAt=%d]".formatted(pacemakerId, requestedAt);
+    }
+
+}
@@ -9,6 +9,8 @@ public class RunningDataUrlsDto {
     private String rawTelemetryUrl;
     private String interpolatedTelemetryUrl;
     @Setter
+    private String binaryTelemetryUrl;
+    @Setter
     private String simplifiedPathSavedUrl;
     @Setter
     private String checkpointUrl;
@@ -12,6 +12,7 @@ import soma.ghostrunner.domain.running.application.dto.response.DayRunInfo;
 import soma.ghostrunner.domain.running.application.dto.response.RunInfo;
 import soma.ghostrunner.domain.running.domain.events.CourseRunEvent;
 import soma.ghostrunner.domain.running.domain.events.PacemakerCreatedEvent;
+import soma.ghostrunner.domain.running.domain.events.PacemakerFailedEvent;
 import soma.ghostrunner.domain.running.domain.path.TelemetryStatistics;
 import soma.ghostrunner.domain.running.application.dto.RunningDataUrlsDto;
 import soma.ghostrunner.domain.running.application.dto.request.CreatePacemakerCommand;
@@ -35,7 +36,7 @@ public interface RunningApplicationMapper {
         RunningRecord runningRecord = toRunningRecord(command.getRecord(), processedTelemetry);
         RunningMode mode = RunningMode.valueOf(command.getMode());
 
-        return Running.of(
+        Running running = Running.of(
                 command.getRunningName(),
                 mode,
                 command.getGhostRunningId(),
@@ -49,6 +50,8 @@ public interface RunningApplicationMapper {
                 member,
                 course
         );
+        running.updateBinaryTelemetryUrl(runningDataUrlsDto.getBinaryTelemetryUrl());
+        return running;
     }
 
     default RunningRecord toRunningRecord(RunRecordCommand record, TelemetryStatistics processedTelemetry) {
@@ -107,6 +110,12 @@ public interface RunningApplicationMapper {
         return Pacemaker.of(norm, command.getTargetDistance(), courseId, runningType, member.getUuid());
     }
 
+    default PacemakerPollingResponse toPacemakerPollingResponse(Pacemaker.Status status) {
+        return PacemakerPollingResponse.builder()
+                .processingStatus(status.name())
+                .build();
+    }
+
     default PacemakerPollingResponse toPacemakerPollingResponse(Pacemaker p) {
         return PacemakerPollingResponse.builder()
                 .processingStatus(p.getStatus().name())
@@ -174,6 +183,12 @@ public interface RunningApplicationMapper {
                 .toList();
     }
 
+    default PacemakerInCourseViewPollingResponse toPacemakerInCourseViewPollingResponse(Pacemaker.Status status) {
+        return PacemakerInCourseViewPollingResponse.builder()
+                .processingStatus(status.name())
+                .build();
+    }
+
     default PacemakerInCourseViewPollingResponse toPacemakerInCourseViewPollingResponse(Pacemaker p) {
         return PacemakerInCourseViewPollingResponse.builder()
                 .processingStatus(p.getStatus().name())
@@ -219,4 +234,9 @@ public interface RunningApplicationMapper {
     @Mapping(source = "memberUuid", target = "memberUuid")
     PacemakerCreatedEvent toPacemakerCreatedEvent(Pacemaker pacemaker);
 
+    @Mapping(source = "id", target = "pacemakerId")
+    @Mapping(source = "courseId", target = "courseId")
+    @Mapping(source = "memberUuid", target = "memberUuid")
+    PacemakerFailedEvent toPacemakerFailedEvent(Pacemaker pacemaker);
+
 }
@@ -187,6 +187,10 @@ public class Running extends BaseTimeEntity {
         this.getRunningDataUrls().updateScreenShotUrl(screenShotUrl);
     }
 
+    public void updateBinaryTelemetryUrl(String binaryTelemetryUrl) {
+        this.getRunningDataUrls().updateBinaryTelemetryUrl(binaryTelemetryUrl);
+    }
+
     public static double calculateOneMilePace(double averagePace) {
         BigDecimal bigDecimalAveragePace = BigDecimal.valueOf(averagePace);
         BigDecimal oneMilePace = bigDecimalAveragePace.multiply(BigDecimal.valueOf(1.6));
@@ -18,6 +18,9 @@ public class RunningDataUrls {
     @Column(name = "interpolated_telemetry_url")
     private String interpolatedTelemetryUrl;
 
+    @Column(name = "binary_telemetry_url")
+    private String binaryTelemetryUrl;
+
     @Column(name = "screen_shot_url")
     private String screenShotUrl;
 
@@ -42,4 +45,8 @@ public class RunningDataUrls {
         this.screenShotUrl = screenShotUrl;
     }
 
+    public void updateBinaryTelemetryUrl(String binaryTelemetryUrl) {
+        this.binaryTelemetryUrl = binaryTelemetryUrl;
+    }
+
 }
@@ -0,0 +1,8 @@
+package soma.ghostrunner.domain.running.domain.events;
+
+public record CourseGeometryRequestedEvent(
+        Long courseId,
+        String memberUuid,
+        String interpolatedTelemetryUrl,
+        String binaryTelemetryUrl
+) {}
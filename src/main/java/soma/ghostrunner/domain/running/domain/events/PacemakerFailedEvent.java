@@ -0,0 +1,7 @@
+package soma.ghostrunner.domain.running.domain.events;
+
+public record PacemakerFailedEvent (
+        Long pacemakerId,
+        Long courseId,
+        String memberUuid
+) {}
@@ -0,0 +1,10 @@
+package soma.ghostrunner.domain.running.domain.events;
+
+public record PacemakerLlmRequestedEvent(
+        Long pacemakerId,
+        String rateLimitKey,
+        String userInfo,
+        int temperature,
+        String workoutImprovementPrompt,
+        String cacheKey
+) {}
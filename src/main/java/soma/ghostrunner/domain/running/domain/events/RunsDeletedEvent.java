@@ -0,0 +1,8 @@
+package soma.ghostrunner.domain.running.domain.events;
+
+import java.util.List;
+
+public record RunsDeletedEvent(
+        String memberUuid,
+        List<Long> courseIds
+) {}
@@ -3,6 +3,7 @@ package soma.ghostrunner.domain.running.domain.formula;
 import soma.ghostrunner.domain.running.domain.RunningType;
 
 import java.util.List;
+import java.util.Set;
 
 public interface VdotPaceProvider {
 
@@ -10,4 +11,6 @@ public interface VdotPaceProvider {
 
     List<VdotPace> getVdotPaceByVdot(int vdot);
 
+    Set<Integer> getVdots();
+
 }
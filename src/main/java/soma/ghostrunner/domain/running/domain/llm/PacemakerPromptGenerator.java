@@ -7,6 +7,10 @@ public class PacemakerPromptGenerator {
 
     public static String generateWorkoutImprovementPrompt(Member member, int vdot, int condition,
                                                           int temperature, WorkoutDto workoutDto) {
+        return generateWorkoutImprovementPrompt(member.toStringForPacemakerPrompt(vdot, condition), temperature, workoutDto);
+    }
+
+    public static String generateWorkoutImprovementPrompt(String userInfo, int temperature, WorkoutDto workoutDto) {
 
         return """
                 ## **역할**
@@ -158,7 +162,7 @@ public class PacemakerPromptGenerator {
                                 
                 ```json
                 {
-                	"user_info": """ + member.toStringForPacemakerPrompt(vdot, condition) + ",\n" +
+                	"user_info": """ + userInfo + ",\n" +
                 "\t\"temperature\": " + temperature + ",\n" +
                 "\t\"workout\": " + workoutDto.toStringForWorkoutImprovementPrompt() +
                 "\n}\n```";
@@ -166,6 +170,11 @@ public class PacemakerPromptGenerator {
 
     public static String generateVoiceGuidancePrompt(Member member, int vdot, int condition,
                                                      int temperature, WorkoutDto workoutDto) {
+        return generateVoiceGuidancePrompt(member.toStringForPacemakerPrompt(vdot, condition), temperature, workoutDto);
+    }
+
+    // 사용자 정보는 요청 시점에 문자열로 만들어 두고, 큐에서 꺼낸 뒤에는 회원을 다시 조회하지 않는다
+    public static String generateVoiceGuidancePrompt(String userInfo, int temperature, WorkoutDto workoutDto) {
 
         return """
                 ## **역할**
@@ -213,7 +222,7 @@ public class PacemakerPromptGenerator {
                          
                 ```json
                 {
-                	"user_info": """ + member.toStringForPacemakerPrompt(vdot, condition) + ",\n" +
+                	"user_info": """ + userInfo + ",\n" +
                 "\t\"temperature\": " + temperature + ",\n" +
                 "\t\"workout\": " + workoutDto.toStringForVoiceGuidancePrompt() +
                 "\n}\n```";
@@ -0,0 +1,4 @@
+package soma.ghostrunner.domain.running.domain.path;
+
+/** 바이너리 업로드에 실패하면 binaryUrl 은 null 이다. */
+public record InterpolatedTelemetryUrls(String jsonlUrl, String binaryUrl) {}
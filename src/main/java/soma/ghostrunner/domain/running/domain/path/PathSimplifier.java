@@ -1,21 +1,14 @@
 package soma.ghostrunner.domain.running.domain.path;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.Setter;
 import lombok.experimental.UtilityClass;
-import org.jetbrains.annotations.NotNull;
-import org.locationtech.proj4j.*;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @UtilityClass
 public class PathSimplifier {
 
-    private final CRSFactory crsFactory = new CRSFactory();
-    private final CoordinateTransformFactory ctFactory = new CoordinateTransformFactory();
-    private final CoordinateReferenceSystem WGS84 = crsFactory.createFromName("epsg:4326");
-
     private static final double RDP_EPSILON_METER = 10.0;
     private static final double VW_EPSILON_AREA = 4.0;
 
@@ -24,108 +17,145 @@ public class PathSimplifier {
         if (points.size() <= 2) {
             return toCoordinates(points);
         }
+        return extractEdgePoints(points, UtmProjector.project(points, UtmProjector.Method.PROJ4J));
+    }
 
-        List<CoordinatesWithTs> utmPoints = toUtm(points);
-        List<CoordinateWithTsForRdp> rdpUtmPoints = rdp(CoordinateWithTsForRdp.toList(utmPoints));
+    // utmTrack : points 를 UTM 으로 투영한 결과. 렌더링용 가공과 같은 투영 결과를 공유할 수 있다
+    public List<Coordinates> extractEdgePoints(List<CoordinatesWithTs> points, UtmTrack utmTrack) {
+        if (points.size() <= 2) {
+            return toCoordinates(points);
+        }
 
+        int n = points.size();
         List<CoordinatesWithTs> out = new ArrayList<>();
-        for (CoordinateWithTsForRdp utmPoint : rdpUtmPoints) {
-            out.add(points.get(utmPoint.idx));
+        Scratch scratch = Scratch.acquire(n);
+        try {
+            boolean[] kept = rdp(utmTrack, scratch, n);
+            for (int i = 0; i < n; i++) {
+                if (kept[i]) {
+                    out.add(points.get(i));
+                }
+            }
+        } finally {
+            Scratch.release(scratch);
         }
 
         out.sort(Comparator.naturalOrder());
         return toCoordinates(out);
     }
 
-    private List<Coordinates> toCoordinates(List<CoordinatesWithTs> points) {
-        return points.stream()
-                .map(CoordinatesWithTs::toCoordinates)
-                .toList();
-    }
-
-    @Getter
-    @AllArgsConstructor
-    private class CoordinateWithTsForRdp {
-
-        long t;
-        double y;
-        double x;
-        int idx;
+    // 컬럼 형태 트랙 : 좌표 객체는 남는 점에 대해서만 만든다
+    public List<Coordinates> extractEdgePoints(TelemetryColumns columns, UtmTrack utmTrack) {
+        int n = columns.size();
+        if (n <= 2) {
+            return toCoordinates(columns, 0, n);
+        }
 
-        static List<CoordinateWithTsForRdp> toList(List<CoordinatesWithTs> points) {
-            List<CoordinateWithTsForRdp> out = new ArrayList<>();
-            for (int i = 0; i < points.size(); i++) {
-                CoordinatesWithTs point = points.get(i);
-                out.add(new CoordinateWithTsForRdp(point.getT(), point.getY(), point.getX(), i));
+        int[] keptIndices;
+        Scratch scratch = Scratch.acquire(n);
+        try {
+            boolean[] kept = rdp(utmTrack, scratch, n);
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if (kept[i]) {
+                    count++;
+                }
             }
-            return out;
+            keptIndices = new int[count];
+            for (int i = 0, k = 0; i < n; i++) {
+                if (kept[i]) {
+                    keptIndices[k++] = i;
+                }
+            }
+        } finally {
+            Scratch.release(scratch);
         }
 
-    }
-
-    private List<CoordinatesWithTs> toUtm(List<CoordinatesWithTs> points) {
-        List<CoordinatesWithTs> out = new ArrayList<>();
-        int zone = (int) Math.floor(points.get(0).getX() / 6.0) + 31;
-
-        CoordinateReferenceSystem utmCrs = createUtmCrs(zone);
-
-        CoordinateTransform transform = ctFactory.createTransform(WGS84, utmCrs);
-
-        for (int i = 0; i < points.size(); i++) {
-            CoordinatesWithTs point = points.get(i);
-            ProjCoordinate sourceCoordinates = new ProjCoordinate(point.getX(), point.getY());
-            ProjCoordinate targetCoordinates = new ProjCoordinate();
-            transform.transform(sourceCoordinates, targetCoordinates);
-            out.add(new CoordinatesWithTs(point.getT(), targetCoordinates.y, targetCoordinates.x));
+        sortByTimestamp(keptIndices, columns.t());
+        List<Coordinates> out = new ArrayList<>(keptIndices.length);
+        for (int index : keptIndices) {
+            out.add(columns.coordinatesAt(index));
         }
         return out;
     }
 
-    private List<CoordinateWithTsForRdp> rdp(List<CoordinateWithTsForRdp> points) {
-        List<CoordinateWithTsForRdp> out = new ArrayList<>();
-        if (points.size() < 3) {
-            return points;
+    // 대부분 이미 시간순이므로 순서가 어긋난 경우에만 정렬한다 (CoordinatesWithTs.compareTo 와 같은 비교)
+    private void sortByTimestamp(int[] indices, long[] ts) {
+        for (int i = 1; i < indices.length; i++) {
+            if ((int) (ts[indices[i - 1]] - ts[indices[i]]) > 0) {
+                Integer[] boxed = Arrays.stream(indices).boxed().toArray(Integer[]::new);
+                Arrays.sort(boxed, (a, b) -> (int) (ts[a] - ts[b]));
+                for (int k = 0; k < boxed.length; k++) {
+                    indices[k] = boxed[k];
+                }
+                return;
+            }
         }
+    }
 
-        CoordinateWithTsForRdp start = points.get(0);
-        CoordinateWithTsForRdp end = points.get(points.size() - 1);
+    private List<Coordinates> toCoordinates(TelemetryColumns columns, int from, int to) {
+        List<Coordinates> out = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            out.add(columns.coordinatesAt(i));
+        }
+        return out;
+    }
 
-        double maxDistance = 0.0;
-        int index = 0;
+    private List<Coordinates> toCoordinates(List<CoordinatesWithTs> points) {
+        return points.stream()
+                .map(CoordinatesWithTs::toCoordinates)
+                .toList();
+    }
 
-        for (int i = 1; i < points.size() - 1; i++) {       // 양 끝점과 가장 먼 수직선분의 꼭지점 추출
-            double dist = calculateVerticalDistance(points.get(i), start, end);
-            if (dist > maxDistance) {
-                maxDistance = dist;
-                index = i;
+    // 재귀 대신 명시적 스택으로 구간을 나누며, 남길 점을 kept 에 표시한다
+    private boolean[] rdp(UtmTrack utmTrack, Scratch scratch, int n) {
+        double[] ys = utmTrack.ys();
+        double[] xs = utmTrack.xs();
+        boolean[] kept = scratch.kept;
+        int[] stack = scratch.stack;
+
+        Arrays.fill(kept, 0, n, false);
+        kept[0] = true;
+        kept[n - 1] = true;
+
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+
+        while (top > 0) {
+            int end = stack[--top];
+            int start = stack[--top];
+            if (end - start < 2) {
+                continue;
             }
-        }
 
-        if (maxDistance > RDP_EPSILON_METER) {          // 수직선분 길이가 임계치 보다 크다면, 그대로 남기고 다시 RDP
-            List<CoordinateWithTsForRdp> leftResults = rdp(points.subList(0, index + 1));
-            List<CoordinateWithTsForRdp> rightResults = rdp(points.subList(index, points.size()));
+            double maxDistance = 0.0;
+            int index = start;
 
-            out.addAll(leftResults.subList(0, leftResults.size() - 1));
-            out.addAll(rightResults);
-            return out;
+            for (int i = start + 1; i < end; i++) {       // 양 끝점과 가장 먼 수직선분의 꼭지점 추출
+                double dist = calculateVerticalDistance(ys, xs, i, start, end);
+                if (dist > maxDistance) {
+                    maxDistance = dist;
+                    index = i;
+                }
+            }
 
-        } else {
-            return List.of(start, end);
+            if (maxDistance > RDP_EPSILON_METER) {          // 수직선분 길이가 임계치 보다 크다면, 그대로 남기고 양쪽 구간을 다시 RDP
+                kept[index] = true;
+                stack[top++] = index;
+                stack[top++] = end;
+                stack[top++] = start;
+                stack[top++] = index;
+            }
         }
+        return kept;
     }
 
-    private static CoordinateReferenceSystem createUtmCrs(int zone) {
-        String proj4Params = String.format(
-                "+proj=utm +zone=%d +datum=WGS84 +units=m +no_defs", zone
-        );
-        return crsFactory.createFromParameters("UTM Zone " + zone, proj4Params);
-    }
-
-    private double calculateVerticalDistance(CoordinateWithTsForRdp target, CoordinateWithTsForRdp start, CoordinateWithTsForRdp end) {
-        double dx = end.getX() - start.getX();
-        double dy = end.getY() - start.getY();
+    private double calculateVerticalDistance(double[] ys, double[] xs, int target, int start, int end) {
+        double dx = xs[end] - xs[start];
+        double dy = ys[end] - ys[start];
 
-        double numerator = Math.abs(dy * target.getX() - dx * target.getY() + end.getX() * start.getY() - end.getY() * start.getX());
+        double numerator = Math.abs(dy * xs[target] - dx * ys[target] + xs[end] * ys[start] - ys[end] * xs[start]);
         double denominator = Math.sqrt(dx * dx + dy * dy);
 
         return numerator / denominator;
@@ -185,110 +215,211 @@ public class PathSimplifier {
         if (points.size() < 3) {
             return toCoordinates(points);
         }
+        return simplifyToRenderingTelemetries(points, UtmProjector.project(points, UtmProjector.Method.PROJ4J));
+    }
+
+    public List<Coordinates> simplifyToRenderingTelemetries(List<CoordinatesWithTs> points, UtmTrack utmTrack) {
+        if (points.size() < 3) {
+            return toCoordinates(points);
+        }
 
-        List<CoordinatesWithTs> utmPoints = toUtm(points);
-        List<CoordinatesWithTs> coordinatesWithTsList = visValingamWhyatt(points, utmPoints);
-        return toCoordinates(coordinatesWithTsList);
+        int n = points.size();
+        List<Coordinates> out = new ArrayList<>();
+        Scratch scratch = Scratch.acquire(n);
+        try {
+            boolean[] active = visValingamWhyatt(utmTrack, scratch, n);
+            for (int i = 0; i < n; i++) {
+                if (active[i]) {
+                    out.add(points.get(i).toCoordinates());
+                }
+            }
+        } finally {
+            Scratch.release(scratch);
+        }
+        return out;
     }
 
-    private List<CoordinatesWithTs> visValingamWhyatt(List<CoordinatesWithTs> points, List<CoordinatesWithTs> utmPoints) {
-        PriorityQueue<VWHeapNode> heap = new PriorityQueue<>();
-        for (int i = 1; i < utmPoints.size()-1; i++) {
-            double area = calculateTriangleArea(utmPoints.get(i-1), utmPoints.get(i), utmPoints.get(i+1));
-            heap.add(new VWHeapNode(area, i - 1, i, i + 1));
+    public List<Coordinates> simplifyToRenderingTelemetries(TelemetryColumns columns, UtmTrack utmTrack) {
+        int n = columns.size();
+        if (n < 3) {
+            return toCoordinates(columns, 0, n);
         }
 
-        List<VWLNode> vwNodes = VWLNode.toList(points.size());     // 연결 정보
+        List<Coordinates> out = new ArrayList<>();
+        Scratch scratch = Scratch.acquire(n);
+        try {
+            boolean[] active = visValingamWhyatt(utmTrack, scratch, n);
+            for (int i = 0; i < n; i++) {
+                if (active[i]) {
+                    out.add(columns.coordinatesAt(i));
+                }
+            }
+        } finally {
+            Scratch.release(scratch);
+        }
+        return out;
+    }
 
-        boolean[] isActive = new boolean[points.size()];           // 활성화 정보
-        Arrays.fill(isActive, true);
+    /*
+     * 각 점의 삼각형 넓이를 인덱스 최소힙으로 관리한다.
+     * 점이 제거되면 이웃 점의 넓이를 그 자리에서 갱신(decrease / increase-key)하므로 무효화된 노드가 힙에 쌓이지 않는다.
+     * 넓이가 같으면 인덱스가 작은 점을 먼저 꺼낸다.
+     */
+    private boolean[] visValingamWhyatt(UtmTrack utmTrack, Scratch scratch, int n) {
+        double[] ys = utmTrack.ys();
+        double[] xs = utmTrack.xs();
+        boolean[] active = scratch.kept;
+        int[] prev = scratch.prev;
+        int[] next = scratch.next;
+        double[] area = scratch.area;
+        int[] heap = scratch.heap;
+        int[] heapPos = scratch.heapPos;
+
+        Arrays.fill(active, 0, n, true);
+        for (int i = 0; i < n; i++) {
+            prev[i] = i - 1;
+            next[i] = i + 1;
+        }
 
-        while (!heap.isEmpty()) {
-            VWHeapNode point = heap.poll();     // 가장 넓이가 적은 삼각형
-            double area = point.getArea();
-            int start = point.startCoordinatesIdx;
-            int mid = point.midCoordinatesIdx;
-            int end = point.endCoordinatesIdx;
+        int size = 0;
+        for (int i = 1; i < n - 1; i++) {
+            area[i] = calculateTriangleArea(ys, xs, i - 1, i, i + 1);
+            heap[size] = i;
+            heapPos[i] = size++;
+        }
+        for (int i = (size >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, heapPos, area, size, i);
+        }
 
-            if (vwNodes.get(mid).prevIdx != start || vwNodes.get(mid).nextIdx != end) {       // 비활성화 점, 변경된 점 스킵
-                continue;
+        while (size > 0) {
+            int mid = heap[0];          // 가장 넓이가 적은 삼각형
+            if (area[mid] >= VW_EPSILON_AREA) {
+                break;
             }
 
-            if (area < VW_EPSILON_AREA) {
-                isActive[mid] = false;          // 가운데 인덱스 비활성화
-                vwNodes.get(start).setNextIdx(vwNodes.get(mid).nextIdx);        // 주변 노드 정보 갱신
-                vwNodes.get(end).setPrevIdx(vwNodes.get(mid).prevIdx);
-
-                if (vwNodes.get(start).prevIdx != null) {       // 왼쪽 삼각형
-                    double leftTriangleArea = calculateTriangleArea(
-                            utmPoints.get(vwNodes.get(start).prevIdx),
-                            utmPoints.get(start),
-                            utmPoints.get(end)
-                    );
-                    heap.add(new VWHeapNode(leftTriangleArea, vwNodes.get(start).prevIdx, start, end));
-                }
+            heap[0] = heap[--size];
+            heapPos[heap[0]] = 0;
+            siftDown(heap, heapPos, area, size, 0);
 
-                if (vwNodes.get(end).nextIdx != null) {       // 오른쪽 삼각형
-                    double rightTriangleArea = calculateTriangleArea(
-                            utmPoints.get(start),
-                            utmPoints.get(end),
-                            utmPoints.get(vwNodes.get(end).nextIdx)
-                    );
-                    heap.add(new VWHeapNode(rightTriangleArea, start, end, vwNodes.get(end).nextIdx));
-                }
-            } else {
-                break;
+            active[mid] = false;        // 가운데 인덱스 비활성화
+            int start = prev[mid];
+            int end = next[mid];
+            next[start] = end;          // 주변 노드 정보 갱신
+            prev[end] = start;
+
+            if (prev[start] >= 0) {     // 왼쪽 삼각형
+                area[start] = calculateTriangleArea(ys, xs, prev[start], start, end);
+                siftUp(heap, heapPos, area, siftDown(heap, heapPos, area, size, heapPos[start]));
             }
-        }
 
-        List<CoordinatesWithTs> coordinatesWithTsList = new ArrayList<>();
-        for (int i = 0; i < vwNodes.size(); i++) {
-            if (isActive[i]) {
-                coordinatesWithTsList.add(points.get(i));
+            if (next[end] < n) {        // 오른쪽 삼각형
+                area[end] = calculateTriangleArea(ys, xs, start, end, next[end]);
+                siftUp(heap, heapPos, area, siftDown(heap, heapPos, area, size, heapPos[end]));
             }
         }
-        return coordinatesWithTsList;
+        return active;
     }
 
-    private Double calculateTriangleArea(CoordinatesWithTs p1, CoordinatesWithTs p2, CoordinatesWithTs p3) {
-        return 0.5 * Math.abs(
-                p1.getY() * (p2.getX() - p3.getX()) +
-                        p2.getY() * (p3.getX() - p1.getX()) +
-                        p3.getY() * (p1.getX() - p2.getX())
-        );
+    private boolean less(double[] area, int a, int b) {
+        return area[a] < area[b] || (area[a] == area[b] && a < b);
     }
 
-    @Getter @Setter
-    @AllArgsConstructor
-    private class VWHeapNode implements Comparable<VWHeapNode> {
-
-        double area;
-        int startCoordinatesIdx;
-        int midCoordinatesIdx;
-        int endCoordinatesIdx;
+    private int siftDown(int[] heap, int[] heapPos, double[] area, int size, int pos) {
+        int node = heap[pos];
+        while (true) {
+            int child = (pos << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && less(area, heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!less(area, heap[child], node)) {
+                break;
+            }
+            heap[pos] = heap[child];
+            heapPos[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = node;
+        heapPos[node] = pos;
+        return pos;
+    }
 
-        @Override
-        public int compareTo(@NotNull VWHeapNode other) {
-            return Double.compare(this.area, other.area);
+    private void siftUp(int[] heap, int[] heapPos, double[] area, int pos) {
+        int node = heap[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (!less(area, node, heap[parent])) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            heapPos[heap[pos]] = pos;
+            pos = parent;
         }
+        heap[pos] = node;
+        heapPos[node] = pos;
+    }
 
+    private double calculateTriangleArea(double[] ys, double[] xs, int p1, int p2, int p3) {
+        return 0.5 * Math.abs(
+                ys[p1] * (xs[p2] - xs[p3]) +
+                        ys[p2] * (xs[p3] - xs[p1]) +
+                        ys[p3] * (xs[p1] - xs[p2])
+        );
     }
 
-    @Getter @Setter
-    @AllArgsConstructor
-    private class VWLNode {
+    /**
+     * 단순화에 쓰는 작업 버퍼. 요청마다 배열을 새로 만들지 않도록 풀에서 빌려 쓰고 돌려놓되,
+     * 아주 긴 트랙의 버퍼는 풀에 붙잡아 두지 않는다.
+     * 요청마다 새 스레드가 생기는 가상 스레드에서는 ThreadLocal 로 재사용되지 않으므로 스레드와 무관한 풀을 쓴다.
+     */
+    private static class Scratch {
+
+        private static final int MAX_RETAINED_POINTS = 1 << 16;
+        private static final int MAX_POOLED = 64;
+        private static final Queue<Scratch> POOL = new ConcurrentLinkedQueue<>();
+        private static final AtomicInteger POOLED = new AtomicInteger();
+
+        final double[] area;
+        final boolean[] kept;
+        final int[] prev;
+        final int[] next;
+        final int[] heap;
+        final int[] heapPos;
+        final int[] stack;
+
+        private Scratch(int capacity) {
+            area = new double[capacity];
+            kept = new boolean[capacity];
+            prev = new int[capacity];
+            next = new int[capacity];
+            heap = new int[capacity];
+            heapPos = new int[capacity];
+            stack = new int[capacity * 2];
+        }
 
-        Integer prevIdx;
-        Integer nextIdx;
+        static Scratch acquire(int n) {
+            Scratch pooled = POOL.poll();
+            if (pooled != null) {
+                POOLED.decrementAndGet();
+                if (pooled.area.length >= n) {
+                    return pooled;
+                }
+            }
+            int capacity = pooled == null ? 1024 : pooled.area.length * 2;
+            return new Scratch(Math.max(n, capacity));
+        }
 
-        static List<VWLNode> toList(int size) {
-            List<VWLNode> result = new ArrayList<>();
-            result.add(new VWLNode(null, 1));
-            for (int i = 1; i < size - 1; i++) {
-                result.add(new VWLNode(i - 1, i + 1));
+        static void release(Scratch scratch) {
+            if (scratch.area.length > MAX_RETAINED_POINTS) {
+                return;
+            }
+            if (POOLED.incrementAndGet() > MAX_POOLED) {
+                POOLED.decrementAndGet();
+                return;
             }
-            result.add(new VWLNode(size - 2, null));
-            return result;
+            POOL.offer(scratch);
         }
 
     }
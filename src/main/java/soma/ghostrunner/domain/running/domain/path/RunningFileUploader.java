@@ -8,7 +8,9 @@ public interface RunningFileUploader {
 
     String uploadRawTelemetry(MultipartFile rawTelemetry, String memberUuid);
 
-    String uploadInterpolatedTelemetry(List<Telemetry> telemetries, String memberUuid);
+    InterpolatedTelemetryUrls uploadInterpolatedTelemetry(TelemetryColumns telemetries, String memberUuid);
+
+    TelemetryColumns loadInterpolatedTelemetry(String interpolatedTelemetryUrl, String binaryTelemetryUrl);
 
     String uploadSimplifiedCoordinates(List<Coordinates> coordinates, String memberUuid);
 
@@ -16,4 +18,6 @@ public interface RunningFileUploader {
 
     String uploadRunningCaptureImage(MultipartFile runningCaptureImage, String memberUuid);
 
+    void deleteFile(String fileUrl);
+
 }
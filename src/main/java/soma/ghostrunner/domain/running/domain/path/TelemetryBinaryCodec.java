@@ -0,0 +1,281 @@
+package soma.ghostrunner.domain.running.domain.path;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.UtilityClass;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보간된 텔레메트리의 컬럼 기반 바이너리 포맷 (.grtl)
+ *
+ * <pre>
+ * header : magic "GRTL" (4B) | version (1B) | compression (1B)
+ * body   : count (varint)
+ *          t    : 첫 값 + 이전 값과의 차이 (zigzag varint, ms)
+ *          y, x : 1e-7 도 고정소수점의 차이 (zigzag varint)
+ *          d, p : 0.01 단위로 양자화한 값의 차이 (zigzag varint)
+ *          e    : 0.1 단위로 양자화한 값의 차이 (zigzag varint)
+ *          c, b : 이전 값과의 차이 (zigzag varint)
+ *          r    : count 비트의 비트셋 (little-endian)
+ * </pre>
+ * compression 이 GZIP 이라면 body 전체를 gzip 으로 감싼다.
+ */
+@UtilityClass
+public class TelemetryBinaryCodec {
+
+    public final String MEDIA_TYPE = "application/vnd.ghostrunner.telemetry";
+    public final String FILE_EXTENSION = ".grtl";
+
+    private final byte[] MAGIC = {'G', 'R', 'T', 'L'};
+    private final byte VERSION = 1;
+    private final int HEADER_SIZE = MAGIC.length + 2;
+
+    private final double COORDINATE_SCALE = 1e7;
+    private final double DISTANCE_SCALE = 100.0;
+    private final double PACE_SCALE = 100.0;
+    private final double ELEVATION_SCALE = 10.0;
+
+    private final int MAX_VARINT_BYTES = 10;
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Compression {
+
+        NONE((byte) 0),
+        GZIP((byte) 1);
+
+        private final byte code;
+
+        static Compression from(byte code) {
+            for (Compression compression : values()) {
+                if (compression.code == code) {
+                    return compression;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 Telemetry 압축 방식입니다: " + code);
+        }
+
+    }
+
+    public byte[] encode(TelemetryColumns columns, Compression compression) {
+        byte[] body = encodeBody(columns);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_SIZE + body.length);
+        out.writeBytes(MAGIC);
+        out.write(VERSION);
+        out.write(compression.getCode());
+
+        if (compression == Compression.GZIP) {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            out.writeBytes(body);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] encodeBody(TelemetryColumns columns) {
+        int n = columns.size();
+        ByteSink sink = new ByteSink(n * 8 + MAX_VARINT_BYTES);
+
+        sink.writeVarLong(n);
+        sink.writeDeltas(columns.t(), n);
+        sink.writeQuantizedDeltas(columns.y(), n, COORDINATE_SCALE);
+        sink.writeQuantizedDeltas(columns.x(), n, COORDINATE_SCALE);
+        sink.writeQuantizedDeltas(columns.d(), n, DISTANCE_SCALE);
+        sink.writeQuantizedDeltas(columns.p(), n, PACE_SCALE);
+        sink.writeQuantizedDeltas(columns.e(), n, ELEVATION_SCALE);
+        sink.writeDeltas(columns.c(), n);
+        sink.writeDeltas(columns.b(), n);
+        sink.writeBits(columns.r(), n);
+
+        return sink.toByteArray();
+    }
+
+    public TelemetryColumns decode(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE || !Arrays.equals(bytes, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+            throw new IllegalArgumentException("Telemetry 바이너리 포맷이 아닙니다.");
+        }
+        if (bytes[MAGIC.length] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 Telemetry 바이너리 버전입니다: " + bytes[MAGIC.length]);
+        }
+
+        Compression compression = Compression.from(bytes[MAGIC.length + 1]);
+        ByteSource source = new ByteSource(readBody(bytes, compression));
+
+        int n = (int) source.readVarLong();
+        long[] t = source.readDeltas(n);
+        double[] y = source.readQuantizedDeltas(n, COORDINATE_SCALE);
+        double[] x = source.readQuantizedDeltas(n, COORDINATE_SCALE);
+        double[] d = source.readQuantizedDeltas(n, DISTANCE_SCALE);
+        double[] p = source.readQuantizedDeltas(n, PACE_SCALE);
+        double[] e = source.readQuantizedDeltas(n, ELEVATION_SCALE);
+        int[] c = source.readIntDeltas(n);
+        int[] b = source.readIntDeltas(n);
+        BitSet r = source.readBits(n);
+
+        return new TelemetryColumns(n, t, y, x, d, p, e, c, b, r);
+    }
+
+    private byte[] readBody(byte[] bytes, Compression compression) {
+        if (compression == Compression.NONE) {
+            return Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+        }
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Telemetry 바이너리의 압축을 해제할 수 없습니다.", e);
+        }
+    }
+
+    private long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static class ByteSink {
+
+        private byte[] buf;
+        private int len;
+
+        ByteSink(int capacity) {
+            this.buf = new byte[capacity];
+        }
+
+        void writeVarLong(long value) {
+            ensure(MAX_VARINT_BYTES);
+            while ((value & ~0x7FL) != 0) {
+                buf[len++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buf[len++] = (byte) value;
+        }
+
+        void writeDeltas(long[] values, int n) {
+            long prev = 0;
+            for (int i = 0; i < n; i++) {
+                writeVarLong(zigzag(values[i] - prev));
+                prev = values[i];
+            }
+        }
+
+        void writeDeltas(int[] values, int n) {
+            long prev = 0;
+            for (int i = 0; i < n; i++) {
+                writeVarLong(zigzag(values[i] - prev));
+                prev = values[i];
+            }
+        }
+
+        // 양자화된 정수끼리 차이를 계산해 누적 오차가 생기지 않도록 한다
+        void writeQuantizedDeltas(double[] values, int n, double scale) {
+            long prev = 0;
+            for (int i = 0; i < n; i++) {
+                long quantized = Math.round(values[i] * scale);
+                writeVarLong(zigzag(quantized - prev));
+                prev = quantized;
+            }
+        }
+
+        void writeBits(BitSet bits, int n) {
+            int byteCount = (n + 7) >>> 3;
+            ensure(byteCount);
+            byte[] packed = bits.toByteArray();
+            System.arraycopy(packed, 0, buf, len, Math.min(packed.length, byteCount));
+            len += byteCount;
+        }
+
+        private void ensure(int extra) {
+            if (len + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length << 1, len + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buf, len);
+        }
+
+    }
+
+    private static class ByteSource {
+
+        private final byte[] buf;
+        private int pos;
+
+        ByteSource(byte[] buf) {
+            this.buf = buf;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (pos >= buf.length) {
+                    throw new IllegalArgumentException("Telemetry 바이너리가 손상되었습니다.");
+                }
+                byte b = buf[pos++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Telemetry 바이너리가 손상되었습니다.");
+        }
+
+        long[] readDeltas(int n) {
+            long[] values = new long[n];
+            long prev = 0;
+            for (int i = 0; i < n; i++) {
+                prev += unzigzag(readVarLong());
+                values[i] = prev;
+            }
+            return values;
+        }
+
+        int[] readIntDeltas(int n) {
+            int[] values = new int[n];
+            long prev = 0;
+            for (int i = 0; i < n; i++) {
+                prev += unzigzag(readVarLong());
+                values[i] = (int) prev;
+            }
+            return values;
+        }
+
+        double[] readQuantizedDeltas(int n, double scale) {
+            double[] values = new double[n];
+            long prev = 0;
+            for (int i = 0; i < n; i++) {
+                prev += unzigzag(readVarLong());
+                values[i] = prev / scale;
+            }
+            return values;
+        }
+
+        BitSet readBits(int n) {
+            int byteCount = (n + 7) >>> 3;
+            if (pos + byteCount > buf.length) {
+                throw new IllegalArgumentException("Telemetry 바이너리가 손상되었습니다.");
+            }
+            BitSet bits = BitSet.valueOf(Arrays.copyOfRange(buf, pos, pos + byteCount));
+            pos += byteCount;
+            return bits;
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+package soma.ghostrunner.domain.running.domain.path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 시계열 좌표를 필드별 원시 배열로 보관하는 컬럼 형태의 텔레메트리.
+ * 배열 길이는 항상 size 와 같으며, 복사 없이 그대로 노출되므로 호출 측에서 수정하지 않아야 한다.
+ */
+public record TelemetryColumns(
+        int size,
+        long[] t,       // timestamp
+        double[] y,     // 위도
+        double[] x,     // 경도
+        double[] d,     // 거리
+        double[] p,     // 페이스
+        double[] e,     // 고도
+        int[] c,        // 케이던스
+        int[] b,        // BPM
+        BitSet r        // 러닝 유무
+) {
+
+    public static TelemetryColumns from(List<Telemetry> telemetries) {
+        Builder builder = new Builder(telemetries.size());
+        for (Telemetry telemetry : telemetries) {
+            builder.append(
+                    orZero(telemetry.getT()),
+                    orZero(telemetry.getY()),
+                    orZero(telemetry.getX()),
+                    orZero(telemetry.getD()),
+                    orZero(telemetry.getP()),
+                    orZero(telemetry.getE()),
+                    orZero(telemetry.getC()),
+                    orZero(telemetry.getB()),
+                    Boolean.TRUE.equals(telemetry.getR())
+            );
+        }
+        return builder.build();
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0L : value;
+    }
+
+    private static double orZero(Double value) {
+        return value == null ? 0.0 : value;
+    }
+
+    private static int orZero(Integer value) {
+        return value == null ? 0 : value;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Coordinates coordinatesAt(int i) {
+        return new Coordinates(y[i], x[i]);
+    }
+
+    // JSON 직렬화 등 객체 리스트가 필요한 경우에만 박싱한다
+    public List<Telemetry> toTelemetries() {
+        List<Telemetry> telemetries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            telemetries.add(new Telemetry(t[i], y[i], x[i], d[i], p[i], e[i], c[i], b[i], r.get(i)));
+        }
+        return telemetries;
+    }
+
+    public static class Builder {
+
+        private static final int DEFAULT_CAPACITY = 256;
+
+        private long[] t;
+        private double[] y;
+        private double[] x;
+        private double[] d;
+        private double[] p;
+        private double[] e;
+        private int[] c;
+        private int[] b;
+        private final BitSet r = new BitSet();
+        private int size;
+
+        public Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, DEFAULT_CAPACITY);
+            t = new long[capacity];
+            y = new double[capacity];
+            x = new double[capacity];
+            d = new double[capacity];
+            p = new double[capacity];
+            e = new double[capacity];
+            c = new int[capacity];
+            b = new int[capacity];
+        }
+
+        public void append(long t, double y, double x, double d, double p,
+                           double e, int c, int b, boolean r) {
+            if (size == this.t.length) {
+                grow();
+            }
+            this.t[size] = t;
+            this.y[size] = y;
+            this.x[size] = x;
+            this.d[size] = d;
+            this.p[size] = p;
+            this.e[size] = e;
+            this.c[size] = c;
+            this.b[size] = b;
+            if (r) {
+                this.r.set(size);
+            }
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        private void grow() {
+            int capacity = t.length + (t.length >> 1);
+            t = Arrays.copyOf(t, capacity);
+            y = Arrays.copyOf(y, capacity);
+            x = Arrays.copyOf(x, capacity);
+            d = Arrays.copyOf(d, capacity);
+            p = Arrays.copyOf(p, capacity);
+            e = Arrays.copyOf(e, capacity);
+            c = Arrays.copyOf(c, capacity);
+            b = Arrays.copyOf(b, capacity);
+        }
+
+        public TelemetryColumns build() {
+            return new TelemetryColumns(
+                    size,
+                    Arrays.copyOf(t, size),
+                    Arrays.copyOf(y, size),
+                    Arrays.copyOf(x, size),
+                    Arrays.copyOf(d, size),
+                    Arrays.copyOf(p, size),
+                    Arrays.copyOf(e, size),
+                    Arrays.copyOf(c, size),
+                    Arrays.copyOf(b, size),
+                    r
+            );
+        }
+
+    }
+
+}
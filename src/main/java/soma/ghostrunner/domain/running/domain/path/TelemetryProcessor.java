@@ -1,90 +1,107 @@
 package soma.ghostrunner.domain.running.domain.path;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import soma.ghostrunner.domain.running.exception.InvalidRunningException;
 import soma.ghostrunner.domain.running.exception.TelemetryCalculationException;
 import soma.ghostrunner.global.error.ErrorCode;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.math.BigDecimal;
-import java.util.ArrayList;
-import java.util.List;
+import java.math.RoundingMode;
 
 @Component
 public class TelemetryProcessor {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int ESTIMATED_BYTES_PER_TELEMETRY = 96;
 
-    public TelemetryStatistics process(MultipartFile interpolatedTelemetry, Long startedAt) {
+    private static final int T = 1;
+    private static final int Y = 1 << 1;
+    private static final int X = 1 << 2;
+    private static final int D = 1 << 3;
+    private static final int P = 1 << 4;
+    private static final int E = 1 << 5;
+    private static final int C = 1 << 6;
+    private static final int B = 1 << 7;
+    private static final int REQUIRED_FIELDS = T | Y | X | D | P | E | C | B;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
 
-        List<Telemetry> relativeTelemetries = new ArrayList<>();
+    // 하나의 토큰 스트림으로 .jsonl 을 읽으며 컬럼 적재, 검증, 거리 / 페이스 / 고도 통계를 한 번에 계산한다
+    public TelemetryStatistics process(MultipartFile interpolatedTelemetry, Long startedAt) {
 
-        Double highestPace = Double.MIN_VALUE;
-        Double lowestPace = Double.MAX_VALUE;
-        Double courseDistance = 0.0;
-        BigDecimal totalElevation = BigDecimal.ZERO;
+        TelemetryColumns.Builder columns = new TelemetryColumns.Builder(estimateSize(interpolatedTelemetry));
 
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(interpolatedTelemetry.getInputStream()))) {
+        double highestPace = Double.MIN_VALUE;
+        double lowestPace = Double.MAX_VALUE;
+        double courseDistance = 0.0;
+        double totalElevation = 0.0;
+        double elevationCompensation = 0.0;     // 고도 누적 합의 부동소수점 오차 보정 (Kahan)
+        double initialElevation = 0.0;
 
-            String line;
+        try (JsonParser parser = jsonFactory.createParser(interpolatedTelemetry.getInputStream())) {
 
+            TelemetryRow row = new TelemetryRow();
             double y = 0.0, x = 0.0;
-            boolean isFirst = true;
 
-            while ((line = reader.readLine()) != null) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
 
-                if (line.trim().isEmpty()) {
-                    continue;
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(parser, "Telemetry 는 JSON 객체여야 합니다.");
                 }
 
                 // 읽기
-                Telemetry telemetry = objectMapper.readValue(line, Telemetry.class);
+                readRow(parser, row);
 
                 // 마이너스 검증
-                verifyMinusValue(telemetry);
+                verifyMinusValue(row);
 
                 // 총 거리 계산
-                if ( isFirst ) {
-                    isFirst = false;
+                if (columns.size() == 0) {
+                    initialElevation = row.e;
                 } else {
-                    double distInterval = calculateDistanceM(y, x, telemetry.getY(), telemetry.getX());
-                    courseDistance += distInterval;
+                    courseDistance += calculateDistanceM(y, x, row.y, row.x);
                 }
 
                 // 현재 위경도로 업데이트
-                y = telemetry.getY();
-                x = telemetry.getX();
+                y = row.y;
+                x = row.x;
 
                 // 상대시간 변환
-                telemetry.calculateRelativeTimeStamp(startedAt);
-                relativeTelemetries.add(telemetry);
+                columns.append(row.t - startedAt, row.y, row.x, row.d, row.p, row.e, row.c, row.b, row.r);
 
                 // 최고/최저 속도 계산
-                highestPace = Math.max(highestPace, telemetry.getP());
-                lowestPace = Math.min(lowestPace, telemetry.getP());
+                highestPace = Math.max(highestPace, row.p);
+                lowestPace = Math.min(lowestPace, row.p);
 
-                totalElevation = totalElevation.add(BigDecimal.valueOf(telemetry.getE()));
+                double compensated = row.e - elevationCompensation;
+                double sum = totalElevation + compensated;
+                elevationCompensation = (sum - totalElevation) - compensated;
+                totalElevation = sum;
             }
         } catch (IOException exception) {
             throw new TelemetryCalculationException(ErrorCode.SERVICE_UNAVAILABLE, "시계열 좌표를 가공하는 중 에러가 발생했습니다.");
         }
 
-        if (relativeTelemetries.isEmpty()) {
+        if (columns.size() == 0) {
             throw new IllegalArgumentException("Telemetry data is empty.");
         }
 
+        TelemetryColumns relativeTelemetries = columns.build();
+
         // 평균 상대 고도 계산
-        BigDecimal initialElevation = BigDecimal.valueOf(relativeTelemetries.get(0).getE());
-        BigDecimal averageElevation = totalElevation.divide(BigDecimal.valueOf(relativeTelemetries.size()), 2, BigDecimal.ROUND_HALF_UP);
-        averageElevation = averageElevation.subtract(initialElevation);
+        BigDecimal averageElevation = BigDecimal.valueOf(totalElevation / relativeTelemetries.size())
+                .setScale(2, RoundingMode.HALF_UP)
+                .subtract(BigDecimal.valueOf(initialElevation));
 
         return new TelemetryStatistics(
                 relativeTelemetries,
-                new Coordinates(relativeTelemetries.get(0).getY(), relativeTelemetries.get(0).getX()),
+                relativeTelemetries.coordinatesAt(0),
                 highestPace,
                 lowestPace,
                 averageElevation.doubleValue(),
@@ -92,9 +109,69 @@ public class TelemetryProcessor {
         );
     }
 
-    private void verifyMinusValue(Telemetry telemetry) {
-        if (telemetry.getP() < 0 || telemetry.getB() < 0
-                || telemetry.getC() < 0 || telemetry.getD() < 0) {
+    private int estimateSize(MultipartFile interpolatedTelemetry) {
+        return (int) Math.min(Integer.MAX_VALUE - 8, interpolatedTelemetry.getSize() / ESTIMATED_BYTES_PER_TELEMETRY);
+    }
+
+    private void readRow(JsonParser parser, TelemetryRow row) throws IOException {
+        row.clear();
+
+        String fieldName;
+        while ((fieldName = parser.nextFieldName()) != null) {
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+                case "t" -> { row.t = readLong(parser, value); row.seen |= T; }
+                case "y" -> { row.y = readDouble(parser, value); row.seen |= Y; }
+                case "x" -> { row.x = readDouble(parser, value); row.seen |= X; }
+                case "d" -> { row.d = readDouble(parser, value); row.seen |= D; }
+                case "p" -> { row.p = readDouble(parser, value); row.seen |= P; }
+                case "e" -> { row.e = readDouble(parser, value); row.seen |= E; }
+                case "c" -> { row.c = readInt(parser, value); row.seen |= C; }
+                case "b" -> { row.b = readInt(parser, value); row.seen |= B; }
+                case "r" -> row.r = readBoolean(parser, value);
+                default -> throw new JsonParseException(parser, "알 수 없는 Telemetry 필드입니다: " + fieldName);
+            }
+        }
+
+        if ((row.seen & REQUIRED_FIELDS) != REQUIRED_FIELDS) {
+            throw new JsonParseException(parser, "Telemetry 필수 필드가 누락되었습니다.");
+        }
+    }
+
+    private long readLong(JsonParser parser, JsonToken token) throws IOException {
+        verifyNumeric(parser, token);
+        return parser.getLongValue();
+    }
+
+    private double readDouble(JsonParser parser, JsonToken token) throws IOException {
+        verifyNumeric(parser, token);
+        return parser.getDoubleValue();
+    }
+
+    private int readInt(JsonParser parser, JsonToken token) throws IOException {
+        verifyNumeric(parser, token);
+        return parser.getIntValue();
+    }
+
+    private void verifyNumeric(JsonParser parser, JsonToken token) throws IOException {
+        if (token == null || !token.isNumeric()) {
+            throw new JsonParseException(parser, "Telemetry 필드는 숫자여야 합니다: " + parser.currentName());
+        }
+    }
+
+    private boolean readBoolean(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.VALUE_TRUE && token != JsonToken.VALUE_FALSE) {
+            throw new JsonParseException(parser, "Telemetry 필드는 boolean 이어야 합니다: " + parser.currentName());
+        }
+        return token == JsonToken.VALUE_TRUE;
+    }
+
+    private void verifyMinusValue(TelemetryRow row) {
+        if (row.p < 0 || row.b < 0
+                || row.c < 0 || row.d < 0) {
             throw new InvalidRunningException(ErrorCode.INVALID_REQUEST_VALUE, "마이너스 값이 포함되어 있습니다.");
         }
     }
@@ -114,4 +191,25 @@ public class TelemetryProcessor {
         return R * c;
     }
 
+    // 한 줄을 읽는 동안만 쓰는 재사용 버퍼
+    private static class TelemetryRow {
+
+        long t;
+        double y;
+        double x;
+        double d;
+        double p;
+        double e;
+        int c;
+        int b;
+        boolean r;
+        int seen;
+
+        void clear() {
+            r = false;
+            seen = 0;
+        }
+
+    }
+
 }
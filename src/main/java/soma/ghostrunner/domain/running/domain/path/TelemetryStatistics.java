@@ -3,8 +3,20 @@ package soma.ghostrunner.domain.running.domain.path;
 import java.util.List;
 
 public record TelemetryStatistics(
-        List<Telemetry> relativeTelemetries, Coordinates startPoint,
+        TelemetryColumns columns, Coordinates startPoint,
         Double highestPace, Double lowestPace,
         Double avgElevation, Double courseDistance) {
 
+    public TelemetryStatistics(
+            List<Telemetry> relativeTelemetries, Coordinates startPoint,
+            Double highestPace, Double lowestPace,
+            Double avgElevation, Double courseDistance) {
+        this(TelemetryColumns.from(relativeTelemetries), startPoint,
+                highestPace, lowestPace, avgElevation, courseDistance);
+    }
+
+    public List<Telemetry> relativeTelemetries() {
+        return columns.toTelemetries();
+    }
+
 }
@@ -0,0 +1,197 @@
+package soma.ghostrunner.domain.running.domain.path;
+
+import lombok.experimental.UtilityClass;
+import org.locationtech.proj4j.*;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * WGS84 좌표 트랙을 첫 점이 속한 UTM zone 으로 한 번에 투영한다.
+ *
+ * <ul>
+ *   <li>PROJ4J : proj4j 변환. zone 별 좌표계는 한 번만 파싱해 공유하고, 내부 상태가 있는 CoordinateTransform 은 zone 별 풀에서 빌려 쓴다.</li>
+ *   <li>ANALYTIC : proj4j 의 tmerc 와 같은 급수 전개를 직접 계산한다. 트랙이 중앙 자오선에서 멀어 오차가 커질 수 있으면 PROJ4J 로 대신한다.</li>
+ * </ul>
+ */
+@UtilityClass
+public class UtmProjector {
+
+    public enum Method {
+        PROJ4J,
+        ANALYTIC
+    }
+
+    private final int MAX_ZONE = 61;        // 경도 180 도는 floor(180 / 6) + 31 = 61
+
+    private final CRSFactory crsFactory = new CRSFactory();
+    private final CoordinateTransformFactory ctFactory = new CoordinateTransformFactory();
+    private final CoordinateReferenceSystem WGS84 = crsFactory.createFromName("epsg:4326");
+
+    private final AtomicReferenceArray<CoordinateReferenceSystem> utmCrsByZone = new AtomicReferenceArray<>(MAX_ZONE + 1);
+    // 풀 크기는 동시 투영 수를 넘지 않는다 (스레드와 무관한 풀을 쓰는 이유는 PathSimplifier.Scratch 참고)
+    private final AtomicReferenceArray<Queue<CoordinateTransform>> transformPoolsByZone = new AtomicReferenceArray<>(MAX_ZONE + 1);
+
+    // WGS84 타원체
+    private final double A = 6378137.0;
+    private final double F = 1 / 298.257223563;
+    private final double ES = F * (2 - F);
+    private final double ESP = ES / (1 - ES);
+    private final double K0 = 0.9996;
+    private final double FALSE_EASTING = 500000.0;
+    private final double[] EN = meridianLengthCoefficients(ES);
+
+    // 중앙 자오선에서 이 범위를 벗어나면 급수 오차가 커지므로 analytic 투영을 쓰지 않는다
+    private final double ANALYTIC_MAX_LONGITUDE_OFFSET = 3.5;
+    private final double ANALYTIC_MAX_LATITUDE = 84.0;
+
+    public UtmTrack project(List<CoordinatesWithTs> points, Method method) {
+        int n = points.size();
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = points.get(i).getY();
+            longitudes[i] = points.get(i).getX();
+        }
+        return project(latitudes, longitudes, n, method);
+    }
+
+    public UtmTrack project(TelemetryColumns columns, Method method) {
+        return project(columns.y(), columns.x(), columns.size(), method);
+    }
+
+    // latitudes / longitudes 의 앞 n 개 점을 투영한다
+    public UtmTrack project(double[] latitudes, double[] longitudes, int n, Method method) {
+        double[] ys = new double[n];
+        double[] xs = new double[n];
+        if (n == 0) {
+            return new UtmTrack(0, ys, xs);
+        }
+
+        int zone = zoneOf(longitudes[0]);
+        if (method == Method.ANALYTIC && isAnalyticallyProjectable(latitudes, longitudes, n, zone)) {
+            projectAnalytically(latitudes, longitudes, n, zone, ys, xs);
+        } else {
+            projectWithProj4j(latitudes, longitudes, n, zone, ys, xs);
+        }
+        return new UtmTrack(zone, ys, xs);
+    }
+
+    private int zoneOf(double longitude) {
+        int zone = (int) Math.floor(longitude / 6.0) + 31;
+        if (zone < 1 || zone > MAX_ZONE) {
+            throw new IllegalArgumentException("경도 범위를 벗어난 좌표입니다: " + longitude);
+        }
+        return zone;
+    }
+
+    private void projectWithProj4j(double[] latitudes, double[] longitudes, int n, int zone, double[] ys, double[] xs) {
+        Queue<CoordinateTransform> pool = transformPoolOf(zone);
+        CoordinateTransform transform = pool.poll();
+        if (transform == null) {
+            transform = ctFactory.createTransform(WGS84, utmCrsOf(zone));
+        }
+
+        try {
+            ProjCoordinate sourceCoordinates = new ProjCoordinate();
+            ProjCoordinate targetCoordinates = new ProjCoordinate();
+            for (int i = 0; i < n; i++) {
+                sourceCoordinates.x = longitudes[i];
+                sourceCoordinates.y = latitudes[i];
+                transform.transform(sourceCoordinates, targetCoordinates);
+                ys[i] = targetCoordinates.y;
+                xs[i] = targetCoordinates.x;
+            }
+        } finally {
+            pool.offer(transform);
+        }
+    }
+
+    private Queue<CoordinateTransform> transformPoolOf(int zone) {
+        Queue<CoordinateTransform> pool = transformPoolsByZone.get(zone);
+        if (pool == null) {
+            transformPoolsByZone.compareAndSet(zone, null, new ConcurrentLinkedQueue<>());
+            pool = transformPoolsByZone.get(zone);
+        }
+        return pool;
+    }
+
+    private CoordinateReferenceSystem utmCrsOf(int zone) {
+        CoordinateReferenceSystem crs = utmCrsByZone.get(zone);
+        if (crs == null) {
+            String proj4Params = String.format(
+                    "+proj=utm +zone=%d +datum=WGS84 +units=m +no_defs", zone
+            );
+            utmCrsByZone.compareAndSet(zone, null, crsFactory.createFromParameters("UTM Zone " + zone, proj4Params));
+            crs = utmCrsByZone.get(zone);
+        }
+        return crs;
+    }
+
+    private double centralMeridianOf(int zone) {
+        return zone * 6.0 - 183.0;
+    }
+
+    private boolean isAnalyticallyProjectable(double[] latitudes, double[] longitudes, int n, int zone) {
+        double centralMeridian = centralMeridianOf(zone);
+        for (int i = 0; i < n; i++) {
+            if (Math.abs(longitudes[i] - centralMeridian) > ANALYTIC_MAX_LONGITUDE_OFFSET
+                    || Math.abs(latitudes[i]) > ANALYTIC_MAX_LATITUDE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 타원체 횡메르카토르 정방향 급수 (Snyder, PROJ.4 tmerc)
+    private void projectAnalytically(double[] latitudes, double[] longitudes, int count, int zone, double[] ys, double[] xs) {
+        double centralMeridian = centralMeridianOf(zone);
+        for (int i = 0; i < count; i++) {
+            double phi = Math.toRadians(latitudes[i]);
+            double lam = Math.toRadians(longitudes[i] - centralMeridian);
+
+            double sinPhi = Math.sin(phi);
+            double cosPhi = Math.cos(phi);
+            double t = Math.abs(cosPhi) > 1e-10 ? sinPhi / cosPhi : 0.0;
+            t *= t;
+            double al = cosPhi * lam;
+            double als = al * al;
+            al /= Math.sqrt(1.0 - ES * sinPhi * sinPhi);
+            double n = ESP * cosPhi * cosPhi;
+
+            double x = K0 * al * (1.0
+                    + als / 6.0 * (1.0 - t + n
+                    + als / 20.0 * (5.0 + t * (t - 18.0) + n * (14.0 - 58.0 * t)
+                    + als / 42.0 * (61.0 + t * (t * (179.0 - t) - 479.0)))));
+            double y = K0 * (meridianLength(phi, sinPhi, cosPhi)
+                    + sinPhi * al * lam / 2.0 * (1.0
+                    + als / 12.0 * (5.0 - t + n * (9.0 + 4.0 * n)
+                    + als / 30.0 * (61.0 + t * (t - 58.0) + n * (270.0 - 330.0 * t)
+                    + als / 56.0 * (1385.0 + t * (t * (543.0 - t) - 3111.0))))));
+
+            xs[i] = A * x + FALSE_EASTING;
+            ys[i] = A * y;
+        }
+    }
+
+    private double meridianLength(double phi, double sinPhi, double cosPhi) {
+        double sc = sinPhi * cosPhi;
+        double s2 = sinPhi * sinPhi;
+        return EN[0] * phi - sc * (EN[1] + s2 * (EN[2] + s2 * (EN[3] + s2 * EN[4])));
+    }
+
+    private double[] meridianLengthCoefficients(double es) {
+        double[] en = new double[5];
+        en[0] = 1.0 - es * (0.25 + es * (0.046875 + es * (0.01953125 + es * 0.01068115234375)));
+        en[1] = es * (0.75 - es * (0.046875 + es * (0.01953125 + es * 0.01068115234375)));
+        double t = es * es;
+        en[2] = t * (0.46875 - es * (0.01302083333333333333 + es * 0.00712076822916666666));
+        t *= es;
+        en[3] = t * (0.36458333333333333333 - es * 0.00569661458333333333);
+        en[4] = t * es * 0.3076171875;
+        return en;
+    }
+
+}
@@ -0,0 +1,12 @@
+package soma.ghostrunner.domain.running.domain.path;
+
+/**
+ * UTM 으로 투영한 트랙. i 번째 원소는 원본 좌표 리스트의 i 번째 점에 대응한다. (단위 m)
+ */
+public record UtmTrack(int zone, double[] ys, double[] xs) {
+
+    public int size() {
+        return ys.length;
+    }
+
+}
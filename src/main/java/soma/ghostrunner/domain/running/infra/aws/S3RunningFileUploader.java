@@ -1,23 +1,38 @@
 package soma.ghostrunner.domain.running.infra.aws;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 import soma.ghostrunner.global.clients.aws.s3.GhostRunnerS3Client;
 import soma.ghostrunner.domain.running.domain.path.Checkpoint;
 import soma.ghostrunner.domain.running.domain.path.Coordinates;
+import soma.ghostrunner.domain.running.domain.path.InterpolatedTelemetryUrls;
 import soma.ghostrunner.domain.running.domain.path.RunningFileUploader;
 import soma.ghostrunner.domain.running.domain.path.Telemetry;
+import soma.ghostrunner.domain.running.domain.path.TelemetryBinaryCodec;
+import soma.ghostrunner.domain.running.domain.path.TelemetryColumns;
+import soma.ghostrunner.global.error.ErrorCode;
+import soma.ghostrunner.global.error.exception.ExternalIOException;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class S3RunningFileUploader implements RunningFileUploader {
 
+    private static final String JSONL_EXTENSION = ".jsonl";
+
     private final GhostRunnerS3Client s3Client;
+    private final ObjectMapper objectMapper;
 
     @Value("${s3.running-directory}")
     private String runningDirectory;
@@ -25,6 +40,9 @@ public class S3RunningFileUploader implements RunningFileUploader {
     @Value("${s3.course-directory}")
     private String courseDirectory;
 
+    @Value("${s3.telemetry-binary-compression:GZIP}")
+    private TelemetryBinaryCodec.Compression binaryTelemetryCompression;
+
     @Override
     public String uploadRawTelemetry(MultipartFile rawTelemetry, String memberUuid) {
         String fileName = toJsonlFileName(runningDirectory, memberUuid);
@@ -32,9 +50,68 @@ public class S3RunningFileUploader implements RunningFileUploader {
     }
 
     @Override
-    public String uploadInterpolatedTelemetry(List<Telemetry> telemetries, String memberUuid) {
+    public InterpolatedTelemetryUrls uploadInterpolatedTelemetry(TelemetryColumns telemetries, String memberUuid) {
         String fileName = toJsonlFileName(runningDirectory, memberUuid);
-        return s3Client.uploadObjectList(telemetries, fileName);
+        String url = s3Client.uploadJsonl(fileName, generator -> writeTelemetries(generator, telemetries));
+        String binaryUrl = uploadBinaryTelemetry(telemetries, toBinaryFileName(fileName)).orElse(null);
+        return new InterpolatedTelemetryUrls(url, binaryUrl);
+    }
+
+    // 바이너리 포맷은 JSONL 옆에 같은 이름으로 저장하며, 실패하더라도 클라이언트는 JSONL 로 대체할 수 있으므로 무시한다
+    private Optional<String> uploadBinaryTelemetry(TelemetryColumns telemetries, String fileName) {
+        try {
+            byte[] encoded = TelemetryBinaryCodec.encode(telemetries, binaryTelemetryCompression);
+            return Optional.of(s3Client.uploadBytes(encoded, fileName, TelemetryBinaryCodec.MEDIA_TYPE));
+        } catch (RuntimeException e) {
+            log.warn("바이너리 Telemetry 업로드 실패. 파일: {}", fileName, e);
+            return Optional.empty();
+        }
+    }
+
+    // 업로드 시점에 저장해 둔 바이너리 URL 이 있으면 그것을 읽고, 없거나 깨졌으면 JSONL 로 대체한다
+    @Override
+    public TelemetryColumns loadInterpolatedTelemetry(String interpolatedTelemetryUrl, String binaryTelemetryUrl) {
+        if (binaryTelemetryUrl != null) {
+            try {
+                return TelemetryBinaryCodec.decode(s3Client.downloadByUrl(binaryTelemetryUrl));
+            } catch (RuntimeException e) {
+                log.warn("바이너리 Telemetry 읽기 실패, JSONL 로 대체. 파일: {}", binaryTelemetryUrl, e);
+            }
+        }
+        return readTelemetries(s3Client.downloadByUrl(interpolatedTelemetryUrl));
+    }
+
+    private TelemetryColumns readTelemetries(byte[] jsonl) {
+        try (MappingIterator<Telemetry> telemetries = objectMapper.readerFor(Telemetry.class).readValues(jsonl)) {
+            return TelemetryColumns.from(telemetries.readAll());
+        } catch (IOException e) {
+            throw new ExternalIOException(ErrorCode.SERVICE_UNAVAILABLE, "보간된 Telemetry 를 읽는데 실패했습니다.");
+        }
+    }
+
+    private String toBinaryFileName(String jsonlFileName) {
+        if (!jsonlFileName.endsWith(JSONL_EXTENSION)) {
+            return jsonlFileName;
+        }
+        return jsonlFileName.substring(0, jsonlFileName.length() - JSONL_EXTENSION.length())
+                + TelemetryBinaryCodec.FILE_EXTENSION;
+    }
+
+    // 컬럼을 Telemetry 객체로 박싱하지 않고 바로 JSONL 로 직렬화
+    private void writeTelemetries(JsonGenerator generator, TelemetryColumns telemetries) throws IOException {
+        for (int i = 0; i < telemetries.size(); i++) {
+            generator.writeStartObject();
+            generator.writeNumberField("t", telemetries.t()[i]);
+            generator.writeNumberField("y", telemetries.y()[i]);
+            generator.writeNumberField("x", telemetries.x()[i]);
+            generator.writeNumberField("d", telemetries.d()[i]);
+            generator.writeNumberField("p", telemetries.p()[i]);
+            generator.writeNumberField("e", telemetries.e()[i]);
+            generator.writeNumberField("c", telemetries.c()[i]);
+            generator.writeNumberField("b", telemetries.b()[i]);
+            generator.writeBooleanField("r", telemetries.r().get(i));
+            generator.writeEndObject();
+        }
     }
 
     @Override
@@ -50,7 +127,7 @@ public class S3RunningFileUploader implements RunningFileUploader {
     }
 
     private String toJsonlFileName(String directory, String memberUuid) {
-        return String.format("%s/%s/%s.jsonl", directory, memberUuid, UUID.randomUUID());
+        return String.format("%s/%s/%s%s", directory, memberUuid, UUID.randomUUID(), JSONL_EXTENSION);
     }
 
     @Override
@@ -66,4 +143,13 @@ public class S3RunningFileUploader implements RunningFileUploader {
         return s3Client.uploadMultipartFile(runningCaptureImage, fileName);
     }
 
+    @Override
+    public void deleteFile(String fileUrl) {
+        s3Client.deleteByUrl(fileUrl);
+        String binaryUrl = toBinaryFileName(fileUrl);
+        if (!binaryUrl.equals(fileUrl)) {
+            s3Client.deleteByUrl(binaryUrl);
+        }
+    }
+
 }
@@ -17,6 +17,7 @@ import java.math.RoundingMode;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -64,6 +65,11 @@ public class JsonVdotPaceProvider implements VdotPaceProvider {
         return cache.getOrDefault(vdot, Collections.emptyList());
     }
 
+    @Override
+    public Set<Integer> getVdots() {
+        return cache.keySet();
+    }
+
     @Getter
     private static class VdotPaceRecord {
         private int vdot;
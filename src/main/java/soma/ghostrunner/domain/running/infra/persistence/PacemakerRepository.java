@@ -21,6 +21,17 @@ public interface PacemakerRepository extends JpaRepository<Pacemaker, Long> {
             "limit 1")
     Optional<Pacemaker> findByCourseId(Long courseId, String memberUuid);
 
+    /** 생성 중(PROCEEDING)인 페이스메이커만 완료 처리한다. 콜백이 재전달되어도 한 번만 1 을 반환한다 */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Pacemaker p " +
+            "set p.summary = :summary, p.goalDistance = :goalKm, p.expectedTime = :expectedMinutes, " +
+            "p.initialMessage = :initialMessage, " +
+            "p.status = soma.ghostrunner.domain.running.domain.Pacemaker.Status.COMPLETED " +
+            "where p.id = :pacemakerId and p.deleted = false " +
+            "and p.status = soma.ghostrunner.domain.running.domain.Pacemaker.Status.PROCEEDING")
+    int completeIfProceeding(Long pacemakerId, String summary, Double goalKm, Integer expectedMinutes,
+                             String initialMessage);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("update Pacemaker p set p.deleted = true where p.id = :pacemakerId")
     int softDelete(Long pacemakerId);
@@ -5,7 +5,9 @@ import soma.ghostrunner.domain.course.dto.UserPaceStatsDto;
 import soma.ghostrunner.domain.running.application.dto.response.*;
 import soma.ghostrunner.domain.running.domain.RunningMode;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface RunningQueryRepository {
@@ -30,6 +32,9 @@ public interface RunningQueryRepository {
 
     Optional<CourseRunStatisticsDto> findPublicRunStatisticsByCourseId(Long courseId);
 
+    /** 코스 ID 별 공개 기록 통계. 공개 기록이 없는 코스도 빈 통계로 포함된다. */
+    Map<Long, CourseRunStatisticsDto> findPublicRunStatisticsByCourseIds(Collection<Long> courseIds);
+
     Optional<UserPaceStatsDto> findUserRunStatisticsByCourseId(Long courseId, String memberUuid);
 
     List<DayRunInfo> findDayRunInfosFilteredByDate(Integer year, Integer month, Long memberId);
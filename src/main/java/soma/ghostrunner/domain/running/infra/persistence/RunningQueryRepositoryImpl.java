@@ -1,7 +1,7 @@
 package soma.ghostrunner.domain.running.infra.persistence;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.NumberTemplate;
@@ -18,10 +18,14 @@ import soma.ghostrunner.domain.running.domain.RunningMode;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static soma.ghostrunner.domain.course.domain.QCourse.course;
+import static soma.ghostrunner.domain.course.domain.QCourseStats.courseStats;
 import static soma.ghostrunner.domain.member.domain.QMember.member;
 import static soma.ghostrunner.domain.running.domain.QRunning.running;
 
@@ -225,26 +229,55 @@ public class RunningQueryRepositoryImpl implements RunningQueryRepository {
 
     @Override
     public Optional<CourseRunStatisticsDto> findPublicRunStatisticsByCourseId(Long courseId) {
-        return Optional.ofNullable(
-                queryFactory
-                        .select(Projections.constructor(CourseRunStatisticsDto.class,
-                                running.runningRecord.duration.avg(),
-                                running.runningRecord.averagePace.avg(),
-                                running.runningRecord.cadence.avg(),
-                                running.runningRecord.burnedCalories.avg(),
-                                running.runningRecord.averagePace.min(),
-                                running.member.countDistinct().intValue(),
-                                running.count().intValue()
-                        ))
-                        .from(running)
-                        .where(running.course.id.eq(courseId)
-                                .and(running.isPublic.isTrue())
-                                // todo: memberId 받은 다음에 본인 꺼는 isPublic = false여도 보여줘야 하나?
-                        )
-                        .fetchOne()
+        return Optional.of(findPublicRunStatisticsByCourseIds(List.of(courseId)).get(courseId));
+    }
+
+    // 반정규화된 course_stats 에서 한 번에 조회. 통계 행이 없으면 공개 기록이 없는 것과 같다
+    @Override
+    public Map<Long, CourseRunStatisticsDto> findPublicRunStatisticsByCourseIds(Collection<Long> courseIds) {
+        Map<Long, CourseRunStatisticsDto> result = new HashMap<>();
+        if (courseIds.isEmpty()) {
+            return result;
+        }
+
+        List<Tuple> rows = queryFactory
+                .select(courseStats.courseId, courseStats.publicRunCount, courseStats.uniqueRunnerCount,
+                        courseStats.lowestPace, courseStats.totalDuration, courseStats.totalPace,
+                        courseStats.totalCadence, courseStats.totalBurnedCalories,
+                        courseStats.cadenceCount, courseStats.burnedCaloriesCount)
+                .from(courseStats)
+                .where(courseStats.courseId.in(courseIds))
+                .fetch();
+        for (Tuple row : rows) {
+            result.put(row.get(courseStats.courseId), toCourseRunStatistics(row));
+        }
+        for (Long courseId : courseIds) {
+            result.computeIfAbsent(courseId, id -> new CourseRunStatisticsDto(null, null, null, null, null, 0, 0));
+        }
+        return result;
+    }
+
+    private CourseRunStatisticsDto toCourseRunStatistics(Tuple stats) {
+        long runsCount = stats.get(courseStats.publicRunCount);
+        if (runsCount == 0) {
+            return new CourseRunStatisticsDto(null, null, null, null, null, 0, 0);
+        }
+        return new CourseRunStatisticsDto(
+                (double) stats.get(courseStats.totalDuration) / runsCount,
+                stats.get(courseStats.totalPace) / runsCount,
+                average(stats.get(courseStats.totalCadence), stats.get(courseStats.cadenceCount)),
+                average(stats.get(courseStats.totalBurnedCalories), stats.get(courseStats.burnedCaloriesCount)),
+                stats.get(courseStats.lowestPace),
+                (int) (long) stats.get(courseStats.uniqueRunnerCount),
+                (int) runsCount
         );
     }
 
+    // 값이 있는 기록만으로 나눠 AVG 와 같이 NULL 을 평균에서 제외한다
+    private Double average(long total, long count) {
+        return count == 0 ? null : (double) total / count;
+    }
+
     @Override
     public Optional<UserPaceStatsDto> findUserRunStatisticsByCourseId(Long courseId, String memberUuid) {
         return Optional.ofNullable(
@@ -9,7 +9,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Repository;
 import soma.ghostrunner.domain.course.dto.CourseRunDto;
+import soma.ghostrunner.domain.running.application.dto.LeaderboardEntry;
 import soma.ghostrunner.domain.running.domain.Running;
+import soma.ghostrunner.domain.running.domain.RunningDataUrls;
 
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +32,14 @@ public interface RunningRepository extends JpaRepository<Running, Long>, Running
     """)
     Optional<String> findInterpolatedTelemetryUrlByIdAndMemberUuid(Long runningId, String memberUuid);
 
+    @Query("""
+        select r.runningDataUrls
+        from Running r
+        where r.id = :runningId
+          and r.member.uuid = :memberUuid
+    """)
+    Optional<RunningDataUrls> findRunningDataUrlsByIdAndMemberUuid(Long runningId, String memberUuid);
+
     @Query("SELECT r FROM Running r JOIN FETCH r.member "
             + "WHERE r.course.id = :courseId AND r.isPublic = true")
     Page<Running> findByCourse_IdAndIsPublicTrue(Long courseId, Pageable pageable);
@@ -41,7 +51,7 @@ public interface RunningRepository extends JpaRepository<Running, Long>, Running
     @Query("""
         SELECT r
         FROM Running r
-        JOIN r.member m
+        JOIN FETCH r.member m
         WHERE m.uuid = :memberUuid
           AND r.course.id IN :courseIds
           AND r.hasPaused = false
@@ -59,10 +69,6 @@ public interface RunningRepository extends JpaRepository<Running, Long>, Running
             "WHERE m.uuid = :memberUuid AND r.course.id IN :courseIds")
     List<Long> findRanCourseIdsByMemberIdAndCourseIds(String memberUuid, List<Long> courseIds);
 
-    @Query("SELECT COUNT(r) FROM Running r "
-            + "WHERE r.course.id = :courseId AND r.isPublic = true AND r.runningRecord.averagePace < :averagePace")
-    Optional<Integer> countByCourseIdAndIsPublicTrueAndAveragePaceLessThan(Long courseId, Double averagePace);
-
     @Query("select r from Running r where r.course.id = :courseId order by r.id asc limit 1")
     Optional<Running> findFirstRunningByCourseId(Long courseId);
 
@@ -117,6 +123,60 @@ public interface RunningRepository extends JpaRepository<Running, Long>, Running
     """, nativeQuery = true)
     List<CourseRunDto> findTopRankingRunsByCourseIdWithDistinctMember(@Param("courseId") Long courseId, @Param("count") Integer count);
 
+    @Query(value = """
+    SELECT
+        m.uuid AS memberUuid,
+        rr.id AS runningId,
+        rr.duration_sec AS duration
+    FROM (
+        SELECT
+            id, member_id, duration_sec,
+            ROW_NUMBER() OVER(PARTITION BY member_id ORDER BY duration_sec ASC, id ASC) as rn
+        FROM running_record
+        WHERE course_id = :courseId AND is_public = true AND deleted = false
+    ) AS rr
+    JOIN member m ON rr.member_id = m.id
+    WHERE rr.rn = 1
+    """, nativeQuery = true)
+    List<LeaderboardEntry> findLeaderboardEntriesByCourseId(@Param("courseId") Long courseId);
+
+    /** 최고 공개 기록이 duration(초)보다 빠른 회원 수 (리더보드와 같은 회원별 최고 기록 기준) */
+    @Query(value = """
+    SELECT COUNT(*)
+    FROM (
+        SELECT MIN(duration_sec) AS best_duration
+        FROM running_record
+        WHERE course_id = :courseId AND is_public = true AND deleted = false
+        GROUP BY member_id
+    ) AS best
+    WHERE best.best_duration < :duration
+    """, nativeQuery = true)
+    long countPublicRunnersFasterThan(@Param("courseId") Long courseId, @Param("duration") long duration);
+
+    @Query("""
+        SELECT new soma.ghostrunner.domain.running.application.dto.LeaderboardEntry(m.uuid, r.id, r.runningRecord.duration)
+        FROM Running r
+        JOIN r.member m
+        WHERE r.course.id = :courseId AND m.uuid = :memberUuid AND r.isPublic = true
+        ORDER BY r.runningRecord.duration ASC, r.id ASC
+        LIMIT 1
+    """)
+    Optional<LeaderboardEntry> findLeaderboardEntryByCourseIdAndMemberUuid(Long courseId, String memberUuid);
+
+    @Query("""
+        SELECT new soma.ghostrunner.domain.course.dto.CourseRunDto(
+            m.uuid, m.profilePictureUrl, m.nickname, r.id, r.course.id, r.runningName,
+            r.runningRecord.averagePace, r.runningRecord.cadence, r.runningRecord.bpm,
+            r.runningRecord.duration, r.isPublic, r.startedAt)
+        FROM Running r
+        JOIN r.member m
+        WHERE r.id IN :runningIds
+    """)
+    List<CourseRunDto> findCourseRunsByIds(List<Long> runningIds);
+
+    @Query("SELECT r FROM Running r JOIN FETCH r.member WHERE r.id IN :runningIds")
+    List<Running> findByIdsFetchJoinMember(List<Long> runningIds);
+
     @Query(value = """
         -- 멤버 별 개인 최고 기록
         WITH filtered_runs AS (
@@ -166,11 +226,11 @@ public interface RunningRepository extends JpaRepository<Running, Long>, Running
     List<CourseRunDto> findTopRankingRunsByCourseIdsWithDistinctMember(List<Long> courseIds, int limit);
 
 
+    // 반정규화된 course_stats 에서 조회 (CourseStatsService 가 갱신)
     @Query("""
-        SELECT r.course.id, COUNT(DISTINCT r.member.id)
-        FROM Running r
-        WHERE r.course.id IN :courseIds AND r.isPublic = true
-        GROUP BY r.course.id
+        SELECT s.courseId, s.uniqueRunnerCount
+        FROM CourseStats s
+        WHERE s.courseId IN :courseIds AND s.uniqueRunnerCount > 0
     """)
     List<Pair<Long, Long>> findPublicRunnerCountsByCourseIds(List<Long> courseIds);
 
@@ -0,0 +1,148 @@
+package soma.ghostrunner.domain.running.infra.redis;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Repository;
+import soma.ghostrunner.domain.running.application.dto.LeaderboardEntry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 코스별 고스트 랭킹 리더보드.
+ * 회원당 가장 빠른 공개 기록 하나를 ZSET(score = 기록(초))으로 들고, 회원별 러닝 ID 는 HASH 에 둔다.
+ * 적재 완료 표시가 없는 동안 들어온 변경은 변경 버전을 올려 두고, 적재는 DB 를 읽기 전후로 버전이 같을 때만 완료로 표시한다.
+ * 네 키는 클러스터에서 같은 슬롯에 놓이도록 코스 ID 를 해시 태그로 쓴다.
+ */
+@Repository
+public class RedisCourseLeaderboardRepository {
+
+    private static final String KEY_PREFIX = "leaderboard:{";
+    // 적재 한 번(DB 조회 + 재적재)보다 충분히 길면 된다
+    private static final long VERSION_TTL_SECONDS = 60 * 60;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> offerScript;
+    private final DefaultRedisScript<Long> replaceScript;
+    private final DefaultRedisScript<Long> rebuildScript;
+    private final DefaultRedisScript<Long> touchScript;
+
+    public RedisCourseLeaderboardRepository(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.offerScript = script("lua/leaderboard-offer.lua");
+        this.replaceScript = script("lua/leaderboard-replace.lua");
+        this.rebuildScript = script("lua/leaderboard-rebuild.lua");
+        this.touchScript = script("lua/leaderboard-touch.lua");
+    }
+
+    private DefaultRedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    public boolean isLoaded(Long courseId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(loadedKey(courseId)));
+    }
+
+    /** 적재되어 있으면 true. 아니면 진행 중인 적재가 이 변경을 놓치지 않도록 변경 버전을 올리고 false */
+    public boolean isLoadedOrMarkChanged(Long courseId) {
+        Long loaded = redisTemplate.execute(touchScript, List.of(loadedKey(courseId), versionKey(courseId)),
+                String.valueOf(VERSION_TTL_SECONDS));
+        return loaded != null && loaded == 1L;
+    }
+
+    public long findVersion(Long courseId) {
+        String version = redisTemplate.opsForValue().get(versionKey(courseId));
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    /** 적재된 리더보드에만 반영한다. 더 빠른 기록일 때만 바뀐다. */
+    public boolean offer(Long courseId, LeaderboardEntry entry) {
+        Long updated = redisTemplate.execute(offerScript, keys(courseId),
+                entry.memberUuid(), String.valueOf(entry.duration()), String.valueOf(entry.runningId()),
+                String.valueOf(VERSION_TTL_SECONDS));
+        return updated != null && updated == 1L;
+    }
+
+    /** 적재된 리더보드에만 반영한다. entry 가 null 이면 회원을 리더보드에서 뺀다. */
+    public void replace(Long courseId, String memberUuid, LeaderboardEntry entry) {
+        redisTemplate.execute(replaceScript, keys(courseId),
+                memberUuid,
+                entry == null ? "" : String.valueOf(entry.duration()),
+                entry == null ? "" : String.valueOf(entry.runningId()),
+                String.valueOf(VERSION_TTL_SECONDS));
+    }
+
+    /**
+     * 리더보드를 다시 채운다. expectedVersion 은 DB 를 읽기 전에 구한 변경 버전이며,
+     * 그 사이 변경이 있었으면 채우기만 하고 적재 완료로 표시하지 않는다(false).
+     */
+    public boolean rebuild(Long courseId, List<LeaderboardEntry> entries, long expectedVersion, long ttlSeconds) {
+        List<String> args = new ArrayList<>(2 + entries.size() * 3);
+        args.add(String.valueOf(ttlSeconds));
+        args.add(String.valueOf(expectedVersion));
+        for (LeaderboardEntry entry : entries) {
+            args.add(entry.memberUuid());
+            args.add(String.valueOf(entry.duration()));
+            args.add(String.valueOf(entry.runningId()));
+        }
+        Long loaded = redisTemplate.execute(rebuildScript, keys(courseId), args.toArray());
+        return loaded != null && loaded == 1L;
+    }
+
+    public void evict(Long courseId) {
+        redisTemplate.delete(keys(courseId));
+    }
+
+    /** 0 부터 시작하는 순위 구간 [start, end] 의 러닝 ID 를 빠른 순으로 반환한다. */
+    public List<Long> findRunningIdsInRange(Long courseId, long start, long end) {
+        Set<String> memberUuids = redisTemplate.opsForZSet().range(rankingKey(courseId), start, end);
+        if (memberUuids == null || memberUuids.isEmpty()) {
+            return List.of();
+        }
+        List<String> runningIds = redisTemplate.<String, String>opsForHash()
+                .multiGet(runsKey(courseId), new ArrayList<>(memberUuids));
+        return runningIds.stream()
+                .filter(Objects::nonNull)
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    /** 주어진 기록(초)보다 빠른 회원 수 */
+    public long countFasterThan(Long courseId, long duration) {
+        Long count = redisTemplate.opsForZSet().count(rankingKey(courseId), Double.NEGATIVE_INFINITY, duration - 0.5);
+        return count == null ? 0 : count;
+    }
+
+    public long count(Long courseId) {
+        Long count = redisTemplate.opsForZSet().zCard(rankingKey(courseId));
+        return count == null ? 0 : count;
+    }
+
+    private List<String> keys(Long courseId) {
+        return List.of(rankingKey(courseId), runsKey(courseId), loadedKey(courseId), versionKey(courseId));
+    }
+
+    private String rankingKey(Long courseId) {
+        return KEY_PREFIX + courseId + "}";
+    }
+
+    private String runsKey(Long courseId) {
+        return KEY_PREFIX + courseId + "}:runs";
+    }
+
+    private String loadedKey(Long courseId) {
+        return KEY_PREFIX + courseId + "}:loaded";
+    }
+
+    private String versionKey(Long courseId) {
+        return KEY_PREFIX + courseId + "}:version";
+    }
+
+}
@@ -0,0 +1,121 @@
+package soma.ghostrunner.domain.running.infra.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import soma.ghostrunner.domain.running.application.dto.CachedPacemakerStatus;
+import soma.ghostrunner.domain.running.domain.Pacemaker.Status;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 페이스메이커 폴링용 상태 캐시. 값은 "{상태}:{회원 UUID}" 평문으로 저장한다.
+ *
+ * <ul>
+ *   <li>폴링 중 DB 에서 읽은 상태는 키가 없을 때만 쓴다. (setIfAbsent) PROCEEDING 은 짧은 TTL 로 둔다.</li>
+ *   <li>생성 완료 / 실패는 커밋 후 무조건 덮어쓴다. 그래서 완료 직전에 읽은 PROCEEDING 이 완료 상태를 덮지 못한다.</li>
+ *   <li>덮어쓰기에 실패하면 키를 지워 다음 폴링이 DB 를 읽게 한다. 지우기마저 실패해도 PROCEEDING 은 짧은 TTL 안에 사라진다.</li>
+ *   <li>코스별 키에는 그 코스에서 마지막으로 조회된 페이스메이커 ID 를 둔다.</li>
+ *   <li>Redis 오류는 캐시 미스로 처리하고 DB 에서 조회한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Repository
+public class RedisPacemakerStatusRepository {
+
+    private static final String KEY_PREFIX = "pacemaker:status:";
+    private static final String COURSE_KEY_PREFIX = "pacemaker:status:course:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private final Duration proceedingTtl;
+
+    public RedisPacemakerStatusRepository(RedisTemplate<String, String> redisTemplate,
+                                          @Value("${pacemaker.status-cache.ttl-seconds:600}") long ttlSeconds,
+                                          @Value("${pacemaker.status-cache.proceeding-ttl-seconds:30}") long proceedingTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.proceedingTtl = Duration.ofSeconds(Math.min(proceedingTtlSeconds, ttlSeconds));
+    }
+
+    public Optional<CachedPacemakerStatus> findById(Long pacemakerId) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(key(pacemakerId)))
+                    .map(RedisPacemakerStatusRepository::parse);
+        } catch (DataAccessException e) {
+            log.warn("페이스메이커 상태 캐시 조회 실패: pacemakerId={}", pacemakerId, e);
+            return Optional.empty();
+        }
+    }
+
+    /** 폴링 중 DB 에서 읽은 상태. 이미 캐싱된 상태(완료 / 실패 포함)는 덮어쓰지 않는다 */
+    public void saveIfAbsent(Long pacemakerId, CachedPacemakerStatus status) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(pacemakerId), format(status), ttlOf(status));
+        } catch (DataAccessException e) {
+            log.warn("페이스메이커 상태 캐시 저장 실패: pacemakerId={}", pacemakerId, e);
+        }
+    }
+
+    /** 커밋된 상태 변경. 저장에 실패하면 이전 상태가 남지 않도록 키를 지운다 */
+    public void save(Long pacemakerId, CachedPacemakerStatus status) {
+        try {
+            redisTemplate.opsForValue().set(key(pacemakerId), format(status), ttlOf(status));
+        } catch (DataAccessException e) {
+            log.warn("페이스메이커 상태 캐시 저장 실패, 캐시 삭제: pacemakerId={}", pacemakerId, e);
+            delete(pacemakerId);
+        }
+    }
+
+    public void delete(Long pacemakerId) {
+        try {
+            redisTemplate.delete(key(pacemakerId));
+        } catch (DataAccessException e) {
+            log.warn("페이스메이커 상태 캐시 삭제 실패: pacemakerId={}", pacemakerId, e);
+        }
+    }
+
+    public Optional<Long> findIdInCourse(Long courseId, String memberUuid) {
+        try {
+            return Optional.ofNullable(redisTemplate.opsForValue().get(courseKey(courseId, memberUuid)))
+                    .map(Long::valueOf);
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("코스별 페이스메이커 캐시 조회 실패: courseId={}", courseId, e);
+            return Optional.empty();
+        }
+    }
+
+    public void saveIdInCourse(Long courseId, String memberUuid, Long pacemakerId) {
+        try {
+            redisTemplate.opsForValue().set(courseKey(courseId, memberUuid), String.valueOf(pacemakerId), ttl);
+        } catch (DataAccessException e) {
+            log.warn("코스별 페이스메이커 캐시 저장 실패: courseId={}", courseId, e);
+        }
+    }
+
+    // 생성 중 상태는 곧 바뀌므로 오래 믿지 않는다
+    private Duration ttlOf(CachedPacemakerStatus status) {
+        return status.isProceeding() ? proceedingTtl : ttl;
+    }
+
+    private static String format(CachedPacemakerStatus status) {
+        return status.status().name() + ":" + status.memberUuid();
+    }
+
+    private static CachedPacemakerStatus parse(String value) {
+        int separator = value.indexOf(':');
+        return new CachedPacemakerStatus(Status.valueOf(value.substring(0, separator)), value.substring(separator + 1));
+    }
+
+    private String key(Long pacemakerId) {
+        return KEY_PREFIX + pacemakerId;
+    }
+
+    private String courseKey(Long courseId, String memberUuid) {
+        return COURSE_KEY_PREFIX + courseId + ":" + memberUuid;
+    }
+
+}
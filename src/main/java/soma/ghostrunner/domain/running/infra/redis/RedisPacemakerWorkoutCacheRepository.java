@@ -0,0 +1,28 @@
+package soma.ghostrunner.domain.running.infra.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+
+/** 정규화된 입력 버킷별 LLM 생성 결과(음성 안내까지 채워진 훈련표 JSON) */
+@Repository
+@RequiredArgsConstructor
+public class RedisPacemakerWorkoutCacheRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public String find(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    public void save(String key, String workoutJson, Duration ttl) {
+        redisTemplate.opsForValue().set(key, workoutJson, ttl);
+    }
+
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+
+}
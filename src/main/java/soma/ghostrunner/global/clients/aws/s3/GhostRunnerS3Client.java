@@ -1,72 +1,150 @@
 package soma.ghostrunner.global.clients.aws.s3;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import soma.ghostrunner.global.error.ErrorCode;
 import soma.ghostrunner.global.error.exception.ExternalIOException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GhostRunnerS3Client {
 
+    private static final String CACHE_CONTROL = "max-age=604800, public";
+    private static final String JSONL_CONTENT_TYPE = "application/jsonl";
+    private static final String GZIP_CONTENT_ENCODING = "gzip";
+    private static final SerializedString JSONL_SEPARATOR = new SerializedString("\n");
+    private static final int GZIP_BUFFER_SIZE = 8 * 1024;
+
     private final ObjectMapper objectMapper;
     private final S3Client s3Client;
 
     @Value("${s3.bucket}")
     private String s3Bucket;
 
+    @Value("${s3.multipart-part-size:" + S3MultipartUploadStream.MIN_PART_SIZE + "}")
+    private int multipartPartSize = S3MultipartUploadStream.MIN_PART_SIZE;
+
+    @Value("${s3.jsonl-gzip:false}")
+    private boolean gzipJsonl;
+
     public String uploadObjectList(List<?> objectList, String fileName) {
+        return uploadJsonl(fileName, generator -> {
+            for (Object item : objectList) {
+                objectMapper.writeValue(generator, item);
+            }
+        });
+    }
+
+    /**
+     * JsonGenerator 로 쓰는 즉시 S3 로 흘려보내는 JSONL 업로드.
+     * 루트 값마다 줄바꿈이 들어가며, 힙에는 멀티파트 part 하나 크기의 버퍼만 유지된다.
+     */
+    public String uploadJsonl(String fileName, JsonlWriter jsonlWriter) {
+        S3MultipartUploadStream uploadStream = new S3MultipartUploadStream(s3Client, s3Bucket, fileName,
+                JSONL_CONTENT_TYPE, gzipJsonl ? GZIP_CONTENT_ENCODING : null, CACHE_CONTROL, multipartPartSize);
         try {
-            String jsonlContent = objectList.stream()
-                    .map(item -> {
-                        try {
-                            return objectMapper.writeValueAsString(item);
-                        } catch (JsonProcessingException e) {
-                            log.error("객체 JSON 직렬화 실패: {}", item, e);
-                            throw new RuntimeException("객체를 JSON으로 변환하는 중 오류가 발생했습니다.", e);
-                        }
-                    })
-                    .collect(Collectors.joining("\n"));
-
-            byte[] contentBytes = jsonlContent.getBytes(StandardCharsets.UTF_8);
+            OutputStream out = gzipJsonl ? new GZIPOutputStream(uploadStream, GZIP_BUFFER_SIZE) : uploadStream;
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setRootValueSeparator(JSONL_SEPARATOR);
+
+            log.info("S3에 JSONL 스트리밍 업로드 중.. 파일 이름: {}, gzip: {}", fileName, gzipJsonl);
+            jsonlWriter.write(generator);
+            generator.close();      // gzip trailer 까지 내보낸 뒤 업로드를 완료한다
+
+            log.info("S3에 JSONL 스트리밍 업로드 성공. 파일: {}", fileName);
+            return getS3FileUrl(fileName);
+        } catch (Exception e) {
+            log.error("S3 JSONL 스트리밍 업로드 실패. 파일: {}", fileName, e);
+            uploadStream.abort();
+            throw new ExternalIOException(ErrorCode.SERVICE_UNAVAILABLE, "S3에 리스트를 JSONL로 업로드하는데 실패했습니다.");
+        }
+    }
+
+    @FunctionalInterface
+    public interface JsonlWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
 
+    public String uploadBytes(byte[] contentBytes, String fileName, String contentType) {
+        try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(s3Bucket)
                     .key(fileName)
-                    .cacheControl("max-age=604800, public")
-                    .contentType("application/jsonl")
+                    .cacheControl(CACHE_CONTROL)
+                    .contentType(contentType)
                     .contentLength((long) contentBytes.length)
                     .build();
 
-            log.info("S3에 리스트 JSONL 업로드 중.. 파일 이름: {}, 크기: {} bytes", fileName, contentBytes.length);
+            log.info("S3에 {} 업로드 중.. 파일 이름: {}, 크기: {} bytes", contentType, fileName, contentBytes.length);
             s3Client.putObject(putObjectRequest, RequestBody.fromBytes(contentBytes));
 
-            log.info("S3에 리스트 JSONL 업로드 성공. 파일: {}", fileName);
+            log.info("S3에 {} 업로드 성공. 파일: {}", contentType, fileName);
             return getS3FileUrl(fileName);
         } catch (Exception e) {
-            throw new ExternalIOException(ErrorCode.SERVICE_UNAVAILABLE, "S3에 리스트를 JSONL로 업로드하는데 실패했습니다.");
+            log.error("S3 {} 업로드 실패. 파일: {}", contentType, fileName, e);
+            throw new ExternalIOException(ErrorCode.SERVICE_UNAVAILABLE, "S3에 파일을 업로드하는데 실패했습니다.");
+        }
+    }
+
+    /** gzip 으로 저장된 JSONL 은 풀어서 반환한다. */
+    public byte[] downloadByUrl(String fileUrl) {
+        String fileKey = toFileKey(fileUrl);
+        try {
+            ResponseBytes<GetObjectResponse> object = s3Client.getObjectAsBytes(
+                    GetObjectRequest.builder().bucket(s3Bucket).key(fileKey).build());
+            if (GZIP_CONTENT_ENCODING.equals(object.response().contentEncoding())) {
+                try (GZIPInputStream in = new GZIPInputStream(object.asInputStream(), GZIP_BUFFER_SIZE)) {
+                    return in.readAllBytes();
+                }
+            }
+            return object.asByteArray();
+        } catch (Exception e) {
+            log.error("S3 객체 다운로드 실패. 파일: {}", fileKey, e);
+            throw new ExternalIOException(ErrorCode.SERVICE_UNAVAILABLE, "S3 객체를 다운로드하는데 실패했습니다.");
         }
     }
 
+    public void deleteByUrl(String fileUrl) {
+        String fileKey = toFileKey(fileUrl);
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder().bucket(s3Bucket).key(fileKey).build());
+            log.info("S3 객체 삭제 성공. 파일: {}", fileKey);
+        } catch (Exception e) {
+            throw new ExternalIOException(ErrorCode.SERVICE_UNAVAILABLE, "S3 객체를 삭제하는데 실패했습니다.");
+        }
+    }
+
+    private String toFileKey(String fileUrl) {
+        String path = URI.create(fileUrl).getPath();
+        return URLDecoder.decode(path.substring(1), StandardCharsets.UTF_8);
+    }
+
     public String uploadMultipartFile(MultipartFile multipartFile, String fileName) {
         try {
             PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                     .bucket(s3Bucket)
                     .key(fileName)
-                    .cacheControl("max-age=604800, public")
+                    .cacheControl(CACHE_CONTROL)
                     .contentLength(multipartFile.getSize())
                     .build();
 
@@ -0,0 +1,175 @@
+package soma.ghostrunner.global.clients.aws.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 쓰여진 바이트를 part 크기만큼 모아 S3 멀티파트 업로드로 흘려보내는 스트림.
+ * 버퍼는 part 하나 크기까지만 커지고 part 를 올린 뒤 재사용하므로, 업로드 크기와 무관하게 힙 사용량이 part 크기로 제한된다.
+ * 전체 크기가 part 하나에 못 미치면 멀티파트를 시작하지 않고 putObject 한 번으로 올린다.
+ * close() 가 업로드를 완료하며, 실패 시에는 abort() 로 멀티파트 업로드를 취소해야 한다.
+ */
+@Slf4j
+class S3MultipartUploadStream extends OutputStream {
+
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;     // S3 멀티파트의 마지막을 제외한 part 최소 크기
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final String contentEncoding;
+    private final String cacheControl;
+    private final int partSize;
+
+    private byte[] buffer;
+    private int count;
+
+    private String uploadId;
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+    private boolean finished;
+
+    S3MultipartUploadStream(S3Client s3Client, String bucket, String key, String contentType,
+                            String contentEncoding, String cacheControl, int partSize) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.contentEncoding = contentEncoding;
+        this.cacheControl = cacheControl;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.buffer = new byte[INITIAL_BUFFER_SIZE];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (count == buffer.length) {
+            flushPartIfFull();
+            grow(count + 1);
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            flushPartIfFull();
+            int writable = Math.min(len, partSize - count);
+            grow(count + writable);
+            System.arraycopy(b, off, buffer, count, writable);
+            count += writable;
+            off += writable;
+            len -= writable;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (finished) {
+            throw new IOException("이미 종료된 S3 업로드 스트림입니다. 파일: " + key);
+        }
+    }
+
+    private void grow(int minCapacity) {
+        if (minCapacity > buffer.length) {
+            int newCapacity = Math.min(partSize, Math.max(buffer.length << 1, minCapacity));
+            buffer = Arrays.copyOf(buffer, newCapacity);
+        }
+    }
+
+    private void flushPartIfFull() {
+        if (count == partSize) {
+            uploadPart();
+        }
+    }
+
+    private void uploadPart() {
+        if (uploadId == null) {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .cacheControl(cacheControl)
+                    .contentType(contentType)
+                    .contentEncoding(contentEncoding)
+                    .build()).uploadId();
+        }
+
+        int partNumber = completedParts.size() + 1;
+        UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .contentLength((long) count)
+                .build(), currentBody());
+
+        completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+        count = 0;
+    }
+
+    // 버퍼를 복사하지 않고 그대로 읽게 하며, 재시도 시에도 처음부터 다시 읽을 수 있다
+    private RequestBody currentBody() {
+        byte[] bytes = buffer;
+        int length = count;
+        return RequestBody.fromContentProvider(() -> new ByteArrayInputStream(bytes, 0, length), length, contentType);
+    }
+
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+
+        if (uploadId == null) {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .cacheControl(cacheControl)
+                    .contentType(contentType)
+                    .contentEncoding(contentEncoding)
+                    .contentLength((long) count)
+                    .build(), currentBody());
+            return;
+        }
+
+        if (count > 0) {
+            uploadPart();
+        }
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                .build());
+        log.info("S3 멀티파트 업로드 완료. 파일: {}, part 수: {}", key, completedParts.size());
+    }
+
+    void abort() {
+        finished = true;
+        if (uploadId == null) {
+            return;
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("S3 멀티파트 업로드 취소 실패. 파일: {}, uploadId: {}", key, uploadId, e);
+        }
+    }
+
+}
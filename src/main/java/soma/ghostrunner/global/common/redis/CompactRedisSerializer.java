@@ -0,0 +1,102 @@
+package soma.ghostrunner.global.common.redis;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 코덱이 등록된 타입은 바이너리로, 나머지는 fallback(JSON) 직렬화로 저장하는 Redis 값 직렬화.
+ *
+ * <pre>
+ * magic (1B, 0xC7) | type id (1B) | version (1B) | body
+ * </pre>
+ * 첫 바이트가 magic 이 아니면 fallback 으로 읽으므로 기존 JSON 값도 그대로 읽힌다.
+ * 모르는 type id / version 은 null(캐시 미스)로 읽어, 포맷이 다른 인스턴스가 섞여 배포되어도 실패하지 않는다.
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC7;
+    private static final int HEADER_SIZE = 3;
+
+    private final RedisSerializer<Object> fallback;
+    private final boolean compactWriteEnabled;
+    private final Map<Class<?>, RedisValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Byte, RedisValueCodec<?>> codecsByTypeId = new HashMap<>();
+
+    public CompactRedisSerializer(RedisSerializer<Object> fallback, boolean compactWriteEnabled,
+                                  List<RedisValueCodec<?>> codecs) {
+        this.fallback = fallback;
+        this.compactWriteEnabled = compactWriteEnabled;
+        for (RedisValueCodec<?> codec : codecs) {
+            if (codecsByTypeId.putIfAbsent(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("중복된 Redis 코덱 타입 ID 입니다: " + codec.typeId());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        RedisValueCodec<?> codec = value == null ? null : codecsByType.get(value.getClass());
+        if (codec == null || !compactWriteEnabled) {
+            return fallback.serialize(value);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(MAGIC);
+            out.writeByte(codec.typeId());
+            out.writeByte(codec.version());
+            writeBody(codec, value, out);
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값을 직렬화할 수 없습니다: " + value.getClass().getSimpleName(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("Redis 값의 헤더가 잘렸습니다 (length = " + bytes.length + ")");
+        }
+
+        RedisValueCodec<?> codec = codecsByTypeId.get(bytes[1]);
+        if (codec == null) {
+            log.warn("CompactRedisSerializer::deserialize() - unknown type id {}, treating as cache miss", bytes[1]);
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(
+                new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE))) {
+            Object value = codec.read(bytes[2], in);
+            if (value == null) {
+                log.warn("CompactRedisSerializer::deserialize() - unsupported version {} of {}, treating as cache miss",
+                        bytes[2], codec.type().getSimpleName());
+            }
+            return value;
+        } catch (IOException e) {
+            throw new SerializationException("Redis 값을 역직렬화할 수 없습니다: " + codec.type().getSimpleName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void writeBody(RedisValueCodec<T> codec, Object value, DataOutputStream out) throws IOException {
+        codec.write((T) value, out);
+    }
+
+}
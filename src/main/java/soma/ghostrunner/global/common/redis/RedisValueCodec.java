@@ -0,0 +1,36 @@
+package soma.ghostrunner.global.common.redis;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * CompactRedisSerializer 에 등록하는 타입별 바이너리 코덱.
+ * 필드 구성을 바꾸면 version 을 올리고, read 는 이전 version 도 읽을 수 있어야 한다.
+ */
+public interface RedisValueCodec<T> {
+
+    /** 코덱마다 고유한 타입 ID. 한 번 정하면 바꾸지 않는다. */
+    byte typeId();
+
+    byte version();
+
+    Class<T> type();
+
+    void write(T value, DataOutput out) throws IOException;
+
+    /** 읽을 수 없는 version 이면 null 을 반환한다. */
+    T read(byte version, DataInput in) throws IOException;
+
+    static void writeNullableString(String value, DataOutput out) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+}
@@ -1,18 +1,25 @@
 package soma.ghostrunner.global.config;
 
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     @Bean(name = "pushTaskExecutor")
-    public Executor pushTaskExecutor() {
+    public Executor pushTaskExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtualThreadExecutor("PushThread-", 6);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(6);
         executor.setMaxPoolSize(6);
@@ -22,4 +29,42 @@ public class AsyncConfig {
         return executor;
     }
 
+    // 러닝 생성 시 S3 업로드 병렬 처리용. 큐가 가득 차면 요청 스레드에서 직접 업로드해 역압을 건다
+    @Bean(name = "s3UploadTaskExecutor")
+    public Executor s3UploadTaskExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtualThreadExecutor("S3UploadThread-", 16);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(100);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("S3UploadThread-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 페이스메이커 완료 알림을 받아 대기 중인 long-poll 요청에 응답할 상태를 조회한다.
+    // Redis 리스너 스레드가 제출하므로 가상 스레드 모드에서도 제출 스레드를 세우지 않는 풀을 쓰고, 가득 차면 거절한다
+    @Bean(name = "pacemakerCompletionExecutor")
+    public Executor pacemakerCompletionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1000);
+        executor.setThreadNamePrefix("PacemakerCompletionThread-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 가상 스레드 모드(spring.threads.virtual.enabled, Java 21+)에서는 풀 대신 작업마다 가상 스레드를 만들고,
+    // 외부 API 로 나가는 동시 호출 수만 기존 풀 크기로 제한한다. 제한에 걸리면 제출한 스레드가 기다린다
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        return executor;
+    }
+
 }
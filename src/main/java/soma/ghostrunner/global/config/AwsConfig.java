@@ -1,6 +1,7 @@
 package soma.ghostrunner.global.config;
 
 import io.awspring.cloud.sqs.config.SqsMessageListenerContainerFactory;
+import io.awspring.cloud.sqs.listener.ListenerMode;
 import io.awspring.cloud.sqs.listener.acknowledgement.AcknowledgementOrdering;
 import io.awspring.cloud.sqs.listener.acknowledgement.handler.AcknowledgementMode;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
@@ -85,4 +86,39 @@ public class AwsConfig {
                 .build();
     }
 
+    // 푸시 큐 전용. 메시지를 배치로 받아 Expo 요청 하나에 최대 100개 알림을 묶어 보내고,
+    // 전송에 성공한 메시지만 직접 삭제(ACK)한다. ACK 하지 않은 메시지는 visibility timeout 이후 재전달된다
+    @Bean
+    public SqsMessageListenerContainerFactory<Object> pushSqsListenerContainerFactory(SqsAsyncClient sqsAsyncClient) {
+        return SqsMessageListenerContainerFactory.builder()
+                .sqsAsyncClient(sqsAsyncClient)
+                .configure(options -> options
+                        .listenerMode(ListenerMode.BATCH)
+                        .acknowledgementMode(AcknowledgementMode.MANUAL)
+                        .maxConcurrentMessages(30)
+                        .maxMessagesPerPoll(10)
+                        .pollTimeout(Duration.ofSeconds(20))
+                )
+                .build();
+    }
+
+    // 페이스메이커 LLM 큐 전용. 리스너가 LLM 응답을 기다리지 않고 CompletableFuture 를 반환하므로
+    // maxConcurrentMessages 가 동시에 진행 중인 LLM 작업 수의 상한이 된다. visibility 는 두 단계 timeout 합보다 길어야 한다
+    @Bean
+    public SqsMessageListenerContainerFactory<Object> pacemakerLlmSqsListenerContainerFactory(
+            SqsAsyncClient sqsAsyncClient,
+            @Value("${pacemaker.llm.max-inflight:8}") int maxInflight,
+            @Value("${pacemaker.llm.visibility-timeout-seconds:300}") int visibilityTimeoutSeconds) {
+        return SqsMessageListenerContainerFactory.builder()
+                .sqsAsyncClient(sqsAsyncClient)
+                .configure(options -> options
+                        .acknowledgementMode(AcknowledgementMode.ON_SUCCESS)
+                        .maxConcurrentMessages(maxInflight)
+                        .maxMessagesPerPoll(Math.min(maxInflight, 10))
+                        .pollTimeout(Duration.ofSeconds(20))
+                        .messageVisibility(Duration.ofSeconds(visibilityTimeoutSeconds))
+                )
+                .build();
+    }
+
 }
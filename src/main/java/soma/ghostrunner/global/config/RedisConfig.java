@@ -1,22 +1,39 @@
 package soma.ghostrunner.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import soma.ghostrunner.domain.course.dao.CourseQueryModelCodec;
+import soma.ghostrunner.global.common.redis.CompactRedisSerializer;
+
+import java.util.List;
 
 @Configuration
 public class RedisConfig {
 
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       @Value("${redis.compact-serializer.write-enabled:false}") boolean compactWriteEnabled) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // 캐시 조회가 잦은 타입은 바이너리로 저장하고, 나머지와 기존 JSON 값은 JSON 으로 읽고 쓴다
+        // 바이너리 쓰기는 읽기가 가능한 버전이 모든 인스턴스에 배포된 뒤 write-enabled 로 켠다
+        template.setValueSerializer(new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(),
+                compactWriteEnabled, List.of(new CourseQueryModelCodec())));
         return template;
     }
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
 }
@@ -6,7 +6,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.jboss.logging.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -15,36 +16,53 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import soma.ghostrunner.global.security.exception.ParsingTokenException;
 import soma.ghostrunner.global.security.jwt.support.JwtProvider;
+import soma.ghostrunner.global.security.jwt.support.UriTrie;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static soma.ghostrunner.global.error.ErrorCode.*;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final String AUTH_EXCEPTION_ATTRIBUTE = "authentication";
 
     private final String HEALTH_CHECK_URI = "/";
 
-    private final List<String> SIGN_ENDPOINTS = List.of(
+    private static final UriTrie SIGN_ENDPOINTS = UriTrie.of(List.of(
             "/v1/auth/firebase-signin", "v1/auth/firebase-signup"
-    );
+    ));
 
-    private static final List<String> PERMITTED_ENDPOINTS = List.of(
+    private static final UriTrie PERMITTED_ENDPOINTS = UriTrie.of(List.of(
             "/swagger-ui", "/v3/api-docs", "/v1/common/presign-url", "/actuator/prometheus", "/test"
-    );
+    ));
 
     private final JwtProvider jwtProvider;
 
+    // 요청당 인증 처리 시간 (이후 필터 체인 제외)
+    private final Timer skippedTimer;
+    private final Timer authenticatedTimer;
+    private final Timer expiredTimer;
+    private final Timer invalidTimer;
+
+    public JwtAuthFilter(JwtProvider jwtProvider, MeterRegistry meterRegistry) {
+        this.jwtProvider = jwtProvider;
+        this.skippedTimer = Timer.builder("auth.jwt.filter").tag("result", "skipped").register(meterRegistry);
+        this.authenticatedTimer = Timer.builder("auth.jwt.filter").tag("result", "authenticated").register(meterRegistry);
+        this.expiredTimer = Timer.builder("auth.jwt.filter").tag("result", "expired").register(meterRegistry);
+        this.invalidTimer = Timer.builder("auth.jwt.filter").tag("result", "invalid").register(meterRegistry);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long startedAt = System.nanoTime();
         try {
             if (isPermittedUri(request) || isHealthCheckUri(request) || isSignEndpoint(request)) {
+                skippedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -56,33 +74,38 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             JwtUserDetails userDetails = new JwtUserDetails(userId);
             UsernamePasswordAuthenticationToken authentication = createAuthenticationToken(userDetails);
             setAuthentication(authentication);
+            authenticatedTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
         catch (ExpiredJwtException e) {
             log.info("Token has expired: {}", e.getMessage());
             request.setAttribute(AUTH_EXCEPTION_ATTRIBUTE, EXPIRED_TOKEN);
+            expiredTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
         catch (JwtException | ParsingTokenException e) {
             log.warn("Invalid JWT Token: {}", e.getMessage());
             request.setAttribute(AUTH_EXCEPTION_ATTRIBUTE, INVALID_TOKEN);
+            invalidTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    // DeferredResult 응답은 ASYNC 디스패치로 다시 보안 필터 체인을 지난다. 인증 정보를 저장하지 않으므로(STATELESS) 이때도 토큰으로 다시 인증한다
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
     private boolean isHealthCheckUri(HttpServletRequest request) {
         return request.getRequestURI().equals(HEALTH_CHECK_URI);
     }
 
     private boolean isPermittedUri(HttpServletRequest request) {
-        String requestURI = request.getRequestURI();
-        return PERMITTED_ENDPOINTS.stream()
-                .anyMatch(requestURI::startsWith);
+        return PERMITTED_ENDPOINTS.matchesPrefixOf(request.getRequestURI());
     }
 
     private boolean isSignEndpoint(HttpServletRequest request) {
-        String requestURI = request.getRequestURI();
-        return SIGN_ENDPOINTS.stream()
-                .anyMatch(endpoint -> endpoint.equals(requestURI));
+        return SIGN_ENDPOINTS.contains(request.getRequestURI());
     }
 
     private void setAuthentication(UsernamePasswordAuthenticationToken authentication) {
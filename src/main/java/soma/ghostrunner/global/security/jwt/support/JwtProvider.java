@@ -1,26 +1,60 @@
 package soma.ghostrunner.global.security.jwt.support;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import soma.ghostrunner.global.security.exception.ParsingTokenException;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 토큰 검증 결과(userId)는 토큰 해시를 키로 토큰 만료 시각까지 로컬에 캐싱한다.
+ * 같은 토큰의 반복 요청은 서명 검증, Base64 디코딩, 클레임 파싱을 건너뛴다.
+ * 만료 시각이 없는 토큰은 캐싱하지 않는다.
+ */
 @Component
 public class JwtProvider {
 
     private final Key key;
+    private final JwtParser parser;     // 불변 객체라 스레드 간 공유한다
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    public JwtProvider(@Value("${jwt.secret}") String secretKey) {
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public JwtProvider(@Value("${jwt.secret}") String secretKey,
+                       MeterRegistry meterRegistry,
+                       @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
         byte[] keyBytes = Decoders.BASE64URL.decode(secretKey);
         key = Keys.hmacShaKeyFor(keyBytes);
+        parser = Jwts.parserBuilder().setSigningKey(key).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpiration())
+                .build();
+
+        this.cacheHits = Counter.builder("auth.jwt.verified_cache.lookups").tag("result", "hit").register(meterRegistry);
+        this.cacheMisses = Counter.builder("auth.jwt.verified_cache.lookups").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.jwt.verified_cache.size", verifiedTokens, Cache::estimatedSize).register(meterRegistry);
     }
-  
+
     public String extractTokenFromHeader(HttpServletRequest request) {
         String authorizationHeader = request.getHeader("Authorization");
         if ( authorizationHeader == null || !authorizationHeader.startsWith("Bearer ") || authorizationHeader.isBlank() ) {
@@ -30,14 +64,25 @@ public class JwtProvider {
     }
 
     public String getUserIdFromToken(String token) {
+        String cacheKey = hash(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(cacheKey);
+        if (verified != null && verified.expiresAtMillis() > System.currentTimeMillis()) {
+            cacheHits.increment();
+            return verified.userId();
+        }
+        cacheMisses.increment();
+
         Claims claims = parseClaims(token);
-        return getUserId(claims);
+        String userId = getUserId(claims);
+        Date expiration = claims.getExpiration();
+        if (userId != null && expiration != null) {
+            verifiedTokens.put(cacheKey, new VerifiedToken(userId, expiration.getTime()));
+        }
+        return userId;
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key).build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody();
     }
 
@@ -45,4 +90,36 @@ public class JwtProvider {
         return claims.get("userId", String.class);
     }
 
+    // 토큰 원문을 메모리에 들고 있지 않도록 SHA-256 해시를 키로 쓴다
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 지원하지 않는 환경입니다.", e);
+        }
+    }
+
+    private record VerifiedToken(String userId, long expiresAtMillis) {}
+
+    private static class UntilTokenExpiration implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
 }
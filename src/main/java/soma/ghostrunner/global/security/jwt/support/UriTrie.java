@@ -0,0 +1,84 @@
+package soma.ghostrunner.global.security.jwt.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 고정된 URI 목록으로 미리 만들어 두는 문자 단위 트라이.
+ * 요청 URI 를 앞에서부터 한 번만 훑어 접두사 / 완전 일치 여부를 판단하며, 조회 중에는 객체를 만들지 않는다.
+ */
+public final class UriTrie {
+
+    private final Node root = new Node();
+
+    private UriTrie(Collection<String> uris) {
+        for (String uri : uris) {
+            Node node = root;
+            for (int i = 0; i < uri.length(); i++) {
+                node = node.childOrCreate(uri.charAt(i));
+            }
+            node.terminal = true;
+        }
+    }
+
+    public static UriTrie of(Collection<String> uris) {
+        return new UriTrie(uris);
+    }
+
+    /** 목록의 URI 중 하나로 시작하면 true */
+    public boolean matchesPrefixOf(String uri) {
+        Node node = root;
+        for (int i = 0; i < uri.length(); i++) {
+            if (node.terminal) {
+                return true;
+            }
+            node = node.child(uri.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.terminal;
+    }
+
+    /** 목록의 URI 와 정확히 같으면 true */
+    public boolean contains(String uri) {
+        Node node = root;
+        for (int i = 0; i < uri.length(); i++) {
+            node = node.child(uri.charAt(i));
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.terminal;
+    }
+
+    private static final class Node {
+
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private boolean terminal;
+
+        private Node child(char c) {
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node();
+                labels = Arrays.copyOf(labels, labels.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                labels[labels.length - 1] = c;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+
+    }
+
+}
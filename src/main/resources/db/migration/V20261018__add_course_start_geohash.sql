@@ -0,0 +1,10 @@
+-- 주변 코스 검색용 geohash 컬럼 / 인덱스 추가
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행한다. ST_GeoHash 는 Geohash.encode 와 같은 문자열을 만든다.
+
+ALTER TABLE course ADD COLUMN start_geohash VARCHAR(12) NULL;
+
+UPDATE course
+SET start_geohash = ST_GeoHash(start_longtitude, start_latitude, 9)
+WHERE start_geohash IS NULL;
+
+CREATE INDEX idx_course_start_geohash ON course (start_geohash);
@@ -0,0 +1,32 @@
+-- 코스별 공개 러닝 통계 반정규화 테이블 (CourseStats)
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행한다. 이후 값은 CourseStatsService / CourseStatsReconciler 가 관리한다.
+
+CREATE TABLE course_stats (
+    course_id             BIGINT      NOT NULL,
+    public_run_count      BIGINT      NOT NULL,
+    unique_runner_count   BIGINT      NOT NULL,
+    best_duration_sec     BIGINT      NULL,
+    lowest_pace           DOUBLE      NULL,
+    total_duration_sec    BIGINT      NOT NULL,
+    total_pace            DOUBLE      NOT NULL,
+    total_cadence         BIGINT      NOT NULL,
+    total_burned_calories BIGINT      NOT NULL,
+    updated_at            DATETIME(6) NOT NULL,
+    PRIMARY KEY (course_id)
+);
+
+INSERT INTO course_stats (course_id, public_run_count, unique_runner_count, best_duration_sec, lowest_pace,
+                          total_duration_sec, total_pace, total_cadence, total_burned_calories, updated_at)
+SELECT c.id,
+       COUNT(r.id),
+       COUNT(DISTINCT r.member_id),
+       MIN(r.duration_sec),
+       MIN(r.`average_pace_min/km`),
+       COALESCE(SUM(r.duration_sec), 0),
+       COALESCE(SUM(r.`average_pace_min/km`), 0),
+       COALESCE(SUM(r.average_cadence_spm), 0),
+       COALESCE(SUM(r.burned_calories_kcal), 0),
+       NOW(6)
+FROM course c
+LEFT JOIN running_record r ON r.course_id = c.id AND r.is_public = true AND r.deleted = false
+GROUP BY c.id;
@@ -0,0 +1,5 @@
+-- 코스 경로 후처리(간소화 / 체크포인트) 상태 컬럼 추가 (Course.geometryStatus)
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행한다. 기존 코스는 경로가 이미 채워져 있으므로 NULL(READY 와 동일)로 둔다.
+-- 컬럼 타입은 Hibernate 가 @Enumerated(STRING) 에 대해 생성하는 MySQL ENUM 과 맞춘다.
+
+ALTER TABLE course ADD COLUMN geometry_status ENUM ('PENDING', 'READY', 'FAILED') NULL;
@@ -0,0 +1,4 @@
+-- 바이너리 Telemetry URL 컬럼 추가 (RunningDataUrls.binaryTelemetryUrl)
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행한다. 기존 러닝은 NULL 로 두어 JSONL 을 내려준다.
+
+ALTER TABLE running_record ADD COLUMN binary_telemetry_url VARCHAR(255) NULL;
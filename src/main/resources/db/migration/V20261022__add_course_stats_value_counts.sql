@@ -0,0 +1,16 @@
+-- 케이던스 / 칼로리 값이 있는 공개 기록 수 컬럼 추가 (CourseStats.cadenceCount / burnedCaloriesCount)
+-- ddl-auto 가 validate 이므로 배포 전에 직접 실행한다. 평균은 이 개수로 나누므로 기존 행은 running_record 기준으로 채운다.
+
+ALTER TABLE course_stats
+    ADD COLUMN cadence_count         BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN burned_calories_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE course_stats s
+JOIN (SELECT r.course_id,
+             COUNT(r.average_cadence_spm)  AS cadence_count,
+             COUNT(r.burned_calories_kcal) AS burned_calories_count
+      FROM running_record r
+      WHERE r.is_public = true AND r.deleted = false
+      GROUP BY r.course_id) c ON c.course_id = s.course_id
+SET s.cadence_count         = c.cadence_count,
+    s.burned_calories_count = c.burned_calories_count;
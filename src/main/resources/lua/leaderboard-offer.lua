@@ -0,0 +1,25 @@
+-- 회원의 기록이 현재 최고 기록보다 빠를 때만 리더보드를 갱신한다
+-- 적재되어 있지 않으면 변경 버전만 올려, 진행 중인 적재가 이 기록을 놓친 채 적재 완료로 표시되지 않게 한다
+-- KEYS[1] = 기록 ZSET, KEYS[2] = 회원별 러닝 ID HASH, KEYS[3] = 적재 완료 표시, KEYS[4] = 변경 버전
+-- ARGV[1] = 회원 UUID, ARGV[2] = 기록(초), ARGV[3] = 러닝 ID, ARGV[4] = 변경 버전 TTL(초)
+if redis.call("EXISTS", KEYS[3]) == 0 then
+  redis.call("INCR", KEYS[4])
+  redis.call("EXPIRE", KEYS[4], ARGV[4])
+  return 0
+end
+
+local current = redis.call("ZSCORE", KEYS[1], ARGV[1])
+if current and tonumber(current) <= tonumber(ARGV[2]) then
+  return 0
+end
+
+redis.call("ZADD", KEYS[1], ARGV[2], ARGV[1])
+redis.call("HSET", KEYS[2], ARGV[1], ARGV[3])
+
+-- 빈 리더보드로 적재된 뒤 처음 들어가는 기록이면 키에 TTL 이 없으므로 적재 완료 표시와 같게 맞춘다
+local ttl = redis.call("TTL", KEYS[3])
+if ttl > 0 then
+  redis.call("EXPIRE", KEYS[1], ttl)
+  redis.call("EXPIRE", KEYS[2], ttl)
+end
+return 1
@@ -0,0 +1,21 @@
+-- 코스 리더보드를 DB 에서 읽은 회원별 최고 기록으로 다시 채운다
+-- DB 를 읽는 동안 변경 버전이 바뀌었으면 반영하지 못한 기록이 있을 수 있으므로 적재 완료로 표시하지 않는다 (다음 조회 때 다시 적재)
+-- KEYS[1] = 기록 ZSET, KEYS[2] = 회원별 러닝 ID HASH, KEYS[3] = 적재 완료 표시, KEYS[4] = 변경 버전
+-- ARGV[1] = TTL(초), ARGV[2] = DB 를 읽기 전의 변경 버전, 이후 (회원 UUID, 기록(초), 러닝 ID) 반복
+local ttl = tonumber(ARGV[1])
+
+redis.call("DEL", KEYS[1], KEYS[2])
+for i = 3, #ARGV, 3 do
+  redis.call("ZADD", KEYS[1], ARGV[i + 1], ARGV[i])
+  redis.call("HSET", KEYS[2], ARGV[i], ARGV[i + 2])
+end
+
+-- 빈 리더보드면 키가 없어 아무것도 하지 않으며, 이후 offer / replace 가 적재 완료 표시의 TTL 로 맞춘다
+redis.call("EXPIRE", KEYS[1], ttl)
+redis.call("EXPIRE", KEYS[2], ttl)
+
+if (redis.call("GET", KEYS[4]) or "0") ~= ARGV[2] then
+  return 0
+end
+redis.call("SET", KEYS[3], "1", "EX", ttl)
+return 1
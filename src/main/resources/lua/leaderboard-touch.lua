@@ -0,0 +1,11 @@
+-- 리더보드가 적재되어 있으면 1 을 반환한다
+-- 적재되어 있지 않으면 변경 버전을 올리고 0 을 반환해, 진행 중인 적재가 이 변경을 놓친 채 적재 완료로 표시되지 않게 한다
+-- KEYS[1] = 적재 완료 표시, KEYS[2] = 변경 버전
+-- ARGV[1] = 변경 버전 TTL(초)
+if redis.call("EXISTS", KEYS[1]) == 1 then
+  return 1
+end
+
+redis.call("INCR", KEYS[2])
+redis.call("EXPIRE", KEYS[2], ARGV[1])
+return 0
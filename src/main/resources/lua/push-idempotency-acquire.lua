@@ -0,0 +1,17 @@
+-- 푸시 멱등성 락을 키마다 한 번에 확인하고 획득한다
+-- KEYS = 멱등성 키들 (호출 측이 같은 해시 태그 슬롯의 키만 묶어 넘긴다)
+-- ARGV[1] = 락 TTL(ms)
+-- 반환: 키 순서대로 0 = 락 획득, 1 = 이미 전송됨, 2 = 다른 워커가 처리 중
+local results = {}
+for i, key in ipairs(KEYS) do
+  local status = redis.call("GET", key)
+  if status == false then
+    redis.call("SET", key, "PROCESSING", "PX", ARGV[1])
+    results[i] = 0
+  elseif status == "SENT" then
+    results[i] = 1
+  else
+    results[i] = 2
+  end
+end
+return results
@@ -0,0 +1,6 @@
+-- 전송을 마친 키들을 SENT 상태로 바꾼다
+-- KEYS = 멱등성 키들, ARGV[1] = SENT TTL(ms)
+for _, key in ipairs(KEYS) do
+  redis.call("SET", key, "SENT", "PX", ARGV[1])
+end
+return #KEYS
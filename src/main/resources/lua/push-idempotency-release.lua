@@ -0,0 +1,9 @@
+-- 처리 중(PROCESSING)인 키만 지워 재시도할 수 있게 한다. 이미 SENT 인 키는 남겨 둔다
+-- KEYS = 멱등성 키들
+local released = 0
+for _, key in ipairs(KEYS) do
+  if redis.call("GET", key) == "PROCESSING" then
+    released = released + redis.call("DEL", key)
+  end
+end
+return released
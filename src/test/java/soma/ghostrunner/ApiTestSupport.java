@@ -1,6 +1,7 @@
 package soma.ghostrunner;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
@@ -21,6 +22,7 @@ import soma.ghostrunner.domain.running.api.PacemakerApi;
 import soma.ghostrunner.domain.running.api.RunningApi;
 import soma.ghostrunner.domain.running.api.support.RunningApiMapper;
 import soma.ghostrunner.domain.running.api.support.RunningApiMapperImpl;
+import soma.ghostrunner.domain.running.application.PacemakerCompletionNotifier;
 import soma.ghostrunner.domain.running.application.PacemakerService;
 import soma.ghostrunner.domain.running.application.RunningCommandService;
 import soma.ghostrunner.domain.running.application.RunningQueryService;
@@ -29,7 +31,7 @@ import soma.ghostrunner.global.common.log.HttpLogger;
 import soma.ghostrunner.global.security.jwt.support.JwtProvider;
 
 @WebMvcTest(controllers = {RunningApi.class, AuthApi.class, NoticeApi.class, MemberApi.class, PacemakerApi.class, DeviceApi.class, NotificationApi.class})
-@Import(RunningApiMapperImpl.class)
+@Import({RunningApiMapperImpl.class, SimpleMeterRegistry.class})
 @WithMockUser
 public abstract class ApiTestSupport {
 
@@ -54,6 +56,9 @@ public abstract class ApiTestSupport {
     @MockitoBean
     protected PacemakerService paceMakerService;
 
+    @MockitoBean
+    protected PacemakerCompletionNotifier pacemakerCompletionNotifier;
+
     @MockitoBean
     protected NoticeService noticeService;
 
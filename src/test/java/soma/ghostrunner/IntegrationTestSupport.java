@@ -128,6 +128,10 @@ public abstract class IntegrationTestSupport {
 
                 var result1 = SQS_CONTAINER.execInContainer("awslocal", "sqs", "create-queue", "--queue-name", "TEST_QUEUE_NAME");
                 var result2 = SQS_CONTAINER.execInContainer("awslocal", "sqs", "create-queue", "--queue-name", "TEST_DLQ_NAME");
+                var result3 = SQS_CONTAINER.execInContainer("awslocal", "sqs", "create-queue", "--queue-name", "TEST_COURSE_GEOMETRY_QUEUE_NAME");
+                var result4 = SQS_CONTAINER.execInContainer("awslocal", "sqs", "create-queue", "--queue-name", "TEST_COURSE_GEOMETRY_DLQ_NAME");
+                var result5 = SQS_CONTAINER.execInContainer("awslocal", "sqs", "create-queue", "--queue-name", "TEST_PACEMAKER_LLM_QUEUE_NAME");
+                var result6 = SQS_CONTAINER.execInContainer("awslocal", "sqs", "create-queue", "--queue-name", "TEST_PACEMAKER_LLM_DLQ_NAME");
 
                 if (result1.getExitCode() != 0) {
                     throw new RuntimeException("Queue creation failed: " + result1.getStderr());
@@ -135,10 +139,20 @@ public abstract class IntegrationTestSupport {
                 if (result2.getExitCode() != 0) {
                     throw new RuntimeException("DLQ creation failed: " + result2.getStderr());
                 }
+                if (result3.getExitCode() != 0 || result4.getExitCode() != 0) {
+                    throw new RuntimeException("Course geometry queue creation failed: " + result3.getStderr() + result4.getStderr());
+                }
+                if (result5.getExitCode() != 0 || result6.getExitCode() != 0) {
+                    throw new RuntimeException("Pacemaker LLM queue creation failed: " + result5.getStderr() + result6.getStderr());
+                }
 
                 System.out.println("✅ SQS queues created successfully");
                 System.out.println("   - TEST_QUEUE_NAME: " + result1.getStdout().trim());
                 System.out.println("   - TEST_DLQ_NAME: " + result2.getStdout().trim());
+                System.out.println("   - TEST_COURSE_GEOMETRY_QUEUE_NAME: " + result3.getStdout().trim());
+                System.out.println("   - TEST_COURSE_GEOMETRY_DLQ_NAME: " + result4.getStdout().trim());
+                System.out.println("   - TEST_PACEMAKER_LLM_QUEUE_NAME: " + result5.getStdout().trim());
+                System.out.println("   - TEST_PACEMAKER_LLM_DLQ_NAME: " + result6.getStdout().trim());
                 return;
 
             } catch (Exception e) {
@@ -1,7 +1,6 @@
 package soma.ghostrunner.clients.aws;
 
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,16 +14,19 @@ import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Utilities;
-import software.amazon.awssdk.services.s3.model.GetUrlRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.*;
 import soma.ghostrunner.global.clients.aws.s3.GhostRunnerS3Client;
 import soma.ghostrunner.global.error.exception.ExternalIOException;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
@@ -164,19 +166,13 @@ class GhostRunnerS3ClientTest {
 
     @Test
     @DisplayName("uploadObjectList: 직렬화 중 예외 발생 시 ExternalIOException으로 래핑되어 던진다")
-    void uploadObjectList_serializeError_wrapped() throws Exception {
-        // ObjectMapper를 Mock으로 바꿔 실패 시나리오 구성
-        ObjectMapper failing = mock(ObjectMapper.class);
-        GhostRunnerS3Client failingClient = new GhostRunnerS3Client(failing, s3Client);
-        ReflectionTestUtils.setField(failingClient, "s3Bucket", bucket);
-
-        // 리스트 내 2개 중 첫 번째는 성공, 두 번째는 직렬화 예외
-        when(failing.writeValueAsString(eq("ok"))).thenReturn("\"ok\"");
-        when(failing.writeValueAsString(eq("bad"))).thenThrow(new JsonProcessingException("boom"){});
+    void uploadObjectList_serializeError_wrapped() {
+        // 두 번째 원소는 직렬화할 수 있는 프로퍼티가 없는 객체라 직렬화 예외가 발생한다
+        List<Object> list = List.of("ok", new Object());
 
         // when & then
         assertThatThrownBy(() ->
-                failingClient.uploadObjectList(List.of("ok", "bad"), "any.jsonl")
+                client.uploadObjectList(list, "any.jsonl")
         )
                 .isInstanceOf(ExternalIOException.class)
                 .hasMessageContaining("S3에 리스트를 JSONL로 업로드하는데 실패했습니다.");
@@ -185,4 +181,120 @@ class GhostRunnerS3ClientTest {
         verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
     }
 
+    @Test
+    @DisplayName("uploadObjectList: part 크기를 넘는 리스트는 멀티파트로 나눠 업로드한다")
+    void uploadObjectList_overPartSize_multipart() throws IOException {
+        // given
+        String key = "runs/large.jsonl";
+        String padding = "a".repeat(1000);
+        List<Telemetry> list = IntStream.range(0, 12_000)
+                .mapToObj(i -> new Telemetry(padding + i, i))
+                .toList();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+
+        // part 버퍼는 재사용되므로 호출 시점에 바이트를 읽어둔다
+        ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        List<Long> partSizes = new ArrayList<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            uploaded.write(body.contentStreamProvider().newStream().readAllBytes());
+            partSizes.add(request.contentLength());
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+        when(s3Utilities.getUrl(any(GetUrlRequest.class)))
+                .thenReturn(new URL("https://" + bucket + ".s3.amazonaws.com/" + key));
+        when(s3Client.utilities()).thenReturn(s3Utilities);
+
+        // when
+        client.uploadObjectList(list, key);
+
+        // then
+        String[] lines = uploaded.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(list.size());
+        assertThat(lines[11_999]).contains("\"id\":\"" + padding + "11999\"");
+
+        assertThat(partSizes).hasSize(3);
+        assertThat(partSizes.subList(0, 2)).containsOnly(5L * 1024 * 1024);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCap = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeCap.capture());
+        assertThat(completeCap.getValue().uploadId()).isEqualTo("upload-1");
+        assertThat(completeCap.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::eTag)
+                .containsExactly("etag-1", "etag-2", "etag-3");
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    @DisplayName("uploadObjectList: 멀티파트 업로드 도중 실패하면 업로드를 취소한다")
+    void uploadObjectList_partFailed_abort() {
+        // given
+        String padding = "a".repeat(1000);
+        List<Telemetry> list = IntStream.range(0, 12_000)
+                .mapToObj(i -> new Telemetry(padding + i, i))
+                .toList();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message("boom").build());
+
+        // when & then
+        assertThatThrownBy(() -> client.uploadObjectList(list, "runs/large.jsonl"))
+                .isInstanceOf(ExternalIOException.class);
+
+        ArgumentCaptor<AbortMultipartUploadRequest> abortCap = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abortCap.capture());
+        assertThat(abortCap.getValue().uploadId()).isEqualTo("upload-1");
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("uploadBytes: putObject 실패 시 파일 업로드 실패 메시지로 래핑되어 던진다")
+    void uploadBytes_putFailed_wrapped() {
+        // given
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().message("boom").build());
+
+        // when & then
+        assertThatThrownBy(() -> client.uploadBytes(new byte[]{1, 2, 3}, "courses/1/route.bin", "application/octet-stream"))
+                .isInstanceOf(ExternalIOException.class)
+                .hasMessageContaining("S3에 파일을 업로드하는데 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("uploadObjectList: gzip 옵션을 켜면 압축해서 올리고 Content-Encoding 을 지정한다")
+    void uploadObjectList_gzip() throws IOException {
+        // given
+        ReflectionTestUtils.setField(client, "gzipJsonl", true);
+        List<Telemetry> list = List.of(new Telemetry("t1", 4.35), new Telemetry("t2", 5.10));
+        String key = "runs/sample.jsonl";
+
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+                .thenReturn(PutObjectResponse.builder().eTag("etag-123").build());
+        when(s3Utilities.getUrl(any(GetUrlRequest.class)))
+                .thenReturn(new URL("https://" + bucket + ".s3.amazonaws.com/" + key));
+        when(s3Client.utilities()).thenReturn(s3Utilities);
+
+        ArgumentCaptor<PutObjectRequest> reqCap = ArgumentCaptor.forClass(PutObjectRequest.class);
+        ArgumentCaptor<RequestBody> bodyCap = ArgumentCaptor.forClass(RequestBody.class);
+
+        // when
+        client.uploadObjectList(list, key);
+
+        // then
+        verify(s3Client).putObject(reqCap.capture(), bodyCap.capture());
+        assertThat(reqCap.getValue().contentEncoding()).isEqualTo("gzip");
+        assertThat(reqCap.getValue().contentType()).isEqualTo("application/jsonl");
+
+        byte[] compressed = bodyCap.getValue().contentStreamProvider().newStream().readAllBytes();
+        String decompressed = new String(
+                new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), StandardCharsets.UTF_8);
+        assertThat(decompressed.split("\n")).hasSize(2);
+        assertThat(decompressed).contains("\"id\":\"t1\"").contains("\"id\":\"t2\"");
+    }
+
 }
@@ -7,7 +7,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import soma.ghostrunner.domain.course.dao.CourseCacheRepository;
+import soma.ghostrunner.domain.course.domain.events.CourseChangedEvent;
 import soma.ghostrunner.domain.running.domain.events.RunFinishedEvent;
 import soma.ghostrunner.domain.running.domain.events.RunUpdatedEvent;
 
@@ -21,7 +21,10 @@ class CourseCacheEventListenerTest {
     private CourseCacheEventListener courseCacheEventListener;
 
     @Mock
-    private CourseCacheRepository courseCacheRepository;
+    private CourseQueryModelCache courseQueryModelCache;
+
+    @Mock
+    private CourseTileIndex courseTileIndex;
 
 
     @DisplayName("RunFinishedEvent가 발생하면 캐시 무효화가 수행된다.")
@@ -30,13 +33,13 @@ class CourseCacheEventListenerTest {
         // given
         Long courseId = 1L;
         RunFinishedEvent event = new RunFinishedEvent(1L, courseId, "member-uuid", 5.0);
-        willDoNothing().given(courseCacheRepository).deleteById(courseId);
+        willDoNothing().given(courseQueryModelCache).evict(courseId);
 
         // when
         courseCacheEventListener.handleRunFinishedEvent(event);
 
         // then
-        verify(courseCacheRepository, times(1)).deleteById(courseId);
+        verify(courseQueryModelCache, times(1)).evict(courseId);
     }
 
     @DisplayName("RunUpdatedEvent가 발생하면 캐시 무효화가 수행된다.")
@@ -45,13 +48,27 @@ class CourseCacheEventListenerTest {
         // given
         Long courseId = 1L;
         RunUpdatedEvent event = new RunUpdatedEvent(1L, courseId, "member-uuid", "name", true);
-        willDoNothing().given(courseCacheRepository).deleteById(courseId);
+        willDoNothing().given(courseQueryModelCache).evict(courseId);
 
         // when
         courseCacheEventListener.handleRunUpdatedEvent(event);
 
         // then
-        verify(courseCacheRepository, times(1)).deleteById(courseId);
+        verify(courseQueryModelCache, times(1)).evict(courseId);
+    }
+
+    @DisplayName("CourseChangedEvent가 발생하면 캐시와 코스가 속한 타일이 무효화된다.")
+    @Test
+    void handleCourseChangedEvent() {
+        // given
+        CourseChangedEvent event = new CourseChangedEvent(1L, 37.5, 127.0);
+
+        // when
+        courseCacheEventListener.handleCourseChangedEvent(event);
+
+        // then
+        verify(courseQueryModelCache, times(1)).evict(1L);
+        verify(courseTileIndex, times(1)).evict(37.5, 127.0);
     }
 
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import soma.ghostrunner.IntegrationTestSupport;
 import soma.ghostrunner.domain.course.dao.CourseCacheRepository;
 import soma.ghostrunner.domain.course.dao.CourseRepository;
@@ -614,6 +615,40 @@ class CourseFacadeTest extends IntegrationTestSupport {
         assertThat(courseCacheRepository.findById(missedCourse2.getId())).isNotNull();
     }
 
+    @DisplayName("회원의 코스 요약을 조회하면 코스별 통계와 본인 최고 기록이 함께 조회된다.")
+    @Test
+    void findCourseSummariesOfMember() {
+        // given
+        var memberPool = IntStream.range(0, 3).boxed()
+                .map(i -> Member.of("회원" + i, "profile-url-" + i))
+                .toList();
+        memberRepository.saveAll(memberPool);
+        Course ranCourse = createCourse("본인이 달린 코스");
+        Course otherCourse = createCourse("남들만 달린 코스");
+        courseRepository.saveAll(List.of(ranCourse, otherCourse));
+        runningRepository.save(createRunning("본인 기록", ranCourse, defaultMember, 3000L));
+        runningRepository.save(createRunning("본인 느린 기록", ranCourse, defaultMember, 3300L));
+        saveDummyRunsToCourse(ranCourse, 2, memberPool);
+        saveDummyRunsToCourse(otherCourse, 3, memberPool);
+
+        // when
+        var summaries = courseFacade.findCourseSummariesOfMember(defaultMember.getUuid(), PageRequest.of(0, 10));
+
+        // then
+        assertThat(summaries.getTotalElements()).isEqualTo(2);
+        var ranSummary = summaries.getContent().stream().filter(c -> c.id().equals(ranCourse.getId())).findFirst()
+                .orElseThrow();
+        assertThat(ranSummary.uniqueRunnersCount()).isEqualTo(3);
+        assertThat(ranSummary.totalRunsCount()).isEqualTo(3);
+        assertThat(ranSummary.myGhostInfo().runnerUuid()).isEqualTo(defaultMember.getUuid());
+        assertThat(ranSummary.myGhostInfo().duration()).isEqualTo(3000L);
+
+        var otherSummary = summaries.getContent().stream().filter(c -> c.id().equals(otherCourse.getId())).findFirst()
+                .orElseThrow();
+        assertThat(otherSummary.uniqueRunnersCount()).isEqualTo(3);
+        assertThat(otherSummary.myGhostInfo()).isNull();
+    }
+
     // --- Helper Methods ---
     private Course createCourse(String name) {
         return createCourse(name, defaultMember, DEFAULT_LAT, DEFAULT_LNG, CourseProfile.of(100d, 10d, 10d, -10d));
@@ -0,0 +1,208 @@
+package soma.ghostrunner.domain.course.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import soma.ghostrunner.domain.course.dao.CourseCacheRepository;
+import soma.ghostrunner.domain.course.dto.query.CourseQueryModel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseQueryModelCacheTest {
+
+    @Mock CourseCacheRepository courseCacheRepository;
+    @Mock RedisTemplate<String, String> redisTemplate;
+    @Mock RedisMessageListenerContainer listenerContainer;
+
+    SimpleMeterRegistry meterRegistry;
+    CourseQueryModelCache sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new CourseQueryModelCache(courseCacheRepository, redisTemplate, listenerContainer, meterRegistry,
+                10, 100, 3000);
+    }
+
+    @DisplayName("Redis 에서 찾은 코스 정보는 로컬 캐시에 담겨 다음 조회부터 Redis 를 거치지 않는다.")
+    @Test
+    void redisHitIsCachedLocally() {
+        // given
+        CourseQueryModel model = model(1L);
+        when(courseCacheRepository.findAllById(List.of(1L))).thenReturn(Map.of(1L, model));
+
+        // when
+        Map<Long, CourseQueryModel> first = sut.findAllById(List.of(1L), ids -> Map.of());
+        Map<Long, CourseQueryModel> second = sut.findAllById(List.of(1L), ids -> Map.of());
+
+        // then
+        assertThat(first).containsExactly(Map.entry(1L, model));
+        assertThat(second).containsExactly(Map.entry(1L, model));
+        verify(courseCacheRepository, times(1)).findAllById(anyList());
+        assertThat(lookups("local", "hit")).isEqualTo(1);
+        assertThat(lookups("redis", "hit")).isEqualTo(1);
+    }
+
+    @DisplayName("캐시에 없는 코스만 loader 로 조회해 Redis 에 저장하고, 요청한 코스 순서대로 반환한다.")
+    @Test
+    void loadCacheMissedCourses() {
+        // given
+        CourseQueryModel cached = model(1L);
+        CourseQueryModel loaded = model(2L);
+        when(courseCacheRepository.findAllById(List.of(2L, 1L))).thenReturn(Map.of(1L, cached));
+        List<List<Long>> loaderCalls = new CopyOnWriteArrayList<>();
+
+        // when
+        Map<Long, CourseQueryModel> result = sut.findAllById(List.of(2L, 1L), ids -> {
+            loaderCalls.add(ids);
+            return Map.of(2L, loaded);
+        });
+
+        // then
+        assertThat(result).containsExactly(Map.entry(2L, loaded), Map.entry(1L, cached));
+        assertThat(loaderCalls).containsExactly(List.of(2L));
+        verify(courseCacheRepository).saveAll(List.of(loaded));
+        assertThat(meterRegistry.get("course.query_cache.load").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("조회 도중 무효화된 코스만 캐싱하지 않고, 나머지 코스는 캐싱한다.")
+    @Test
+    void skipCachingOnlyInvalidatedCourses() {
+        // given
+        CourseQueryModel first = model(1L);
+        CourseQueryModel second = model(2L);
+        when(courseCacheRepository.findAllById(List.of(1L, 2L))).thenReturn(Map.of());
+
+        // when
+        Map<Long, CourseQueryModel> result = sut.findAllById(List.of(1L, 2L), ids -> {
+            sut.evictLocal(2L);
+            return Map.of(1L, first, 2L, second);
+        });
+        Map<Long, CourseQueryModel> cached = sut.findAllById(List.of(1L), ids -> Map.of());
+
+        // then
+        assertThat(result).containsExactly(Map.entry(1L, first), Map.entry(2L, second));
+        assertThat(cached).containsExactly(Map.entry(1L, first));
+        verify(courseCacheRepository).saveAll(List.of(first));
+        assertThat(lookups("local", "hit")).isEqualTo(1);
+    }
+
+    @DisplayName("같은 코스에 대한 동시 캐시 미스는 하나의 DB 조회 결과를 함께 사용한다.")
+    @Test
+    void coalesceConcurrentLoads() throws Exception {
+        // given
+        CourseQueryModel loaded = model(1L);
+        when(courseCacheRepository.findAllById(List.of(1L))).thenReturn(Map.of());
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<Map<Long, CourseQueryModel>> first = executor.submit(() -> sut.findAllById(List.of(1L), ids -> {
+                loaderCalls.incrementAndGet();
+                loadStarted.countDown();
+                await(releaseLoad);
+                return Map.of(1L, loaded);
+            }));
+            loadStarted.await(1, TimeUnit.SECONDS);
+            Future<Map<Long, CourseQueryModel>> second = executor.submit(() -> sut.findAllById(List.of(1L), ids -> {
+                loaderCalls.incrementAndGet();
+                return Map.of(1L, loaded);
+            }));
+            waitUntilCoalesced();
+            releaseLoad.countDown();
+
+            // then
+            assertThat(first.get(1, TimeUnit.SECONDS)).containsExactly(Map.entry(1L, loaded));
+            assertThat(second.get(1, TimeUnit.SECONDS)).containsExactly(Map.entry(1L, loaded));
+            assertThat(loaderCalls).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("코스 정보를 무효화하면 Redis 와 로컬 캐시에서 지우고 다른 인스턴스에 무효화를 알린다.")
+    @Test
+    void evict() {
+        // given
+        CourseQueryModel model = model(1L);
+        when(courseCacheRepository.findAllById(List.of(1L))).thenReturn(Map.of(1L, model));
+        sut.findAllById(List.of(1L), ids -> Map.of());
+
+        // when
+        sut.evict(1L);
+        sut.findAllById(List.of(1L), ids -> Map.of());
+
+        // then
+        verify(courseCacheRepository).deleteById(1L);
+        verify(redisTemplate).convertAndSend(CourseQueryModelCache.INVALIDATION_CHANNEL, "1");
+        verify(courseCacheRepository, times(2)).findAllById(List.of(1L));
+    }
+
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 로컬 캐시에서 코스 정보를 지운다.")
+    @Test
+    void evictLocalOnInvalidationMessage() {
+        // given
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        CourseQueryModel model = model(1L);
+        when(courseCacheRepository.findAllById(List.of(1L))).thenReturn(Map.of(1L, model));
+        sut.findAllById(List.of(1L), ids -> Map.of());
+
+        // when
+        listenerCaptor.getValue().onMessage(new DefaultMessage(
+                CourseQueryModelCache.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+        sut.findAllById(List.of(1L), ids -> Map.of());
+
+        // then
+        verify(courseCacheRepository, times(2)).findAllById(List.of(1L));
+        verify(courseCacheRepository, never()).deleteById(anyLong());
+    }
+
+    private CourseQueryModel model(Long id) {
+        return new CourseQueryModel(id, "코스" + id, List.of(), 0);
+    }
+
+    private double lookups(String tier, String result) {
+        return meterRegistry.get("course.query_cache.lookups").tag("tier", tier).tag("result", result).counter().count();
+    }
+
+    private void waitUntilCoalesced() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (meterRegistry.get("course.query_cache.coalesced_loads").counter().count() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
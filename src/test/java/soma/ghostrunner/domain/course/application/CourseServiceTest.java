@@ -184,6 +184,43 @@ class CourseServiceTest extends IntegrationTestSupport {
         Assertions.assertThat(foundCourse.getId()).isEqualTo(savedCourse.getId());
     }
 
+    @DisplayName("경로 후처리가 끝나지 않은 코스는 주변 코스 조회에서 제외한다.")
+    @Test
+    void findNearbyCourses_ExcludesGeometryNotReady() {
+        // given
+        Course readyCourse = createPublicCourse("완료된 코스", LAT, LNG);
+        Course pendingCourse = createPublicCourse("처리 중인 코스", LAT, LNG);
+        pendingCourse.markGeometryPending();
+        courseRepository.saveAll(List.of(readyCourse, pendingCourse));
+
+        // when
+        List<CoursePreviewDto> courses = courseService.findNearbyCourses(LAT, LNG, 1000, CourseSortType.DISTANCE, CourseSearchFilterDto.of());
+
+        // then
+        assertThat(courses).extracting(CoursePreviewDto::name).containsExactly("완료된 코스");
+    }
+
+    @DisplayName("경로 후처리 완료는 한 번만 반영되며, 이후 요청은 먼저 완료된 경로를 덮어쓰지 않는다.")
+    @Test
+    void completeCourseGeometry_OnlyOnce() {
+        // given
+        Course course = createPublicCourse("처리 중인 코스", LAT, LNG);
+        course.markGeometryPending();
+        Long id = courseRepository.save(course).getId();
+
+        // when
+        boolean first = courseService.completeCourseGeometry(id, "s3://route-1", "s3://checkpoints-1");
+        boolean second = courseService.completeCourseGeometry(id, "s3://route-2", "s3://checkpoints-2");
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        Course found = courseRepository.findById(id).orElseThrow();
+        assertThat(found.isGeometryReady()).isTrue();
+        assertThat(found.getCourseDataUrls().getRouteUrl()).isEqualTo("s3://route-1");
+        assertThat(found.getCourseDataUrls().getCheckpointsUrl()).isEqualTo("s3://checkpoints-1");
+    }
+
     @DisplayName("코스의 제목과 공개 여부를 수정할 수 있다.")
     @Test
     void updateCourse_Success() {
@@ -0,0 +1,153 @@
+package soma.ghostrunner.domain.course.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import soma.ghostrunner.IntegrationTestSupport;
+import soma.ghostrunner.domain.course.dao.CourseRepository;
+import soma.ghostrunner.domain.course.dao.CourseStatsRepository;
+import soma.ghostrunner.domain.course.domain.Course;
+import soma.ghostrunner.domain.course.domain.CourseStats;
+import soma.ghostrunner.domain.member.domain.Member;
+import soma.ghostrunner.domain.member.infra.dao.MemberRepository;
+import soma.ghostrunner.domain.running.application.RunningCommandService;
+import soma.ghostrunner.domain.running.domain.Running;
+import soma.ghostrunner.domain.running.domain.RunningMode;
+import soma.ghostrunner.domain.running.domain.RunningRecord;
+import soma.ghostrunner.domain.running.infra.persistence.RunningRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseStatsServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CourseStatsRepository courseStatsRepository;
+    @Autowired
+    private CourseStatsReconciler courseStatsReconciler;
+    @Autowired
+    private RunningCommandService runningCommandService;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private RunningRepository runningRepository;
+
+    private Member member1;
+    private Member member2;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        member1 = memberRepository.save(Member.of("카리나", "profile1.url"));
+        member2 = memberRepository.save(Member.of("윈터", "profile2.url"));
+        course = courseRepository.save(createCourse(member1));
+    }
+
+    @DisplayName("공개 러닝 기록이 저장되면 코스 통계에 더해진다.")
+    @Test
+    void applyFinishedRun() {
+        // when
+        runningRepository.save(createRunning(member1, 1800L, 6.0, 170, true));
+        runningRepository.save(createRunning(member1, 1500L, 5.0, 180, true));
+        runningRepository.save(createRunning(member2, 2100L, 7.0, 160, true));
+        runningRepository.save(createRunning(member2, 1000L, 4.0, 190, false)); // 비공개
+
+        // then
+        CourseStats stats = courseStatsRepository.findById(course.getId()).orElseThrow();
+        assertThat(stats.getPublicRunCount()).isEqualTo(3);
+        assertThat(stats.getUniqueRunnerCount()).isEqualTo(2);
+        assertThat(stats.getBestDuration()).isEqualTo(1500L);
+        assertThat(stats.getLowestPace()).isEqualTo(5.0);
+        assertThat(stats.getTotalDuration()).isEqualTo(5400L);
+        assertThat(stats.getTotalPace()).isEqualTo(18.0);
+        assertThat(stats.getTotalCadence()).isEqualTo(510L);
+    }
+
+    @DisplayName("러닝 기록을 비공개로 바꾸면 코스 통계를 다시 집계한다.")
+    @Test
+    void refreshOnPublicStatusUpdated() {
+        // given
+        Running best = runningRepository.save(createRunning(member1, 1500L, 5.0, 180, true));
+        runningRepository.save(createRunning(member2, 2100L, 7.0, 160, true));
+
+        // when
+        runningCommandService.updateRunningPublicStatus(best.getId(), member1.getUuid());
+
+        // then
+        CourseStats stats = courseStatsRepository.findById(course.getId()).orElseThrow();
+        assertThat(stats.getPublicRunCount()).isEqualTo(1);
+        assertThat(stats.getUniqueRunnerCount()).isEqualTo(1);
+        assertThat(stats.getBestDuration()).isEqualTo(2100L);
+        assertThat(stats.getLowestPace()).isEqualTo(7.0);
+    }
+
+    @DisplayName("러닝 기록을 삭제하면 코스 통계를 다시 집계한다.")
+    @Test
+    void refreshOnRunsDeleted() {
+        // given
+        Running run = runningRepository.save(createRunning(member1, 1500L, 5.0, 180, true));
+
+        // when
+        runningCommandService.deleteRunnings(List.of(run.getId()), member1.getUuid());
+
+        // then
+        CourseStats stats = courseStatsRepository.findById(course.getId()).orElseThrow();
+        assertThat(stats.getPublicRunCount()).isZero();
+        assertThat(stats.getUniqueRunnerCount()).isZero();
+        assertThat(stats.getBestDuration()).isNull();
+        assertThat(stats.getTotalDuration()).isZero();
+    }
+
+    @DisplayName("어긋난 코스 통계는 재집계 작업으로 러닝 기록과 다시 맞춘다.")
+    @Test
+    void reconcile() {
+        // given
+        runningRepository.save(createRunning(member1, 1500L, 5.0, 180, true));
+        courseStatsRepository.overwrite(course.getId(), 99L, 99L, 1L, 1.0, 1L, 1.0, 1L, 1L, 99L, 99L);
+
+        // when
+        courseStatsReconciler.reconcile();
+
+        // then
+        CourseStats stats = courseStatsRepository.findById(course.getId()).orElseThrow();
+        assertThat(stats.getPublicRunCount()).isEqualTo(1);
+        assertThat(stats.getUniqueRunnerCount()).isEqualTo(1);
+        assertThat(stats.getBestDuration()).isEqualTo(1500L);
+        assertThat(stats.getTotalCadence()).isEqualTo(180L);
+        assertThat(stats.getCadenceCount()).isEqualTo(1L);
+    }
+
+    @DisplayName("케이던스가 없는 공개 기록은 케이던스 합계와 개수에 더하지 않는다.")
+    @Test
+    void applyFinishedRunWithoutCadence() {
+        // when
+        runningRepository.save(createRunning(member1, 1800L, 6.0, 170, true));
+        runningRepository.save(createRunning(member2, 1500L, 5.0, null, true));
+
+        // then
+        CourseStats stats = courseStatsRepository.findById(course.getId()).orElseThrow();
+        assertThat(stats.getPublicRunCount()).isEqualTo(2);
+        assertThat(stats.getTotalCadence()).isEqualTo(170L);
+        assertThat(stats.getCadenceCount()).isEqualTo(1L);
+        assertThat(stats.getBurnedCaloriesCount()).isEqualTo(2L);
+    }
+
+    private Course createCourse(Member member) {
+        Course course = Course.of(member, 5.0, 0.0, 100.0, 0.0, 37.5, 127.0, "route.url", "checkpoint.url", "thumb.url");
+        course.setName("통계 코스");
+        course.setIsPublic(true);
+        return course;
+    }
+
+    private Running createRunning(Member member, long duration, double averagePace, Integer cadence, boolean isPublic) {
+        RunningRecord record = RunningRecord.of(5.0, 10.0, 10.0, 10.0,
+                averagePace, averagePace, averagePace, duration, 300, cadence, 150);
+        return Running.of("러닝", RunningMode.SOLO, null, record, System.currentTimeMillis(), isPublic, false,
+                "raw.url", "interpolated.url", "screenshot.url", member, course);
+    }
+
+}
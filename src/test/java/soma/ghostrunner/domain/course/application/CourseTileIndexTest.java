@@ -0,0 +1,203 @@
+package soma.ghostrunner.domain.course.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.test.util.ReflectionTestUtils;
+import soma.ghostrunner.domain.course.dao.CourseRepository;
+import soma.ghostrunner.domain.course.domain.Course;
+import soma.ghostrunner.domain.course.dto.CourseMapper;
+import soma.ghostrunner.domain.course.dto.CoursePreviewDto;
+import soma.ghostrunner.domain.course.dto.CourseSearchFilterDto;
+import soma.ghostrunner.domain.course.enums.CourseSortType;
+import soma.ghostrunner.domain.course.enums.CourseSource;
+import soma.ghostrunner.domain.member.domain.Member;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseTileIndexTest {
+
+    @Mock CourseRepository courseRepository;
+    @Mock CourseMapper courseMapper;
+    @Mock RedisTemplate<String, String> redisTemplate;
+    @Mock RedisMessageListenerContainer listenerContainer;
+
+    SimpleMeterRegistry meterRegistry;
+    CourseTileIndex sut;
+
+    // 반경 약 1km 검색 범위 (서울)
+    private final double lat = 37.5;
+    private final double lng = 127.0;
+    private final double minLat = 37.491, maxLat = 37.509;
+    private final double minLng = 126.989, maxLng = 127.011;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new CourseTileIndex(courseRepository, courseMapper, redisTemplate, listenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(sut, "enabled", true);
+    }
+
+    private Course course(String name, double courseLat, double courseLng, double distanceKm, double elevationGain) {
+        Course course = Course.of(Member.of("카리나", "karina.png"), distanceKm, 0.0, elevationGain, 0.0,
+                courseLat, courseLng, "route.url", "checkpoint.url", "thumb.url");
+        course.setName(name);
+        course.setIsPublic(true);
+        when(courseMapper.toCoursePreviewDto(course)).thenReturn(new CoursePreviewDto(null, name, "owner-uuid",
+                courseLat, courseLng, CourseSource.USER, "route.url", "checkpoint.url", "thumb.url",
+                (int) (distanceKm * 1000), 0, (int) elevationGain, 0, null));
+        return course;
+    }
+
+    // LIKE 'prefix%' 조회를 흉내 낸다
+    private void givenPublicCourses(Course... courses) {
+        when(courseRepository.findPublicCoursesFetchJoinMemberByGeohashPattern(anyString())).thenAnswer(invocation -> {
+            String prefix = invocation.<String>getArgument(0).replace("%", "");
+            return Arrays.stream(courses)
+                    .filter(course -> course.getStartCoordinate().getGeohash().startsWith(prefix))
+                    .toList();
+        });
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("course.tile_index.lookups").tag("result", result).counter().count();
+    }
+
+    @DisplayName("처음 조회하는 타일만 DB 에서 읽고, 이후에는 인덱스에서 찾는다.")
+    @Test
+    void findCourses_loadsColdTilesOnce() {
+        // given
+        Course near = course("근처 코스", 37.5, 127.0, 5.0, 100);
+        givenPublicCourses(near);
+
+        // when
+        Optional<List<CoursePreviewDto>> first = sut.findCourses(lat, lng, minLat, maxLat, minLng, maxLng,
+                CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+        Optional<List<CoursePreviewDto>> second = sut.findCourses(lat, lng, minLat, maxLat, minLng, maxLng,
+                CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get()).extracting(CoursePreviewDto::name).containsExactly("근처 코스");
+        assertThat(second.get()).isEqualTo(first.get());
+
+        double tileCount = lookups("miss");
+        assertThat(tileCount).isPositive();
+        assertThat(lookups("hit")).isEqualTo(tileCount);
+        verify(courseRepository, times((int) tileCount)).findPublicCoursesFetchJoinMemberByGeohashPattern(anyString());
+    }
+
+    @DisplayName("검색 범위와 필터를 적용하고 가까운 순으로 정렬한다.")
+    @Test
+    void findCourses_appliesBoundaryFiltersAndDistanceOrder() {
+        // given
+        Course near = course("근처 코스", 37.5005, 127.0005, 5.0, 100);
+        Course mid = course("중간 코스", 37.505, 127.005, 5.0, 100);
+        Course shortCourse = course("짧은 코스", 37.5001, 127.0001, 1.0, 100);
+        Course outside = course("범위 밖 코스", 37.52, 127.0, 5.0, 100);
+        givenPublicCourses(mid, outside, shortCourse, near);
+
+        // when
+        Optional<List<CoursePreviewDto>> result = sut.findCourses(lat, lng, minLat, maxLat, minLng, maxLng,
+                CourseSearchFilterDto.of(3000, 7000, null, null, null), CourseSortType.DISTANCE);
+
+        // then
+        assertThat(result.get()).extracting(CoursePreviewDto::name).containsExactly("근처 코스", "중간 코스");
+    }
+
+    @DisplayName("인기순 정렬은 러닝 기록 수가 필요하므로 인덱스로 처리하지 않는다.")
+    @Test
+    void findCourses_popularitySortFallsBackToDatabase() {
+        // when
+        Optional<List<CoursePreviewDto>> result = sut.findCourses(lat, lng, minLat, maxLat, minLng, maxLng,
+                CourseSearchFilterDto.of(), CourseSortType.POPULARITY);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(courseRepository);
+    }
+
+    @DisplayName("검색 범위가 너무 넓으면 인덱스로 처리하지 않는다.")
+    @Test
+    void findCourses_tooWideBoundaryFallsBackToDatabase() {
+        // when
+        Optional<List<CoursePreviewDto>> result = sut.findCourses(lat, lng, 37.0, 38.0, 126.5, 127.5,
+                CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(meterRegistry.get("course.tile_index.fallbacks").counter().count()).isEqualTo(1);
+        verifyNoInteractions(courseRepository);
+    }
+
+    @DisplayName("비활성화되어 있으면 인덱스로 처리하지 않는다.")
+    @Test
+    void findCourses_disabled() {
+        // given
+        ReflectionTestUtils.setField(sut, "enabled", false);
+
+        // when
+        Optional<List<CoursePreviewDto>> result = sut.findCourses(lat, lng, minLat, maxLat, minLng, maxLng,
+                CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(courseRepository);
+    }
+
+    @DisplayName("코스가 속한 타일을 비우면 다음 조회 때 DB 에서 다시 읽는다.")
+    @Test
+    void evict() {
+        // given
+        when(courseRepository.findPublicCoursesFetchJoinMemberByGeohashPattern(anyString())).thenReturn(List.of());
+        sut.findCourses(lat, lng, lat, lat, lng, lng, CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+
+        // when
+        sut.evict(lat, lng);
+        sut.findCourses(lat, lng, lat, lat, lng, lng, CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+
+        // then
+        verify(courseRepository, times(2)).findPublicCoursesFetchJoinMemberByGeohashPattern("wydm3%");
+        verify(redisTemplate).convertAndSend(CourseTileIndex.INVALIDATION_CHANNEL, "wydm3");
+        assertThat(lookups("hit")).isZero();
+    }
+
+    @DisplayName("다른 인스턴스의 무효화 메시지를 받으면 해당 타일을 비운다.")
+    @Test
+    void evictLocalOnInvalidationMessage() {
+        // given
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        when(courseRepository.findPublicCoursesFetchJoinMemberByGeohashPattern(anyString())).thenReturn(List.of());
+        sut.findCourses(lat, lng, lat, lat, lng, lng, CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+
+        // when
+        listenerCaptor.getValue().onMessage(new DefaultMessage(
+                CourseTileIndex.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "wydm3".getBytes(StandardCharsets.UTF_8)), null);
+        sut.findCourses(lat, lng, lat, lat, lng, lng, CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+
+        // then
+        verify(courseRepository, times(2)).findPublicCoursesFetchJoinMemberByGeohashPattern("wydm3%");
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+}
@@ -0,0 +1,107 @@
+package soma.ghostrunner.domain.course.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import soma.ghostrunner.IntegrationTestSupport;
+import soma.ghostrunner.domain.course.dto.RunnerProfile;
+import soma.ghostrunner.domain.course.dto.query.CourseQueryModel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CourseCacheRepositoryTest extends IntegrationTestSupport {
+
+    private static final List<Long> COURSE_IDS = LongStream.range(987654300L, 987654310L).boxed().toList();
+
+    @Autowired
+    private CourseCacheRepository courseCacheRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        COURSE_IDS.forEach(courseCacheRepository::deleteById);
+    }
+
+    @DisplayName("여러 코스를 한 번에 저장하면 해시 태그가 달라도 한 번에 조회된다.")
+    @Test
+    void saveAllAndFindAllById() {
+        // given
+        List<CourseQueryModel> models = COURSE_IDS.stream()
+                .map(id -> new CourseQueryModel(id, "코스" + id, List.of(new RunnerProfile("uuid-" + id, null)), 1))
+                .toList();
+
+        // when
+        courseCacheRepository.saveAll(models);
+        Map<Long, CourseQueryModel> found = courseCacheRepository.findAllById(COURSE_IDS);
+
+        // then
+        assertThat(found).hasSize(COURSE_IDS.size());
+        COURSE_IDS.forEach(id -> assertThat(found.get(id).name()).isEqualTo("코스" + id));
+
+        Set<String> hashTags = redisTemplate.keys("course:*:98765430*").stream()
+                .map(key -> key.substring(key.indexOf('{'), key.indexOf('}') + 1))
+                .collect(Collectors.toSet());
+        assertThat(hashTags).hasSizeGreaterThan(1);
+    }
+
+    @DisplayName("저장한 코스는 60분에서 최대 10% 만큼 늘어난 TTL 을 가진다.")
+    @Test
+    void saveAllWithJitteredTtl() {
+        // given
+        List<CourseQueryModel> models = COURSE_IDS.stream()
+                .map(id -> new CourseQueryModel(id, "코스" + id, List.of(), 0))
+                .toList();
+
+        // when
+        courseCacheRepository.saveAll(models);
+
+        // then
+        redisTemplate.keys("course:*:98765430*").forEach(key ->
+                assertThat(redisTemplate.getExpire(key, TimeUnit.SECONDS)).isBetween(59 * 60L, 66 * 60L));
+    }
+
+    @DisplayName("캐시에 없는 코스는 null 로 조회된다.")
+    @Test
+    void findAllByIdWithMissingCourses() {
+        // given
+        courseCacheRepository.save(new CourseQueryModel(COURSE_IDS.get(0), "코스", List.of(), 0));
+
+        // when
+        Map<Long, CourseQueryModel> found = courseCacheRepository.findAllById(COURSE_IDS.subList(0, 3));
+
+        // then
+        assertThat(found).hasSize(3);
+        assertThat(found.get(COURSE_IDS.get(0))).isNotNull();
+        assertThat(found.get(COURSE_IDS.get(1))).isNull();
+        assertThat(found.get(COURSE_IDS.get(2))).isNull();
+    }
+
+    @DisplayName("코스를 지우면 이전 배포 버전이 읽는 {0} 해시 태그 키도 함께 지운다.")
+    @Test
+    void deleteByIdWithLegacyKey() {
+        // given
+        Long id = COURSE_IDS.get(1);
+        String legacyKey = courseCacheRepository.buildLegacyKey(id);
+        redisTemplate.opsForValue().set(legacyKey, new CourseQueryModel(id, "코스", List.of(), 0));
+        courseCacheRepository.save(new CourseQueryModel(id, "코스", List.of(), 0));
+
+        // when
+        courseCacheRepository.deleteById(id);
+
+        // then
+        assertThat(redisTemplate.hasKey(legacyKey)).isFalse();
+        assertThat(courseCacheRepository.findById(id)).isNull();
+    }
+
+}
@@ -133,6 +133,24 @@ class CourseRepositoryTest extends IntegrationTestSupport {
         assertThat(results.get(0).getName()).isEqualTo("course1");
     }
 
+    @DisplayName("geohash 셀 경계에 걸친 범위에서도 범위 안의 코스를 모두 조회하고 범위 밖 코스는 제외한다")
+    @Test
+    void findCoursesWithFilters_AcrossGeohashCellBoundary() {
+        // given : 경도 127.001953125 는 geohash 셀 경계
+        Course westCourse = createCourse(member1, "서쪽 코스", true, 37.5, 127.0019);
+        Course eastCourse = createCourse(member1, "동쪽 코스", true, 37.5, 127.0020);
+        Course outsideCourse = createCourse(member1, "범위 밖 코스", true, 37.5, 127.01);
+        courseRepository.saveAll(List.of(westCourse, eastCourse, outsideCourse));
+
+        // when
+        List<Course> results = courseRepository.findCoursesWithFilters(37.5, 127.0019, 37.495, 37.505, 126.997, 127.007,
+                CourseSearchFilterDto.of(), CourseSortType.DISTANCE);
+
+        // then
+        assertThat(results).extracting(Course::getName)
+                .containsExactly("서쪽 코스", "동쪽 코스");
+    }
+
     @DisplayName("코스를 ID로 조회할 때 코스 주인 정보를 함께 조회한다")
     @Test
     void findCourseByIdFetchJoinMember() {
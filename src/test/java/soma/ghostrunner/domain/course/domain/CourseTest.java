@@ -3,6 +3,7 @@ package soma.ghostrunner.domain.course.domain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import soma.ghostrunner.domain.course.enums.CourseGeometryStatus;
 import soma.ghostrunner.domain.course.enums.CourseSource;
 import soma.ghostrunner.domain.member.domain.Member;
 
@@ -94,4 +95,52 @@ class CourseTest {
     private Course createDefaultCourse() {
         return Course.of(member, 5.0, 10.0, 100.0, -50.0, 37.123, 127.123, "route.url", "checkpoint.url", "thumb.url");
     }
+
+    @Test
+    @DisplayName("경로 후처리가 완료되면 경로 / 체크포인트 URL 을 채우고 썸네일은 유지한다.")
+    void completeGeometry() {
+        // given
+        Course course = Course.of(member, 180.0, 10.0, 10.0, 10.0,
+                37d, 129d, null, null, "thumb.url");
+        course.markGeometryPending();
+
+        // when
+        course.completeGeometry("route.url", "checkpoint.url");
+
+        // then
+        assertThat(course.getGeometryStatus()).isEqualTo(CourseGeometryStatus.READY);
+        assertThat(course.isGeometryReady()).isTrue();
+        assertThat(course.getCourseDataUrls().getRouteUrl()).isEqualTo("route.url");
+        assertThat(course.getCourseDataUrls().getCheckpointsUrl()).isEqualTo("checkpoint.url");
+        assertThat(course.getCourseDataUrls().getThumbnailUrl()).isEqualTo("thumb.url");
+    }
+
+    @Test
+    @DisplayName("상태가 없는 기존 코스는 경로가 준비된 것으로 본다.")
+    void legacyCourseIsGeometryReady() {
+        // when
+        Course course = Course.of(member, 180.0, 10.0, 10.0, 10.0,
+                37d, 129d, "route.url", "checkpoint.url", "thumb.url");
+
+        // then
+        assertThat(course.getGeometryStatus()).isNull();
+        assertThat(course.isGeometryReady()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이미 완료된 코스는 실패로 바꾸지 않는다.")
+    void failGeometryAfterReady() {
+        // given
+        Course course = Course.of(member, 180.0, 10.0, 10.0, 10.0,
+                37d, 129d, null, null, "thumb.url");
+        course.markGeometryPending();
+        course.completeGeometry("route.url", "checkpoint.url");
+
+        // when
+        course.failGeometry();
+
+        // then
+        assertThat(course.getGeometryStatus()).isEqualTo(CourseGeometryStatus.READY);
+    }
+
 }
@@ -0,0 +1,68 @@
+package soma.ghostrunner.domain.course.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class GeohashTest {
+
+    @DisplayName("표준 geohash 문자열로 인코딩한다.")
+    @Test
+    void encode() {
+        assertThat(Geohash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(Geohash.encode(37.5665, 126.9780, 9)).startsWith("wydm9");
+    }
+
+    @DisplayName("셀 크기는 정밀도가 오를 때마다 위도 / 경도 방향으로 번갈아 줄어든다.")
+    @Test
+    void cellSize() {
+        assertThat(Geohash.cellWidth(1)).isEqualTo(45.0);
+        assertThat(Geohash.cellHeight(1)).isEqualTo(45.0);
+        assertThat(Geohash.cellWidth(2)).isEqualTo(11.25);
+        assertThat(Geohash.cellHeight(2)).isEqualTo(5.625);
+    }
+
+    @DisplayName("범위 안의 모든 점은 반환된 prefix 중 하나로 시작한다.")
+    @Test
+    void coveringPrefixesContainEveryPointInBoundary() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            // given
+            double minLat = 33 + random.nextDouble() * 5;
+            double minLng = 125 + random.nextDouble() * 5;
+            double maxLat = minLat + random.nextDouble() * 0.2;
+            double maxLng = minLng + random.nextDouble() * 0.2;
+
+            // when
+            List<String> prefixes = Geohash.coveringPrefixes(minLat, maxLat, minLng, maxLng);
+
+            // then
+            assertThat(prefixes).isNotEmpty().hasSizeLessThanOrEqualTo(4);
+            for (int j = 0; j < 20; j++) {
+                double lat = minLat + random.nextDouble() * (maxLat - minLat);
+                double lng = minLng + random.nextDouble() * (maxLng - minLng);
+                String hash = Geohash.encode(lat, lng, Geohash.STORED_PRECISION);
+                assertThat(prefixes).anyMatch(hash::startsWith);
+            }
+        }
+    }
+
+    @DisplayName("날짜 변경선을 넘는 범위는 prefix 로 거를 수 없으므로 빈 목록을 반환한다.")
+    @Test
+    void coveringPrefixesAcrossAntimeridian() {
+        assertThat(Geohash.coveringPrefixes(10, 11, 179.5, 180.5)).isEmpty();
+    }
+
+    @DisplayName("범위를 벗어난 좌표는 예외를 발생한다.")
+    @Test
+    void encodeInvalidCoordinates() {
+        assertThatThrownBy(() -> Geohash.encode(91, 0, 9))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("위경도 범위를 벗어난 좌표입니다");
+    }
+
+}
@@ -10,6 +10,7 @@ import soma.ghostrunner.IntegrationTestSupport;
 import soma.ghostrunner.domain.member.domain.Member;
 import soma.ghostrunner.domain.member.infra.dao.MemberRepository;
 import soma.ghostrunner.domain.device.domain.Device;
+import soma.ghostrunner.domain.device.dto.DevicePushToken;
 import soma.ghostrunner.global.common.versioning.SemanticVersion;
 import soma.ghostrunner.global.common.versioning.VersionRange;
 
@@ -360,4 +361,31 @@ class DeviceRepositoryTest extends IntegrationTestSupport {
                 .containsExactlyInAnyOrder("ExponentPushToken[2]", "ExponentPushToken[3]");
     }
 
-}
\ No newline at end of file
+    @DisplayName("마지막으로 조회한 디바이스 ID 이후의 푸시 토큰을 ID 순으로 limit 개씩 조회한다.")
+    @Test
+    void findPushTokensByAppVersionRange_keyset() {
+        // given
+        Member member = createMember("도라에몽");
+        memberRepository.save(member);
+
+        Device device1 = Device.of(member, "ExponentPushToken[1]", "uuid-1", SemanticVersion.of("1.0.0"), "iOS", "14.0", "iPhone 8");
+        Device device2 = Device.of(member, "ExponentPushToken[2]", "uuid-2", SemanticVersion.of("0.9.0"), "iOS", "14.0", "iPhone 8");
+        Device device3 = Device.of(member, null, "uuid-3", SemanticVersion.of("1.0.0"), "iOS", "14.0", "iPhone 8");
+        Device device4 = Device.of(member, "ExponentPushToken[4]", "uuid-4", SemanticVersion.of("1.2.0"), "iOS", "14.0", "iPhone 8");
+        Device device5 = Device.of(member, "ExponentPushToken[5]", "uuid-5", SemanticVersion.of("2.0.0"), "iOS", "14.0", "iPhone 8");
+        deviceRepository.saveAll(List.of(device1, device2, device3, device4, device5));
+        VersionRange versionRange = VersionRange.atLeast("1.0.0");
+
+        // when
+        List<DevicePushToken> firstPage = deviceRepository.findPushTokensByAppVersionRange(versionRange, device1.getId() - 1, 2);
+        List<DevicePushToken> secondPage = deviceRepository.findPushTokensByAppVersionRange(
+                versionRange, firstPage.get(firstPage.size() - 1).id(), 2);
+
+        // then - 버전이 맞지 않거나 토큰이 없는 디바이스는 제외된다
+        assertThat(firstPage).extracting(DevicePushToken::token)
+                .containsExactly("ExponentPushToken[1]", "ExponentPushToken[4]");
+        assertThat(secondPage).extracting(DevicePushToken::token)
+                .containsExactly("ExponentPushToken[5]");
+    }
+
+}
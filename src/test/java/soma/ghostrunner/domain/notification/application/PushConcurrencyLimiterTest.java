@@ -0,0 +1,128 @@
+package soma.ghostrunner.domain.notification.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PushConcurrencyLimiter 유닛 테스트")
+class PushConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @DisplayName("inflight 가 limit 에 도달하면 대기 후 거절하고, 거절 횟수를 기록한다.")
+    @Test
+    void tryAcquire_rejectWhenLimitReached() {
+        // given
+        PushConcurrencyLimiter limiter = createLimiter(2);
+
+        // when
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(meterRegistry.get("push.concurrency.inflight").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("push.concurrency.rejections").counter().count()).isEqualTo(1);
+    }
+
+    @DisplayName("빠르게 성공하면 limit 을 조금씩 늘린다.")
+    @Test
+    void onSuccess_additiveIncrease() {
+        // given
+        PushConcurrencyLimiter limiter = createLimiter(4);
+
+        // when - limit 개 요청이 성공하면 limit 이 1 늘어난다
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(Duration.ofMillis(100).toNanos());
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(4.9).isLessThan(5.0);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @DisplayName("실패하거나 응답이 느리면 limit 을 절반으로 줄이되, 최소값 아래로는 줄이지 않는다.")
+    @Test
+    void onDropped_multiplicativeDecrease() {
+        // given
+        PushConcurrencyLimiter limiter = createLimiter(8);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onDropped();
+        limiter.tryAcquire();
+        limiter.onSuccess(Duration.ofSeconds(10).toNanos()); // 지연 임계치 초과
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+
+        // when - 계속 실패해도 최소값 유지
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("push.concurrency.limit").gauge().value()).isEqualTo(1.0);
+    }
+
+    @DisplayName("혼잡과 무관한 실패는 빠르면 limit 을 바꾸지 않고, 느리면 줄인다.")
+    @Test
+    void onFailure_keepLimitUnlessSlow() {
+        // given
+        PushConcurrencyLimiter limiter = createLimiter(4);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onFailure(Duration.ofMillis(100).toNanos());
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4.0);
+
+        // when
+        limiter.tryAcquire();
+        limiter.onFailure(Duration.ofSeconds(10).toNanos());
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(2.0);
+        assertThat(limiter.getInflight()).isZero();
+    }
+
+    @DisplayName("다른 요청이 끝나 자리가 나면 대기 중이던 요청이 자리를 얻는다.")
+    @Test
+    void tryAcquire_waitForRelease() throws InterruptedException {
+        // given
+        PushConcurrencyLimiter limiter = createLimiter(1);
+        limiter.tryAcquire();
+        Thread releaser = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            limiter.onSuccess(Duration.ofMillis(10).toNanos());
+        });
+
+        // when
+        releaser.start();
+        boolean acquired = limiter.tryAcquire();
+        releaser.join();
+
+        // then
+        assertThat(acquired).isTrue();
+    }
+
+    private PushConcurrencyLimiter createLimiter(int initialLimit) {
+        return new PushConcurrencyLimiter(meterRegistry, initialLimit, 1, 16, 0.5, 3000, 200);
+    }
+
+}
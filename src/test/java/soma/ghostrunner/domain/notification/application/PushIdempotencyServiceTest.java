@@ -21,7 +21,7 @@ import static soma.ghostrunner.domain.notification.application.PushIdempotencySe
 class PushIdempotencyServiceTest extends IntegrationTestSupport {
 
     @Autowired private PushIdempotencyService idempotencyService;
-    @Autowired private RedisTemplate<String, Object> redisTemplate;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
 
     private static final String TEST_MESSAGE_UUID = "test-message-uuid";
     private static final String TEST_PUSH_TOKEN = "ExponentPushToken[test-token-123]";
@@ -42,7 +42,7 @@ class PushIdempotencyServiceTest extends IntegrationTestSupport {
         assertThat(result).isEqualTo(LOCK_ACQUIRED);
 
         // Redis 확인
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         String status = (String) redisTemplate.opsForValue().get(key);
         assertThat(status).isEqualTo("PROCESSING");
 
@@ -89,7 +89,7 @@ class PushIdempotencyServiceTest extends IntegrationTestSupport {
         idempotencyService.markAsCompleted(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
 
         // then
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         String status = (String) redisTemplate.opsForValue().get(key);
         assertThat(status).isEqualTo("SENT");
 
@@ -108,7 +108,7 @@ class PushIdempotencyServiceTest extends IntegrationTestSupport {
         idempotencyService.releaseLock(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
 
         // then
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         String status = (String) redisTemplate.opsForValue().get(key);
         assertThat(status).isNull();
 
@@ -121,7 +121,7 @@ class PushIdempotencyServiceTest extends IntegrationTestSupport {
     @DisplayName("TTL 만료 후 락 획득 시도 시 성공한다.")
     void tryAcquireLock_afterTTLExpired() throws InterruptedException {
         // given - PROCESSING 상태로 설정하되 TTL을 짧게 설정
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         redisTemplate.opsForValue().set(key, "PROCESSING", Duration.ofMillis(50));
 
         // when - 0.1초 대기 (TTL 만료)
@@ -259,5 +259,82 @@ class PushIdempotencyServiceTest extends IntegrationTestSupport {
         assertThat(result1).isEqualTo(LOCK_ACQUIRED);
         assertThat(result2).isEqualTo(LOCK_ACQUIRED);
     }
-}
 
+    @Test
+    @DisplayName("여러 토큰의 락을 한 번에 획득하면 토큰 순서대로 각 결과를 반환한다.")
+    void tryAcquireLocks_mixedResults() {
+        // given
+        String sentToken = "ExponentPushToken[sent]";
+        String lockedToken = "ExponentPushToken[locked]";
+        String freshToken = "ExponentPushToken[fresh]";
+        idempotencyService.tryAcquireLock(TEST_MESSAGE_UUID, sentToken);
+        idempotencyService.markAsCompleted(TEST_MESSAGE_UUID, sentToken);
+        idempotencyService.tryAcquireLock(TEST_MESSAGE_UUID, lockedToken);
+
+        // when
+        List<LockResult> results = idempotencyService.tryAcquireLocks(TEST_MESSAGE_UUID, List.of(sentToken, lockedToken, freshToken));
+
+        // then
+        assertThat(results).containsExactly(ALREADY_COMPLETED, LOCKED_BY_OTHER, LOCK_ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("여러 토큰의 락을 해제해도 이미 전송 완료된 토큰의 키는 남는다.")
+    void releaseLocks_keepsSentKeys() {
+        // given
+        String sentToken = "ExponentPushToken[sent]";
+        String failedToken = "ExponentPushToken[failed]";
+        idempotencyService.tryAcquireLocks(TEST_MESSAGE_UUID, List.of(sentToken, failedToken));
+        idempotencyService.markAsCompleted(TEST_MESSAGE_UUID, List.of(sentToken));
+
+        // when
+        idempotencyService.releaseLocks(TEST_MESSAGE_UUID, List.of(sentToken, failedToken));
+
+        // then
+        assertThat(redisTemplate.opsForValue().get(idempotencyService.buildKey(TEST_MESSAGE_UUID, sentToken))).isEqualTo("SENT");
+        assertThat(redisTemplate.opsForValue().get(idempotencyService.buildKey(TEST_MESSAGE_UUID, failedToken))).isNull();
+    }
+
+    @Test
+    @DisplayName("해시 태그 도입 전 형식으로 전송 완료된 키가 남아 있으면 ALREADY_COMPLETED를 반환한다.")
+    void tryAcquireLocks_legacySentKey() {
+        // given - 이전 형식: 해시 태그 없는 키, JSON 직렬화된 값
+        String legacyToken = "ExponentPushToken[legacy]";
+        String freshToken = "ExponentPushToken[fresh]";
+        redisTemplate.opsForValue().set("push:idempotency:" + TEST_MESSAGE_UUID + ":" + legacyToken, "\"SENT\"", Duration.ofHours(6));
+
+        // when
+        List<LockResult> results = idempotencyService.tryAcquireLocks(TEST_MESSAGE_UUID, List.of(legacyToken, freshToken));
+
+        // then
+        assertThat(results).containsExactly(ALREADY_COMPLETED, LOCK_ACQUIRED);
+        assertThat(redisTemplate.opsForValue().get(idempotencyService.buildKey(TEST_MESSAGE_UUID, legacyToken))).isNull();
+    }
+
+    @Test
+    @DisplayName("한 메시지의 토큰 키는 여러 해시 태그 슬롯으로 나뉘고, 슬롯이 섞여도 결과는 토큰 순서대로 반환한다.")
+    void tryAcquireLocks_spreadsAcrossSlots() {
+        // given
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tokens.add("ExponentPushToken[token-" + i + "]");
+        }
+        idempotencyService.tryAcquireLock(TEST_MESSAGE_UUID, tokens.get(42));
+        idempotencyService.markAsCompleted(TEST_MESSAGE_UUID, tokens.get(42));
+
+        // when
+        List<LockResult> results = idempotencyService.tryAcquireLocks(TEST_MESSAGE_UUID, tokens);
+
+        // then
+        long hashTags = tokens.stream()
+                .map(token -> idempotencyService.buildKey(TEST_MESSAGE_UUID, token))
+                .map(key -> key.substring(key.indexOf('{'), key.indexOf('}') + 1))
+                .distinct()
+                .count();
+        assertThat(hashTags).isGreaterThan(1);
+        assertThat(results).hasSize(100);
+        assertThat(results.get(42)).isEqualTo(ALREADY_COMPLETED);
+        assertThat(results).filteredOn(r -> r == LOCK_ACQUIRED).hasSize(99);
+    }
+
+}
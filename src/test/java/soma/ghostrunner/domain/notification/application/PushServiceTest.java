@@ -5,6 +5,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import soma.ghostrunner.IntegrationTestSupport;
 import soma.ghostrunner.domain.member.domain.Member;
@@ -12,16 +13,22 @@ import soma.ghostrunner.domain.member.infra.dao.MemberRepository;
 import soma.ghostrunner.domain.notification.application.dto.PushContent;
 import soma.ghostrunner.domain.device.dao.DeviceRepository;
 import soma.ghostrunner.domain.device.domain.Device;
+import soma.ghostrunner.domain.notification.application.dto.PushBroadcastProgress;
 import soma.ghostrunner.domain.notification.application.dto.PushMessage;
+import soma.ghostrunner.domain.notification.dao.PushBroadcastProgressRepository;
 import soma.ghostrunner.domain.notification.dao.PushHistoryRepository;
 import soma.ghostrunner.domain.notification.domain.PushHistory;
+import soma.ghostrunner.domain.notification.exception.PushBroadcastNotFound;
 import soma.ghostrunner.domain.notification.exception.PushHistoryNotFound;
 import soma.ghostrunner.global.common.versioning.SemanticVersion;
 import soma.ghostrunner.global.common.versioning.VersionRange;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
@@ -44,6 +51,12 @@ class PushServiceTest extends IntegrationTestSupport {
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private PushBroadcastProgressRepository broadcastProgressRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
 
     private Member member1, member2;
 
@@ -52,6 +65,7 @@ class PushServiceTest extends IntegrationTestSupport {
         member1 = Member.of("카리나", "profile-url");
         member2 = Member.of("윈터", "profile-url");
         memberRepository.saveAll(List.of(member1, member2));
+        given(sqsSender.sendManyAsync(anyList())).willReturn(CompletableFuture.completedFuture(null));
     }
 
     /* push() 테스트 */
@@ -179,16 +193,86 @@ class PushServiceTest extends IntegrationTestSupport {
         // broadcast는 히스토리를 저장하지 않음
         assertThat(pushHistoryRepository.count()).isEqualTo(0);
 
-        // SQS Sender가 3개의 메시지로 호출됨
+        // 토큰 100개까지는 SQS 메시지 하나로 묶여 발행됨
         @SuppressWarnings("unchecked")
         ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
-        then(sqsSender).should(times(1)).sendMany(captor.capture());
-        assertThat(captor.getValue()).hasSize(3);
+        then(sqsSender).should(times(1)).sendManyAsync(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
 
         List<String> allSentTokens = captor.getValue().stream()
                 .flatMap(p -> p.pushTokens().stream())
                 .toList();
         assertThat(allSentTokens).containsExactlyInAnyOrder("ExponentPushToken[1]", "ExponentPushToken[2]", "ExponentPushToken[3]");
+
+        // 발행이 끝나면 진행 상황은 삭제됨
+        String messageUuid = captor.getValue().get(0).messageUuid();
+        assertThat(broadcastProgressRepository.findByMessageUuid(messageUuid)).isEmpty();
+    }
+
+    @DisplayName("전체 푸시: SQS 발행에 실패하면 진행 상황을 남기고, 이어서 발행할 수 있다")
+    @Test
+    void broadcast_publishFailedAndResume() {
+        // given
+        createAndSaveDevice(member1, "ExponentPushToken[1]", "1.1.0");
+        createAndSaveDevice(member2, "ExponentPushToken[2]", "1.1.0");
+        PushContent content = createPushContent(VersionRange.atLeast("1.1.0"));
+        given(sqsSender.sendManyAsync(anyList()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("SQS 장애")));
+
+        // when
+        int pushCount = pushService.broadcast(content);
+
+        // then
+        assertThat(pushCount).isEqualTo(0);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+        then(sqsSender).should(times(1)).sendManyAsync(captor.capture());
+        String messageUuid = captor.getValue().get(0).messageUuid();
+        PushBroadcastProgress progress = broadcastProgressRepository.findByMessageUuid(messageUuid).orElseThrow();
+        assertThat(progress.publishedCount()).isEqualTo(0);
+        assertThat(progress.content().title()).isEqualTo(content.title());
+        assertThat(redisTemplate.getExpire("push:broadcast:" + messageUuid, TimeUnit.SECONDS))
+                .isPositive()
+                .isLessThanOrEqualTo(PushIdempotencyService.SENT_TTL.toSeconds());
+
+        // when - 장애 복구 후 이어서 발행
+        given(sqsSender.sendManyAsync(anyList())).willReturn(CompletableFuture.completedFuture(null));
+        int resumedCount = pushService.resumeBroadcast(messageUuid);
+
+        // then
+        assertThat(resumedCount).isEqualTo(2);
+        assertThat(broadcastProgressRepository.findByMessageUuid(messageUuid)).isEmpty();
+    }
+
+    @DisplayName("전체 푸시: 기록된 기기 이후부터 이어서 발행한다")
+    @Test
+    void resumeBroadcast_fromCheckpoint() {
+        // given
+        Device published = createAndSaveDevice(member1, "ExponentPushToken[1]", "1.1.0");
+        createAndSaveDevice(member2, "ExponentPushToken[2]", "1.1.0");
+        String messageUuid = UUID.randomUUID().toString();
+        broadcastProgressRepository.save(new PushBroadcastProgress(
+                messageUuid, createPushContent(VersionRange.atLeast("1.1.0")), published.getId(), 1), Duration.ofHours(1));
+
+        // when
+        int pushCount = pushService.resumeBroadcast(messageUuid);
+
+        // then
+        assertThat(pushCount).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+        then(sqsSender).should(times(1)).sendManyAsync(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).pushTokens()).containsExactly("ExponentPushToken[2]");
+        assertThat(captor.getValue().get(0).messageUuid()).isEqualTo(messageUuid);
+    }
+
+    @DisplayName("진행 중인 브로드캐스트가 없으면 이어서 발행할 수 없다")
+    @Test
+    void resumeBroadcast_notFound() {
+        // when, then
+        assertThatThrownBy(() -> pushService.resumeBroadcast("uuid"))
+                .isInstanceOf(PushBroadcastNotFound.class);
     }
 
     /* markAsRead() 테스트 */
@@ -1,26 +1,31 @@
 package soma.ghostrunner.domain.notification.application;
 
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.Visibility;
+import io.awspring.cloud.sqs.listener.acknowledgement.BatchAcknowledgement;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import soma.ghostrunner.IntegrationTestSupport;
 import soma.ghostrunner.domain.device.dao.DeviceRepository;
 import soma.ghostrunner.domain.notification.application.dto.PushMessage;
 import soma.ghostrunner.domain.notification.application.dto.PushSendResult;
 import soma.ghostrunner.domain.notification.client.ExpoPushClient;
-import soma.ghostrunner.domain.notification.exception.ExpoDeviceNotRegisteredException;
 import soma.ghostrunner.global.clients.discord.DiscordWebhookClient;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @DisplayName("PushSqsWorker 통합 테스트")
@@ -28,42 +33,46 @@ class PushSqsWorkerTest extends IntegrationTestSupport {
 
     @Autowired private PushSqsWorker pushSqsWorker;
     @Autowired private PushIdempotencyService idempotencyService;
-    @Autowired private RedisTemplate<String, Object> redisTemplate;
+    @Autowired private PushConcurrencyLimiter concurrencyLimiter;
+    @Autowired private RedisTemplate<String, String> redisTemplate;
     @MockitoBean private ExpoPushClient expoPushClient;
     @MockitoBean private DiscordWebhookClient discordWebhookClient;
     @MockitoBean private DeviceRepository deviceRepository;
 
+    private BatchAcknowledgement<PushMessage> acknowledgement;
+
     private static final String TEST_MESSAGE_UUID = "test-message-uuid-123";
     private static final String TEST_PUSH_TOKEN = "ExponentPushToken[test-token-abc]";
     private static final String TEST_TITLE = "테스트 제목";
     private static final String TEST_BODY = "테스트 내용";
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
         // Redis 및 Mock 초기화
         redisTemplate.delete(redisTemplate.keys("push:idempotency:*"));
         reset(expoPushClient, discordWebhookClient, deviceRepository);
+        acknowledgement = mock(BatchAcknowledgement.class);
     }
 
-    @DisplayName("메시지 수신 시 정상적으로 푸쉬 전송을 성공하고 멱등성 키를 SENT로 업데이트한다.")
+    @DisplayName("메시지 수신 시 정상적으로 푸쉬 전송을 성공하고 멱등성 키를 SENT로 업데이트한 뒤 ACK 한다.")
     @Test
-    void handlePushMessage() throws IOException {
+    void handlePushMessages() {
         // given
         PushMessage pushMessage = createPushMessage();
-        PushSendResult successResult = PushSendResult.ofSuccess(TEST_PUSH_TOKEN, "ticket-id");
-
-        when(expoPushClient.push(any(PushMessage.class)))
-                .thenReturn(List.of(successResult));
+        Message<PushMessage> message = toMessage(pushMessage);
+        givenPushResults(PushSendResult.ofSuccess(TEST_PUSH_TOKEN, "ticket-id"));
 
         // when
-        pushSqsWorker.handlePushMessage(pushMessage);
+        pushSqsWorker.handlePushMessages(List.of(message), acknowledgement);
 
         // then
-        verify(expoPushClient, times(1)).push(pushMessage);
+        verify(expoPushClient, times(1)).pushAsync(List.of(pushMessage));
         verify(discordWebhookClient, never()).sendMessage(anyString());
+        verify(acknowledgement, times(1)).acknowledge(List.of(message));
 
         // Redis 확인 - SENT 상태
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         String status = (String) redisTemplate.opsForValue().get(key);
         assertThat(status).isEqualTo("SENT");
 
@@ -74,31 +83,54 @@ class PushSqsWorkerTest extends IntegrationTestSupport {
 
     @DisplayName("수신한 메시지의 멱등성 키가 ALREADY_COMPLETED라면 디스코드로 알리고 푸시 전송을 스킵한다.")
     @Test
-    void handlePushMessage_AlreadyCompleted() throws IOException {
+    void handlePushMessages_AlreadyCompleted() {
         // given
         PushMessage pushMessage = createPushMessage();
 
         // 먼저 한 번 처리하여 SENT 상태로 만듦
-        PushSendResult successResult = PushSendResult.ofSuccess(TEST_PUSH_TOKEN, "ticket-id");
-        when(expoPushClient.push(any(PushMessage.class)))
-                .thenReturn(List.of(successResult));
-        pushSqsWorker.handlePushMessage(pushMessage);
+        givenPushResults(PushSendResult.ofSuccess(TEST_PUSH_TOKEN, "ticket-id"));
+        pushSqsWorker.handlePushMessages(List.of(toMessage(pushMessage)), acknowledgement);
 
-        reset(expoPushClient, discordWebhookClient);
+        reset(expoPushClient, discordWebhookClient, acknowledgement);
 
         // when - 같은 메시지 재처리 시도
-        pushSqsWorker.handlePushMessage(pushMessage);
+        Message<PushMessage> duplicated = toMessage(pushMessage);
+        pushSqsWorker.handlePushMessages(List.of(duplicated), acknowledgement);
 
         // then - 푸시 전송 스킵
-        verify(expoPushClient, never()).push(any());
+        verify(expoPushClient, never()).pushAsync(anyList());
+        verify(acknowledgement, times(1)).acknowledge(List.of(duplicated));
 
         // 디스코드 알림 전송
         verify(discordWebhookClient, times(1)).sendMessage(contains("중복 푸시 알림 감지"));
     }
 
+    @DisplayName("일부 토큰이 실패해 재전달된 메시지라면 이미 전송된 토큰은 디스코드 알림 없이 건너뛴다.")
+    @Test
+    void handlePushMessages_Redelivered_SkipCompletedTokensWithoutAlert() {
+        // given
+        String otherToken = "ExponentPushToken[test-token-def]";
+        PushMessage pushMessage = createPushMessage(List.of(TEST_PUSH_TOKEN, otherToken));
+        idempotencyService.tryAcquireLock(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
+        idempotencyService.markAsCompleted(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
+        givenPushResults(PushSendResult.ofSuccess(otherToken, "ticket-id"));
+
+        Message<PushMessage> redelivered = MessageBuilder.withPayload(pushMessage)
+                .setHeader(SqsHeaders.MessageSystemAttributes.SQS_APPROXIMATE_RECEIVE_COUNT, "2")
+                .build();
+
+        // when
+        pushSqsWorker.handlePushMessages(List.of(redelivered), acknowledgement);
+
+        // then - 실패했던 토큰만 다시 전송
+        verify(expoPushClient, times(1)).pushAsync(List.of(createPushMessage(List.of(otherToken))));
+        verify(discordWebhookClient, never()).sendMessage(anyString());
+        verify(acknowledgement, times(1)).acknowledge(List.of(redelivered));
+    }
+
     @DisplayName("수신한 메시지의 멱등성 키가 LOCKED_BY_OTHER라면 푸시 전송을 스킵한다.")
     @Test
-    void handlePushMessage_LockedByOther_SkipProcessing() throws IOException {
+    void handlePushMessages_LockedByOther_SkipProcessing() {
         // given
         PushMessage pushMessage = createPushMessage();
 
@@ -106,10 +138,10 @@ class PushSqsWorkerTest extends IntegrationTestSupport {
         idempotencyService.tryAcquireLock(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
 
         // when - 같은 메시지 처리 시도
-        pushSqsWorker.handlePushMessage(pushMessage);
+        pushSqsWorker.handlePushMessages(List.of(toMessage(pushMessage)), acknowledgement);
 
         // then - 푸시 전송 스킵
-        verify(expoPushClient, never()).push(any());
+        verify(expoPushClient, never()).pushAsync(anyList());
 
         // 디스코드 알림은 없음 (LOCKED_BY_OTHER는 정상적인 동시성 제어)
         verify(discordWebhookClient, never()).sendMessage(anyString());
@@ -117,76 +149,181 @@ class PushSqsWorkerTest extends IntegrationTestSupport {
 
     @DisplayName("수신한 메시지의 토큰이 유효하지 않은 경우 토큰을 삭제하고, 멱등성 키는 그대로 둔다.")
     @Test
-    void handlePushMessage_InvalidToken_DeleteTokenAndNoLockRelease() throws IOException {
+    void handlePushMessages_InvalidToken_DeleteTokenAndNoLockRelease() {
         // given
         PushMessage pushMessage = createPushMessage();
-        when(expoPushClient.push(any(PushMessage.class)))
-                .thenThrow(new ExpoDeviceNotRegisteredException());
+        Message<PushMessage> message = toMessage(pushMessage);
+        givenPushResults(PushSendResult.ofFailure(TEST_PUSH_TOKEN,
+                "\"" + TEST_PUSH_TOKEN + "\" is not a valid Expo push token"));
 
         // when
-        pushSqsWorker.handlePushMessage(pushMessage);
+        pushSqsWorker.handlePushMessages(List.of(message), acknowledgement);
 
         // then
-        verify(expoPushClient, times(1)).push(pushMessage);
+        verify(expoPushClient, times(1)).pushAsync(List.of(pushMessage));
         verify(deviceRepository, times(1)).deleteAllByTokenIn(List.of(TEST_PUSH_TOKEN));
+        verify(acknowledgement, times(1)).acknowledge(List.of(message));
 
         // Redis 확인
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         String status = (String) redisTemplate.opsForValue().get(key);
         assertThat(status).isEqualTo("SENT");
     }
 
-    @DisplayName("푸시 전송에 실패하면 멱등성 키가 해제되어 재시도할 수 있다.")
+    @DisplayName("푸시 전송에 실패하면 멱등성 키가 해제되고 메시지를 ACK 하지 않아 재시도할 수 있다.")
     @Test
-    void handlePushMessage_PushFailed_ReleaseLockAndThrowException() throws IOException {
+    void handlePushMessages_PushFailed_ReleaseLockAndNoAcknowledge() {
         // given
         PushMessage pushMessage = createPushMessage();
+        when(expoPushClient.pushAsync(anyList()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("푸시 전송 실패")));
 
-        when(expoPushClient.push(any(PushMessage.class)))
-                .thenThrow(new RuntimeException("푸시 전송 실패"));
+        // when
+        pushSqsWorker.handlePushMessages(List.of(toMessage(pushMessage)), acknowledgement);
 
-        // when & then
-        assertThatThrownBy(() -> pushSqsWorker.handlePushMessage(pushMessage))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessage("푸시 전송 실패");
+        // then
+        verify(acknowledgement, never()).acknowledge(anyCollection());
 
         // Redis 확인 - 락 해제됨 (재시도 가능)
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         String status = (String) redisTemplate.opsForValue().get(key);
         assertThat(status).isNull();
 
         // 재시도 가능 확인
-        when(expoPushClient.push(any(PushMessage.class)))
-                .thenReturn(List.of(PushSendResult.ofSuccess(TEST_PUSH_TOKEN, "ticket-id")));
+        Message<PushMessage> redelivered = toMessage(pushMessage);
+        givenPushResults(PushSendResult.ofSuccess(TEST_PUSH_TOKEN, "ticket-id"));
 
-        pushSqsWorker.handlePushMessage(pushMessage);
-        verify(expoPushClient, times(2)).push(pushMessage);
+        pushSqsWorker.handlePushMessages(List.of(redelivered), acknowledgement);
+        verify(expoPushClient, times(2)).pushAsync(List.of(pushMessage));
+        verify(acknowledgement, times(1)).acknowledge(List.of(redelivered));
     }
 
-    @DisplayName("푸시 전송 시 에러 응답을 수신하면 예외가 발생하고 락을 해제한다.")
+    @DisplayName("락을 잡은 뒤 전송 스레드 풀이 요청을 거절하면 락을 해제하고 메시지를 ACK 하지 않는다.")
     @Test
-    void handlePushMessage_ValidationFailed_ReleaseLockAndThrowException() throws IOException {
+    void handlePushMessages_ExecutorRejected_ReleaseLockAndNoAcknowledge() {
         // given
         PushMessage pushMessage = createPushMessage();
-        PushSendResult errorResult = PushSendResult.ofFailure(TEST_PUSH_TOKEN, "Something went wrong");
+        when(expoPushClient.pushAsync(anyList())).thenThrow(new TaskRejectedException("전송 스레드 풀 포화"));
 
-        when(expoPushClient.push(any(PushMessage.class)))
-                .thenReturn(List.of(errorResult));
+        // when
+        pushSqsWorker.handlePushMessages(List.of(toMessage(pushMessage)), acknowledgement);
 
-        // when & then
-        assertThatThrownBy(() -> pushSqsWorker.handlePushMessage(pushMessage))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("푸시 알림 전송 실패");
+        // then
+        verify(expoPushClient, times(1)).pushAsync(List.of(pushMessage));
+        verify(acknowledgement, never()).acknowledge(anyCollection());
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
+        assertThat(redisTemplate.opsForValue().get(key)).isNull();
+    }
+
+    @DisplayName("푸시 전송 시 에러 응답을 수신하면 락을 해제하고 메시지를 ACK 하지 않는다.")
+    @Test
+    void handlePushMessages_ErrorTicket_ReleaseLockAndNoAcknowledge() {
+        // given
+        PushMessage pushMessage = createPushMessage();
+        givenPushResults(PushSendResult.ofFailure(TEST_PUSH_TOKEN, "Something went wrong"));
+
+        // when
+        pushSqsWorker.handlePushMessages(List.of(toMessage(pushMessage)), acknowledgement);
+
+        // then
+        verify(acknowledgement, never()).acknowledge(anyCollection());
 
         // Redis 확인 - 락 해제됨
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         String status = (String) redisTemplate.opsForValue().get(key);
         assertThat(status).isNull();
     }
 
-    @DisplayName("빈 토큰 리스트를 수신하면 처리를 스킵한다.")
+    @DisplayName("요청 한도 초과가 아닌 에러 티켓은 Expo 동시 요청 수를 줄이지 않는다.")
+    @Test
+    void handlePushMessages_ErrorTicket_KeepConcurrencyLimit() {
+        // given
+        double limit = concurrencyLimiter.getLimit();
+        givenPushResults(PushSendResult.ofFailure(TEST_PUSH_TOKEN, "Something went wrong"));
+
+        // when
+        pushSqsWorker.handlePushMessages(List.of(toMessage(createPushMessage())), acknowledgement);
+
+        // then
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(limit);
+    }
+
+    @DisplayName("MessageRateExceeded 에러 티켓을 받으면 Expo 동시 요청 수를 줄인다.")
     @Test
-    void handlePushMessage_EmptyTokens_SkipProcessing() throws IOException {
+    void handlePushMessages_RateExceeded_ReduceConcurrencyLimit() {
+        // given
+        double limit = concurrencyLimiter.getLimit();
+        givenPushResults(PushSendResult.ofFailure(TEST_PUSH_TOKEN, "MessageRateExceeded"));
+
+        // when
+        pushSqsWorker.handlePushMessages(List.of(toMessage(createPushMessage())), acknowledgement);
+
+        // then
+        assertThat(concurrencyLimiter.getLimit()).isEqualTo(Math.max(1.0, limit * 0.5));
+    }
+
+    @DisplayName("전송에 실패한 메시지는 리스너에서 대기하지 않고, 수신 횟수에 비례해 visibility timeout 을 늘려 재전달을 늦춘다.")
+    @Test
+    void handlePushMessages_PushFailed_DelayRedeliveryWithVisibility() {
+        // given
+        Visibility visibility = mock(Visibility.class);
+        when(visibility.changeToAsync(anyInt())).thenReturn(CompletableFuture.completedFuture(null));
+        Message<PushMessage> message = MessageBuilder.withPayload(createPushMessage())
+                .setHeader(SqsHeaders.SQS_VISIBILITY_TIMEOUT_HEADER, visibility)
+                .setHeader(SqsHeaders.MessageSystemAttributes.SQS_APPROXIMATE_RECEIVE_COUNT, "3")
+                .build();
+        givenPushResults(PushSendResult.ofFailure(TEST_PUSH_TOKEN, "Something went wrong"));
+
+        // when
+        pushSqsWorker.handlePushMessages(List.of(message), acknowledgement);
+
+        // then - 기본 지연 2초 * 2^(3-1) = 8초에 지터를 적용한 4 ~ 8초
+        ArgumentCaptor<Integer> delayCaptor = ArgumentCaptor.forClass(Integer.class);
+        verify(visibility, times(1)).changeToAsync(delayCaptor.capture());
+        assertThat(delayCaptor.getValue()).isBetween(4, 8);
+        verify(acknowledgement, never()).acknowledge(anyCollection());
+    }
+
+    @DisplayName("여러 메시지의 토큰을 Expo 요청 하나에 최대 100개씩 묶어 전송하고, 모든 토큰이 처리된 메시지만 ACK 한다.")
+    @Test
+    void handlePushMessages_PackUpTo100NotificationsPerRequest() {
+        // given
+        List<String> broadcastTokens = IntStream.range(0, 150)
+                .mapToObj(i -> "ExponentPushToken[broadcast-" + i + "]")
+                .toList();
+        Message<PushMessage> broadcast = toMessage(createPushMessage(broadcastTokens));
+        Message<PushMessage> failing = toMessage(createPushMessage(List.of(TEST_PUSH_TOKEN)));
+
+        when(expoPushClient.pushAsync(anyList())).thenAnswer(invocation -> {
+            List<PushMessage> requests = invocation.getArgument(0);
+            List<PushSendResult> results = requests.stream()
+                    .flatMap(request -> request.pushTokens().stream())
+                    .map(token -> token.equals(TEST_PUSH_TOKEN)
+                            ? PushSendResult.ofFailure(token, "Something went wrong")
+                            : PushSendResult.ofSuccess(token, "ticket-" + token))
+                    .toList();
+            return CompletableFuture.completedFuture(results);
+        });
+
+        // when
+        pushSqsWorker.handlePushMessages(List.of(broadcast, failing), acknowledgement);
+
+        // then - 151개 알림을 100개 + 51개 두 번의 요청으로 전송
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PushMessage>> captor = ArgumentCaptor.forClass(List.class);
+        verify(expoPushClient, times(2)).pushAsync(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(requests -> requests.stream().mapToInt(request -> request.pushTokens().size()).sum())
+                .containsExactly(100, 51);
+        verify(acknowledgement, times(1)).acknowledge(List.of(broadcast));
+
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, broadcastTokens.get(149));
+        assertThat((String) redisTemplate.opsForValue().get(key)).isEqualTo("SENT");
+    }
+
+    @DisplayName("빈 토큰 리스트를 수신하면 전송 없이 ACK 한다.")
+    @Test
+    void handlePushMessages_EmptyTokens_SkipProcessing() {
         // given
         PushMessage pushMessage = new PushMessage(
                 List.of(), // 빈 토큰 리스트
@@ -195,18 +332,20 @@ class PushSqsWorkerTest extends IntegrationTestSupport {
                 Map.of("key", "value"),
                 TEST_MESSAGE_UUID
         );
+        Message<PushMessage> message = toMessage(pushMessage);
 
         // when
-        pushSqsWorker.handlePushMessage(pushMessage);
+        pushSqsWorker.handlePushMessages(List.of(message), acknowledgement);
 
         // then
-        verify(expoPushClient, never()).push(any());
+        verify(expoPushClient, never()).pushAsync(anyList());
         verify(discordWebhookClient, never()).sendMessage(anyString());
+        verify(acknowledgement, times(1)).acknowledge(List.of(message));
     }
 
     @DisplayName("null 토큰을 수신하면 처리를 스킵한다.")
     @Test
-    void handlePushMessage_NullTokens_SkipProcessing() throws IOException {
+    void handlePushMessages_NullTokens_SkipProcessing() {
         // given
         PushMessage pushMessage = new PushMessage(
                 null, // null 토큰
@@ -217,39 +356,23 @@ class PushSqsWorkerTest extends IntegrationTestSupport {
         );
 
         // when
-        pushSqsWorker.handlePushMessage(pushMessage);
+        pushSqsWorker.handlePushMessages(List.of(toMessage(pushMessage)), acknowledgement);
 
         // then
-        verify(expoPushClient, never()).push(any());
+        verify(expoPushClient, never()).pushAsync(anyList());
         verify(discordWebhookClient, never()).sendMessage(anyString());
     }
 
     @DisplayName("동시에 같은 메시지를 처리하려 해도 한 번만 푸시가 전송된다.")
     @Test
-    void handlePushMessage_Concurrent() throws Exception {
+    void handlePushMessages_Concurrent() throws Exception {
         // given
         PushMessage pushMessage = createPushMessage();
-        PushSendResult successResult = PushSendResult.ofSuccess(TEST_PUSH_TOKEN, "ticket-id");
-
-        when(expoPushClient.push(any(PushMessage.class)))
-                .thenReturn(List.of(successResult));
+        givenPushResults(PushSendResult.ofSuccess(TEST_PUSH_TOKEN, "ticket-id"));
 
         // when - 동시에 같은 메시지 처리
-        Thread thread1 = new Thread(() -> {
-            try {
-                pushSqsWorker.handlePushMessage(pushMessage);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        });
-
-        Thread thread2 = new Thread(() -> {
-            try {
-                pushSqsWorker.handlePushMessage(pushMessage);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        Thread thread1 = new Thread(() -> pushSqsWorker.handlePushMessages(List.of(toMessage(pushMessage)), acknowledgement));
+        Thread thread2 = new Thread(() -> pushSqsWorker.handlePushMessages(List.of(toMessage(pushMessage)), acknowledgement));
 
         thread1.start();
         thread2.start();
@@ -257,10 +380,10 @@ class PushSqsWorkerTest extends IntegrationTestSupport {
         thread2.join();
 
         // then - 실제 푸시는 1번만 전송
-        verify(expoPushClient, times(1)).push(pushMessage);
+        verify(expoPushClient, times(1)).pushAsync(List.of(pushMessage));
 
         // Redis 확인 - SENT 상태
-        String key = "push:idempotency:" + TEST_MESSAGE_UUID + ":" + TEST_PUSH_TOKEN;
+        String key = idempotencyService.buildKey(TEST_MESSAGE_UUID, TEST_PUSH_TOKEN);
         String status = (String) redisTemplate.opsForValue().get(key);
         assertThat(status).isEqualTo("SENT");
     }
@@ -278,9 +401,22 @@ class PushSqsWorkerTest extends IntegrationTestSupport {
         verify(discordWebhookClient, times(1)).sendMessage(contains("푸쉬 알림 전송 실패"));
     }
 
+    private void givenPushResults(PushSendResult... results) {
+        when(expoPushClient.pushAsync(anyList()))
+                .thenReturn(CompletableFuture.completedFuture(List.of(results)));
+    }
+
+    private Message<PushMessage> toMessage(PushMessage pushMessage) {
+        return MessageBuilder.withPayload(pushMessage).build();
+    }
+
     private PushMessage createPushMessage() {
+        return createPushMessage(List.of(TEST_PUSH_TOKEN));
+    }
+
+    private PushMessage createPushMessage(List<String> pushTokens) {
         return new PushMessage(
-                List.of(TEST_PUSH_TOKEN),
+                pushTokens,
                 TEST_TITLE,
                 TEST_BODY,
                 Map.of("data1", "value1", "data2", "value2"),
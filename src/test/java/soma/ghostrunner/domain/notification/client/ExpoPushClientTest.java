@@ -120,6 +120,40 @@ class ExpoPushClientTest {
         assertThrows(CompletionException.class, () -> expoPushClient.pushAsync(message).join());
     }
 
+    @DisplayName("여러 메시지를 한 번의 요청으로 전송하고, 결과를 메시지 및 토큰 순서대로 반환한다.")
+    @Test
+    void pushAsync_batch() throws IOException {
+        // given
+        PushMessage first = createPushMessage(List.of("token-1", "token-2"));
+        PushMessage second = createPushMessage("token-3");
+        List<TicketResponse.Ticket> tickets = new ArrayList<>(createSuccessTickets("ticket-1"));
+        tickets.addAll(createFailureTickets("실패"));
+        tickets.addAll(createSuccessTickets("ticket-3"));
+        given(expoPushNotificationClient.sendPushNotifications(anyList())).willReturn(tickets);
+
+        // when
+        List<PushSendResult> results = expoPushClient.pushAsync(List.of(first, second)).join();
+
+        // then
+        then(expoPushNotificationClient).should(times(1)).sendPushNotifications(argThat(notifications -> notifications.size() == 2));
+        assertThat(results).extracting(PushSendResult::pushToken).containsExactly("token-1", "token-2", "token-3");
+        assertThat(results).extracting(PushSendResult::isSuccess).containsExactly(true, false, true);
+    }
+
+    @DisplayName("한 요청에 100개를 넘는 알림을 전송하면 예외가 발생한다.")
+    @Test
+    void push_exceedsMaxNotifications() {
+        // given
+        List<String> pushTokens = new ArrayList<>();
+        for (int i = 0; i <= ExpoPushClient.MAX_NOTIFICATIONS_PER_REQUEST; i++) {
+            pushTokens.add("token-" + i);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> expoPushClient.push(List.of(createPushMessage(pushTokens))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     // --- helper methods ---
     private PushMessage createPushMessage(String pushToken) {
         return new PushMessage(List.of(pushToken), "알림 제목", "알림 본문", Collections.emptyMap(), UUID.randomUUID().toString());
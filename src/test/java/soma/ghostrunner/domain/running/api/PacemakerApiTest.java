@@ -3,15 +3,28 @@ package soma.ghostrunner.domain.running.api;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.context.request.async.DeferredResult;
 import soma.ghostrunner.ApiTestSupport;
 import soma.ghostrunner.domain.running.api.dto.request.CreatePacemakerRequest;
 import soma.ghostrunner.domain.running.api.dto.request.PacemakerPatchAfterRunningRequest;
+import soma.ghostrunner.domain.running.api.dto.response.PacemakerPollingResponse;
 import soma.ghostrunner.domain.running.api.support.PacemakerType;
+import soma.ghostrunner.global.security.jwt.JwtUserDetails;
 
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class PacemakerApiTest extends ApiTestSupport  {
@@ -107,6 +120,37 @@ class PacemakerApiTest extends ApiTestSupport  {
         ;
     }
 
+    @DisplayName("페이스메이커 생성 완료를 long-poll 로 기다린다.")
+    @Test
+    void awaitPacemakerCompletion() throws Exception {
+        // given
+        String memberUuid = UUID.randomUUID().toString();
+        DeferredResult<PacemakerPollingResponse> deferredResult = new DeferredResult<>();
+        given(pacemakerCompletionNotifier.awaitCompletion(1L, memberUuid, 20_000L)).willReturn(deferredResult);
+
+        MvcResult mvcResult = mockMvc.perform(MockMvcRequestBuilders.get("/v1/pacemaker/1/completion")
+                        .with(authentication(createAuthentication(memberUuid)))
+                        .queryParam("timeoutSeconds", "20")
+                )
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        deferredResult.setResult(PacemakerPollingResponse.builder().processingStatus("COMPLETED").build());
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processingStatus").value("COMPLETED"))
+        ;
+    }
+
+    private UsernamePasswordAuthenticationToken createAuthentication(String memberUuid) {
+        return new UsernamePasswordAuthenticationToken(
+                new JwtUserDetails(memberUuid), null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+    }
+
     @DisplayName("페이스메이커를 생성하기 위한 일일 제한 횟수를 조회한다.")
     @Test
     void getRateLimitCounterToMakePacemaker() throws Exception {
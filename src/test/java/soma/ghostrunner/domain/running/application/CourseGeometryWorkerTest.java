@@ -0,0 +1,154 @@
+package soma.ghostrunner.domain.running.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soma.ghostrunner.domain.course.application.CourseService;
+import soma.ghostrunner.domain.course.domain.Course;
+import soma.ghostrunner.domain.course.exception.CourseNotFoundException;
+import soma.ghostrunner.domain.member.domain.Member;
+import soma.ghostrunner.domain.running.application.dto.CourseGeometryMessage;
+import soma.ghostrunner.domain.running.domain.path.*;
+import soma.ghostrunner.global.clients.discord.DiscordWebhookClient;
+import soma.ghostrunner.global.error.ErrorCode;
+import soma.ghostrunner.global.error.exception.ExternalIOException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseGeometryWorkerTest {
+
+    @Mock RunningFileUploader runningFileUploader;
+    @Mock PathSimplificationService pathSimplificationService;
+    @Mock CourseService courseService;
+    @Mock DiscordWebhookClient discordWebhookClient;
+
+    CourseGeometryWorker sut;
+
+    private final String memberUuid = "mem-123";
+    private final CourseGeometryMessage message = new CourseGeometryMessage(1L, memberUuid, "s3://interp", "s3://interp.grtl");
+    private final TelemetryColumns telemetries = TelemetryColumns.from(List.of());
+    private final SimplifiedPaths simplifiedPaths = new SimplifiedPaths(
+            List.of(new Coordinates(37.0, 127.0), new Coordinates(37.001, 127.001)),
+            List.of(new Checkpoint(37.0, 127.0, 0))
+    );
+
+    @BeforeEach
+    void setUp() {
+        sut = new CourseGeometryWorker(runningFileUploader, pathSimplificationService, courseService, discordWebhookClient);
+    }
+
+    private Course pendingCourse() {
+        Course course = Course.of(Member.of("이복둥", "profile.url"), 180.0, 10.0, 10.0, 10.0,
+                37d, 127d, null, null, "thumb.url");
+        course.markGeometryPending();
+        return course;
+    }
+
+    @DisplayName("PENDING 코스의 경로를 간소화해 업로드하고 코스를 완료 처리한다.")
+    @Test
+    void handleCourseGeometryMessage() {
+        // given
+        when(courseService.findCourseById(1L)).thenReturn(pendingCourse());
+        when(runningFileUploader.loadInterpolatedTelemetry("s3://interp", "s3://interp.grtl")).thenReturn(telemetries);
+        when(pathSimplificationService.simplify(telemetries)).thenReturn(simplifiedPaths);
+        when(runningFileUploader.uploadSimplifiedCoordinates(simplifiedPaths.simplifiedCoordinates(), memberUuid))
+                .thenReturn("s3://route");
+        when(runningFileUploader.uploadCheckpoints(simplifiedPaths.checkpoints(), memberUuid))
+                .thenReturn("s3://checkpoints");
+        when(courseService.completeCourseGeometry(1L, "s3://route", "s3://checkpoints")).thenReturn(true);
+
+        // when
+        sut.handleCourseGeometryMessage(message);
+
+        // then
+        verify(courseService).completeCourseGeometry(1L, "s3://route", "s3://checkpoints");
+        verify(runningFileUploader, never()).deleteFile(anyString());
+    }
+
+    @DisplayName("이미 완료된 코스의 메시지가 다시 전달되면 아무것도 하지 않는다.")
+    @Test
+    void handleCourseGeometryMessage_AlreadyReady() {
+        // given
+        Course course = pendingCourse();
+        course.completeGeometry("s3://route", "s3://checkpoints");
+        when(courseService.findCourseById(1L)).thenReturn(course);
+
+        // when
+        sut.handleCourseGeometryMessage(message);
+
+        // then
+        verifyNoInteractions(runningFileUploader, pathSimplificationService);
+        verify(courseService, never()).completeCourseGeometry(anyLong(), anyString(), anyString());
+    }
+
+    @DisplayName("삭제된 코스의 메시지는 건너뛴다.")
+    @Test
+    void handleCourseGeometryMessage_CourseDeleted() {
+        // given
+        when(courseService.findCourseById(1L))
+                .thenThrow(new CourseNotFoundException(ErrorCode.COURSE_NOT_FOUND, 1L));
+
+        // when
+        sut.handleCourseGeometryMessage(message);
+
+        // then
+        verifyNoInteractions(runningFileUploader, pathSimplificationService);
+    }
+
+    @DisplayName("다른 워커가 먼저 완료했다면 이번에 업로드한 파일을 지운다.")
+    @Test
+    void handleCourseGeometryMessage_CompletedByOther() {
+        // given
+        when(courseService.findCourseById(1L)).thenReturn(pendingCourse());
+        when(runningFileUploader.loadInterpolatedTelemetry("s3://interp", "s3://interp.grtl")).thenReturn(telemetries);
+        when(pathSimplificationService.simplify(telemetries)).thenReturn(simplifiedPaths);
+        when(runningFileUploader.uploadSimplifiedCoordinates(anyList(), eq(memberUuid))).thenReturn("s3://route");
+        when(runningFileUploader.uploadCheckpoints(anyList(), eq(memberUuid))).thenReturn("s3://checkpoints");
+        when(courseService.completeCourseGeometry(1L, "s3://route", "s3://checkpoints")).thenReturn(false);
+
+        // when
+        sut.handleCourseGeometryMessage(message);
+
+        // then
+        verify(runningFileUploader).deleteFile("s3://route");
+        verify(runningFileUploader).deleteFile("s3://checkpoints");
+    }
+
+    @DisplayName("업로드에 실패하면 올라간 파일을 지우고 예외를 다시 던져 재전달되게 한다.")
+    @Test
+    void handleCourseGeometryMessage_UploadFailed() {
+        // given
+        when(courseService.findCourseById(1L)).thenReturn(pendingCourse());
+        when(runningFileUploader.loadInterpolatedTelemetry("s3://interp", "s3://interp.grtl")).thenReturn(telemetries);
+        when(pathSimplificationService.simplify(telemetries)).thenReturn(simplifiedPaths);
+        when(runningFileUploader.uploadSimplifiedCoordinates(anyList(), eq(memberUuid))).thenReturn("s3://route");
+        when(runningFileUploader.uploadCheckpoints(anyList(), eq(memberUuid)))
+                .thenThrow(new ExternalIOException(ErrorCode.SERVICE_UNAVAILABLE, "업로드 실패"));
+
+        // when // then
+        assertThatThrownBy(() -> sut.handleCourseGeometryMessage(message))
+                .isInstanceOf(ExternalIOException.class);
+        verify(runningFileUploader).deleteFile("s3://route");
+        verify(courseService, never()).completeCourseGeometry(anyLong(), anyString(), anyString());
+    }
+
+    @DisplayName("DLQ 로 넘어온 메시지는 코스를 실패로 기록하고 디스코드로 알린다.")
+    @Test
+    void handleFailedCourseGeometryMessage() {
+        // when
+        sut.handleFailedCourseGeometryMessage(message);
+
+        // then
+        verify(courseService).failCourseGeometry(1L);
+        verify(discordWebhookClient).sendMessage(anyString());
+    }
+
+}
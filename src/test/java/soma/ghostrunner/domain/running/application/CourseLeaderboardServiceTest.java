@@ -0,0 +1,156 @@
+package soma.ghostrunner.domain.running.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import soma.ghostrunner.domain.running.application.dto.LeaderboardEntry;
+import soma.ghostrunner.domain.running.infra.persistence.RunningRepository;
+import soma.ghostrunner.domain.running.infra.redis.RedisCourseLeaderboardRepository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseLeaderboardServiceTest {
+
+    @Mock RedisCourseLeaderboardRepository leaderboardRepository;
+    @Mock RunningRepository runningRepository;
+
+    CourseLeaderboardService sut;
+
+    private final Long courseId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        sut = new CourseLeaderboardService(leaderboardRepository, runningRepository);
+    }
+
+    @DisplayName("같은 코스의 리더보드를 동시에 적재하면 DB 는 한 번만 읽는다.")
+    @Test
+    void ensureLoaded_singleFlight() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(leaderboardRepository.isLoaded(courseId)).thenReturn(false);
+        when(leaderboardRepository.findVersion(courseId)).thenReturn(0L);
+        when(runningRepository.findLeaderboardEntriesByCourseId(courseId)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return List.of();
+        });
+        when(leaderboardRepository.rebuild(eq(courseId), anyList(), eq(0L), anyLong())).thenReturn(true);
+        when(leaderboardRepository.findRunningIdsInRange(courseId, 0, 2)).thenReturn(List.of());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<Optional<List<Long>>> first = executor.submit(() -> sut.findTopRunningIds(courseId, 3));
+            loading.await(1, TimeUnit.SECONDS);
+            Future<Optional<List<Long>>> second = executor.submit(() -> sut.findTopRunningIds(courseId, 3));
+            Thread.sleep(50);
+            release.countDown();
+
+            // then
+            assertThat(first.get(1, TimeUnit.SECONDS)).isPresent();
+            assertThat(second.get(1, TimeUnit.SECONDS)).isPresent();
+            verify(runningRepository, times(1)).findLeaderboardEntriesByCourseId(courseId);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("적재 전에 구한 변경 버전을 넘겨, 그 사이 들어온 기록이 있으면 적재 완료로 표시되지 않게 한다.")
+    @Test
+    void ensureLoaded_passesVersionReadBeforeDatabase() {
+        // given
+        List<LeaderboardEntry> entries = List.of(new LeaderboardEntry("member-a", 10L, 1800L));
+        when(leaderboardRepository.isLoaded(courseId)).thenReturn(false);
+        when(leaderboardRepository.findVersion(courseId)).thenReturn(7L);
+        when(runningRepository.findLeaderboardEntriesByCourseId(courseId)).thenReturn(entries);
+        when(leaderboardRepository.findRunningIdsInRange(courseId, 0, 0)).thenReturn(List.of(10L));
+
+        // when
+        sut.findTopRunningIds(courseId, 1);
+
+        // then
+        var inOrder = inOrder(leaderboardRepository, runningRepository);
+        inOrder.verify(leaderboardRepository).findVersion(courseId);
+        inOrder.verify(runningRepository).findLeaderboardEntriesByCourseId(courseId);
+        inOrder.verify(leaderboardRepository).rebuild(eq(courseId), eq(entries), eq(7L), anyLong());
+    }
+
+    @DisplayName("순위는 기록보다 빠른 회원 수 + 1 이다.")
+    @Test
+    void findRank() {
+        // given
+        when(leaderboardRepository.isLoaded(courseId)).thenReturn(true);
+        when(leaderboardRepository.countFasterThan(courseId, 1800L)).thenReturn(4L);
+
+        // when
+        Optional<Long> rank = sut.findRank(courseId, 1800L);
+
+        // then
+        assertThat(rank).contains(5L);
+    }
+
+    @DisplayName("리더보드를 쓸 수 없으면 빈 값을 반환한다.")
+    @Test
+    void findRank_unavailable() {
+        // given
+        when(leaderboardRepository.isLoaded(courseId)).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        Optional<Long> rank = sut.findRank(courseId, 1800L);
+
+        // then
+        assertThat(rank).isEmpty();
+    }
+
+    @DisplayName("DB 로 계산한 상위 비율은 리더보드와 같이 회원별 최고 기록을 빠른 순(같으면 회원 UUID 순)으로 자른다.")
+    @Test
+    void findTopPercentageRunningIdsFromDatabase() {
+        // given
+        when(runningRepository.findLeaderboardEntriesByCourseId(courseId)).thenReturn(List.of(
+                new LeaderboardEntry("member-c", 30L, 2100L),
+                new LeaderboardEntry("member-b", 20L, 1500L),
+                new LeaderboardEntry("member-a", 10L, 1500L),
+                new LeaderboardEntry("member-d", 40L, 2400L)
+        ));
+
+        // when
+        CourseLeaderboardService.TopPercentage result = sut.findTopPercentageRunningIdsFromDatabase(courseId, 0.5);
+
+        // then
+        assertThat(result.runningIds()).containsExactly(10L, 20L, 30L);
+        assertThat(result.sliceSize()).isEqualTo(3);
+        assertThat(result.runnersCount()).isEqualTo(4);
+    }
+
+    @DisplayName("적재되지 않은 리더보드에는 새 기록을 반영하지 않고 DB 도 읽지 않는다.")
+    @Test
+    void applyFinishedRun_notLoaded() {
+        // given
+        when(leaderboardRepository.isLoadedOrMarkChanged(courseId)).thenReturn(false);
+
+        // when
+        sut.applyFinishedRun(courseId, "member-a");
+
+        // then
+        verifyNoInteractions(runningRepository);
+        verify(leaderboardRepository, never()).offer(any(), any());
+    }
+
+}
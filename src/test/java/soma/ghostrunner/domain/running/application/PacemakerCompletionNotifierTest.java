@@ -0,0 +1,189 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.context.request.async.DeferredResult;
+import soma.ghostrunner.domain.running.api.dto.response.PacemakerPollingResponse;
+import soma.ghostrunner.domain.running.application.dto.CachedPacemakerStatus;
+import soma.ghostrunner.domain.running.domain.Pacemaker.Status;
+import soma.ghostrunner.domain.running.domain.events.PacemakerCreatedEvent;
+import soma.ghostrunner.domain.running.domain.events.PacemakerFailedEvent;
+import soma.ghostrunner.domain.running.infra.redis.RedisPacemakerStatusRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PacemakerCompletionNotifierTest {
+
+    @Mock PacemakerService pacemakerService;
+    @Mock RedisPacemakerStatusRepository pacemakerStatusRepository;
+    @Mock RedisTemplate<String, String> redisTemplate;
+    @Mock RedisMessageListenerContainer listenerContainer;
+
+    SimpleMeterRegistry meterRegistry;
+    PacemakerCompletionNotifier sut;
+
+    private static final String OWNER = "owner-uuid";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new PacemakerCompletionNotifier(pacemakerService, pacemakerStatusRepository, redisTemplate,
+                listenerContainer, Runnable::run, meterRegistry, 60, 2);
+    }
+
+    @DisplayName("이미 생성이 끝난 페이스메이커는 기다리지 않고 바로 응답한다.")
+    @Test
+    void completedPacemakerRespondsImmediately() {
+        // given
+        when(pacemakerService.getPacemaker(1L, OWNER)).thenReturn(response(Status.COMPLETED));
+
+        // when
+        DeferredResult<PacemakerPollingResponse> result = sut.awaitCompletion(1L, OWNER, 30_000);
+
+        // then
+        assertThat(result.hasResult()).isTrue();
+        assertThat(((PacemakerPollingResponse) result.getResult()).getProcessingStatus()).isEqualTo("COMPLETED");
+        assertThat(sut.getWaiterCount()).isZero();
+        assertThat(results("immediate")).isEqualTo(1);
+    }
+
+    @DisplayName("생성 중인 페이스메이커는 완료 알림을 받으면 최신 상태로 응답한다.")
+    @Test
+    void wakeOnCompletionMessage() {
+        // given
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        when(pacemakerService.getPacemaker(1L, OWNER))
+                .thenReturn(response(Status.PROCEEDING))
+                .thenReturn(response(Status.COMPLETED));
+        DeferredResult<PacemakerPollingResponse> result = sut.awaitCompletion(1L, OWNER, 30_000);
+        assertThat(result.hasResult()).isFalse();
+
+        // when
+        listenerCaptor.getValue().onMessage(new DefaultMessage(
+                PacemakerCompletionNotifier.COMPLETION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(((PacemakerPollingResponse) result.getResult()).getProcessingStatus()).isEqualTo("COMPLETED");
+        assertThat(results("notified")).isEqualTo(1);
+    }
+
+    @DisplayName("완료 알림을 받은 리스너 스레드는 응답 조회를 executor 에 넘기고 바로 돌아온다.")
+    @Test
+    void wakeOnCompletionExecutor() {
+        // given
+        List<Runnable> tasks = new ArrayList<>();
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        PacemakerCompletionNotifier notifier = new PacemakerCompletionNotifier(pacemakerService, pacemakerStatusRepository,
+                redisTemplate, listenerContainer, tasks::add, meterRegistry, 60, 2);
+        verify(listenerContainer, times(2)).addMessageListener(listenerCaptor.capture(), any(Topic.class));
+        when(pacemakerService.getPacemaker(1L, OWNER))
+                .thenReturn(response(Status.PROCEEDING))
+                .thenReturn(response(Status.COMPLETED));
+        DeferredResult<PacemakerPollingResponse> result = notifier.awaitCompletion(1L, OWNER, 30_000);
+
+        // when
+        listenerCaptor.getValue().onMessage(new DefaultMessage(
+                PacemakerCompletionNotifier.COMPLETION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(result.hasResult()).isFalse();
+        verify(pacemakerService, times(1)).getPacemaker(1L, OWNER);
+
+        // when
+        tasks.forEach(Runnable::run);
+
+        // then
+        assertThat(((PacemakerPollingResponse) result.getResult()).getProcessingStatus()).isEqualTo("COMPLETED");
+    }
+
+    @DisplayName("다른 페이스메이커의 완료 알림으로는 깨어나지 않는다.")
+    @Test
+    void ignoreOtherPacemakerMessage() {
+        // given
+        when(pacemakerService.getPacemaker(1L, OWNER)).thenReturn(response(Status.PROCEEDING));
+        DeferredResult<PacemakerPollingResponse> result = sut.awaitCompletion(1L, OWNER, 30_000);
+
+        // when
+        sut.wake(2L);
+
+        // then
+        assertThat(result.hasResult()).isFalse();
+        verify(pacemakerService, times(1)).getPacemaker(1L, OWNER);
+    }
+
+    @DisplayName("대기 요청 수가 상한에 이르면 기다리지 않고 현재 상태로 응답한다.")
+    @Test
+    void respondImmediatelyWhenTooManyWaiters() {
+        // given
+        when(pacemakerService.getPacemaker(anyLong(), eq(OWNER))).thenReturn(response(Status.PROCEEDING));
+        sut.awaitCompletion(1L, OWNER, 30_000);
+        sut.awaitCompletion(2L, OWNER, 30_000);
+
+        // when
+        DeferredResult<PacemakerPollingResponse> result = sut.awaitCompletion(3L, OWNER, 30_000);
+
+        // then
+        assertThat(((PacemakerPollingResponse) result.getResult()).getProcessingStatus()).isEqualTo("PROCEEDING");
+        assertThat(sut.getWaiterCount()).isEqualTo(2);
+        assertThat(results("rejected")).isEqualTo(1);
+    }
+
+    @DisplayName("본인 소유가 아니면 대기를 등록하지 않고 예외를 던진다.")
+    @Test
+    void notMineThrowsWithoutWaiting() {
+        // given
+        when(pacemakerService.getPacemaker(1L, "other-uuid"))
+                .thenThrow(new AccessDeniedException("접근할 수 없는 러닝 데이터입니다."));
+
+        // when // then
+        assertThatThrownBy(() -> sut.awaitCompletion(1L, "other-uuid", 30_000))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(sut.getWaiterCount()).isZero();
+    }
+
+    @DisplayName("생성 완료 / 실패가 커밋되면 상태 캐시를 덮어쓰고 완료 채널에 발행한다.")
+    @Test
+    void publishOnCreatedAndFailedEvents() {
+        // when
+        sut.handlePacemakerCreatedEvent(new PacemakerCreatedEvent(1L, 10L, OWNER));
+        sut.handlePacemakerFailedEvent(new PacemakerFailedEvent(2L, 10L, OWNER));
+
+        // then
+        verify(pacemakerStatusRepository).save(1L, new CachedPacemakerStatus(Status.COMPLETED, OWNER));
+        verify(pacemakerStatusRepository).save(2L, new CachedPacemakerStatus(Status.FAILED, OWNER));
+        verify(redisTemplate).convertAndSend(PacemakerCompletionNotifier.COMPLETION_CHANNEL, "1");
+        verify(redisTemplate).convertAndSend(PacemakerCompletionNotifier.COMPLETION_CHANNEL, "2");
+    }
+
+    private PacemakerPollingResponse response(Status status) {
+        return PacemakerPollingResponse.builder().processingStatus(status.name()).build();
+    }
+
+    private double results(String result) {
+        return meterRegistry.get("pacemaker.completion.results").tag("result", result).counter().count();
+    }
+
+}
@@ -13,6 +13,7 @@ import soma.ghostrunner.domain.running.application.support.RunningApplicationMap
 import soma.ghostrunner.domain.running.domain.Pacemaker;
 import soma.ghostrunner.domain.running.domain.PacemakerSet;
 import soma.ghostrunner.domain.running.domain.events.PacemakerCreatedEvent;
+import soma.ghostrunner.domain.running.domain.events.PacemakerFailedEvent;
 import soma.ghostrunner.domain.running.infra.persistence.PacemakerRepository;
 import soma.ghostrunner.domain.running.infra.persistence.PacemakerSetRepository;
 import soma.ghostrunner.domain.running.infra.redis.RedisRunningRepository;
@@ -56,6 +57,7 @@ class PacemakerLlmCallbackServiceTest {
         WorkoutDto workoutDto = mock(WorkoutDto.class);
         List<WorkoutSetDto> setDtos = List.of(mock(WorkoutSetDto.class));
         when(workoutDto.getSets()).thenReturn(setDtos);
+        when(pacemakerRepository.completeIfProceeding(eq(pacemakerId), any(), any(), any(), any())).thenReturn(1);
 
         PacemakerSet setEntity = mock(PacemakerSet.class);
         List<PacemakerSet> sets = List.of(setEntity);
@@ -79,15 +81,35 @@ class PacemakerLlmCallbackServiceTest {
                     .isThrownBy(() -> service.handleSuccess(pacemakerId, workoutJson));
 
             // then
-            // 1) 도메인 업데이트
+            // 1) 생성 중인 페이스메이커만 완료 처리
+            verify(pacemakerRepository).completeIfProceeding(eq(pacemakerId), any(), any(), any(), any());
             verify(pacemakerRepository).findById(pacemakerId);
-            verify(pacemakerRepository).save(pacemaker);
 
             // 2) 세트 저장
             verify(pacemakerSetRepository).saveAll(sets);
         }
     }
 
+    @Test
+    void handleSuccess_shouldIgnoreRedeliveredCallback() {
+        // given
+        Long pacemakerId = 100L;
+        WorkoutDto workoutDto = mock(WorkoutDto.class);
+        when(pacemakerRepository.completeIfProceeding(eq(pacemakerId), any(), any(), any(), any())).thenReturn(0);
+
+        try (MockedStatic<WorkoutDto> workoutDtoStatic = mockStatic(WorkoutDto.class)) {
+            workoutDtoStatic.when(() -> WorkoutDto.fromVoiceGuidanceGeneratedWorkoutDto(anyString()))
+                    .thenReturn(workoutDto);
+
+            // when
+            service.handleSuccess(pacemakerId, "{...any json...}");
+
+            // then - 이미 완료된 페이스메이커의 세트를 다시 저장하거나 완료 이벤트를 다시 발행하지 않는다
+            verify(pacemakerRepository, never()).findById(any());
+            verifyNoInteractions(pacemakerSetRepository, publisher);
+        }
+    }
+
     @Test
     void handleError_shouldCompensateAndUpdateFailedStatus() {
         // given
@@ -96,6 +118,8 @@ class PacemakerLlmCallbackServiceTest {
 
         Pacemaker pacemaker = mock(Pacemaker.class);
         when(pacemakerRepository.findById(pacemakerId)).thenReturn(Optional.of(pacemaker));
+        PacemakerFailedEvent event = new PacemakerFailedEvent(pacemakerId, 1L, "member-uuid");
+        when(mapper.toPacemakerFailedEvent(pacemaker)).thenReturn(event);
 
         // when
         assertThatNoException()
@@ -108,6 +132,9 @@ class PacemakerLlmCallbackServiceTest {
         // 2) 상태 업데이트 (FAILED)
         verify(pacemakerRepository).findById(pacemakerId);
         verify(pacemaker).updateStatus(Pacemaker.Status.FAILED);
+
+        // 3) 실패 이벤트 발행 (long-poll 대기 요청을 깨운다)
+        verify(publisher).publishEvent(event);
     }
 
 }
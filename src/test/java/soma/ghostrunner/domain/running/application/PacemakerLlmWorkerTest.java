@@ -0,0 +1,238 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import soma.ghostrunner.domain.member.domain.Member;
+import soma.ghostrunner.domain.running.application.dto.PacemakerLlmMessage;
+import soma.ghostrunner.domain.running.application.dto.WorkoutDto;
+import soma.ghostrunner.domain.running.domain.events.PacemakerLlmRequestedEvent;
+import soma.ghostrunner.domain.running.domain.llm.PacemakerLlmClient;
+import soma.ghostrunner.global.clients.discord.DiscordWebhookClient;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PacemakerLlmWorkerTest {
+
+    @Mock PacemakerLlmCallbackService callbackService;
+    @Mock PacemakerWorkoutCache workoutCache;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @Mock DiscordWebhookClient discordWebhookClient;
+    @Mock SqsAsyncClient sqsAsyncClient;
+
+    SimpleMeterRegistry meterRegistry;
+    StubPacemakerLlmClient llmClient;
+    PacemakerLlmService llmService;
+    PacemakerLlmWorker sut;
+
+    MockedStatic<WorkoutDto> workoutDtoStatic;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        llmClient = new StubPacemakerLlmClient();
+        llmService = new PacemakerLlmService(llmClient, workoutCache, callbackService, eventPublisher, meterRegistry, 1, 1);
+        sut = new PacemakerLlmWorker(llmService, callbackService, workoutCache, discordWebhookClient, sqsAsyncClient,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (workoutDtoStatic != null) {
+            workoutDtoStatic.close();
+        }
+    }
+
+    // 1단계 응답(JSON) 파싱 결과를 고정한다. 스텁 응답은 구독한 스레드에서 바로 흘러가므로 정적 목이 적용된다
+    private void stubImprovedWorkout() {
+        WorkoutDto improved = mock(WorkoutDto.class);
+        when(improved.toStringForVoiceGuidancePrompt()).thenReturn("{\"improved\": true}");
+        workoutDtoStatic = mockStatic(WorkoutDto.class);
+        workoutDtoStatic.when(() -> WorkoutDto.fromProcessedWorkoutDto(anyString())).thenReturn(improved);
+    }
+
+    @DisplayName("생성 요청은 프롬프트를 만들어 이벤트로 발행하고, LLM 은 호출하지 않는다.")
+    @Test
+    void requestPublishesEventWithoutCallingLlm() {
+        // given
+        Member member = mock(Member.class);
+        when(member.toStringForPacemakerPrompt(40, 3)).thenReturn("{\"user\": 1}");
+        WorkoutDto workoutDto = mock(WorkoutDto.class);
+        when(workoutCache.keyOf(member, 40, 3, 25, workoutDto)).thenReturn("cache-key");
+        when(workoutCache.find("cache-key")).thenReturn(Optional.empty());
+
+        // when
+        llmService.requestLlmToCreatePacemaker(member, workoutDto, 40, 3, 25, 1L, "rate-limit-key");
+
+        // then
+        ArgumentCaptor<PacemakerLlmRequestedEvent> captor = ArgumentCaptor.forClass(PacemakerLlmRequestedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().pacemakerId()).isEqualTo(1L);
+        assertThat(captor.getValue().userInfo()).isEqualTo("{\"user\": 1}");
+        assertThat(captor.getValue().workoutImprovementPrompt()).contains("{\"user\": 1}");
+        assertThat(captor.getValue().cacheKey()).isEqualTo("cache-key");
+        assertThat(llmClient.prompts).isEmpty();
+    }
+
+    @DisplayName("같은 입력 버킷의 생성 결과가 캐시에 있으면 큐에 넣지 않고 바로 성공 처리한다.")
+    @Test
+    void completeFromCacheWithoutQueueing() {
+        // given
+        Member member = mock(Member.class);
+        WorkoutDto workoutDto = mock(WorkoutDto.class);
+        when(workoutCache.keyOf(member, 40, 3, 25, workoutDto)).thenReturn("cache-key");
+        when(workoutCache.find("cache-key")).thenReturn(Optional.of("{\"cached\": true}"));
+
+        // when
+        llmService.requestLlmToCreatePacemaker(member, workoutDto, 40, 3, 25, 1L, "rate-limit-key");
+
+        // then
+        verify(callbackService).handleSuccess(1L, "{\"cached\": true}");
+        verify(eventPublisher, never()).publishEvent(any());
+        assertThat(llmClient.prompts).isEmpty();
+    }
+
+    @DisplayName("1단계 결과로 2단계 프롬프트를 만들어 호출하고, 최종 응답으로 성공 처리한다.")
+    @Test
+    void runTwoStageChain() throws Exception {
+        // given
+        stubImprovedWorkout();
+        when(callbackService.isProceeding(1L)).thenReturn(true);
+        llmClient.improve = prompt -> Mono.just("{\"stage\": 1}");
+        llmClient.voice = prompt -> Mono.just("{\"stage\": 2}");
+
+        // when
+        sut.handlePacemakerLlmMessage(message(1L)).get(5, TimeUnit.SECONDS);
+
+        // then
+        verify(callbackService).handleSuccess(1L, "{\"stage\": 2}");
+        verify(workoutCache).put("cache-key", "{\"stage\": 2}");
+        verify(callbackService, never()).handleError(anyString(), anyLong());
+        assertThat(llmClient.prompts).hasSize(2);
+        assertThat(llmClient.prompts.get(1)).contains("{\"user\": 1}").contains("{\"improved\": true}");
+        assertThat(jobs("succeeded")).isEqualTo(1);
+        assertThat(meterRegistry.get("pacemaker.llm.jobs.inflight").gauge().value()).isZero();
+    }
+
+    @DisplayName("LLM 호출이 timeout 을 넘기면 실패 처리하고 사용 횟수를 돌려준다.")
+    @Test
+    void failOnTimeout() throws Exception {
+        // given
+        when(callbackService.isProceeding(1L)).thenReturn(true);
+        llmClient.improve = prompt -> Mono.never();
+
+        // when
+        sut.handlePacemakerLlmMessage(message(1L)).get(5, TimeUnit.SECONDS);
+
+        // then
+        verify(callbackService).handleError("rate-limit-key", 1L);
+        verify(callbackService, never()).handleSuccess(anyLong(), anyString());
+        assertThat(llmClient.prompts).hasSize(1);
+        assertThat(meterRegistry.get("pacemaker.llm.call").tag("stage", "improve").tag("result", "timeout").timer().count())
+                .isEqualTo(1);
+        assertThat(jobs("failed")).isEqualTo(1);
+    }
+
+    @DisplayName("결과 반영에 실패해도 생성 중으로 남지 않도록 실패 처리한다.")
+    @Test
+    void failWhenCallbackThrows() throws Exception {
+        // given
+        stubImprovedWorkout();
+        when(callbackService.isProceeding(1L)).thenReturn(true);
+        llmClient.improve = prompt -> Mono.just("{\"stage\": 1}");
+        llmClient.voice = prompt -> Mono.just("not a json");
+        doThrow(new RuntimeException("JSON does not contain 'workout' field"))
+                .when(callbackService).handleSuccess(1L, "not a json");
+
+        // when
+        sut.handlePacemakerLlmMessage(message(1L)).get(5, TimeUnit.SECONDS);
+
+        // then
+        verify(callbackService).handleError("rate-limit-key", 1L);
+        verify(workoutCache, never()).put(anyString(), anyString());
+        assertThat(jobs("failed")).isEqualTo(1);
+    }
+
+    @DisplayName("이미 완료 / 실패 처리되었거나 삭제된 페이스메이커는 LLM 을 호출하지 않고 건너뛴다.")
+    @Test
+    void skipProcessedPacemaker() throws Exception {
+        // given
+        when(callbackService.isProceeding(1L)).thenReturn(false);
+
+        // when
+        sut.handlePacemakerLlmMessage(message(1L)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(llmClient.prompts).isEmpty();
+        verify(callbackService, never()).handleError(anyString(), anyLong());
+        assertThat(jobs("skipped")).isEqualTo(1);
+    }
+
+    @DisplayName("DLQ 로 넘어온 작업은 아직 생성 중일 때만 실패 처리한다.")
+    @Test
+    void failFromDlqOnlyWhenProceeding() {
+        // given
+        when(callbackService.isProceeding(1L)).thenReturn(true);
+        when(callbackService.isProceeding(2L)).thenReturn(false);
+
+        // when
+        sut.handleFailedPacemakerLlmMessage(message(1L));
+        sut.handleFailedPacemakerLlmMessage(message(2L));
+
+        // then
+        verify(callbackService).handleError("rate-limit-key", 1L);
+        verify(callbackService, never()).handleError("rate-limit-key", 2L);
+        verify(discordWebhookClient, times(2)).sendMessage(anyString());
+    }
+
+    private PacemakerLlmMessage message(Long pacemakerId) {
+        return new PacemakerLlmMessage(pacemakerId, "rate-limit-key", "{\"user\": 1}", 25,
+                "improve prompt", "cache-key", System.currentTimeMillis());
+    }
+
+    private double jobs(String result) {
+        return meterRegistry.get("pacemaker.llm.jobs").tag("result", result).counter().count();
+    }
+
+    /** 외부 API 없이 단계별 응답을 지정하는 LLM 클라이언트 */
+    static class StubPacemakerLlmClient implements PacemakerLlmClient {
+
+        final List<String> prompts = new CopyOnWriteArrayList<>();
+        Function<String, Mono<String>> improve = prompt -> Mono.error(new IllegalStateException("stub 응답 없음"));
+        Function<String, Mono<String>> voice = prompt -> Mono.error(new IllegalStateException("stub 응답 없음"));
+
+        @Override
+        public Mono<String> improveWorkout(String prompt) {
+            prompts.add(prompt);
+            return improve.apply(prompt);
+        }
+
+        @Override
+        public Mono<String> fillVoiceGuidance(String prompt) {
+            prompts.add(prompt);
+            return voice.apply(prompt);
+        }
+
+    }
+
+}
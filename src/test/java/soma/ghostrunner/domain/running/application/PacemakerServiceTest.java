@@ -12,8 +12,10 @@ import soma.ghostrunner.domain.course.application.CourseService;
 import soma.ghostrunner.domain.course.domain.Course;
 import soma.ghostrunner.domain.member.application.MemberService;
 import soma.ghostrunner.domain.member.domain.Member;
+import soma.ghostrunner.domain.running.api.dto.response.PacemakerInCourseViewPollingResponse;
 import soma.ghostrunner.domain.running.api.dto.response.PacemakerPollingResponse;
 import soma.ghostrunner.domain.running.api.support.PacemakerType;
+import soma.ghostrunner.domain.running.application.dto.CachedPacemakerStatus;
 import soma.ghostrunner.domain.running.application.dto.WorkoutDto;
 import soma.ghostrunner.domain.running.application.dto.request.CreatePacemakerCommand;
 import soma.ghostrunner.domain.running.application.support.RunningApplicationMapper;
@@ -24,6 +26,7 @@ import soma.ghostrunner.domain.running.domain.formula.RunningTipsProvider;
 import soma.ghostrunner.domain.running.exception.RunningNotFoundException;
 import soma.ghostrunner.domain.running.infra.persistence.PacemakerRepository;
 import soma.ghostrunner.domain.running.infra.persistence.PacemakerSetRepository;
+import soma.ghostrunner.domain.running.infra.redis.RedisPacemakerStatusRepository;
 import soma.ghostrunner.domain.running.infra.redis.RedisRunningRepository;
 
 import java.util.List;
@@ -46,14 +49,14 @@ class PacemakerServiceTest {
     @Mock
     RedisRunningRepository redisRunningRepository;
     @Mock
+    RedisPacemakerStatusRepository pacemakerStatusRepository;
+    @Mock
     RunningQueryService runningQueryService;
     @Mock
     CourseService courseService;
     @Mock
     MemberService memberService;
     @Mock
-    RunningVdotService runningVdotService;
-    @Mock
     WorkoutService workoutService;
     @Mock
     PacemakerLlmService llmService;
@@ -69,10 +72,10 @@ class PacemakerServiceTest {
                 pacemakerRepository,
                 pacemakerSetRepository,
                 redisRunningRepository,
+                pacemakerStatusRepository,
                 runningQueryService,
                 courseService,
                 memberService,
-                runningVdotService,
                 workoutService,
                 llmService,
                 mapper
@@ -97,9 +100,7 @@ class PacemakerServiceTest {
         when(memberService.findMemberVdot(uuid)).thenReturn(30);
         when(courseService.findCourseById(courseId)).thenReturn(mock(Course.class));
 
-        when(runningVdotService.getExpectedPacesByVdot(30))
-                .thenReturn(Map.of(RunningType.M, 6.2));
-        when(workoutService.generateWorkouts(eq(10.0), any(), any()))
+        when(workoutService.generateWorkouts(eq(10.0), any(), eq(30)))
                 .thenReturn(WorkoutDto.of(RunningType.M, 10.0, java.util.List.of()));
 
         when(redisRunningRepository.incrementRateLimitCounter(anyString(), anyLong(), anyInt()))
@@ -116,13 +117,12 @@ class PacemakerServiceTest {
         // then
         assertThat(id).isEqualTo(pacemaker.getId());
 
-        InOrder inOrder = inOrder(memberService, courseService, runningVdotService, workoutService,
+        InOrder inOrder = inOrder(memberService, courseService, workoutService,
                 pacemakerRepository, llmService);
         inOrder.verify(memberService).findMemberByUuid(uuid);
         inOrder.verify(courseService).findCourseById(courseId);           // ✅ 추가 검증
         inOrder.verify(memberService).findMemberVdot(uuid);               // ✅ 변경된 호출
-        inOrder.verify(runningVdotService).getExpectedPacesByVdot(30);
-        inOrder.verify(workoutService).generateWorkouts(eq(10.0), any(), any());
+        inOrder.verify(workoutService).generateWorkouts(eq(10.0), any(), eq(30));
         inOrder.verify(pacemakerRepository).save(any());
         inOrder.verify(llmService).requestLlmToCreatePacemaker(
                 eq(member), any(), eq(30), anyInt(), anyInt(), eq(pacemaker.getId()), anyString()
@@ -194,7 +194,7 @@ class PacemakerServiceTest {
         // 진행상태용 mapper는 호출되지 않아야 함
         verify(mapper, never()).toPacemakerPollingResponse(completed);
         verifyNoMoreInteractions(pacemakerRepository, pacemakerSetRepository, mapper);
-        verifyNoInteractions(llmService, runningVdotService, workoutService, memberService, redisRunningRepository);
+        verifyNoInteractions(llmService, workoutService, memberService, redisRunningRepository);
     }
 
     @Test
@@ -229,7 +229,7 @@ class PacemakerServiceTest {
         inOrder.verify(mapper).toPacemakerPollingResponse(processing);
 
         verifyNoMoreInteractions(pacemakerRepository, mapper);
-        verifyNoInteractions(llmService, runningVdotService, workoutService, memberService, redisRunningRepository);
+        verifyNoInteractions(llmService, workoutService, memberService, redisRunningRepository);
     }
 
     @Test
@@ -268,6 +268,118 @@ class PacemakerServiceTest {
         verifyNoInteractions(pacemakerSetRepository, mapper);
     }
 
+    @Test
+    @DisplayName("캐싱된 상태가 생성 중이면 DB 조회 없이 상태만 응답한다")
+    void getPacemaker_cachedProceeding_skipsDatabase() {
+        // given
+        String owner = "owner-uuid";
+        Long id = 103L;
+        PacemakerPollingResponse expected = new PacemakerPollingResponse();
+        when(pacemakerStatusRepository.findById(id))
+                .thenReturn(Optional.of(new CachedPacemakerStatus(Pacemaker.Status.PROCEEDING, owner)));
+        when(mapper.toPacemakerPollingResponse(Pacemaker.Status.PROCEEDING)).thenReturn(expected);
+
+        // when
+        PacemakerPollingResponse actual = pacemakerService.getPacemaker(id, owner);
+
+        // then
+        assertThat(actual).isSameAs(expected);
+        verifyNoInteractions(pacemakerRepository, pacemakerSetRepository);
+    }
+
+    @Test
+    @DisplayName("캐싱된 상태로 응답할 때도 본인 소유가 아니면 AccessDeniedException을 던진다")
+    void getPacemaker_cachedNotMine_throwsAccessDenied() {
+        // given
+        Long id = 104L;
+        when(pacemakerStatusRepository.findById(id))
+                .thenReturn(Optional.of(new CachedPacemakerStatus(Pacemaker.Status.PROCEEDING, "owner-uuid")));
+
+        // when // then
+        assertThatThrownBy(() -> pacemakerService.getPacemaker(id, "other-uuid"))
+                .isInstanceOf(AccessDeniedException.class);
+        verifyNoInteractions(pacemakerRepository, mapper);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 DB에서 읽은 생성 중 상태를 캐시에 없을 때만 저장한다")
+    void getPacemaker_cacheMiss_savesStatusIfAbsent() {
+        // given
+        String owner = "owner-uuid";
+        Long id = 105L;
+        Pacemaker processing = spy(Pacemaker.of(Pacemaker.Norm.DISTANCE, 10.0, 1L, RunningType.M, owner));
+        when(processing.getId()).thenReturn(id);
+        when(pacemakerRepository.findById(id)).thenReturn(Optional.of(processing));
+
+        // when
+        pacemakerService.getPacemaker(id, owner);
+
+        // then
+        verify(pacemakerStatusRepository).saveIfAbsent(id, new CachedPacemakerStatus(Pacemaker.Status.PROCEEDING, owner));
+    }
+
+    @Test
+    @DisplayName("캐싱된 상태가 완료면 DB에서 세트를 조회한다")
+    void getPacemaker_cachedCompleted_readsDatabase() {
+        // given
+        String owner = "owner-uuid";
+        Long id = 106L;
+        Pacemaker completed = Pacemaker.of(Pacemaker.Norm.DISTANCE, 10.0, 1L, RunningType.M, owner);
+        completed.updateSucceedPacemaker("요약", 10.0, 50, "메세지");
+        when(pacemakerStatusRepository.findById(id))
+                .thenReturn(Optional.of(new CachedPacemakerStatus(Pacemaker.Status.COMPLETED, owner)));
+        when(pacemakerRepository.findById(id)).thenReturn(Optional.of(completed));
+        when(pacemakerSetRepository.findByPacemakerIdOrderBySetNumAsc(id)).thenReturn(List.of());
+
+        // when
+        pacemakerService.getPacemaker(id, owner);
+
+        // then
+        verify(pacemakerSetRepository).findByPacemakerIdOrderBySetNumAsc(id);
+        verify(pacemakerStatusRepository, never()).saveIfAbsent(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("코스 화면 폴링은 마지막으로 조회된 페이스메이커가 생성 중이면 DB 조회 없이 응답한다")
+    void getPacemakerInCourse_cachedProceeding_skipsDatabase() {
+        // given
+        String owner = "owner-uuid";
+        Long courseId = 1L;
+        PacemakerInCourseViewPollingResponse expected = new PacemakerInCourseViewPollingResponse();
+        when(pacemakerStatusRepository.findIdInCourse(courseId, owner)).thenReturn(Optional.of(107L));
+        when(pacemakerStatusRepository.findById(107L))
+                .thenReturn(Optional.of(new CachedPacemakerStatus(Pacemaker.Status.PROCEEDING, owner)));
+        when(mapper.toPacemakerInCourseViewPollingResponse(Pacemaker.Status.PROCEEDING)).thenReturn(expected);
+
+        // when
+        PacemakerInCourseViewPollingResponse actual = pacemakerService.getPacemakerInCourse(owner, courseId);
+
+        // then
+        assertThat(actual).isSameAs(expected);
+        verifyNoInteractions(pacemakerRepository, pacemakerSetRepository);
+    }
+
+    @Test
+    @DisplayName("코스 화면 폴링에서 캐싱된 페이스메이커가 실패했다면 DB에서 최신 페이스메이커를 다시 찾는다")
+    void getPacemakerInCourse_cachedFailed_readsDatabase() {
+        // given
+        String owner = "owner-uuid";
+        Long courseId = 1L;
+        Pacemaker latest = spy(Pacemaker.of(Pacemaker.Norm.DISTANCE, 10.0, courseId, RunningType.M, owner));
+        when(latest.getId()).thenReturn(109L);
+        when(pacemakerStatusRepository.findIdInCourse(courseId, owner)).thenReturn(Optional.of(108L));
+        when(pacemakerStatusRepository.findById(108L))
+                .thenReturn(Optional.of(new CachedPacemakerStatus(Pacemaker.Status.FAILED, owner)));
+        when(pacemakerRepository.findByCourseId(courseId, owner)).thenReturn(Optional.of(latest));
+
+        // when
+        pacemakerService.getPacemakerInCourse(owner, courseId);
+
+        // then
+        verify(pacemakerStatusRepository).saveIdInCourse(courseId, owner, 109L);
+        verify(pacemakerStatusRepository).saveIfAbsent(109L, new CachedPacemakerStatus(Pacemaker.Status.PROCEEDING, owner));
+    }
+
     @DisplayName("일일 제한 횟수를 계산한다. 생성했던 수를 조회하여 DAILY_LIMIT에서 차감한다.")
     @Test
     void getRateLimitCounter() {
@@ -0,0 +1,175 @@
+package soma.ghostrunner.domain.running.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import soma.ghostrunner.domain.member.domain.Gender;
+import soma.ghostrunner.domain.member.domain.Member;
+import soma.ghostrunner.domain.member.domain.MemberBioInfo;
+import soma.ghostrunner.domain.running.application.dto.WorkoutDto;
+import soma.ghostrunner.domain.running.domain.RunningType;
+import soma.ghostrunner.domain.running.infra.redis.RedisPacemakerWorkoutCacheRepository;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PacemakerWorkoutCacheTest {
+
+    private static final String WORKOUT_JSON = """
+            {
+              "workout": {
+                "type": "E",
+                "goal_km": 5.0,
+                "expected_minutes": 30,
+                "sets": []
+              }
+            }
+            """;
+
+    @Mock RedisPacemakerWorkoutCacheRepository repository;
+
+    SimpleMeterRegistry meterRegistry;
+    PacemakerWorkoutCache sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new PacemakerWorkoutCache(repository, meterRegistry, true, 168, 0.1, 5, 10);
+    }
+
+    @DisplayName("목표 거리와 기온, 나이가 같은 구간이면 같은 키를 만든다.")
+    @Test
+    void sameBucketSameKey() {
+        // given
+        Member member = member(Gender.MALE, 27);
+        Member sameAgeBand = member(Gender.MALE, 21);
+
+        // when
+        String key = sut.keyOf(member, 40, 3, 21, workout(RunningType.E, 5.04));
+        String similar = sut.keyOf(sameAgeBand, 40, 3, 24, workout(RunningType.E, 4.96));
+
+        // then
+        assertThat(key).isEqualTo(similar);
+    }
+
+    @DisplayName("러닝 유형, VDOT, 거리 구간, 기온 구간, 컨디션, 성별 중 하나라도 다르면 다른 키를 만든다.")
+    @Test
+    void differentBucketDifferentKey() {
+        // given
+        Member member = member(Gender.MALE, 27);
+        String key = sut.keyOf(member, 40, 3, 21, workout(RunningType.E, 5.0));
+
+        // when // then
+        assertThat(sut.keyOf(member, 40, 3, 21, workout(RunningType.M, 5.0))).isNotEqualTo(key);
+        assertThat(sut.keyOf(member, 41, 3, 21, workout(RunningType.E, 5.0))).isNotEqualTo(key);
+        assertThat(sut.keyOf(member, 40, 3, 21, workout(RunningType.E, 5.2))).isNotEqualTo(key);
+        assertThat(sut.keyOf(member, 40, 3, 25, workout(RunningType.E, 5.0))).isNotEqualTo(key);
+        assertThat(sut.keyOf(member, 40, 4, 21, workout(RunningType.E, 5.0))).isNotEqualTo(key);
+        assertThat(sut.keyOf(member(Gender.FEMALE, 27), 40, 3, 21, workout(RunningType.E, 5.0))).isNotEqualTo(key);
+    }
+
+    @DisplayName("영하 기온도 구간 경계를 넘으면 다른 키를 만든다.")
+    @Test
+    void negativeTemperatureBand() {
+        // given
+        Member member = member(Gender.MALE, 27);
+
+        // when // then
+        assertThat(sut.keyOf(member, 40, 3, -1, workout(RunningType.E, 5.0)))
+                .isNotEqualTo(sut.keyOf(member, 40, 3, 1, workout(RunningType.E, 5.0)));
+    }
+
+    @DisplayName("저장된 결과가 있으면 그대로 반환하고 적중으로 기록한다.")
+    @Test
+    void hit() {
+        // given
+        when(repository.find("key")).thenReturn(WORKOUT_JSON);
+
+        // when // then
+        assertThat(sut.find("key")).contains(WORKOUT_JSON);
+        assertThat(lookups("hit")).isEqualTo(1);
+    }
+
+    @DisplayName("저장된 결과가 없으면 미스로 기록한다.")
+    @Test
+    void miss() {
+        // when // then
+        assertThat(sut.find("key")).isEmpty();
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @DisplayName("파싱할 수 없는 결과는 지우고 미스로 처리한다.")
+    @Test
+    void invalidValueIsDeleted() {
+        // given
+        when(repository.find("key")).thenReturn("{\"not\": \"workout\"}");
+
+        // when // then
+        assertThat(sut.find("key")).isEmpty();
+        verify(repository).delete("key");
+        assertThat(lookups("invalid")).isEqualTo(1);
+    }
+
+    @DisplayName("Redis 조회에 실패하면 미스로 처리한다.")
+    @Test
+    void redisErrorIsMiss() {
+        // given
+        when(repository.find("key")).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when // then
+        assertThat(sut.find("key")).isEmpty();
+        assertThat(lookups("miss")).isEqualTo(1);
+    }
+
+    @DisplayName("캐시를 끄면 조회하거나 저장하지 않는다.")
+    @Test
+    void disabled() {
+        // given
+        PacemakerWorkoutCache disabled = new PacemakerWorkoutCache(repository, meterRegistry, false, 168, 0.1, 5, 10);
+
+        // when
+        disabled.put("key", WORKOUT_JSON);
+
+        // then
+        assertThat(disabled.find("key")).isEmpty();
+        verify(repository, never()).find(anyString());
+        verify(repository, never()).save(anyString(), anyString(), any(Duration.class));
+    }
+
+    @DisplayName("결과는 설정한 TTL 로 저장한다.")
+    @Test
+    void put() {
+        // when
+        sut.put("key", WORKOUT_JSON);
+
+        // then
+        verify(repository).save("key", WORKOUT_JSON, Duration.ofHours(168));
+        assertThat(meterRegistry.get("pacemaker.workout_cache.stores").counter().count()).isEqualTo(1);
+    }
+
+    private Member member(Gender gender, Integer age) {
+        Member member = mock(Member.class);
+        when(member.getBioInfo()).thenReturn(new MemberBioInfo(gender, age, 70, 175));
+        return member;
+    }
+
+    private WorkoutDto workout(RunningType type, double goalKm) {
+        return WorkoutDto.of(type, goalKm, List.of());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get("pacemaker.workout_cache.lookups").tag("result", result).counter().count();
+    }
+
+}
@@ -11,10 +11,9 @@ import soma.ghostrunner.domain.running.domain.path.*;
 
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 
@@ -24,7 +23,7 @@ class PathSimplificationServiceTest {
     PathSimplificationService sut;
 
     @Mock
-    TelemetryStatistics stats; // relativeTelemetries()만 쓰므로 mock으로 충분
+    TelemetryStatistics stats; // columns()만 쓰므로 mock으로 충분
     // Telemetry/Coordinates/Checkpoint는 실제 프로젝트의 패키지 기준으로 import
 
     @BeforeEach
@@ -38,15 +37,16 @@ class PathSimplificationServiceTest {
     }
 
     @Test
-    @DisplayName("정상 흐름: 변환된 좌표 리스트를 정적 유틸들에 넘겨 오케스트레이션한다")
+    @DisplayName("정상 흐름: 컬럼 형태 좌표를 정적 유틸들에 넘겨 오케스트레이션한다")
     void simplify_success_orchestration() {
-        // given: Telemetry → CoordinatesWithTs 로 변환될 원본
+        // given: 컬럼으로 변환될 원본
         var telemetries = Arrays.asList(
                 t(0,   37.0, 127.0),
                 t(100, 37.0005, 127.0005),
                 t(200, 37.0010, 127.0010)
         );
-        when(stats.relativeTelemetries()).thenReturn(telemetries);
+        TelemetryColumns columns = TelemetryColumns.from(telemetries);
+        when(stats.columns()).thenReturn(columns);
 
         // expected outputs from PathSimplifier
         var simplified = Arrays.asList(
@@ -67,33 +67,17 @@ class PathSimplificationServiceTest {
         // when: 정적 유틸 모킹
         try (MockedStatic<PathSimplifier> ps = mockStatic(PathSimplifier.class)) {
 
-            // simplifyToRenderingTelemetries: 전달받은 points가 변환 결과와 동일한지 내부에서 검증
-            ps.when(() -> PathSimplifier.simplifyToRenderingTelemetries(anyList()))
+            // simplifyToRenderingTelemetries / extractEdgePoints: 박싱 없이 컬럼을 그대로 넘기는지 확인
+            ps.when(() -> PathSimplifier.simplifyToRenderingTelemetries(any(TelemetryColumns.class), any(UtmTrack.class)))
                     .thenAnswer(invocation -> {
-                        @SuppressWarnings("unchecked")
-                        List<CoordinatesWithTs> arg = (List<CoordinatesWithTs>) invocation.getArgument(0);
-                        // 변환 기대값 계산
-                        List<CoordinatesWithTs> expected =
-                                CoordinatesWithTs.toCoordinatesWithTsList(telemetries);
-
-                        assertThat(arg).hasSameSizeAs(expected);
-                        for (int i = 0; i < expected.size(); i++) {
-                            assertThat(arg.get(i).getT()).isEqualTo(expected.get(i).getT());
-                            assertThat(arg.get(i).getY()).isEqualTo(expected.get(i).getY());
-                            assertThat(arg.get(i).getX()).isEqualTo(expected.get(i).getX());
-                        }
+                        TelemetryColumns arg = invocation.getArgument(0);
+                        assertThat(arg).isSameAs(columns);
                         return simplified;
                     });
-
-            // extractEdgePoints: 동일하게 변환 리스트가 전달되는지 확인
-            ps.when(() -> PathSimplifier.extractEdgePoints(anyList()))
+            ps.when(() -> PathSimplifier.extractEdgePoints(any(TelemetryColumns.class), any(UtmTrack.class)))
                     .thenAnswer(invocation -> {
-                        @SuppressWarnings("unchecked")
-                        List<CoordinatesWithTs> arg = (List<CoordinatesWithTs>) invocation.getArgument(0);
-                        List<CoordinatesWithTs> expected =
-                                CoordinatesWithTs.toCoordinatesWithTsList(telemetries);
-
-                        assertThat(arg).hasSameSizeAs(expected);
+                        TelemetryColumns arg = invocation.getArgument(0);
+                        assertThat(arg).isSameAs(columns);
                         return edgePoints; // 이후 calculateAngles 입력으로 사용됨
                     });
 
@@ -110,8 +94,8 @@ class PathSimplificationServiceTest {
             assertThat(result.checkpoints()).containsExactlyElementsOf(checkpoints);
 
             // 호출 여부 검증
-            ps.verify(() -> PathSimplifier.simplifyToRenderingTelemetries(anyList()), times(1));
-            ps.verify(() -> PathSimplifier.extractEdgePoints(anyList()), times(1));
+            ps.verify(() -> PathSimplifier.simplifyToRenderingTelemetries(any(TelemetryColumns.class), any(UtmTrack.class)), times(1));
+            ps.verify(() -> PathSimplifier.extractEdgePoints(any(TelemetryColumns.class), any(UtmTrack.class)), times(1));
             ps.verify(() -> PathSimplifier.calculateAngles(edgePoints), times(1));
         }
     }
@@ -120,16 +104,16 @@ class PathSimplificationServiceTest {
     @DisplayName("빈 입력: 정적 유틸이 빈 결과를 반환하면 그대로 래핑해 돌려준다")
     void simplify_emptyInput_returnsEmptyWrapped() {
         // given
-        when(stats.relativeTelemetries()).thenReturn(Collections.emptyList());
+        when(stats.columns()).thenReturn(TelemetryColumns.from(Collections.emptyList()));
 
         var simplified = Collections.<Coordinates>emptyList();
         var edgePoints = Collections.<Coordinates>emptyList();
         var checkpoints = Collections.<Checkpoint>emptyList();
 
         try (MockedStatic<PathSimplifier> ps = mockStatic(PathSimplifier.class)) {
-            ps.when(() -> PathSimplifier.simplifyToRenderingTelemetries(anyList()))
+            ps.when(() -> PathSimplifier.simplifyToRenderingTelemetries(any(TelemetryColumns.class), any(UtmTrack.class)))
                     .thenReturn(simplified);
-            ps.when(() -> PathSimplifier.extractEdgePoints(anyList()))
+            ps.when(() -> PathSimplifier.extractEdgePoints(any(TelemetryColumns.class), any(UtmTrack.class)))
                     .thenReturn(edgePoints);
             ps.when(() -> PathSimplifier.calculateAngles(edgePoints))
                     .thenReturn(checkpoints);
@@ -141,8 +125,8 @@ class PathSimplificationServiceTest {
             assertThat(result.simplifiedCoordinates()).isEmpty();
             assertThat(result.checkpoints()).isEmpty();
 
-            ps.verify(() -> PathSimplifier.simplifyToRenderingTelemetries(anyList()), times(1));
-            ps.verify(() -> PathSimplifier.extractEdgePoints(anyList()), times(1));
+            ps.verify(() -> PathSimplifier.simplifyToRenderingTelemetries(any(TelemetryColumns.class), any(UtmTrack.class)), times(1));
+            ps.verify(() -> PathSimplifier.extractEdgePoints(any(TelemetryColumns.class), any(UtmTrack.class)), times(1));
             ps.verify(() -> PathSimplifier.calculateAngles(edgePoints), times(1));
         }
     }
@@ -9,6 +9,8 @@ import org.mockito.Mock;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import soma.ghostrunner.domain.course.application.CourseService;
 import soma.ghostrunner.domain.course.domain.Course;
@@ -19,6 +21,9 @@ import soma.ghostrunner.domain.running.application.dto.RunningDataUrlsDto;
 import soma.ghostrunner.domain.running.application.dto.request.CreateRunCommand;
 import soma.ghostrunner.domain.running.application.support.RunningApplicationMapper;
 import soma.ghostrunner.domain.running.domain.Running;
+import soma.ghostrunner.domain.running.domain.events.CourseGeometryRequestedEvent;
+import soma.ghostrunner.domain.running.domain.events.RunUpdatedEvent;
+import soma.ghostrunner.domain.running.domain.events.RunsDeletedEvent;
 import soma.ghostrunner.domain.running.domain.path.*;
 import soma.ghostrunner.domain.running.infra.persistence.RunningRepository;
 
@@ -41,7 +46,6 @@ class RunningCommandServiceTest {
     @Mock TelemetryProcessor telemetryProcessor;
     @Mock RunningFileUploader runningFileUploader;
     @Mock ApplicationEventPublisher applicationEventPublisher;
-    @Mock PathSimplificationService pathSimplificationService;
     @Mock RunningQueryService runningQueryService;
     @Mock CourseService courseService;
     @Mock MemberService memberService;
@@ -57,8 +61,9 @@ class RunningCommandServiceTest {
     void setUp() {
         sut = new RunningCommandService(
                 mapper, runningRepository,
-                telemetryProcessor, runningFileUploader, applicationEventPublisher,
-                pathSimplificationService, runningQueryService, courseService, memberService
+                telemetryProcessor, new RunningFileUploadOrchestrator(runningFileUploader, Runnable::run),
+                applicationEventPublisher, runningQueryService, courseService, memberService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class))
         );
     }
 
@@ -88,7 +93,7 @@ class RunningCommandServiceTest {
 
     // ====== createRunAndCourse ======
     @Test
-    @DisplayName("createRunAndCourse: 원시/보간/간소화 업로드 → 코스/러닝 저장 → 응답 매핑까지 오케스트레이션")
+    @DisplayName("createRunAndCourse: 원시/보간 업로드 → 코스/러닝 저장 → 경로 후처리 요청 → 응답 매핑까지 오케스트레이션")
     void createRunAndCourse_success_orchestration() {
         // given
         Member member = mock(Member.class);
@@ -98,17 +103,9 @@ class RunningCommandServiceTest {
         TelemetryStatistics stats = statsMock();
         when(telemetryProcessor.process(any(MultipartFile.class), eq(startedAt))).thenReturn(stats);
 
-        SimplifiedPaths simplified = new SimplifiedPaths(
-                List.of(new Coordinates(37.0, 127.0), new Coordinates(37.001, 127.001)),
-                List.of(new Checkpoint(37.0, 127.0, 0))
-        );
-        when(pathSimplificationService.simplify(stats)).thenReturn(simplified);
-
         // 업로드 결과 URL
         when(runningFileUploader.uploadRawTelemetry(any(), eq(memberUuid))).thenReturn("s3://raw");
-        when(runningFileUploader.uploadInterpolatedTelemetry(anyList(), eq(memberUuid))).thenReturn("s3://interp");
-        when(runningFileUploader.uploadSimplifiedCoordinates(anyList(), eq(memberUuid))).thenReturn("s3://simplified");
-        when(runningFileUploader.uploadCheckpoints(anyList(), eq(memberUuid))).thenReturn("s3://checkpoints");
+        when(runningFileUploader.uploadInterpolatedTelemetry(any(), eq(memberUuid))).thenReturn(new InterpolatedTelemetryUrls("s3://interp", "s3://interp.grtl"));
         when(runningFileUploader.uploadRunningCaptureImage(any(), eq(memberUuid))).thenReturn("s3://shot");
 
         // 매핑 및 저장
@@ -116,6 +113,7 @@ class RunningCommandServiceTest {
         when(cmd.getStartedAt()).thenReturn(startedAt);
 
         Course course = mock(Course.class);
+        when(course.getId()).thenReturn(10L);
         when(mapper.toCourse(eq(member), eq(cmd), eq(stats), any(RunningDataUrlsDto.class))).thenReturn(course);
 
         Running running = mock(Running.class);
@@ -132,27 +130,27 @@ class RunningCommandServiceTest {
         // then
         assertThat(result).isSameAs(response);
 
-        InOrder inOrder = inOrder(memberService, telemetryProcessor, pathSimplificationService,
-                runningFileUploader, courseService, runningRepository, mapper);
+        InOrder inOrder = inOrder(memberService, telemetryProcessor,
+                runningFileUploader, course, courseService, runningRepository, applicationEventPublisher, mapper);
 
         inOrder.verify(memberService).findMemberByUuid(memberUuid);
         inOrder.verify(telemetryProcessor).process(any(MultipartFile.class), eq(startedAt));
-        inOrder.verify(pathSimplificationService).simplify(stats);
 
         verify(runningFileUploader).uploadRawTelemetry(any(), eq(memberUuid));
-        verify(runningFileUploader).uploadInterpolatedTelemetry(anyList(), eq(memberUuid));
-        verify(runningFileUploader).uploadSimplifiedCoordinates(anyList(), eq(memberUuid));
-        verify(runningFileUploader).uploadCheckpoints(anyList(), eq(memberUuid));
+        verify(runningFileUploader).uploadInterpolatedTelemetry(any(), eq(memberUuid));
         verify(runningFileUploader).uploadRunningCaptureImage(any(), eq(memberUuid));
 
         inOrder.verify(mapper).toCourse(eq(member), eq(cmd), eq(stats), any(RunningDataUrlsDto.class));
+        inOrder.verify(course).markGeometryPending();
         inOrder.verify(courseService).save(course);
         inOrder.verify(mapper).toRunning(eq(cmd), eq(stats), any(RunningDataUrlsDto.class), eq(member), eq(course));
         inOrder.verify(runningRepository).save(running);
+        inOrder.verify(applicationEventPublisher).publishEvent(
+                new CourseGeometryRequestedEvent(10L, memberUuid, "s3://interp", "s3://interp.grtl"));
         inOrder.verify(mapper).toResponse(running, course);
 
-        verifyNoMoreInteractions(memberService, telemetryProcessor, pathSimplificationService,
-                runningFileUploader, courseService, runningRepository, mapper);
+        verifyNoMoreInteractions(memberService, telemetryProcessor,
+                runningFileUploader, courseService, runningRepository, applicationEventPublisher, mapper);
     }
 
     // ====== createRun (코스에 붙여 저장) ======
@@ -172,7 +170,7 @@ class RunningCommandServiceTest {
         when(telemetryProcessor.process(any(MultipartFile.class), eq(startedAt))).thenReturn(stats);
 
         when(runningFileUploader.uploadRawTelemetry(any(), eq(memberUuid))).thenReturn("s3://raw");
-        when(runningFileUploader.uploadInterpolatedTelemetry(anyList(), eq(memberUuid))).thenReturn("s3://interp");
+        when(runningFileUploader.uploadInterpolatedTelemetry(any(), eq(memberUuid))).thenReturn(new InterpolatedTelemetryUrls("s3://interp", "s3://interp.grtl"));
         when(runningFileUploader.uploadRunningCaptureImage(any(), eq(memberUuid))).thenReturn("s3://shot");
 
         CreateRunCommand cmd = mock(CreateRunCommand.class);
@@ -229,6 +227,41 @@ class RunningCommandServiceTest {
         verify(runningQueryService).findRunningByRunningId(999L);
     }
 
+    @Test
+    @DisplayName("createRun: 업로드 이후 저장에 실패하면 업로드한 파일을 삭제하고 예외를 전파한다")
+    void createRun_saveFails_deletesUploadedFiles() {
+        // given
+        long courseId = 77L;
+        Course course = mock(Course.class);
+        when(courseService.findCourseByIdFetchJoinMember(courseId)).thenReturn(course);
+
+        Member member = Member.of("러너", "profile");
+        when(memberService.findMemberByUuid(memberUuid)).thenReturn(member);
+
+        var stats = statsMock();
+        when(telemetryProcessor.process(any(MultipartFile.class), eq(startedAt))).thenReturn(stats);
+
+        when(runningFileUploader.uploadRawTelemetry(any(), any())).thenReturn("s3://raw");
+        when(runningFileUploader.uploadInterpolatedTelemetry(any(), any())).thenReturn(new InterpolatedTelemetryUrls("s3://interp", "s3://interp.grtl"));
+        when(runningFileUploader.uploadRunningCaptureImage(any(), any())).thenReturn("s3://shot");
+
+        CreateRunCommand cmd = mock(CreateRunCommand.class);
+        when(cmd.getStartedAt()).thenReturn(startedAt);
+        when(cmd.getMode()).thenReturn("NORMAL");
+
+        when(runningRepository.save(any())).thenThrow(new RuntimeException("db down"));
+
+        // when // then
+        assertThatThrownBy(() -> sut.createRun(cmd, memberUuid, courseId, raw(), interp(), shot()))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("db down");
+
+        verify(runningFileUploader).deleteFile("s3://raw");
+        verify(runningFileUploader).deleteFile("s3://interp");
+        verify(runningFileUploader).deleteFile("s3://shot");
+        verify(applicationEventPublisher, never()).publishEvent(any());
+    }
+
     // ====== 업데이트 계열 ======
 
     @Test
@@ -265,6 +298,7 @@ class RunningCommandServiceTest {
         inOrder.verify(runningQueryService).findRunningByRunningId(runningId);
         inOrder.verify(running).verifyMember(memberUuid);
         inOrder.verify(running).updatePublicStatus();
+        verify(applicationEventPublisher).publishEvent(any(RunUpdatedEvent.class));
     }
 
     // ====== 삭제 ======
@@ -288,6 +322,7 @@ class RunningCommandServiceTest {
         verify(r2).verifyMember(memberUuid);
         verify(r3).verifyMember(memberUuid);
         verify(runningRepository).deleteInRunningIds(ids);
+        verify(applicationEventPublisher).publishEvent(new RunsDeletedEvent(memberUuid, List.of()));
     }
 
     // ====== 예외 가드(한 예시) ======
@@ -0,0 +1,106 @@
+package soma.ghostrunner.domain.running.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+import soma.ghostrunner.domain.running.application.dto.RunningDataUrlsDto;
+import soma.ghostrunner.domain.running.domain.path.InterpolatedTelemetryUrls;
+import soma.ghostrunner.domain.running.domain.path.RunningFileUploader;
+import soma.ghostrunner.domain.running.domain.path.TelemetryColumns;
+import soma.ghostrunner.global.error.exception.ExternalIOException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RunningFileUploadOrchestratorTest {
+
+    @Mock RunningFileUploader runningFileUploader;
+
+    RunningFileUploadOrchestrator sut;
+
+    private final String memberUuid = "mem-123";
+    private final TelemetryColumns telemetries = TelemetryColumns.from(List.of());
+
+    @BeforeEach
+    void setUp() {
+        sut = new RunningFileUploadOrchestrator(runningFileUploader, Runnable::run);
+    }
+
+    private MultipartFile raw() {
+        return new MockMultipartFile("raw.jsonl", "raw.jsonl", "application/json",
+                "{\"t\":0}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MultipartFile shot() {
+        return new MockMultipartFile("cap.png", "cap.png", "image/png", new byte[]{1, 2, 3});
+    }
+
+    @DisplayName("러닝 파일을 모두 업로드하고 URL 을 모아 반환한다.")
+    @Test
+    void uploadRunFiles() {
+        // given
+        when(runningFileUploader.uploadRawTelemetry(any(), eq(memberUuid))).thenReturn("s3://raw");
+        when(runningFileUploader.uploadInterpolatedTelemetry(telemetries, memberUuid))
+                .thenReturn(new InterpolatedTelemetryUrls("s3://interp", "s3://interp.grtl"));
+        when(runningFileUploader.uploadRunningCaptureImage(any(), eq(memberUuid))).thenReturn("s3://shot");
+
+        // when
+        RunningDataUrlsDto urls = sut.uploadRunFiles(raw(), telemetries, shot(), memberUuid);
+
+        // then
+        assertThat(urls.getRawTelemetryUrl()).isEqualTo("s3://raw");
+        assertThat(urls.getInterpolatedTelemetryUrl()).isEqualTo("s3://interp");
+        assertThat(urls.getBinaryTelemetryUrl()).isEqualTo("s3://interp.grtl");
+        assertThat(urls.getScreenShotUrl()).isEqualTo("s3://shot");
+        verify(runningFileUploader, never()).deleteFile(anyString());
+    }
+
+    @DisplayName("스크린샷이 없다면 스크린샷은 업로드하지 않는다.")
+    @Test
+    void uploadRunFilesWithoutScreenShot() {
+        // given
+        when(runningFileUploader.uploadRawTelemetry(any(), eq(memberUuid))).thenReturn("s3://raw");
+        when(runningFileUploader.uploadInterpolatedTelemetry(telemetries, memberUuid))
+                .thenReturn(new InterpolatedTelemetryUrls("s3://interp", null));
+
+        // when
+        RunningDataUrlsDto urls = sut.uploadRunFiles(raw(), telemetries, null, memberUuid);
+
+        // then
+        assertThat(urls.getScreenShotUrl()).isNull();
+        assertThat(urls.getBinaryTelemetryUrl()).isNull();
+        verify(runningFileUploader, never()).uploadRunningCaptureImage(any(), anyString());
+    }
+
+    @DisplayName("업로드 중 하나라도 실패하면 성공한 파일을 삭제하고 예외를 발생한다.")
+    @Test
+    void uploadRunFilesPartiallyFailed() {
+        // given
+        when(runningFileUploader.uploadRawTelemetry(any(), eq(memberUuid))).thenReturn("s3://raw");
+        when(runningFileUploader.uploadInterpolatedTelemetry(telemetries, memberUuid))
+                .thenThrow(new IllegalStateException("S3 timeout"));
+        when(runningFileUploader.uploadRunningCaptureImage(any(), eq(memberUuid))).thenReturn("s3://shot");
+
+        // when // then
+        assertThatThrownBy(() -> sut.uploadRunFiles(raw(), telemetries, shot(), memberUuid))
+                .isInstanceOf(ExternalIOException.class)
+                .hasMessage("러닝 파일을 업로드하는데 실패했습니다.");
+
+        verify(runningFileUploader).deleteFile("s3://raw");
+        verify(runningFileUploader).deleteFile("s3://shot");
+        verify(runningFileUploader, times(2)).deleteFile(anyString());
+    }
+
+}
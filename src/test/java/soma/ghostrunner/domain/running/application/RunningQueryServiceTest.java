@@ -14,6 +14,7 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 import soma.ghostrunner.domain.course.domain.Coordinate;
 import soma.ghostrunner.domain.course.domain.Course;
 import soma.ghostrunner.domain.course.domain.CourseProfile;
+import soma.ghostrunner.domain.course.dto.CourseRunDto;
 import soma.ghostrunner.domain.course.dto.response.CourseGhostResponse;
 import soma.ghostrunner.domain.member.application.MemberService;
 import soma.ghostrunner.domain.member.domain.Member;
@@ -25,6 +26,7 @@ import soma.ghostrunner.domain.running.domain.RunningMode;
 import soma.ghostrunner.domain.running.domain.RunningRecord;
 import soma.ghostrunner.domain.running.infra.persistence.RunningRepository;
 import soma.ghostrunner.domain.running.domain.Running;
+import soma.ghostrunner.domain.running.domain.RunningDataUrls;
 import soma.ghostrunner.domain.running.exception.InvalidRunningException;
 import soma.ghostrunner.domain.running.exception.RunningNotFoundException;
 
@@ -42,12 +44,14 @@ class RunningQueryServiceTest {
     RunningApplicationMapper mapper;
     @Mock
     MemberService memberService;
+    @Mock
+    CourseLeaderboardService courseLeaderboardService;
 
     RunningQueryService sut; // SUT (spy가 필요한 케이스는 별도 생성)
 
     @BeforeEach
     void setUp() {
-        sut = new RunningQueryService(runningRepository, mapper, memberService);
+        sut = new RunningQueryService(runningRepository, mapper, memberService, courseLeaderboardService);
     }
 
     // ===== findSoloRunInfo =====
@@ -140,6 +144,23 @@ class RunningQueryServiceTest {
                 .isInstanceOf(AccessDeniedException.class);
     }
 
+    @Test
+    @DisplayName("findRunningTelemetries: 바이너리를 선호하면 저장된 바이너리 URL을, 없으면 JSONL URL을 반환")
+    void findRunningTelemetries_preferBinary() {
+        Long id = 5L; String u = "u";
+        RunningDataUrls dataUrls = new RunningDataUrls("s3://raw.jsonl", "s3://telemetry.jsonl", null);
+        when(runningRepository.findInterpolatedTelemetryUrlByIdAndMemberUuid(id, u))
+                .thenReturn(Optional.of("s3://telemetry.jsonl"));
+        when(runningRepository.findRunningDataUrlsByIdAndMemberUuid(id, u))
+                .thenReturn(Optional.of(dataUrls));
+
+        assertThat(sut.findRunningTelemetries(id, u, true)).isEqualTo("s3://telemetry.jsonl");
+        assertThat(sut.findRunningTelemetries(id, u, false)).isEqualTo("s3://telemetry.jsonl");
+
+        dataUrls.updateBinaryTelemetryUrl("s3://telemetry.grtl");
+        assertThat(sut.findRunningTelemetries(id, u, true)).isEqualTo("s3://telemetry.grtl");
+    }
+
     // ===== findPublicGhostRunsByCourseId & sort validation =====
     @Test
     @DisplayName("findPublicGhostRunsByCourseId: 유효한 sort면 매핑해서 페이지 반환")
@@ -474,4 +495,115 @@ class RunningQueryServiceTest {
         verify(runningRepository).findBestRunningRecordsByMemberIdAndCourseIds(memberUuid, courseIds);
     }
 
+    @DisplayName("findTopRankingDistinctGhostsByCourseId: 리더보드 순서대로 상위 러너의 기록을 반환")
+    @Test
+    void findTopRankingDistinctGhostsByCourseId_fromLeaderboard() {
+        // given
+        Long courseId = 1L;
+        CourseRunDto first = courseRunDto(20L);
+        CourseRunDto second = courseRunDto(10L);
+        when(courseLeaderboardService.findTopRunningIds(courseId, 2)).thenReturn(Optional.of(List.of(20L, 10L)));
+        when(runningRepository.findCourseRunsByIds(List.of(20L, 10L))).thenReturn(List.of(second, first));
+        CourseGhostResponse firstResponse = mock(CourseGhostResponse.class);
+        CourseGhostResponse secondResponse = mock(CourseGhostResponse.class);
+        when(mapper.toGhostResponse(first)).thenReturn(firstResponse);
+        when(mapper.toGhostResponse(second)).thenReturn(secondResponse);
+
+        // when
+        List<CourseGhostResponse> result = sut.findTopRankingDistinctGhostsByCourseId(courseId, 2);
+
+        // then
+        assertThat(result).containsExactly(firstResponse, secondResponse);
+        verify(runningRepository, never()).findTopRankingRunsByCourseIdWithDistinctMember(any(), any());
+    }
+
+    @DisplayName("findTopRankingDistinctGhostsByCourseId: 리더보드를 쓸 수 없으면 DB 에서 집계")
+    @Test
+    void findTopRankingDistinctGhostsByCourseId_fallbackToDatabase() {
+        // given
+        Long courseId = 1L;
+        CourseRunDto run = courseRunDto(10L);
+        when(courseLeaderboardService.findTopRunningIds(courseId, 3)).thenReturn(Optional.empty());
+        when(runningRepository.findTopRankingRunsByCourseIdWithDistinctMember(courseId, 3)).thenReturn(List.of(run));
+        CourseGhostResponse response = mock(CourseGhostResponse.class);
+        when(mapper.toGhostResponse(run)).thenReturn(response);
+
+        // when
+        List<CourseGhostResponse> result = sut.findTopRankingDistinctGhostsByCourseId(courseId, 3);
+
+        // then
+        assertThat(result).containsExactly(response);
+    }
+
+    @DisplayName("findPublicRankForCourse: 리더보드를 쓸 수 있으면 리더보드 순위를 반환")
+    @Test
+    void findPublicRankForCourse_fromLeaderboard() {
+        // given
+        Long courseId = 1L;
+        Running running = rankedRunning(1800L);
+        when(courseLeaderboardService.findRank(courseId, 1800L)).thenReturn(Optional.of(3L));
+
+        // when
+        Integer rank = sut.findPublicRankForCourse(courseId, running);
+
+        // then
+        assertThat(rank).isEqualTo(3);
+        verify(courseLeaderboardService, never()).findRankFromDatabase(any(), anyLong());
+    }
+
+    @DisplayName("findPublicRankForCourse: 리더보드를 쓸 수 없으면 같은 규칙으로 DB 에서 계산")
+    @Test
+    void findPublicRankForCourse_fallbackToDatabase() {
+        // given
+        Long courseId = 1L;
+        Running running = rankedRunning(1800L);
+        when(courseLeaderboardService.findRank(courseId, 1800L)).thenReturn(Optional.empty());
+        when(courseLeaderboardService.findRankFromDatabase(courseId, 1800L)).thenReturn(5L);
+
+        // when
+        Integer rank = sut.findPublicRankForCourse(courseId, running);
+
+        // then
+        assertThat(rank).isEqualTo(5);
+    }
+
+    @DisplayName("findTopPercentageGhostsByCourseId: 리더보드를 쓸 수 없으면 같은 규칙으로 DB 에서 계산")
+    @Test
+    void findTopPercentageGhostsByCourseId_fallbackToDatabase() {
+        // given
+        Long courseId = 1L;
+        Running first = mock(Running.class);
+        when(first.getId()).thenReturn(20L);
+        Running second = mock(Running.class);
+        when(second.getId()).thenReturn(10L);
+        when(courseLeaderboardService.findTopPercentageRunningIds(courseId, 0.5)).thenReturn(Optional.empty());
+        when(courseLeaderboardService.findTopPercentageRunningIdsFromDatabase(courseId, 0.5))
+                .thenReturn(new CourseLeaderboardService.TopPercentage(List.of(20L, 10L), 2, 2));
+        when(runningRepository.findByIdsFetchJoinMember(List.of(20L, 10L))).thenReturn(List.of(second, first));
+        CourseGhostResponse firstResponse = mock(CourseGhostResponse.class);
+        CourseGhostResponse secondResponse = mock(CourseGhostResponse.class);
+        when(mapper.toGhostResponse(first)).thenReturn(firstResponse);
+        when(mapper.toGhostResponse(second)).thenReturn(secondResponse);
+
+        // when
+        Page<CourseGhostResponse> result = sut.findTopPercentageGhostsByCourseId(courseId, 0.5);
+
+        // then
+        assertThat(result.getContent()).containsExactly(firstResponse, secondResponse);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    private Running rankedRunning(long duration) {
+        RunningRecord record = mock(RunningRecord.class);
+        when(record.getDuration()).thenReturn(duration);
+        Running running = mock(Running.class);
+        when(running.getRunningRecord()).thenReturn(record);
+        return running;
+    }
+
+    private CourseRunDto courseRunDto(Long runningId) {
+        return new CourseRunDto("uuid-" + runningId, "profile.url", "러너" + runningId, runningId, 1L,
+                "러닝", 6.0, 170, 150, 1800L, true, 1_700_000_000_000L);
+    }
+
 }
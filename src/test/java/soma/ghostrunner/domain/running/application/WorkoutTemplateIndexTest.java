@@ -0,0 +1,121 @@
+package soma.ghostrunner.domain.running.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import soma.ghostrunner.domain.running.domain.RunningType;
+import soma.ghostrunner.domain.running.domain.formula.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkoutTemplateIndexTest {
+
+    @Mock WorkoutProvider workoutProvider;
+    @Mock VdotPaceProvider vdotPaceProvider;
+
+    // E 페이스에 따라 총 거리가 달라지는 시간 기반 템플릿과 거리 기반 템플릿을 섞는다
+    private final List<Workout> mTemplates = List.of(
+            workout("M-01", distanceSet(WorkoutType.M, 8000)),
+            workout("M-02", durationSet(WorkoutType.E, 30), distanceSet(WorkoutType.M, 5000)),
+            workout("M-03", distanceSet(WorkoutType.M, 12000)),
+            workout("M-04", distanceSet(WorkoutType.M, 10000)),
+            workout("M-05", durationSet(WorkoutType.E, 60), durationSet(WorkoutType.X, 5)),
+            workout("M-06", distanceSet(WorkoutType.M, 10000))
+    );
+
+    WorkoutTemplateIndex sut;
+
+    @BeforeEach
+    void setUp() {
+        when(vdotPaceProvider.getVdots()).thenReturn(Set.of(30, 31));
+        when(vdotPaceProvider.getVdotPaceByVdot(30)).thenReturn(List.of(
+                new VdotPace(RunningType.E, 7.0), new VdotPace(RunningType.M, 6.2)));
+        when(vdotPaceProvider.getVdotPaceByVdot(31)).thenReturn(List.of(
+                new VdotPace(RunningType.E, 6.5), new VdotPace(RunningType.M, 6.0),
+                // 중복 유형은 마지막 값을 쓴다
+                new VdotPace(RunningType.E, 6.4)));
+        when(workoutProvider.findWorkoutTemplates(any()))
+                .thenAnswer(invocation -> invocation.getArgument(0) == WorkoutType.M ? mTemplates : List.of());
+
+        sut = new WorkoutTemplateIndex(workoutProvider, vdotPaceProvider);
+    }
+
+    @DisplayName("목표 거리와 가장 가까운 템플릿을 고르며, 결과는 전체 템플릿을 선형 탐색한 결과와 같다.")
+    @Test
+    void sameAsLinearScan() {
+        for (int vdot : List.of(30, 31)) {
+            Map<RunningType, Double> paces = sut.pacesOf(vdot);
+            for (double target = 0; target <= 20000; target += 250) {
+                double goal = target;
+                Workout expected = mTemplates.stream()
+                        .min(Comparator.comparingDouble(t -> Math.abs(t.calculateTotalDistance(paces) - goal)))
+                        .orElseThrow();
+
+                WorkoutTemplateIndex.WorkoutTemplate actual = sut.findClosestTemplate(vdot, WorkoutType.M, goal);
+
+                assertThat(actual.workout().getId()).as("vdot=%d, target=%s", vdot, goal).isEqualTo(expected.getId());
+                assertThat(actual.totalDistance()).isEqualTo(expected.calculateTotalDistance(paces));
+            }
+        }
+    }
+
+    @DisplayName("총 거리가 같은 템플릿이 여럿이면 provider 순서가 앞선 템플릿을 고른다.")
+    @Test
+    void tieBreakByProviderOrder() {
+        // when // then
+        assertThat(sut.findClosestTemplate(30, WorkoutType.M, 10000).workout().getId()).isEqualTo("M-04");
+        // 10000(M-04, M-06) 과 12000(M-03) 의 정중앙 : 차이가 같으면 provider 순서가 앞선 M-03
+        assertThat(sut.findClosestTemplate(30, WorkoutType.M, 11000).workout().getId()).isEqualTo("M-03");
+    }
+
+    @DisplayName("VDOT 별 페이스를 러닝 유형 맵으로 반환한다.")
+    @Test
+    void pacesOf() {
+        // when // then
+        assertThat(sut.pacesOf(31))
+                .containsEntry(RunningType.E, 6.4)
+                .containsEntry(RunningType.M, 6.0)
+                .hasSize(2);
+    }
+
+    @DisplayName("페이스 정보가 없는 VDOT 는 예외가 발생한다.")
+    @Test
+    void unknownVdot() {
+        // when // then
+        assertThatThrownBy(() -> sut.pacesOf(29)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> sut.findClosestTemplate(32, WorkoutType.M, 10000))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("해당 유형의 템플릿이 없으면 null 을 반환한다.")
+    @Test
+    void noTemplates() {
+        // when // then
+        assertThat(sut.findClosestTemplate(30, WorkoutType.T, 10000)).isNull();
+    }
+
+    private static Workout workout(String id, WorkoutSet... sets) {
+        return new Workout(id, WorkoutType.M, List.of(sets));
+    }
+
+    private static WorkoutSet distanceSet(WorkoutType type, double meters) {
+        return new WorkoutSet(1, type, WorkoutSet.UnitType.DISTANCE, meters);
+    }
+
+    private static WorkoutSet durationSet(WorkoutType type, double minutes) {
+        return new WorkoutSet(1, type, WorkoutSet.UnitType.DURATION, minutes);
+    }
+
+}
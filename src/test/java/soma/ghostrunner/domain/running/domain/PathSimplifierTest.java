@@ -8,6 +8,10 @@ import org.springframework.core.io.ClassPathResource;
 import soma.ghostrunner.domain.running.domain.path.CoordinatesWithTs;
 import soma.ghostrunner.domain.running.domain.path.Coordinates;
 import soma.ghostrunner.domain.running.domain.path.PathSimplifier;
+import soma.ghostrunner.domain.running.domain.path.Telemetry;
+import soma.ghostrunner.domain.running.domain.path.TelemetryColumns;
+import soma.ghostrunner.domain.running.domain.path.UtmProjector;
+import soma.ghostrunner.domain.running.domain.path.UtmTrack;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -53,12 +57,14 @@ class PathSimplifierTest {
     void extractEdgePointsFromData7Jsonl() throws Exception {
         // given
         List<CoordinatesWithTs> original = readCoordinatesFromJsonl("data7.jsonl");
+        List<Coordinates> expected = readSimplifiedFromJsonl("simplified_rdp_data.jsonl");
 
         // when
         List<Coordinates> simplified = PathSimplifier.extractEdgePoints(original);
 
         // then
         assertThat(simplified.size()).isLessThanOrEqualTo(original.size());
+        assertThat(simplified).containsExactlyElementsOf(expected);
 
         // 첫/끝점 보존
         assertThat(simplified.get(0)).isEqualTo(original.get(0).toCoordinates());
@@ -117,6 +123,21 @@ class PathSimplifierTest {
         return List.copyOf(list);
     }
 
+    // 기존 구현이 만든 결과 파일
+    private List<Coordinates> readSimplifiedFromJsonl(String classpathFilename) throws Exception {
+        List<Coordinates> list = new ArrayList<>();
+        try (var reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(classpathFilename).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    list.add(MAPPER.readValue(line, Coordinates.class));
+                }
+            }
+        }
+        return list;
+    }
+
     private void writeJsonlToTestResources(List<Coordinates> coords, String filename) throws Exception {
         ObjectMapper mapper = new ObjectMapper();
 
@@ -146,15 +167,53 @@ class PathSimplifierTest {
     void simplifyToRenderingTelemetriesFromData7Jsonl() throws Exception {
         // given
         List<CoordinatesWithTs> original = readCoordinatesFromJsonl("data7.jsonl");
+        List<Coordinates> expected = readSimplifiedFromJsonl("simplified_vw_data.jsonl");
 
         // when
         List<Coordinates> simplified = PathSimplifier.simplifyToRenderingTelemetries(original);
 
         // then
         assertThat(simplified.size()).isLessThanOrEqualTo(original.size());
+        assertThat(simplified).containsExactlyElementsOf(expected);
         System.out.println("원본 개수: " + original.size());
         System.out.println("단순화 후 개수: " + simplified.size());
         writeJsonlToTestResources(simplified, "simplified_vw_data.jsonl");
     }
 
+    @DisplayName("한 직선 위에 놓인 점들은 RDP, VW 모두 양 끝점만 남긴다.")
+    @Test
+    void straightLineKeepsOnlyEndpoints() {
+        // given
+        List<CoordinatesWithTs> line = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            line.add(new CoordinatesWithTs(i * 1000L, 37.5, 127.0 + i * 0.0001));
+        }
+
+        // when
+        List<Coordinates> edgePoints = PathSimplifier.extractEdgePoints(line);
+        List<Coordinates> rendering = PathSimplifier.simplifyToRenderingTelemetries(line);
+
+        // then
+        List<Coordinates> endpoints = List.of(line.get(0).toCoordinates(), line.get(99).toCoordinates());
+        assertThat(edgePoints).containsExactlyElementsOf(endpoints);
+        assertThat(rendering).containsExactlyElementsOf(endpoints);
+    }
+
+    @DisplayName("컬럼 형태 트랙의 RDP, VW 결과는 좌표 리스트 트랙의 결과와 같다.")
+    @Test
+    void columnarTrackMatchesListTrack() throws Exception {
+        // given
+        List<CoordinatesWithTs> original = readCoordinatesFromJsonl("data7.jsonl");
+        TelemetryColumns columns = TelemetryColumns.from(original.stream()
+                .map(point -> new Telemetry(point.getT(), point.getY(), point.getX(), null, null, null, null, null, null))
+                .toList());
+        UtmTrack utmTrack = UtmProjector.project(columns, UtmProjector.Method.PROJ4J);
+
+        // when // then
+        assertThat(PathSimplifier.extractEdgePoints(columns, utmTrack))
+                .containsExactlyElementsOf(PathSimplifier.extractEdgePoints(original));
+        assertThat(PathSimplifier.simplifyToRenderingTelemetries(columns, utmTrack))
+                .containsExactlyElementsOf(PathSimplifier.simplifyToRenderingTelemetries(original));
+    }
+
 }
@@ -0,0 +1,116 @@
+package soma.ghostrunner.domain.running.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.core.io.ClassPathResource;
+import soma.ghostrunner.domain.running.domain.path.Telemetry;
+import soma.ghostrunner.domain.running.domain.path.TelemetryBinaryCodec;
+import soma.ghostrunner.domain.running.domain.path.TelemetryBinaryCodec.Compression;
+import soma.ghostrunner.domain.running.domain.path.TelemetryColumns;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TelemetryBinaryCodecTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @DisplayName("data7.jsonl을 바이너리로 인코딩 후 디코딩하면 양자화 오차 범위 내에서 원본과 같다.")
+    @ParameterizedTest
+    @EnumSource(Compression.class)
+    void encodeAndDecodeData7Jsonl(Compression compression) throws Exception {
+        // given
+        TelemetryColumns original = TelemetryColumns.from(readTelemetriesFromJsonl("data7.jsonl"));
+
+        // when
+        TelemetryColumns decoded = TelemetryBinaryCodec.decode(TelemetryBinaryCodec.encode(original, compression));
+
+        // then
+        assertThat(decoded.size()).isEqualTo(original.size());
+        assertThat(decoded.t()).containsExactly(original.t());
+        assertThat(decoded.c()).containsExactly(original.c());
+        assertThat(decoded.b()).containsExactly(original.b());
+        assertThat(decoded.r()).isEqualTo(original.r());
+        for (int i = 0; i < original.size(); i++) {
+            assertThat(decoded.y()[i]).isCloseTo(original.y()[i], within(1e-7));
+            assertThat(decoded.x()[i]).isCloseTo(original.x()[i], within(1e-7));
+            assertThat(decoded.d()[i]).isCloseTo(original.d()[i], within(0.01));
+            assertThat(decoded.p()[i]).isCloseTo(original.p()[i], within(0.01));
+            assertThat(decoded.e()[i]).isCloseTo(original.e()[i], within(0.1));
+        }
+    }
+
+    @DisplayName("바이너리 포맷은 JSONL 보다 작다.")
+    @Test
+    void binaryIsSmallerThanJsonl() throws Exception {
+        // given
+        List<Telemetry> telemetries = readTelemetriesFromJsonl("data7.jsonl");
+        TelemetryColumns columns = TelemetryColumns.from(telemetries);
+        int jsonlSize = toJsonl(telemetries).length;
+
+        // when
+        int rawSize = TelemetryBinaryCodec.encode(columns, Compression.NONE).length;
+        int gzipSize = TelemetryBinaryCodec.encode(columns, Compression.GZIP).length;
+
+        // then
+        System.out.println("JSONL: " + jsonlSize + " bytes, 바이너리: " + rawSize + " bytes, 바이너리(gzip): " + gzipSize + " bytes");
+        assertThat(rawSize).isLessThan(jsonlSize / 4);
+        assertThat(gzipSize).isLessThan(rawSize);
+    }
+
+    @DisplayName("빈 텔레메트리도 인코딩 / 디코딩할 수 있다.")
+    @Test
+    void encodeAndDecodeEmpty() {
+        // given
+        TelemetryColumns empty = TelemetryColumns.from(List.of());
+
+        // when
+        TelemetryColumns decoded = TelemetryBinaryCodec.decode(TelemetryBinaryCodec.encode(empty, Compression.GZIP));
+
+        // then
+        assertThat(decoded.isEmpty()).isTrue();
+    }
+
+    @DisplayName("매직 넘버가 다르면 예외를 발생한다.")
+    @Test
+    void decodeInvalidMagic() {
+        // given
+        byte[] jsonl = "{\"t\":0}".getBytes(StandardCharsets.UTF_8);
+
+        // when // then
+        assertThatThrownBy(() -> TelemetryBinaryCodec.decode(jsonl))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Telemetry 바이너리 포맷이 아닙니다.");
+    }
+
+    private List<Telemetry> readTelemetriesFromJsonl(String classpathFilename) throws Exception {
+        List<Telemetry> telemetries = new ArrayList<>();
+        try (var reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(classpathFilename).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    telemetries.add(MAPPER.readValue(line, Telemetry.class));
+                }
+            }
+        }
+        return telemetries;
+    }
+
+    private byte[] toJsonl(List<Telemetry> telemetries) throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (Telemetry telemetry : telemetries) {
+            sb.append(MAPPER.writeValueAsString(telemetry)).append('\n');
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,114 @@
+package soma.ghostrunner.domain.running.domain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import soma.ghostrunner.domain.running.domain.path.CoordinatesWithTs;
+import soma.ghostrunner.domain.running.domain.path.UtmProjector;
+import soma.ghostrunner.domain.running.domain.path.UtmProjector.Method;
+import soma.ghostrunner.domain.running.domain.path.UtmTrack;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UtmProjectorTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @DisplayName("analytic 투영은 proj4j 투영과 1cm 이내로 같다.")
+    @Test
+    void analyticMatchesProj4j() throws Exception {
+        // given
+        List<CoordinatesWithTs> points = readCoordinatesFromJsonl("data7.jsonl");
+
+        // when
+        UtmTrack proj4j = UtmProjector.project(points, Method.PROJ4J);
+        UtmTrack analytic = UtmProjector.project(points, Method.ANALYTIC);
+
+        // then
+        assertThat(analytic.zone()).isEqualTo(proj4j.zone()).isEqualTo(52);
+        for (int i = 0; i < points.size(); i++) {
+            assertThat(analytic.ys()[i]).isCloseTo(proj4j.ys()[i], within(0.01));
+            assertThat(analytic.xs()[i]).isCloseTo(proj4j.xs()[i], within(0.01));
+        }
+    }
+
+    @DisplayName("같은 트랙을 여러 번 투영해도 결과가 같다.")
+    @Test
+    void projectRepeatedly() throws Exception {
+        // given
+        List<CoordinatesWithTs> points = readCoordinatesFromJsonl("data7.jsonl");
+
+        // when
+        UtmTrack first = UtmProjector.project(points, Method.PROJ4J);
+        UtmTrack second = UtmProjector.project(points, Method.PROJ4J);
+
+        // then
+        assertThat(second.ys()).containsExactly(first.ys());
+        assertThat(second.xs()).containsExactly(first.xs());
+    }
+
+    @DisplayName("중앙 자오선에서 먼 점이 있으면 analytic 대신 proj4j 로 투영한다.")
+    @Test
+    void fallbackToProj4jFarFromCentralMeridian() {
+        // given : zone 52 의 중앙 자오선은 129도
+        List<CoordinatesWithTs> points = List.of(
+                new CoordinatesWithTs(0, 37.5, 126.0),
+                new CoordinatesWithTs(1000, 37.5, 125.4)
+        );
+
+        // when
+        UtmTrack analytic = UtmProjector.project(points, Method.ANALYTIC);
+        UtmTrack proj4j = UtmProjector.project(points, Method.PROJ4J);
+
+        // then
+        assertThat(analytic.ys()).containsExactly(proj4j.ys());
+        assertThat(analytic.xs()).containsExactly(proj4j.xs());
+    }
+
+    @DisplayName("빈 트랙은 빈 결과를 반환한다.")
+    @Test
+    void projectEmpty() {
+        // when
+        UtmTrack track = UtmProjector.project(List.of(), Method.ANALYTIC);
+
+        // then
+        assertThat(track.size()).isZero();
+    }
+
+    @DisplayName("경도 범위를 벗어난 좌표는 예외를 발생한다.")
+    @Test
+    void projectInvalidLongitude() {
+        // given
+        List<CoordinatesWithTs> points = List.of(new CoordinatesWithTs(0, 37.5, 190.0));
+
+        // when // then
+        assertThatThrownBy(() -> UtmProjector.project(points, Method.PROJ4J))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("경도 범위를 벗어난 좌표입니다");
+    }
+
+    private List<CoordinatesWithTs> readCoordinatesFromJsonl(String classpathFilename) throws Exception {
+        List<CoordinatesWithTs> list = new ArrayList<>();
+        try (var reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(classpathFilename).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode node = MAPPER.readTree(line);
+                list.add(new CoordinatesWithTs(node.get("t").asLong(), node.get("y").asDouble(), node.get("x").asDouble()));
+            }
+        }
+        return list;
+    }
+
+}
@@ -14,6 +14,7 @@ import org.testcontainers.shaded.com.fasterxml.jackson.databind.ObjectMapper;
 import soma.ghostrunner.IntegrationTestSupport;
 import soma.ghostrunner.domain.running.domain.path.TelemetryStatistics;
 import soma.ghostrunner.domain.running.domain.path.Telemetry;
+import soma.ghostrunner.domain.running.domain.path.TelemetryColumns;
 import soma.ghostrunner.domain.running.domain.path.TelemetryProcessor;
 import soma.ghostrunner.domain.running.exception.InvalidRunningException;
 import soma.ghostrunner.domain.running.exception.TelemetryCalculationException;
@@ -57,6 +58,49 @@ class TelemetryProcessorTest extends IntegrationTestSupport {
         System.out.println(processedTelemetry.courseDistance());
     }
 
+    @DisplayName(".jsonl Multipart 파일의 모든 필드를 상대 시간으로 변환해 컬럼 배열에 적재한다.")
+    @Test
+    void processTelemetryToColumnsTest() throws Exception {
+        // given
+        Long startedAt = 1750729987181L;
+        List<Telemetry> telemetryList = getTelemetryDtos(startedAt);
+        MultipartFile multipartTelemetryList = createTelemetryJsonlFile(telemetryList);
+
+        // when
+        TelemetryColumns columns = telemetryProcessor.process(multipartTelemetryList, startedAt).columns();
+
+        // then
+        Assertions.assertThat(columns.size()).isEqualTo(telemetryList.size());
+        for (int i = 0; i < telemetryList.size(); i++) {
+            Telemetry expected = telemetryList.get(i);
+            Assertions.assertThat(columns.t()[i]).isEqualTo(i * 5L);
+            Assertions.assertThat(columns.d()[i]).isEqualTo(expected.getD());
+            Assertions.assertThat(columns.p()[i]).isEqualTo(expected.getP());
+            Assertions.assertThat(columns.e()[i]).isEqualTo(expected.getE());
+            Assertions.assertThat(columns.c()[i]).isEqualTo(expected.getC());
+            Assertions.assertThat(columns.b()[i]).isEqualTo(expected.getB());
+            Assertions.assertThat(columns.r().get(i)).isEqualTo(expected.getR());
+        }
+    }
+
+    @DisplayName("필수 필드가 누락된 .jsonl 파일이라면 예외를 발생한다.")
+    @Test
+    void processMissingFieldTelemetryTest() {
+        // given
+        Long startedAt = 1750729987181L;
+        MultipartFile multipartTelemetryList = new MockMultipartFile(
+                "file",
+                "telemetry.jsonl",
+                "application/json",
+                "{\"t\":1750729987181,\"y\":37.5665,\"x\":126.978}".getBytes(StandardCharsets.UTF_8)
+        );
+
+        // when // then
+        Assertions.assertThatThrownBy(() -> telemetryProcessor.process(multipartTelemetryList, startedAt))
+                .isInstanceOf(TelemetryCalculationException.class)
+                .hasMessage("시계열 좌표를 가공하는 중 에러가 발생했습니다.");
+    }
+
     @DisplayName(".jsonl Multipart 파일이 비어있다면 예외를 발생한다.")
     @Test
     void processEmptyTelemetryTest() throws Exception {
@@ -0,0 +1,150 @@
+package soma.ghostrunner.domain.running.infra.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import soma.ghostrunner.IntegrationTestSupport;
+import soma.ghostrunner.domain.running.application.dto.LeaderboardEntry;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisCourseLeaderboardRepositoryTest extends IntegrationTestSupport {
+
+    private static final Long COURSE_ID = 987654321L;
+
+    @Autowired
+    private RedisCourseLeaderboardRepository repository;
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        repository.evict(COURSE_ID);
+    }
+
+    @DisplayName("리더보드를 다시 채우면 기록이 빠른 순으로 조회된다.")
+    @Test
+    void rebuild() {
+        // when
+        repository.rebuild(COURSE_ID, List.of(
+                new LeaderboardEntry("member-a", 1L, 1800L),
+                new LeaderboardEntry("member-b", 2L, 1500L),
+                new LeaderboardEntry("member-c", 3L, 2100L)
+        ), repository.findVersion(COURSE_ID), 60);
+
+        // then
+        assertThat(repository.isLoaded(COURSE_ID)).isTrue();
+        assertThat(repository.count(COURSE_ID)).isEqualTo(3);
+        assertThat(repository.findRunningIdsInRange(COURSE_ID, 0, 1)).containsExactly(2L, 1L);
+        assertThat(repository.countFasterThan(COURSE_ID, 1800L)).isEqualTo(1);
+    }
+
+    @DisplayName("기록이 같은 회원은 서로를 앞선 회원으로 세지 않는다.")
+    @Test
+    void countFasterThanWithTiedDurations() {
+        // given
+        repository.rebuild(COURSE_ID, List.of(
+                new LeaderboardEntry("member-a", 1L, 1500L),
+                new LeaderboardEntry("member-b", 2L, 1500L),
+                new LeaderboardEntry("member-c", 3L, 1800L)
+        ), repository.findVersion(COURSE_ID), 60);
+
+        // when // then
+        assertThat(repository.countFasterThan(COURSE_ID, 1500L)).isZero();
+        assertThat(repository.countFasterThan(COURSE_ID, 1800L)).isEqualTo(2);
+    }
+
+    @DisplayName("DB 를 읽는 동안 변경이 들어오면 리더보드를 채우되 적재 완료로 표시하지 않는다.")
+    @Test
+    void rebuildChangedWhileLoading() {
+        // given
+        long version = repository.findVersion(COURSE_ID);
+        repository.offer(COURSE_ID, new LeaderboardEntry("member-b", 2L, 1500L));
+
+        // when
+        boolean loaded = repository.rebuild(COURSE_ID, List.of(new LeaderboardEntry("member-a", 1L, 1800L)), version, 60);
+
+        // then
+        assertThat(loaded).isFalse();
+        assertThat(repository.isLoaded(COURSE_ID)).isFalse();
+        assertThat(repository.findRunningIdsInRange(COURSE_ID, 0, -1)).containsExactly(1L);
+    }
+
+    @DisplayName("적재되지 않은 리더보드는 변경 버전만 올리고, 적재된 리더보드는 그대로 둔다.")
+    @Test
+    void isLoadedOrMarkChanged() {
+        // when
+        boolean beforeLoaded = repository.isLoadedOrMarkChanged(COURSE_ID);
+        repository.rebuild(COURSE_ID, List.of(), repository.findVersion(COURSE_ID), 60);
+        boolean afterLoaded = repository.isLoadedOrMarkChanged(COURSE_ID);
+
+        // then
+        assertThat(beforeLoaded).isFalse();
+        assertThat(afterLoaded).isTrue();
+        assertThat(repository.findVersion(COURSE_ID)).isEqualTo(1);
+    }
+
+    @DisplayName("빈 리더보드로 적재된 뒤 들어온 기록에도 적재 완료 표시와 같은 TTL 이 걸린다.")
+    @Test
+    void offerAfterEmptyRebuildExpires() {
+        // given
+        repository.rebuild(COURSE_ID, List.of(), repository.findVersion(COURSE_ID), 60);
+
+        // when
+        repository.offer(COURSE_ID, new LeaderboardEntry("member-a", 1L, 1800L));
+
+        // then
+        assertThat(redisTemplate.getExpire("leaderboard:{" + COURSE_ID + "}")).isBetween(1L, 60L);
+        assertThat(redisTemplate.getExpire("leaderboard:{" + COURSE_ID + "}:runs")).isBetween(1L, 60L);
+    }
+
+    @DisplayName("회원의 최고 기록보다 빠른 기록만 리더보드에 반영된다.")
+    @Test
+    void offer() {
+        // given
+        repository.rebuild(COURSE_ID, List.of(new LeaderboardEntry("member-a", 1L, 1800L)), 0, 60);
+
+        // when
+        boolean slower = repository.offer(COURSE_ID, new LeaderboardEntry("member-a", 2L, 1900L));
+        boolean faster = repository.offer(COURSE_ID, new LeaderboardEntry("member-a", 3L, 1700L));
+
+        // then
+        assertThat(slower).isFalse();
+        assertThat(faster).isTrue();
+        assertThat(repository.findRunningIdsInRange(COURSE_ID, 0, -1)).containsExactly(3L);
+    }
+
+    @DisplayName("적재되지 않은 리더보드에는 기록을 반영하지 않는다.")
+    @Test
+    void offerBeforeLoaded() {
+        // when
+        boolean updated = repository.offer(COURSE_ID, new LeaderboardEntry("member-a", 1L, 1800L));
+
+        // then
+        assertThat(updated).isFalse();
+        assertThat(repository.count(COURSE_ID)).isZero();
+    }
+
+    @DisplayName("회원의 기록을 바꾸거나 리더보드에서 뺀다.")
+    @Test
+    void replace() {
+        // given
+        repository.rebuild(COURSE_ID, List.of(
+                new LeaderboardEntry("member-a", 1L, 1500L),
+                new LeaderboardEntry("member-b", 2L, 1800L)
+        ), 0, 60);
+
+        // when
+        repository.replace(COURSE_ID, "member-a", new LeaderboardEntry("member-a", 3L, 2000L));
+        repository.replace(COURSE_ID, "member-b", null);
+
+        // then
+        assertThat(repository.count(COURSE_ID)).isEqualTo(1);
+        assertThat(repository.findRunningIdsInRange(COURSE_ID, 0, -1)).containsExactly(3L);
+    }
+
+}
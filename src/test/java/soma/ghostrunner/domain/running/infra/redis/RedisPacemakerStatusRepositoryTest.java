@@ -0,0 +1,64 @@
+package soma.ghostrunner.domain.running.infra.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisTemplate;
+import soma.ghostrunner.IntegrationTestSupport;
+import soma.ghostrunner.domain.running.application.dto.CachedPacemakerStatus;
+import soma.ghostrunner.domain.running.domain.Pacemaker.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisPacemakerStatusRepositoryTest extends IntegrationTestSupport {
+
+    @Autowired
+    private RedisPacemakerStatusRepository repository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(redisTemplate.keys("pacemaker:status:*"));
+    }
+
+    @DisplayName("폴링 중 읽은 상태는 커밋된 완료 상태를 덮어쓰지 않는다.")
+    @Test
+    void saveIfAbsentDoesNotOverwriteCommittedStatus() {
+        // given
+        repository.save(1L, new CachedPacemakerStatus(Status.COMPLETED, "member-uuid"));
+
+        // when
+        repository.saveIfAbsent(1L, new CachedPacemakerStatus(Status.PROCEEDING, "member-uuid"));
+
+        // then
+        assertThat(repository.findById(1L))
+                .contains(new CachedPacemakerStatus(Status.COMPLETED, "member-uuid"));
+    }
+
+    @DisplayName("생성 중 상태는 완료 / 실패 상태보다 짧은 TTL 로 캐싱한다.")
+    @Test
+    void proceedingStatusHasShortTtl() {
+        // when
+        repository.saveIfAbsent(1L, new CachedPacemakerStatus(Status.PROCEEDING, "member-uuid"));
+        repository.save(2L, new CachedPacemakerStatus(Status.COMPLETED, "member-uuid"));
+
+        // then
+        assertThat(redisTemplate.getExpire("pacemaker:status:1")).isPositive().isLessThanOrEqualTo(30L);
+        assertThat(redisTemplate.getExpire("pacemaker:status:2")).isGreaterThan(30L);
+    }
+
+    @DisplayName("코스별로 마지막에 조회된 페이스메이커 ID 를 저장하고 조회한다.")
+    @Test
+    void saveAndFindIdInCourse() {
+        // when
+        repository.saveIdInCourse(10L, "member-uuid", 1L);
+
+        // then
+        assertThat(repository.findIdInCourse(10L, "member-uuid")).contains(1L);
+        assertThat(repository.findIdInCourse(10L, "other-uuid")).isEmpty();
+    }
+
+}
@@ -0,0 +1,85 @@
+package soma.ghostrunner.global.common.redis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import soma.ghostrunner.domain.course.dao.CourseQueryModelCodec;
+import soma.ghostrunner.domain.course.dto.RunnerProfile;
+import soma.ghostrunner.domain.course.dto.query.CourseQueryModel;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final CompactRedisSerializer sut = new CompactRedisSerializer(json, true, List.of(new CourseQueryModelCodec()));
+
+    private final CourseQueryModel model = new CourseQueryModel(1L, "한강 코스",
+            List.of(new RunnerProfile("uuid-1", "https://cdn/profile-1.png"), new RunnerProfile("uuid-2", null)), 12);
+
+    @DisplayName("코덱이 등록된 타입은 바이너리로 직렬화되고 그대로 역직렬화된다.")
+    @Test
+    void roundTripWithCodec() {
+        // when
+        byte[] bytes = sut.serialize(model);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.MAGIC);
+        assertThat(bytes.length).isLessThan(json.serialize(model).length);
+        assertThat(sut.deserialize(bytes)).isEqualTo(model);
+    }
+
+    @DisplayName("기존 JSON 으로 저장된 값도 읽을 수 있다.")
+    @Test
+    void readLegacyJson() {
+        // given
+        byte[] legacy = json.serialize(model);
+
+        // when // then
+        assertThat(sut.deserialize(legacy)).isEqualTo(model);
+    }
+
+    @DisplayName("코덱이 없는 타입은 JSON 으로 직렬화한다.")
+    @Test
+    void fallbackToJson() {
+        // when
+        byte[] bytes = sut.serialize("PROCESSING");
+
+        // then
+        assertThat(bytes).isEqualTo(json.serialize("PROCESSING"));
+        assertThat(sut.deserialize(bytes)).isEqualTo("PROCESSING");
+    }
+
+    @DisplayName("바이너리 쓰기를 끄면 코덱이 있어도 JSON 으로 직렬화한다.")
+    @Test
+    void compactWriteDisabled() {
+        // given
+        CompactRedisSerializer jsonOnly = new CompactRedisSerializer(json, false, List.of(new CourseQueryModelCodec()));
+
+        // when
+        byte[] bytes = jsonOnly.serialize(model);
+
+        // then
+        assertThat(bytes).isEqualTo(json.serialize(model));
+        assertThat(sut.deserialize(bytes)).isEqualTo(model);
+    }
+
+    @DisplayName("모르는 타입 ID 나 버전으로 저장된 값은 null 로 읽는다.")
+    @Test
+    void unknownTypeOrVersion() {
+        // given
+        byte[] bytes = sut.serialize(model);
+        byte[] unknownType = Arrays.copyOf(bytes, bytes.length);
+        unknownType[1] = 99;
+        byte[] unknownVersion = Arrays.copyOf(bytes, bytes.length);
+        unknownVersion[2] = 99;
+
+        // when // then
+        assertThat(sut.deserialize(unknownType)).isNull();
+        assertThat(sut.deserialize(unknownVersion)).isNull();
+    }
+
+}
@@ -0,0 +1,58 @@
+package soma.ghostrunner.global.security.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import soma.ghostrunner.global.security.jwt.factory.JwtTokenFactory;
+import soma.ghostrunner.global.security.jwt.support.JwtProvider;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthFilterTest {
+
+    private final String testSecretKey = "eb3bf053b5b883f41321e6164f50b9c62f44c9382858feb5e8598ccd0dadddcdf" +
+            "16f3e8b93fa412f50801503cdf1bbfa2ac4e5e7d5706f47b97371821f5178e9";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtAuthFilter filter = new JwtAuthFilter(new JwtProvider(testSecretKey, meterRegistry, 100), meterRegistry);
+    private final JwtTokenFactory jwtTokenFactory = new JwtTokenFactory(testSecretKey, 3600L, 86400L);
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("DeferredResult 의 ASYNC 디스패치에서도 Bearer 토큰으로 다시 인증한다.")
+    @Test
+    void authenticateOnAsyncDispatch() throws Exception {
+        // given
+        String accessToken = jwtTokenFactory.createTokens("member-uuid").accessToken();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/v1/pacemaker/1/completion");
+        request.setRequestURI("/v1/pacemaker/1/completion");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+
+        // 최초 디스패치 후 요청 스레드의 인증 정보는 지워진다 (STATELESS)
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {});
+        SecurityContextHolder.clearContext();
+
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> authentication.set(SecurityContextHolder.getContext().getAuthentication()));
+
+        // then
+        assertThat(authentication.get()).isNotNull();
+        assertThat(((JwtUserDetails) authentication.get().getPrincipal()).getUserId()).isEqualTo("member-uuid");
+    }
+
+}
@@ -7,6 +7,7 @@ import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +24,7 @@ import static org.mockito.BDDMockito.*;
 class JwtProviderTest {
 
     private JwtProvider jwtProvider;
+    private SimpleMeterRegistry meterRegistry;
     private final String testSecretKey = "eb3bf053b5b883f41321e6164f50b9c62f44c9382858feb5e8598ccd0dadddcdf" +
             "16f3e8b93fa412f50801503cdf1bbfa2ac4e5e7d5706f47b97371821f5178e9";
     private final SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(testSecretKey));
@@ -31,7 +33,8 @@ class JwtProviderTest {
 
     @BeforeEach
     void setUp() {
-        jwtProvider = new JwtProvider(testSecretKey);
+        meterRegistry = new SimpleMeterRegistry();
+        jwtProvider = new JwtProvider(testSecretKey, meterRegistry, 100);
         validToken = Jwts.builder()
                 .claim("userId", testMemberId)
                 .setIssuedAt(new Date())
@@ -50,6 +53,58 @@ class JwtProviderTest {
         assertThat(memberUuid).isEqualTo(testMemberId);
     }
 
+    @Test
+    @DisplayName("한 번 검증한 토큰은 캐시된 검증 결과를 사용한다")
+    void getUserIdFromToken_usesVerifiedCache() {
+        // when
+        String first = jwtProvider.getUserIdFromToken(validToken);
+        String second = jwtProvider.getUserIdFromToken(validToken);
+
+        // then
+        assertThat(first).isEqualTo(testMemberId);
+        assertThat(second).isEqualTo(testMemberId);
+        assertThat(cacheLookups("miss")).isEqualTo(1);
+        assertThat(cacheLookups("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서명만 다른 토큰은 캐시된 검증 결과를 사용하지 않고 검증에 실패한다")
+    void getUserIdFromToken_doesNotReuseCacheForTamperedToken() {
+        // given
+        jwtProvider.getUserIdFromToken(validToken);
+        SecretKey wrongKey = Keys.hmacShaKeyFor(
+                Decoders.BASE64URL.decode("thisIsA_completelyDifferentWrongTestKeyForTesting"));
+        String payload = validToken.substring(0, validToken.lastIndexOf('.'));
+        String resigned = Jwts.builder()
+                .claim("userId", testMemberId)
+                .setExpiration(new Date(System.currentTimeMillis() + 3600 * 1000))
+                .signWith(wrongKey, SignatureAlgorithm.HS256)
+                .compact();
+        String tamperedToken = payload + resigned.substring(resigned.lastIndexOf('.'));
+
+        // when // then
+        assertThatThrownBy(() -> jwtProvider.getUserIdFromToken(tamperedToken))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 없는 토큰은 캐싱하지 않는다")
+    void getUserIdFromToken_withoutExpiration() {
+        // given
+        String tokenWithoutExpiration = Jwts.builder()
+                .claim("userId", testMemberId)
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // when
+        jwtProvider.getUserIdFromToken(tokenWithoutExpiration);
+        jwtProvider.getUserIdFromToken(tokenWithoutExpiration);
+
+        // then
+        assertThat(cacheLookups("miss")).isEqualTo(2);
+        assertThat(cacheLookups("hit")).isZero();
+    }
+
     @Test
     @DisplayName("만료된 토큰을 파싱하면 ExpiredJwtException 예외가 발생한다")
     void parseClaims_withExpiredToken() {
@@ -121,4 +176,8 @@ class JwtProviderTest {
                 .isInstanceOf(ParsingTokenException.class);
     }
 
+    private double cacheLookups(String result) {
+        return meterRegistry.get("auth.jwt.verified_cache.lookups").tag("result", result).counter().count();
+    }
+
 }
@@ -0,0 +1,38 @@
+package soma.ghostrunner.global.security.jwt.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UriTrieTest {
+
+    private final UriTrie trie = UriTrie.of(List.of("/swagger-ui", "/v3/api-docs", "/v1/common/presign-url", "/test"));
+
+    @Test
+    @DisplayName("목록의 URI 로 시작하는 요청 URI 는 접두사 일치로 판단한다")
+    void matchesPrefixOf() {
+        // when // then
+        assertThat(trie.matchesPrefixOf("/swagger-ui")).isTrue();
+        assertThat(trie.matchesPrefixOf("/swagger-ui/index.html")).isTrue();
+        assertThat(trie.matchesPrefixOf("/v3/api-docs/swagger-config")).isTrue();
+        assertThat(trie.matchesPrefixOf("/testing")).isTrue();      // String.startsWith 와 같은 동작
+
+        assertThat(trie.matchesPrefixOf("/swagger")).isFalse();
+        assertThat(trie.matchesPrefixOf("/v1/common")).isFalse();
+        assertThat(trie.matchesPrefixOf("/v1/runs")).isFalse();
+        assertThat(trie.matchesPrefixOf("")).isFalse();
+    }
+
+    @Test
+    @DisplayName("완전 일치는 목록의 URI 와 정확히 같을 때만 true 를 반환한다")
+    void contains() {
+        // when // then
+        assertThat(trie.contains("/v1/common/presign-url")).isTrue();
+        assertThat(trie.contains("/v1/common/presign-url/")).isFalse();
+        assertThat(trie.contains("/v1/common")).isFalse();
+    }
+
+}